@@ -13,10 +13,11 @@
 import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.EnumSet;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -38,6 +39,7 @@
 import javax.validation.BootstrapConfiguration;
 import javax.validation.Configuration;
 import javax.validation.Constraint;
+import javax.validation.ConstraintViolationException;
 import javax.validation.Valid;
 import javax.validation.Validation;
 import javax.validation.Validator;
@@ -45,12 +47,19 @@
 import javax.validation.executable.ExecutableType;
 import javax.validation.executable.ValidateOnExecution;
 import javax.validation.metadata.BeanDescriptor;
+import javax.validation.metadata.ExecutableDescriptor;
+import javax.validation.metadata.ParameterDescriptor;
 import javax.validation.metadata.PropertyDescriptor;
+import javax.validation.metadata.ReturnValueDescriptor;
 
+import org.hibernate.validator.Incubating;
 import org.hibernate.validator.cdi.internal.InheritedMethodsHelper;
 import org.hibernate.validator.cdi.internal.ValidationProviderHelper;
 import org.hibernate.validator.cdi.internal.ValidatorBean;
 import org.hibernate.validator.cdi.internal.ValidatorFactoryBean;
+import org.hibernate.validator.cdi.internal.interceptor.MethodValidated.ValidatedSide;
+import org.hibernate.validator.cdi.internal.interceptor.ParameterValidationInterceptor;
+import org.hibernate.validator.cdi.internal.interceptor.ReturnValueValidationInterceptor;
 import org.hibernate.validator.cdi.internal.interceptor.ValidationEnabledAnnotatedType;
 import org.hibernate.validator.cdi.internal.interceptor.ValidationInterceptor;
 import org.hibernate.validator.cdi.internal.util.GetterPropertySelectionStrategyHelper;
@@ -78,6 +87,17 @@
  */
 public class ValidationExtension implements Extension {
 
+	/**
+	 * Property of {@code META-INF/validation.xml} for configuring the maximum length of the messages of the
+	 * {@link ConstraintViolationException}s raised by the method validation interceptor. The messages describe the
+	 * arguments, the root beans and the constraints of the violations and are built when first requested. They are not
+	 * truncated if this property is not set.
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	public static final String METHOD_VALIDATION_EXCEPTION_MESSAGE_MAX_LENGTH = "hibernate.validator.cdi.method_validation_exception_message_max_length";
+
 	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
 
 	private static final EnumSet<ExecutableType> ALL_EXECUTABLE_TYPES =
@@ -103,6 +123,7 @@ public class ValidationExtension implements Extension {
 	private final GetterPropertySelectionStrategyHelper getterPropertySelectionStrategyHelper;
 	private final Set<ExecutableType> globalExecutableTypes;
 	private final boolean isExecutableValidationEnabled;
+	private final int methodValidationExceptionMessageMaxLength;
 
 	private Bean<?> defaultValidatorFactoryBean;
 	private Bean<?> hibernateValidatorFactoryBean;
@@ -119,6 +140,7 @@ public ValidationExtension() {
 		BootstrapConfiguration bootstrap = config.getBootstrapConfiguration();
 		globalExecutableTypes = bootstrap.getDefaultValidatedExecutableTypes();
 		isExecutableValidationEnabled = bootstrap.isExecutableValidationEnabled();
+		methodValidationExceptionMessageMaxLength = determineMethodValidationExceptionMessageMaxLength( bootstrap.getProperties() );
 		validatorFactory = config.buildValidatorFactory();
 		validator = validatorFactory.getValidator();
 		getterPropertySelectionStrategyHelper = GetterPropertySelectionStrategyHelper.forValidationFactory( validatorFactory );
@@ -127,7 +149,17 @@ public ValidationExtension() {
 	}
 
 	/**
-	 * Used to register the method validation interceptor binding annotation.
+	 * Returns the maximum length of the messages of the {@link ConstraintViolationException}s raised by the method
+	 * validation interceptor.
+	 *
+	 * @return the maximum length of the messages, {@code 0} if they are not truncated
+	 */
+	public int getMethodValidationExceptionMessageMaxLength() {
+		return methodValidationExceptionMessageMaxLength;
+	}
+
+	/**
+	 * Used to register the method validation interceptors.
 	 *
 	 * @param beforeBeanDiscoveryEvent event fired before the bean discovery process starts
 	 * @param beanManager the bean manager.
@@ -137,9 +169,15 @@ public void beforeBeanDiscovery(@Observes BeforeBeanDiscovery beforeBeanDiscover
 		Contracts.assertNotNull( beforeBeanDiscoveryEvent, "The BeforeBeanDiscovery event cannot be null" );
 		Contracts.assertNotNull( beanManager, "The BeanManager cannot be null" );
 
-		// Register the interceptor explicitly. This way, no beans.xml is needed
-		AnnotatedType<ValidationInterceptor> annotatedType = beanManager.createAnnotatedType( ValidationInterceptor.class );
-		beforeBeanDiscoveryEvent.addAnnotatedType( annotatedType, ValidationInterceptor.class.getName() );
+		// Register the interceptors explicitly. This way, no beans.xml is needed
+		addInterceptor( beforeBeanDiscoveryEvent, beanManager, ValidationInterceptor.class );
+		addInterceptor( beforeBeanDiscoveryEvent, beanManager, ParameterValidationInterceptor.class );
+		addInterceptor( beforeBeanDiscoveryEvent, beanManager, ReturnValueValidationInterceptor.class );
+	}
+
+	private <T> void addInterceptor(BeforeBeanDiscovery beforeBeanDiscoveryEvent, BeanManager beanManager, Class<T> interceptorClass) {
+		AnnotatedType<T> annotatedType = beanManager.createAnnotatedType( interceptorClass );
+		beforeBeanDiscoveryEvent.addAnnotatedType( annotatedType, interceptorClass.getName() );
 	}
 
 	/**
@@ -218,6 +256,9 @@ else if ( bean.getTypes().contains( Validator.class ) || bean instanceof Validat
 
 	/**
 	 * Used to register the method validation interceptor bindings.
+	 * <p>
+	 * The binding of each constrained executable records whether its parameters and/or its return value are
+	 * constrained so that the side which is not constrained is not validated upon invocation.
 	 *
 	 * @param processAnnotatedTypeEvent event fired for each annotated type
 	 * @param <T> the annotated type
@@ -235,7 +276,7 @@ public <T> void processAnnotatedType(@Observes @WithAnnotations({
 		}
 
 		AnnotatedType<T> type = processAnnotatedTypeEvent.getAnnotatedType();
-		Set<AnnotatedCallable<? super T>> constrainedCallables = determineConstrainedCallables( type );
+		Map<AnnotatedCallable<? super T>, ValidatedSide> constrainedCallables = determineConstrainedCallables( type );
 
 		if ( !constrainedCallables.isEmpty() ) {
 			ValidationEnabledAnnotatedType<T> wrappedType = new ValidationEnabledAnnotatedType<>(
@@ -246,8 +287,8 @@ public <T> void processAnnotatedType(@Observes @WithAnnotations({
 		}
 	}
 
-	private <T> Set<AnnotatedCallable<? super T>> determineConstrainedCallables(AnnotatedType<T> type) {
-		Set<AnnotatedCallable<? super T>> callables = new HashSet<>();
+	private <T> Map<AnnotatedCallable<? super T>, ValidatedSide> determineConstrainedCallables(AnnotatedType<T> type) {
+		Map<AnnotatedCallable<? super T>, ValidatedSide> callables = new HashMap<>();
 		BeanDescriptor beanDescriptor = validator.getConstraintsForClass( type.getJavaClass() );
 
 		determineConstrainedConstructors( type, beanDescriptor, callables );
@@ -256,7 +297,7 @@ private <T> Set<AnnotatedCallable<? super T>> determineConstrainedCallables(Anno
 		return callables;
 	}
 
-	private <T> void determineConstrainedMethods(AnnotatedType<T> type, BeanDescriptor beanDescriptor, Set<AnnotatedCallable<? super T>> callables) {
+	private <T> void determineConstrainedMethods(AnnotatedType<T> type, BeanDescriptor beanDescriptor, Map<AnnotatedCallable<? super T>, ValidatedSide> callables) {
 		List<Method> overriddenAndImplementedMethods = InheritedMethodsHelper.getAllMethods( type.getJavaClass() );
 
 		for ( AnnotatedMethod<? super T> annotatedMethod : type.getMethods() ) {
@@ -279,21 +320,21 @@ private <T> void determineConstrainedMethods(AnnotatedType<T> type, BeanDescript
 				continue;
 			}
 
-			boolean needsValidation;
+			ValidatedSide validatedSide;
 			if ( correspondingProperty.isPresent() ) {
-				needsValidation = isGetterConstrained( beanDescriptor, method, correspondingProperty.get() );
+				validatedSide = getGetterValidatedSide( beanDescriptor, method, correspondingProperty.get() );
 			}
 			else {
-				needsValidation = isNonGetterConstrained( beanDescriptor, method );
+				validatedSide = getValidatedSide( beanDescriptor.getConstraintsForMethod( method.getName(), method.getParameterTypes() ) );
 			}
 
-			if ( needsValidation ) {
-				callables.add( annotatedMethod );
+			if ( validatedSide != null ) {
+				callables.put( annotatedMethod, validatedSide );
 			}
 		}
 	}
 
-	private <T> void determineConstrainedConstructors(AnnotatedType<T> type, BeanDescriptor beanDescriptor, Set<AnnotatedCallable<? super T>> callables) {
+	private <T> void determineConstrainedConstructors(AnnotatedType<T> type, BeanDescriptor beanDescriptor, Map<AnnotatedCallable<? super T>, ValidatedSide> callables) {
 		Class<?> clazz = type.getJavaClass();
 		EnumSet<ExecutableType> classLevelExecutableTypes = executableTypesDefinedOnType( clazz );
 
@@ -305,21 +346,67 @@ private <T> void determineConstrainedConstructors(AnnotatedType<T> type, BeanDes
 				continue;
 			}
 
-			if ( beanDescriptor.getConstraintsForConstructor( constructor.getParameterTypes() ) != null ) {
-				callables.add( annotatedConstructor );
+			ValidatedSide validatedSide = getValidatedSide( beanDescriptor.getConstraintsForConstructor( constructor.getParameterTypes() ) );
+			if ( validatedSide != null ) {
+				callables.put( annotatedConstructor, validatedSide );
 			}
 		}
 	}
 
-	private boolean isNonGetterConstrained(BeanDescriptor beanDescriptor, Method method) {
-		return beanDescriptor.getConstraintsForMethod( method.getName(), method.getParameterTypes() ) != null;
+	/**
+	 * Returns the side of the given executable which needs to be validated upon invocation.
+	 *
+	 * @return the validated side, {@code null} if the executable is not constrained
+	 */
+	private ValidatedSide getValidatedSide(ExecutableDescriptor executableDescriptor) {
+		if ( executableDescriptor == null ) {
+			return null;
+		}
+
+		boolean parametersConstrained = hasConstrainedParameters( executableDescriptor );
+		boolean returnValueConstrained = hasConstrainedReturnValue( executableDescriptor );
+
+		if ( parametersConstrained && !returnValueConstrained ) {
+			return ValidatedSide.PARAMETERS;
+		}
+		if ( returnValueConstrained && !parametersConstrained ) {
+			return ValidatedSide.RETURN_VALUE;
+		}
+		return ValidatedSide.ALL;
 	}
 
-	private boolean isGetterConstrained(BeanDescriptor beanDescriptor, Method method, String property) {
+	private ValidatedSide getGetterValidatedSide(BeanDescriptor beanDescriptor, Method method, String property) {
 		PropertyDescriptor propertyDescriptor = beanDescriptor.getConstraintsForProperty( property );
-		return propertyDescriptor != null && propertyDescriptor.findConstraints()
+		if ( propertyDescriptor == null || !propertyDescriptor.findConstraints()
 				.declaredOn( ElementType.METHOD )
-				.hasConstraints();
+				.hasConstraints() ) {
+			return null;
+		}
+
+		// the getters returned by a custom property selection strategy might have parameters
+		return method.getParameterCount() == 0 ? ValidatedSide.RETURN_VALUE : ValidatedSide.ALL;
+	}
+
+	private boolean hasConstrainedParameters(ExecutableDescriptor executableDescriptor) {
+		// the constraints on the container elements are not taken into account by hasConstrainedParameters()
+		if ( executableDescriptor.hasConstrainedParameters() ) {
+			return true;
+		}
+		for ( ParameterDescriptor parameterDescriptor : executableDescriptor.getParameterDescriptors() ) {
+			if ( !parameterDescriptor.getConstrainedContainerElementTypes().isEmpty() ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean hasConstrainedReturnValue(ExecutableDescriptor executableDescriptor) {
+		// the constraints on the container elements are not taken into account by hasConstrainedReturnValue()
+		if ( executableDescriptor.hasConstrainedReturnValue() ) {
+			return true;
+		}
+		ReturnValueDescriptor returnValueDescriptor = executableDescriptor.getReturnValueDescriptor();
+		return returnValueDescriptor != null && !returnValueDescriptor.getConstrainedContainerElementTypes().isEmpty();
 	}
 
 	private boolean veto(EnumSet<ExecutableType> classLevelExecutableTypes,
@@ -410,6 +497,20 @@ private EnumSet<ExecutableType> commonExecutableTypeChecks(ValidateOnExecution v
 		return executableTypes;
 	}
 
+	private static int determineMethodValidationExceptionMessageMaxLength(Map<String, String> properties) {
+		String maxLengthProperty = properties.get( METHOD_VALIDATION_EXCEPTION_MESSAGE_MAX_LENGTH );
+		if ( maxLengthProperty != null ) {
+			try {
+				return Math.max( Integer.parseInt( maxLengthProperty.trim() ), 0 );
+			}
+			catch (NumberFormatException e) {
+				throw log.getUnableToParseMethodValidationExceptionMessageMaxLengthException( maxLengthProperty, e );
+			}
+		}
+
+		return 0;
+	}
+
 	private Method replaceWithOverriddenOrInterfaceMethod(Method method, List<Method> allMethodsOfType) {
 		LinkedList<Method> list = new LinkedList<>( allMethodsOfType );
 		Iterator<Method> iterator = list.descendingIterator();
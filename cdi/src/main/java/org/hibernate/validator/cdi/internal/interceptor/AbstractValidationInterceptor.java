@@ -0,0 +1,104 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.cdi.internal.interceptor;
+
+import java.io.Serializable;
+import java.util.Set;
+
+import javax.enterprise.inject.spi.BeanManager;
+import javax.inject.Inject;
+import javax.interceptor.InvocationContext;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+
+import org.hibernate.validator.cdi.ValidationExtension;
+
+/**
+ * Base class of the interceptors validating the Bean Validation constraints specified at the parameters and/or return
+ * values of intercepted executables.
+ *
+ * @author Gunnar Morling
+ * @author Hardy Ferentschik
+ */
+public abstract class AbstractValidationInterceptor implements Serializable {
+
+	private static final long serialVersionUID = -2442296297931187264L;
+
+	/**
+	 * The validator to be used for method validation.
+	 * <p>
+	 * Although the concrete validator is not necessarily serializable (and HV's implementation indeed isn't) it is still
+	 * alright to have it as non-transient field here. Upon passivation not the validator itself will be serialized, but the
+	 * proxy injected here, which in turn is serializable.
+	 * </p>
+	 */
+	@Inject
+	private Validator validator;
+
+	@Inject
+	private BeanManager beanManager;
+
+	/**
+	 * The maximum length of the messages of the raised exceptions, retrieved from the extension on first use.
+	 */
+	private transient Integer maxMessageLength;
+
+	protected void validateMethodParameters(InvocationContext ctx) {
+		Set<ConstraintViolation<Object>> violations = validator.forExecutables().validateParameters(
+				ctx.getTarget(),
+				ctx.getMethod(),
+				ctx.getParameters()
+		);
+
+		if ( !violations.isEmpty() ) {
+			throw new ExecutableConstraintViolationException( ctx.getMethod(), ctx.getParameters(), violations, getMaxMessageLength() );
+		}
+	}
+
+	protected void validateMethodReturnValue(InvocationContext ctx, Object result) {
+		Set<ConstraintViolation<Object>> violations = validator.forExecutables().validateReturnValue(
+				ctx.getTarget(),
+				ctx.getMethod(),
+				result
+		);
+
+		if ( !violations.isEmpty() ) {
+			throw new ExecutableConstraintViolationException( ctx.getMethod(), ctx.getParameters(), violations, getMaxMessageLength() );
+		}
+	}
+
+	protected void validateConstructorParameters(InvocationContext ctx) {
+		Set<? extends ConstraintViolation<?>> violations = validator.forExecutables().validateConstructorParameters(
+				ctx.getConstructor(),
+				ctx.getParameters()
+		);
+
+		if ( !violations.isEmpty() ) {
+			throw new ExecutableConstraintViolationException( ctx.getConstructor(), ctx.getParameters(), violations, getMaxMessageLength() );
+		}
+	}
+
+	protected void validateConstructorReturnValue(InvocationContext ctx) {
+		Object createdObject = ctx.getTarget();
+
+		Set<? extends ConstraintViolation<?>> violations = validator.forExecutables().validateConstructorReturnValue(
+				ctx.getConstructor(),
+				createdObject
+		);
+
+		if ( !violations.isEmpty() ) {
+			throw new ExecutableConstraintViolationException( ctx.getConstructor(), ctx.getParameters(), violations, getMaxMessageLength() );
+		}
+	}
+
+	private int getMaxMessageLength() {
+		if ( maxMessageLength == null ) {
+			maxMessageLength = beanManager.getExtension( ValidationExtension.class ).getMethodValidationExceptionMessageMaxLength();
+		}
+		return maxMessageLength;
+	}
+}
@@ -0,0 +1,178 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.cdi.internal.interceptor;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Member;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
+import javax.validation.ElementKind;
+import javax.validation.Path;
+
+/**
+ * A {@link ConstraintViolationException} raised by the method validation interceptors.
+ * <p>
+ * The message describes the arguments, the root bean and the constraint of each violation. As it might be expensive to
+ * build, it is only built when requested, and it is truncated to the given maximum length if any.
+ * <p>
+ * The arguments are copied but not their content, and the root beans are held by the constraint violations: both
+ * are rendered when the message is first requested, so the message reflects their state at that time rather than
+ * at the time of the invocation. A value whose {@code toString()} fails is rendered as a placeholder.
+ *
+ * @author Gunnar Morling
+ * @author Hardy Ferentschik
+ */
+public class ExecutableConstraintViolationException extends ConstraintViolationException {
+
+	private static final long serialVersionUID = -6281957419328958634L;
+
+	private static final String TRUNCATION_MARKER = "...";
+
+	private static final String UNPRINTABLE_VALUE_PLACEHOLDER = "<toString() failed>";
+
+	private final transient Member executable;
+
+	private final transient Object[] arguments;
+
+	private final int maxMessageLength;
+
+	private final AtomicReference<String> message = new AtomicReference<>();
+
+	/**
+	 * @param executable the validated constructor or method
+	 * @param arguments the arguments of the invocation
+	 * @param constraintViolations the constraint violations which occurred
+	 * @param maxMessageLength the maximum length of the message, the message is not truncated if not strictly
+	 * positive
+	 */
+	public ExecutableConstraintViolationException(Member executable, Object[] arguments,
+			Set<? extends ConstraintViolation<?>> constraintViolations, int maxMessageLength) {
+		super( null, constraintViolations );
+		this.executable = executable;
+		// the array of the invocation might be modified afterwards, e.g. by another interceptor
+		this.arguments = arguments != null ? arguments.clone() : null;
+		this.maxMessageLength = maxMessageLength;
+	}
+
+	@Override
+	public String getMessage() {
+		// after deserialization, the message has been built when the exception was serialized
+		if ( message.get() == null && executable != null ) {
+			message.compareAndSet( null, buildMessage() );
+		}
+		return message.get();
+	}
+
+	private String buildMessage() {
+		Set<ConstraintViolation<?>> violations = getConstraintViolations();
+
+		StringBuilder message = new StringBuilder();
+		message.append( violations.size() );
+		message.append( " constraint violation(s) occurred during method validation." );
+		message.append( "\nConstructor or Method: " );
+		message.append( executable );
+		message.append( "\nArgument values: " );
+		appendArguments( message );
+		if ( isTooLong( message ) ) {
+			return truncate( message );
+		}
+		message.append( "\nConstraint violations: " );
+
+		int i = 1;
+		for ( ConstraintViolation<?> constraintViolation : violations ) {
+			Path.Node leafNode = getLeafNode( constraintViolation );
+
+			message.append( "\n (" );
+			message.append( i );
+			message.append( ")" );
+			message.append( " Kind: " );
+			message.append( leafNode.getKind() );
+			if ( leafNode.getKind() == ElementKind.PARAMETER ) {
+				message.append( "\n parameter index: " );
+				message.append( leafNode.as( Path.ParameterNode.class ).getParameterIndex() );
+			}
+			message.append( "\n message: " );
+			message.append( constraintViolation.getMessage() );
+			message.append( "\n root bean: " );
+			appendValue( message, constraintViolation.getRootBean() );
+			message.append( "\n property path: " );
+			message.append( constraintViolation.getPropertyPath() );
+			message.append( "\n constraint: " );
+			message.append( constraintViolation.getConstraintDescriptor().getAnnotation() );
+
+			// no need to describe the other violations
+			if ( isTooLong( message ) ) {
+				return truncate( message );
+			}
+
+			i++;
+		}
+
+		return message.toString();
+	}
+
+	private void appendArguments(StringBuilder message) {
+		if ( arguments == null ) {
+			message.append( "null" );
+			return;
+		}
+
+		message.append( '[' );
+		for ( int i = 0; i < arguments.length; i++ ) {
+			if ( i > 0 ) {
+				message.append( ", " );
+			}
+			appendValue( message, arguments[i] );
+		}
+		message.append( ']' );
+	}
+
+	/**
+	 * Appends the string representation of a value provided by the application, which should not prevent the
+	 * message from being built if it fails.
+	 */
+	private static void appendValue(StringBuilder message, Object value) {
+		String valueAsString;
+		try {
+			valueAsString = String.valueOf( value );
+		}
+		catch (RuntimeException e) {
+			valueAsString = UNPRINTABLE_VALUE_PLACEHOLDER;
+		}
+		message.append( valueAsString );
+	}
+
+	private boolean isTooLong(StringBuilder message) {
+		return maxMessageLength > 0 && message.length() > maxMessageLength;
+	}
+
+	private String truncate(StringBuilder message) {
+		message.setLength( maxMessageLength );
+		message.append( TRUNCATION_MARKER );
+		return message.toString();
+	}
+
+	private Path.Node getLeafNode(ConstraintViolation<?> constraintViolation) {
+		Iterator<Path.Node> nodes = constraintViolation.getPropertyPath().iterator();
+		Path.Node leafNode = null;
+		while ( nodes.hasNext() ) {
+			leafNode = nodes.next();
+		}
+		return leafNode;
+	}
+
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		// the executable and the arguments are not serialized so the message needs to be built beforehand
+		getMessage();
+		out.defaultWriteObject();
+	}
+}
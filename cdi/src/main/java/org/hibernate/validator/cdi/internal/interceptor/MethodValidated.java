@@ -10,11 +10,15 @@
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import javax.enterprise.util.AnnotationLiteral;
 import javax.interceptor.InterceptorBinding;
 
 /**
  * Marker annotation for a type or method indicating that method constraints shall be
  * validated upon invocation of the given method or any methods of the given type.
+ * <p>
+ * The validated side is determined when the types are processed by the extension so that the interceptor bound to an
+ * executable only validates the parameters or the return value if they are actually constrained.
  *
  * @author Hardy Ferentschik
  * @author Gunnar Morling
@@ -23,4 +27,53 @@
 @Retention(RetentionPolicy.RUNTIME)
 @InterceptorBinding
 public @interface MethodValidated {
+
+	/**
+	 * @return the side of the intercepted executables which is validated
+	 */
+	ValidatedSide value() default ValidatedSide.ALL;
+
+	/**
+	 * The side of an executable which is validated upon invocation.
+	 */
+	enum ValidatedSide {
+
+		/**
+		 * Both the parameters and the return value are validated.
+		 */
+		ALL,
+
+		/**
+		 * Only the parameters are validated.
+		 */
+		PARAMETERS,
+
+		/**
+		 * Only the return value is validated.
+		 */
+		RETURN_VALUE
+	}
+
+	/**
+	 * Supports inline instantiation of the {@link MethodValidated} annotation.
+	 */
+	final class Literal extends AnnotationLiteral<MethodValidated> implements MethodValidated {
+
+		private static final long serialVersionUID = 1L;
+
+		private final ValidatedSide value;
+
+		private Literal(ValidatedSide value) {
+			this.value = value;
+		}
+
+		public static Literal of(ValidatedSide value) {
+			return new Literal( value );
+		}
+
+		@Override
+		public ValidatedSide value() {
+			return value;
+		}
+	}
 }
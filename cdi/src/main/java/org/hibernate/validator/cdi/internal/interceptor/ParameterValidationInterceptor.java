@@ -0,0 +1,60 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.cdi.internal.interceptor;
+
+import javax.annotation.Priority;
+import javax.interceptor.AroundConstruct;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+import javax.validation.ConstraintViolationException;
+
+import org.hibernate.validator.cdi.internal.interceptor.MethodValidated.ValidatedSide;
+
+/**
+ * An interceptor which only validates the Bean Validation constraints specified at the parameters of intercepted
+ * executables, bound to the executables having no constrained return value.
+ */
+@MethodValidated(ValidatedSide.PARAMETERS)
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_AFTER + 800)
+public class ParameterValidationInterceptor extends AbstractValidationInterceptor {
+
+	private static final long serialVersionUID = 2861302617614434375L;
+
+	/**
+	 * Validates the Bean Validation constraints specified at the parameters of the intercepted method.
+	 *
+	 * @param ctx The context of the intercepted method invocation.
+	 *
+	 * @return The result of the method invocation.
+	 *
+	 * @throws Exception Any exception caused by the intercepted method invocation. A {@link ConstraintViolationException}
+	 * in case at least one constraint violation occurred during parameter validation.
+	 */
+	@AroundInvoke
+	public Object validateMethodInvocation(InvocationContext ctx) throws Exception {
+		validateMethodParameters( ctx );
+
+		return ctx.proceed();
+	}
+
+	/**
+	 * Validates the Bean Validation constraints specified at the parameters of the intercepted constructor.
+	 *
+	 * @param ctx The context of the intercepted constructor invocation.
+	 *
+	 * @throws Exception Any exception caused by the intercepted constructor invocation. A {@link ConstraintViolationException}
+	 * in case at least one constraint violation occurred during parameter validation.
+	 */
+	@AroundConstruct
+	public void validateConstructorInvocation(InvocationContext ctx) throws Exception {
+		validateConstructorParameters( ctx );
+
+		ctx.proceed();
+	}
+}
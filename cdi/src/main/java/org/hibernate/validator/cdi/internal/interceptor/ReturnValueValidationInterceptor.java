@@ -0,0 +1,62 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.cdi.internal.interceptor;
+
+import javax.annotation.Priority;
+import javax.interceptor.AroundConstruct;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+import javax.validation.ConstraintViolationException;
+
+import org.hibernate.validator.cdi.internal.interceptor.MethodValidated.ValidatedSide;
+
+/**
+ * An interceptor which only validates the Bean Validation constraints specified at the return value of intercepted
+ * executables, bound to the executables having no constrained parameters.
+ */
+@MethodValidated(ValidatedSide.RETURN_VALUE)
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_AFTER + 800)
+public class ReturnValueValidationInterceptor extends AbstractValidationInterceptor {
+
+	private static final long serialVersionUID = -5184271361432386530L;
+
+	/**
+	 * Validates the Bean Validation constraints specified at the return value of the intercepted method.
+	 *
+	 * @param ctx The context of the intercepted method invocation.
+	 *
+	 * @return The result of the method invocation.
+	 *
+	 * @throws Exception Any exception caused by the intercepted method invocation. A {@link ConstraintViolationException}
+	 * in case at least one constraint violation occurred during return value validation.
+	 */
+	@AroundInvoke
+	public Object validateMethodInvocation(InvocationContext ctx) throws Exception {
+		Object result = ctx.proceed();
+
+		validateMethodReturnValue( ctx, result );
+
+		return result;
+	}
+
+	/**
+	 * Validates the Bean Validation constraints specified at the return value of the intercepted constructor.
+	 *
+	 * @param ctx The context of the intercepted constructor invocation.
+	 *
+	 * @throws Exception Any exception caused by the intercepted constructor invocation. A {@link ConstraintViolationException}
+	 * in case at least one constraint violation occurred during return value validation.
+	 */
+	@AroundConstruct
+	public void validateConstructorInvocation(InvocationContext ctx) throws Exception {
+		ctx.proceed();
+
+		validateConstructorReturnValue( ctx );
+	}
+}
@@ -14,19 +14,19 @@
 import javax.enterprise.inject.spi.AnnotatedCallable;
 import javax.enterprise.inject.spi.AnnotatedParameter;
 import javax.enterprise.inject.spi.AnnotatedType;
-import javax.enterprise.util.AnnotationLiteral;
+
+import org.hibernate.validator.cdi.internal.interceptor.MethodValidated.ValidatedSide;
 
 /**
  * @author Hardy Ferentschik
  */
 public abstract class ValidationEnabledAnnotatedCallable<T> implements AnnotatedCallable<T> {
 	private final AnnotatedCallable<T> wrappedCallable;
-	private final AnnotationLiteral<MethodValidated> methodValidationAnnotation;
+	private final MethodValidated methodValidationAnnotation;
 
-	public ValidationEnabledAnnotatedCallable(AnnotatedCallable<T> callable) {
+	public ValidationEnabledAnnotatedCallable(AnnotatedCallable<T> callable, ValidatedSide validatedSide) {
 		this.wrappedCallable = callable;
-		this.methodValidationAnnotation = new AnnotationLiteral<MethodValidated>() {
-		};
+		this.methodValidationAnnotation = MethodValidated.Literal.of( validatedSide );
 	}
 
 	@Override
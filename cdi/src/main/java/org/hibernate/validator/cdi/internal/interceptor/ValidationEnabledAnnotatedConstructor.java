@@ -9,13 +9,15 @@
 import java.lang.reflect.Constructor;
 import javax.enterprise.inject.spi.AnnotatedConstructor;
 
+import org.hibernate.validator.cdi.internal.interceptor.MethodValidated.ValidatedSide;
+
 /**
  * @author Hardy Ferentschik
  */
 public class ValidationEnabledAnnotatedConstructor<T> extends ValidationEnabledAnnotatedCallable<T>
 		implements AnnotatedConstructor<T> {
-	public ValidationEnabledAnnotatedConstructor(AnnotatedConstructor<T> constructor) {
-		super( constructor );
+	public ValidationEnabledAnnotatedConstructor(AnnotatedConstructor<T> constructor, ValidatedSide validatedSide) {
+		super( constructor, validatedSide );
 	}
 
 	@Override
@@ -9,14 +9,16 @@
 import java.lang.reflect.Method;
 import javax.enterprise.inject.spi.AnnotatedMethod;
 
+import org.hibernate.validator.cdi.internal.interceptor.MethodValidated.ValidatedSide;
+
 /**
  * @author Hardy Ferentschik
  */
 public class ValidationEnabledAnnotatedMethod<T> extends ValidationEnabledAnnotatedCallable<T>
 		implements AnnotatedMethod<T> {
 
-	public ValidationEnabledAnnotatedMethod(AnnotatedMethod<T> method) {
-		super( method );
+	public ValidationEnabledAnnotatedMethod(AnnotatedMethod<T> method, ValidatedSide validatedSide) {
+		super( method, validatedSide );
 	}
 
 	@Override
@@ -8,6 +8,7 @@
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.util.Map;
 import java.util.Set;
 import javax.enterprise.inject.spi.AnnotatedCallable;
 import javax.enterprise.inject.spi.AnnotatedConstructor;
@@ -15,6 +16,7 @@
 import javax.enterprise.inject.spi.AnnotatedMethod;
 import javax.enterprise.inject.spi.AnnotatedType;
 
+import org.hibernate.validator.cdi.internal.interceptor.MethodValidated.ValidatedSide;
 import org.hibernate.validator.internal.util.CollectionHelper;
 
 /**
@@ -25,7 +27,7 @@
 	private final Set<AnnotatedMethod<? super T>> wrappedMethods;
 	private final Set<AnnotatedConstructor<T>> wrappedConstructors;
 
-	public ValidationEnabledAnnotatedType(AnnotatedType<T> type, Set<AnnotatedCallable<? super T>> constrainedCallables) {
+	public ValidationEnabledAnnotatedType(AnnotatedType<T> type, Map<AnnotatedCallable<? super T>, ValidatedSide> constrainedCallables) {
 		this.wrappedType = type;
 		this.wrappedMethods = CollectionHelper.newHashSet();
 		this.wrappedConstructors = CollectionHelper.newHashSet();
@@ -77,11 +79,13 @@ public boolean isAnnotationPresent(Class<? extends Annotation> annotationType) {
 		return wrappedType.isAnnotationPresent( annotationType );
 	}
 
-	private void buildWrappedCallable(Set<AnnotatedCallable<? super T>> constrainedCallables) {
+	private void buildWrappedCallable(Map<AnnotatedCallable<? super T>, ValidatedSide> constrainedCallables) {
 		for ( AnnotatedConstructor<T> constructor : wrappedType.getConstructors() ) {
-			if ( constrainedCallables.contains( constructor ) ) {
+			ValidatedSide validatedSide = constrainedCallables.get( constructor );
+			if ( validatedSide != null ) {
 				ValidationEnabledAnnotatedConstructor<T> wrappedConstructor = new ValidationEnabledAnnotatedConstructor<T>(
-						constructor
+						constructor,
+						validatedSide
 				);
 				wrappedConstructors.add( wrappedConstructor );
 			}
@@ -91,8 +95,9 @@ private void buildWrappedCallable(Set<AnnotatedCallable<? super T>> constrainedC
 		}
 
 		for ( AnnotatedMethod<? super T> method : wrappedType.getMethods() ) {
-			if ( constrainedCallables.contains( method ) ) {
-				ValidationEnabledAnnotatedMethod<? super T> wrappedMethod = wrap( method );
+			ValidatedSide validatedSide = constrainedCallables.get( method );
+			if ( validatedSide != null ) {
+				ValidationEnabledAnnotatedMethod<? super T> wrappedMethod = wrap( method, validatedSide );
 				wrappedMethods.add( wrappedMethod );
 			}
 			else {
@@ -101,7 +106,7 @@ private void buildWrappedCallable(Set<AnnotatedCallable<? super T>> constrainedC
 		}
 	}
 
-	private <U> ValidationEnabledAnnotatedMethod<U> wrap(AnnotatedMethod<U> method) {
-		return new ValidationEnabledAnnotatedMethod<U>( method );
+	private <U> ValidationEnabledAnnotatedMethod<U> wrap(AnnotatedMethod<U> method, ValidatedSide validatedSide) {
+		return new ValidationEnabledAnnotatedMethod<U>( method, validatedSide );
 	}
 }
@@ -0,0 +1,115 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.cdi.internal.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Valid;
+import javax.validation.Validation;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import org.hibernate.validator.cdi.internal.interceptor.ExecutableConstraintViolationException;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class ExecutableConstraintViolationExceptionTest {
+
+	private Method method;
+
+	private Object[] arguments;
+
+	private Set<ConstraintViolation<Service>> violations;
+
+	@BeforeMethod
+	public void setUp() throws Exception {
+		method = Service.class.getMethod( "rename", Name.class, String.class );
+		arguments = new Object[] { new Name(), "abc" };
+		violations = Validation.buildDefaultValidatorFactory().getValidator().forExecutables()
+				.validateParameters( new Service(), method, arguments );
+	}
+
+	@Test
+	public void testMessageBuiltLazily() {
+		ExecutableConstraintViolationException exception = new ExecutableConstraintViolationException( method, arguments, violations, 0 );
+
+		assertThat( exception.getConstraintViolations() ).hasSize( 2 );
+		assertThat( Name.toStringCount ).isEqualTo( 0 );
+
+		String message = exception.getMessage();
+		assertThat( message ).startsWith( "2 constraint violation(s) occurred during method validation." );
+		assertThat( message ).contains( "Argument values: [name, abc]" );
+		assertThat( message ).contains( "(1)", "(2)" );
+		assertThat( Name.toStringCount ).isEqualTo( 1 );
+
+		assertThat( exception.getMessage() ).isSameAs( message );
+		assertThat( Name.toStringCount ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testMessageTruncated() {
+		String message = new ExecutableConstraintViolationException( method, arguments, violations, 0 ).getMessage();
+
+		String truncatedMessage = new ExecutableConstraintViolationException( method, arguments, violations, 50 ).getMessage();
+		assertThat( truncatedMessage ).isEqualTo( message.substring( 0, 50 ) + "..." );
+
+		assertThat( new ExecutableConstraintViolationException( method, arguments, violations, message.length() ).getMessage() )
+				.isEqualTo( message );
+	}
+
+	@Test
+	public void testArgumentsCopied() {
+		ExecutableConstraintViolationException exception = new ExecutableConstraintViolationException( method, arguments, violations, 0 );
+		arguments[1] = "modified";
+
+		assertThat( exception.getMessage() ).contains( "Argument values: [name, abc]" );
+	}
+
+	@Test
+	public void testFailingToStringDoesNotPreventBuildingTheMessage() {
+		Object[] failingArguments = new Object[] { new Name(), new FailingToString() };
+
+		String message = new ExecutableConstraintViolationException( method, failingArguments, violations, 0 ).getMessage();
+		assertThat( message ).contains( "Argument values: [name, <toString() failed>]" );
+	}
+
+	public static class Service {
+
+		public void rename(@Valid Name name, @Size(min = 5) String newName) {
+		}
+	}
+
+	public static class Name {
+
+		private static int toStringCount;
+
+		@NotNull
+		private String value;
+
+		public Name() {
+			toStringCount = 0;
+		}
+
+		@Override
+		public String toString() {
+			toStringCount++;
+			return "name";
+		}
+	}
+
+	private static class FailingToString {
+
+		@Override
+		public String toString() {
+			throw new IllegalStateException( "toString() failed" );
+		}
+	}
+}
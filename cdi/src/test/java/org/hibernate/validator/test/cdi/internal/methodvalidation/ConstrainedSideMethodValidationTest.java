@@ -0,0 +1,206 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.cdi.internal.methodvalidation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.testng.Assert.fail;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.enterprise.inject.spi.AnnotatedMethod;
+import javax.enterprise.inject.spi.AnnotatedType;
+import javax.enterprise.inject.spi.BeanManager;
+import javax.enterprise.inject.spi.InterceptionType;
+import javax.enterprise.inject.spi.Interceptor;
+import javax.enterprise.inject.spi.ProcessAnnotatedType;
+import javax.enterprise.inject.spi.configurator.AnnotatedTypeConfigurator;
+import javax.inject.Inject;
+import javax.validation.ConstraintViolationException;
+
+import org.hibernate.validator.cdi.ValidationExtension;
+import org.hibernate.validator.cdi.internal.interceptor.MethodValidated;
+import org.hibernate.validator.cdi.internal.interceptor.MethodValidated.ValidatedSide;
+import org.hibernate.validator.cdi.internal.interceptor.ParameterValidationInterceptor;
+import org.hibernate.validator.cdi.internal.interceptor.ReturnValueValidationInterceptor;
+import org.hibernate.validator.cdi.internal.interceptor.ValidationInterceptor;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that the interceptor bound to each executable only validates the side of the executable which is constrained.
+ */
+public class ConstrainedSideMethodValidationTest extends Arquillian {
+
+	@Deployment
+	public static JavaArchive createDeployment() {
+		return ShrinkWrap.create( JavaArchive.class )
+				.addClass( ConstrainedSideService.class )
+				.addAsManifestResource( EmptyAsset.INSTANCE, "beans.xml" );
+	}
+
+	@Inject
+	ConstrainedSideService service;
+
+	@Inject
+	BeanManager beanManager;
+
+	@Test
+	public void testValidatedSideOfTheInterceptorBindings() {
+		Map<String, ValidatedSide> validatedSides = new HashMap<>();
+		for ( AnnotatedMethod<? super ConstrainedSideService> method : processAnnotatedType( ConstrainedSideService.class ).getMethods() ) {
+			MethodValidated methodValidated = method.getAnnotation( MethodValidated.class );
+			if ( methodValidated != null ) {
+				validatedSides.put( method.getJavaMember().getName(), methodValidated.value() );
+			}
+		}
+
+		assertThat( validatedSides ).hasSize( 5 );
+		assertThat( validatedSides ).containsEntry( "find", ValidatedSide.PARAMETERS );
+		assertThat( validatedSides ).containsEntry( "count", ValidatedSide.RETURN_VALUE );
+		assertThat( validatedSides ).containsEntry( "rename", ValidatedSide.ALL );
+		assertThat( validatedSides ).containsEntry( "tag", ValidatedSide.PARAMETERS );
+		assertThat( validatedSides ).containsEntry( "save", ValidatedSide.PARAMETERS );
+	}
+
+	@Test
+	public void testInterceptorResolvedForEachValidatedSide() {
+		assertResolvedInterceptor( MethodValidated.Literal.of( ValidatedSide.PARAMETERS ), ParameterValidationInterceptor.class );
+		assertResolvedInterceptor( MethodValidated.Literal.of( ValidatedSide.RETURN_VALUE ), ReturnValueValidationInterceptor.class );
+		assertResolvedInterceptor( MethodValidated.Literal.of( ValidatedSide.ALL ), ValidationInterceptor.class );
+	}
+
+	@Test
+	public void testInterceptorResolvedForTheInterceptorBindings() {
+		Map<String, Class<?>> interceptorClasses = new HashMap<>();
+		for ( AnnotatedMethod<? super ConstrainedSideService> method : processAnnotatedType( ConstrainedSideService.class ).getMethods() ) {
+			MethodValidated methodValidated = method.getAnnotation( MethodValidated.class );
+			if ( methodValidated != null ) {
+				List<Interceptor<?>> interceptors = beanManager.resolveInterceptors( InterceptionType.AROUND_INVOKE, methodValidated );
+				assertThat( interceptors ).hasSize( 1 );
+				interceptorClasses.put( method.getJavaMember().getName(), interceptors.get( 0 ).getBeanClass() );
+			}
+		}
+
+		assertThat( interceptorClasses ).hasSize( 5 );
+		assertThat( interceptorClasses ).containsEntry( "find", ParameterValidationInterceptor.class );
+		assertThat( interceptorClasses ).containsEntry( "count", ReturnValueValidationInterceptor.class );
+		assertThat( interceptorClasses ).containsEntry( "rename", ValidationInterceptor.class );
+		assertThat( interceptorClasses ).containsEntry( "tag", ParameterValidationInterceptor.class );
+		assertThat( interceptorClasses ).containsEntry( "save", ParameterValidationInterceptor.class );
+	}
+
+	@Test
+	public void testParameterValidation() {
+		assertThat( service.find( "name" ) ).isNull();
+
+		try {
+			service.find( null );
+			fail( "CDI method interceptor should have thrown an exception" );
+		}
+		catch (ConstraintViolationException e) {
+			assertThat( e.getConstraintViolations() ).hasSize( 1 );
+		}
+
+		try {
+			service.tag( Arrays.asList( "tag", " " ) );
+			fail( "CDI method interceptor should have thrown an exception" );
+		}
+		catch (ConstraintViolationException e) {
+			assertThat( e.getConstraintViolations() ).hasSize( 1 );
+		}
+
+		try {
+			service.save( new ConstrainedSideService.Item( null ) );
+			fail( "CDI method interceptor should have thrown an exception" );
+		}
+		catch (ConstraintViolationException e) {
+			assertThat( e.getConstraintViolations() ).hasSize( 1 );
+		}
+	}
+
+	@Test
+	public void testReturnValueValidation() {
+		assertThat( service.count( "name" ) ).isEqualTo( 4 );
+
+		try {
+			service.count( null );
+			fail( "CDI method interceptor should have thrown an exception" );
+		}
+		catch (ConstraintViolationException e) {
+			assertThat( e.getConstraintViolations() ).hasSize( 1 );
+		}
+	}
+
+	@Test
+	public void testParameterAndReturnValueValidation() {
+		try {
+			service.rename( null );
+			fail( "CDI method interceptor should have thrown an exception" );
+		}
+		catch (ConstraintViolationException e) {
+			assertThat( e.getConstraintViolations() ).hasSize( 1 );
+		}
+
+		try {
+			service.rename( "" );
+			fail( "CDI method interceptor should have thrown an exception" );
+		}
+		catch (ConstraintViolationException e) {
+			assertThat( e.getConstraintViolations() ).hasSize( 1 );
+		}
+	}
+
+	private void assertResolvedInterceptor(MethodValidated binding, Class<?> expectedInterceptorClass) {
+		for ( InterceptionType interceptionType : new InterceptionType[] { InterceptionType.AROUND_INVOKE, InterceptionType.AROUND_CONSTRUCT } ) {
+			List<Interceptor<?>> interceptors = beanManager.resolveInterceptors( interceptionType, binding );
+			assertThat( interceptors ).hasSize( 1 );
+			assertThat( interceptors.get( 0 ).getBeanClass() ).isEqualTo( expectedInterceptorClass );
+		}
+	}
+
+	private <T> AnnotatedType<T> processAnnotatedType(Class<T> type) {
+		CapturingProcessAnnotatedType<T> event = new CapturingProcessAnnotatedType<>( beanManager.createAnnotatedType( type ) );
+		new ValidationExtension().processAnnotatedType( event );
+		return event.getAnnotatedType();
+	}
+
+	private static class CapturingProcessAnnotatedType<T> implements ProcessAnnotatedType<T> {
+
+		private AnnotatedType<T> annotatedType;
+
+		private CapturingProcessAnnotatedType(AnnotatedType<T> annotatedType) {
+			this.annotatedType = annotatedType;
+		}
+
+		@Override
+		public AnnotatedType<T> getAnnotatedType() {
+			return annotatedType;
+		}
+
+		@Override
+		public void setAnnotatedType(AnnotatedType<T> type) {
+			this.annotatedType = type;
+		}
+
+		@Override
+		public AnnotatedTypeConfigurator<T> configureAnnotatedType() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void veto() {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
@@ -0,0 +1,51 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.cdi.internal.methodvalidation;
+
+import java.util.List;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+
+public class ConstrainedSideService {
+
+	public String find(@NotNull String name) {
+		return null;
+	}
+
+	@Min(0)
+	public int count(String name) {
+		return name == null ? -1 : name.length();
+	}
+
+	@NotNull
+	public String rename(@NotNull String name) {
+		return name.isEmpty() ? null : name;
+	}
+
+	public void tag(List<@NotBlank String> tags) {
+	}
+
+	public void save(@Valid Item item) {
+	}
+
+	public String describe(String name) {
+		return null;
+	}
+
+	public static class Item {
+
+		@NotNull
+		private final String name;
+
+		public Item(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -121,6 +121,19 @@ public void temporalValidationTolerance() {
 		//end::temporalValidationTolerance[]
 	}
 
+	@Test
+	@SuppressWarnings("unused")
+	public void linearTimePatternMatching() {
+		//tag::linearTimePatternMatching[]
+		ValidatorFactory validatorFactory = Validation.byProvider( HibernateValidator.class )
+				.configure()
+				.linearTimePatternMatching( true )
+				.patternMatchingStepBudget( 100_000 )
+				.buildValidatorFactory();
+		Validator validator = validatorFactory.getValidator();
+		//end::linearTimePatternMatching[]
+	}
+
 	@Test
 	@SuppressWarnings("unused")
 	public void valueExtractor() {
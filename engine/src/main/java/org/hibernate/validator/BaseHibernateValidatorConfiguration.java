@@ -21,6 +21,7 @@
 import org.hibernate.validator.cfg.ConstraintMapping;
 import org.hibernate.validator.constraints.ParameterScriptAssert;
 import org.hibernate.validator.constraints.ScriptAssert;
+import org.hibernate.validator.constraintvalidation.PatternMatching;
 import org.hibernate.validator.spi.nodenameprovider.PropertyNodeNameProvider;
 import org.hibernate.validator.spi.properties.GetterPropertySelectionStrategy;
 import org.hibernate.validator.spi.resourceloading.ResourceBundleLocator;
@@ -130,6 +131,28 @@
 	@Incubating
 	String PROPERTY_NODE_NAME_PROVIDER_CLASSNAME = "hibernate.validator.property_node_name_provider";
 
+	/**
+	 * Property for enabling the linear time regular expression engine for the {@code @Pattern} constraints. Regular
+	 * expressions using constructs not supported by this engine are still matched using {@code java.util.regex}.
+	 * <p>
+	 * This property is ignored if the engine has been configured via {@link #linearTimePatternMatching(boolean)}.
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	String LINEAR_TIME_PATTERN_MATCHING = "hibernate.validator.linear_time_pattern_matching";
+
+	/**
+	 * Property for configuring the maximum number of steps allowed when matching a value against the regular
+	 * expression of a {@code @Pattern} constraint. A value exceeding this budget is considered invalid.
+	 * <p>
+	 * This property is ignored if the budget has been configured via {@link #patternMatchingStepBudget(long)}.
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	String PATTERN_MATCHING_STEP_BUDGET = "hibernate.validator.pattern_matching_step_budget";
+
 	/**
 	 * <p>
 	 * Returns the {@link ResourceBundleLocator} used by the
@@ -360,4 +383,38 @@
 	 */
 	@Incubating
 	S propertyNodeNameProvider(PropertyNodeNameProvider propertyNodeNameProvider);
+
+	/**
+	 * Allows to enable the linear time regular expression engine for the {@code @Pattern} constraints.
+	 * <p>
+	 * This engine guarantees a matching time linear in the length of the value, thus protecting against the regular
+	 * expression denial of service attacks. Regular expressions using constructs it does not support (e.g. back
+	 * references or lookarounds) are still matched using {@code java.util.regex}.
+	 * <p>
+	 * The engine can also be selected for a given constraint via the {@link PatternMatching} payloads.
+	 *
+	 * @param enabled whether the linear time regular expression engine should be used by default
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	S linearTimePatternMatching(boolean enabled);
+
+	/**
+	 * Allows to set the maximum number of steps allowed when matching a value against the regular expression of a
+	 * {@code @Pattern} constraint. A value exceeding this budget is considered invalid.
+	 * <p>
+	 * The budget applies to both regular expression engines. A value less than or equal to 0 means no limit, which is
+	 * the default.
+	 *
+	 * @param stepBudget the maximum number of steps for each validation of a value
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	S patternMatchingStepBudget(long stepBudget);
 }
@@ -76,6 +76,11 @@
  * </constraint-mappings>
  * }
  * </pre>
+ * <p>
+ * The {@code org.hibernate.validator.constraintvalidators.RFC3986URLValidator} can be configured the same way. It relies
+ * on a hand-written RFC 3986 parser, accepts any protocol and does not allocate any object, which makes it the fastest
+ * option, especially for invalid URLs.
+ * </p>
  *
  * @see <a href="http://www.ietf.org/rfc/rfc2396.txt">RFC2396</a>
  * @see org.hibernate.validator.cfg.ConstraintMapping#constraintDefinition(Class)
@@ -0,0 +1,33 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.constraintvalidation;
+
+import javax.validation.Payload;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * Set of payloads defining how the duplicate elements found by a given {@code @UniqueElements} constraint are reported
+ * in the {@code duplicates} message parameter and in the dynamic payload of the constraint violation:
+ * <pre>
+ * &#64;UniqueElements(payload = DuplicateReporting.FirstDuplicate.class)
+ * private List&lt;Long&gt; ids;
+ * </pre>
+ * <p>
+ * By default, all the duplicate elements are reported.
+ *
+ * @since 6.1.0
+ */
+@Incubating
+public interface DuplicateReporting {
+
+	/**
+	 * Stops the validation at the first duplicate element found, which is the only one reported.
+	 */
+	interface FirstDuplicate extends Payload {
+	}
+}
@@ -6,6 +6,9 @@
  */
 package org.hibernate.validator.constraintvalidation;
 
+import java.time.Clock;
+
+import javax.validation.ClockProvider;
 import javax.validation.ConstraintValidatorContext;
 
 import org.hibernate.validator.HibernateValidatorConfiguration;
@@ -124,4 +127,20 @@ public interface HibernateConstraintValidatorContext extends ConstraintValidator
 	@Incubating
 	<C> C getConstraintValidatorPayload(Class<C> type);
 
+	/**
+	 * Returns the time reference of the current validation call.
+	 * <p>
+	 * The returned {@link Clock} is obtained from the {@link ClockProvider} the first time it is requested during a
+	 * validation call and is then fixed: all the temporal constraints (e.g. {@code @Past} or {@code @Future}) validated
+	 * by the same call are compared to the same instant.
+	 *
+	 * @return the time reference of the current validation call
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	default Clock getReferenceClock() {
+		return getClockProvider().getClock();
+	}
+
 }
@@ -8,6 +8,7 @@
 
 import java.time.Clock;
 import java.time.Duration;
+import java.util.function.Function;
 
 import javax.validation.ClockProvider;
 
@@ -58,4 +59,53 @@ public interface HibernateConstraintValidatorInitializationContext {
 	 */
 	@Incubating
 	Duration getTemporalValidationTolerance();
+
+	/**
+	 * Returns whether the linear time regular expression engine should be used by default for the regular expressions
+	 * of the constraints.
+	 *
+	 * @return {@code true} if the linear time regular expression engine is enabled. The default implementation
+	 * returns {@code false}.
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	default boolean isLinearTimePatternMatchingEnabled() {
+		return false;
+	}
+
+	/**
+	 * Returns the maximum number of steps allowed when matching a value against a regular expression.
+	 *
+	 * @return the step budget, a value less than or equal to 0 meaning no limit. The default implementation returns
+	 * {@code 0}.
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	default long getPatternMatchingStepBudget() {
+		return 0L;
+	}
+
+	/**
+	 * Returns an artifact derived from the attributes of a constraint, e.g. a compiled regular expression, shared by
+	 * all the constraint validators of the validator factory.
+	 * <p>
+	 * The key must implement {@code equals()} and {@code hashCode()} and identify both the type of the artifact and
+	 * all the attributes it is derived from. The artifact must be immutable and thread-safe. As the number of cached
+	 * artifacts is bounded, the factory might be called several times for the same key.
+	 *
+	 * @param key the key identifying the artifact
+	 * @param artifactFactory creates the artifact from the key if it is not cached yet
+	 * @param <K> the type of the key
+	 * @param <A> the type of the artifact
+	 *
+	 * @return the shared artifact
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	default <K, A> A getConstraintArtifact(K key, Function<? super K, ? extends A> artifactFactory) {
+		return artifactFactory.apply( key );
+	}
 }
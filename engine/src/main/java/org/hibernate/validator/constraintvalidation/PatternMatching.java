@@ -0,0 +1,38 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.constraintvalidation;
+
+import javax.validation.Payload;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * Set of payloads selecting the regular expression engine used to validate a given {@code @Pattern} constraint,
+ * overriding the default defined by {@link org.hibernate.validator.BaseHibernateValidatorConfiguration#linearTimePatternMatching(boolean)}:
+ * <pre>
+ * &#64;Pattern(regexp = "([a-z]+\\.)*[a-z]+", payload = PatternMatching.LinearTime.class)
+ * private String packageName;
+ * </pre>
+ *
+ * @since 6.1.0
+ */
+@Incubating
+public interface PatternMatching {
+
+	/**
+	 * Uses the linear time regular expression engine, which is not subject to catastrophic backtracking. Regular
+	 * expressions using constructs not supported by this engine are still matched using {@code java.util.regex}.
+	 */
+	interface LinearTime extends Payload {
+	}
+
+	/**
+	 * Uses the {@code java.util.regex} backtracking engine.
+	 */
+	interface Backtracking extends Payload {
+	}
+}
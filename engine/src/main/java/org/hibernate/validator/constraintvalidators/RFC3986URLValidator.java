@@ -0,0 +1,287 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.constraintvalidators;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+
+import org.hibernate.validator.Incubating;
+import org.hibernate.validator.constraints.URL;
+import org.hibernate.validator.internal.util.DomainNameUtil;
+
+/**
+ * Validate that the character sequence (e.g. string) is a valid URL using a hand-written
+ * <a href="https://tools.ietf.org/html/rfc3986">RFC 3986</a> parser.
+ * <p>
+ * The scheme, the host and the port are located in place, without creating a {@code java.net.URL} nor any other
+ * object, which makes this validator faster than the other ones, especially for invalid URLs. Any scheme is accepted.
+ * <p>
+ * As for internationalized resource identifiers, non ASCII characters are accepted. The host must be a valid domain
+ * name, IPv4 address or IPv6 address wrapped in []. The host might only be omitted, together with the user information
+ * and the port, for the {@code file} scheme, as in {@code file:///etc/hosts}: an empty host is rejected for the other
+ * schemes even though {@code java.net.URL} accepts it. The scheme and the host are compared to the {@code protocol}
+ * and {@code host} attributes of the constraint ignoring the case, as they are case insensitive. The port must be at
+ * most 65535.
+ *
+ * @since 6.1
+ */
+@Incubating
+public class RFC3986URLValidator implements ConstraintValidator<URL, CharSequence> {
+
+	private static final int MAX_PORT = 65535;
+
+	private static final int NON_ASCII_START = 0xA0;
+
+	/**
+	 * The scheme of the URLs allowed to have an empty authority, see RFC 8089.
+	 */
+	private static final String FILE_SCHEME = "file";
+
+	private static final String UNRESERVED_AND_SUB_DELIMS = "-._~!$&'()*+,;=";
+
+	private static final boolean[] SCHEME_CHARS = asciiCharacters( "+-." );
+	private static final boolean[] REG_NAME_CHARS = asciiCharacters( UNRESERVED_AND_SUB_DELIMS );
+	private static final boolean[] USER_INFO_CHARS = asciiCharacters( UNRESERVED_AND_SUB_DELIMS + ":" );
+	private static final boolean[] PATH_CHARS = asciiCharacters( UNRESERVED_AND_SUB_DELIMS + ":@/" );
+	private static final boolean[] QUERY_AND_FRAGMENT_CHARS = asciiCharacters( UNRESERVED_AND_SUB_DELIMS + ":@/?" );
+
+	private String protocol;
+	private String host;
+	private int port;
+
+	@Override
+	public void initialize(URL url) {
+		this.protocol = url.protocol();
+		this.host = url.host();
+		this.port = url.port();
+	}
+
+	@Override
+	public boolean isValid(CharSequence value, ConstraintValidatorContext constraintValidatorContext) {
+		if ( value == null || value.length() == 0 ) {
+			return true;
+		}
+
+		int length = value.length();
+
+		// scheme = ALPHA *( ALPHA / DIGIT / "+" / "-" / "." )
+		if ( !isAsciiLetter( value.charAt( 0 ) ) ) {
+			return false;
+		}
+		int schemeEnd = 1;
+		while ( schemeEnd < length && value.charAt( schemeEnd ) != ':' ) {
+			if ( !isAllowed( value.charAt( schemeEnd ), SCHEME_CHARS, false ) ) {
+				return false;
+			}
+			schemeEnd++;
+		}
+		if ( schemeEnd == length ) {
+			return false;
+		}
+		if ( protocol != null && protocol.length() > 0 && !regionEqualsIgnoreCase( value, 0, schemeEnd, protocol ) ) {
+			return false;
+		}
+
+		int i = schemeEnd + 1;
+		int hostStart = i;
+		int hostEnd = i;
+		int urlPort = -1;
+
+		if ( i + 1 < length && value.charAt( i ) == '/' && value.charAt( i + 1 ) == '/' ) {
+			// authority = [ userinfo "@" ] host [ ":" port ]
+			int authorityStart = i + 2;
+			int authorityEnd = authorityStart;
+			int userInfoEnd = -1;
+			while ( authorityEnd < length ) {
+				char c = value.charAt( authorityEnd );
+				if ( c == '/' || c == '?' || c == '#' ) {
+					break;
+				}
+				if ( c == '@' ) {
+					userInfoEnd = authorityEnd;
+				}
+				authorityEnd++;
+			}
+
+			if ( userInfoEnd >= 0 ) {
+				if ( !isValidComponent( value, authorityStart, userInfoEnd, USER_INFO_CHARS ) ) {
+					return false;
+				}
+				hostStart = userInfoEnd + 1;
+			}
+			else {
+				hostStart = authorityStart;
+			}
+
+			if ( hostStart < authorityEnd && value.charAt( hostStart ) == '[' ) {
+				// IP-literal, validated by DomainNameUtil
+				hostEnd = indexOf( value, ']', hostStart, authorityEnd );
+				if ( hostEnd < 0 ) {
+					return false;
+				}
+				hostEnd++;
+			}
+			else {
+				hostEnd = indexOf( value, ':', hostStart, authorityEnd );
+				if ( hostEnd < 0 ) {
+					hostEnd = authorityEnd;
+				}
+				if ( !isValidComponent( value, hostStart, hostEnd, REG_NAME_CHARS ) ) {
+					return false;
+				}
+			}
+
+			if ( authorityStart == authorityEnd ) {
+				// the authority of a file URL might be empty, the host then being the local host
+				if ( !regionEqualsIgnoreCase( value, 0, schemeEnd, FILE_SCHEME ) ) {
+					return false;
+				}
+			}
+			else if ( hostStart == hostEnd || !DomainNameUtil.isValidDomainAddress( value, hostStart, hostEnd ) ) {
+				return false;
+			}
+
+			if ( hostEnd < authorityEnd ) {
+				if ( value.charAt( hostEnd ) != ':' ) {
+					return false;
+				}
+				urlPort = parsePort( value, hostEnd + 1, authorityEnd );
+				if ( urlPort < -1 ) {
+					return false;
+				}
+			}
+
+			i = authorityEnd;
+		}
+
+		if ( host != null && host.length() > 0 && !regionEqualsIgnoreCase( value, hostStart, hostEnd, host ) ) {
+			return false;
+		}
+
+		if ( port != -1 && urlPort != port ) {
+			return false;
+		}
+
+		// path, then query and fragment
+		int pathEnd = i;
+		while ( pathEnd < length && value.charAt( pathEnd ) != '?' && value.charAt( pathEnd ) != '#' ) {
+			pathEnd++;
+		}
+		if ( !isValidComponent( value, i, pathEnd, PATH_CHARS ) ) {
+			return false;
+		}
+		i = pathEnd;
+
+		if ( i < length && value.charAt( i ) == '?' ) {
+			int queryEnd = indexOf( value, '#', i + 1, length );
+			if ( queryEnd < 0 ) {
+				queryEnd = length;
+			}
+			if ( !isValidComponent( value, i + 1, queryEnd, QUERY_AND_FRAGMENT_CHARS ) ) {
+				return false;
+			}
+			i = queryEnd;
+		}
+
+		if ( i < length ) {
+			// this is necessarily a fragment
+			return isValidComponent( value, i + 1, length, QUERY_AND_FRAGMENT_CHARS );
+		}
+
+		return true;
+	}
+
+	/**
+	 * Checks that a component only contains the allowed characters, percent-encoded octets and non ASCII characters.
+	 */
+	private static boolean isValidComponent(CharSequence value, int start, int end, boolean[] allowedAsciiCharacters) {
+		int i = start;
+		while ( i < end ) {
+			char c = value.charAt( i );
+			if ( c == '%' ) {
+				if ( i + 2 >= end || !isHexDigit( value.charAt( i + 1 ) ) || !isHexDigit( value.charAt( i + 2 ) ) ) {
+					return false;
+				}
+				i += 3;
+			}
+			else if ( isAllowed( c, allowedAsciiCharacters, true ) ) {
+				i++;
+			}
+			else {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the port, -1 if it is empty or -2 if it is invalid.
+	 */
+	private static int parsePort(CharSequence value, int start, int end) {
+		if ( start == end ) {
+			return -1;
+		}
+		int port = 0;
+		for ( int i = start; i < end; i++ ) {
+			char c = value.charAt( i );
+			if ( c < '0' || c > '9' ) {
+				return -2;
+			}
+			port = port * 10 + ( c - '0' );
+			if ( port > MAX_PORT ) {
+				return -2;
+			}
+		}
+		return port;
+	}
+
+	private static boolean isAllowed(char c, boolean[] allowedAsciiCharacters, boolean allowNonAscii) {
+		if ( c < 128 ) {
+			return isAsciiLetter( c ) || ( c >= '0' && c <= '9' ) || allowedAsciiCharacters[c];
+		}
+		return allowNonAscii && c >= NON_ASCII_START;
+	}
+
+	private static boolean isAsciiLetter(char c) {
+		return ( c >= 'a' && c <= 'z' ) || ( c >= 'A' && c <= 'Z' );
+	}
+
+	private static boolean isHexDigit(char c) {
+		return ( c >= '0' && c <= '9' ) || ( c >= 'a' && c <= 'f' ) || ( c >= 'A' && c <= 'F' );
+	}
+
+	private static boolean regionEqualsIgnoreCase(CharSequence value, int start, int end, String expected) {
+		if ( end - start != expected.length() ) {
+			return false;
+		}
+		for ( int i = 0; i < expected.length(); i++ ) {
+			char c1 = value.charAt( start + i );
+			char c2 = expected.charAt( i );
+			if ( c1 != c2 && Character.toLowerCase( c1 ) != Character.toLowerCase( c2 ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int indexOf(CharSequence value, char c, int start, int end) {
+		for ( int i = start; i < end; i++ ) {
+			if ( value.charAt( i ) == c ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static boolean[] asciiCharacters(String characters) {
+		boolean[] table = new boolean[128];
+		for ( int i = 0; i < characters.length(); i++ ) {
+			table[characters.charAt( i )] = true;
+		}
+		return table;
+	}
+}
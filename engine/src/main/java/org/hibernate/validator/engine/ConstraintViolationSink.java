@@ -0,0 +1,40 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.engine;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Path;
+import javax.validation.metadata.ConstraintDescriptor;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * Receives the constraint violations raised by a {@link StreamingValidator} as soon as they are detected, without any
+ * {@link ConstraintViolation} being created.
+ * <p>
+ * This allows to serialize the constraint violations directly, e.g. to a JSON stream, without collecting them first.
+ *
+ * @since 6.1
+ */
+@Incubating
+public interface ConstraintViolationSink {
+
+	/**
+	 * Called for each constraint violation.
+	 * <p>
+	 * The property path is not copied: it is only valid for the duration of the call and must not be retained. Duplicate
+	 * violations are not filtered.
+	 *
+	 * @param propertyPath the path to the value which failed the validation
+	 * @param messageTemplate the non-interpolated error message
+	 * @param interpolatedMessage the interpolated error message
+	 * @param constraintDescriptor the descriptor of the constraint which failed
+	 * @param invalidValue the value failing to pass the constraint
+	 */
+	void addConstraintViolation(Path propertyPath, String messageTemplate, String interpolatedMessage,
+			ConstraintDescriptor<?> constraintDescriptor, Object invalidValue);
+}
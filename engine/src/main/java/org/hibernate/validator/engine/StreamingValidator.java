@@ -0,0 +1,42 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.engine;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * Validates beans and pushes the constraint violations to a {@link ConstraintViolationSink} instead of returning
+ * {@link ConstraintViolation}s.
+ * <p>
+ * An instance can be obtained by unwrapping a Hibernate Validator {@link Validator}:
+ * {@code validator.unwrap( StreamingValidator.class )}.
+ *
+ * @since 6.1
+ */
+@Incubating
+public interface StreamingValidator {
+
+	/**
+	 * Validates all constraints on {@code object} and pushes the constraint violations to the given sink.
+	 *
+	 * @param object object to validate
+	 * @param constraintViolationSink the sink receiving the constraint violations
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link javax.validation.groups.Default})
+	 * @param <T> the type of the object to validate
+	 *
+	 * @return the number of constraint violations pushed to the sink
+	 *
+	 * @throws IllegalArgumentException if object is {@code null}, if the sink is {@code null} or if {@code null} is
+	 *         passed to the varargs groups
+	 * @throws javax.validation.ValidationException if a non recoverable error happens during the validation process
+	 */
+	<T> int validate(T object, ConstraintViolationSink constraintViolationSink, Class<?>... groups);
+}
@@ -6,11 +6,7 @@
  */
 package org.hibernate.validator.internal.constraintvalidators;
 
-import static java.util.regex.Pattern.CASE_INSENSITIVE;
-
 import java.lang.annotation.Annotation;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
@@ -27,6 +23,9 @@
  * <a href="http://www.regular-expressions.info/email.html">article</a> discusses it is not necessarily practical to
  * implement a 100% compliant email validator. This implementation is a trade-off trying to match most email while ignoring
  * for example emails with double quotes or comments.
+ * <p>
+ * The email is checked in a single pass, without any regular expression nor allocation, except for the internationalized
+ * domain names which are converted to ASCII to check their length.
  *
  * @author Emmanuel Bernard
  * @author Hardy Ferentschik
@@ -36,15 +35,17 @@
 
 	private static final int MAX_LOCAL_PART_LENGTH = 64;
 
-	private static final String LOCAL_PART_ATOM = "[a-z0-9!#$%&'*+/=?^_`{|}~\u0080-\uFFFF-]";
-	private static final String LOCAL_PART_INSIDE_QUOTES_ATOM = "([a-z0-9!#$%&'*.(),<>\\[\\]:;  @+/=?^_`{|}~\u0080-\uFFFF-]|\\\\\\\\|\\\\\\\")";
 	/**
-	 * Regular expression for the local part of an email address (everything before '@')
+	 * The ASCII characters allowed in the local part of an email address (everything before '@'), besides letters and
+	 * digits. Non ASCII characters are allowed too.
 	 */
-	private static final Pattern LOCAL_PART_PATTERN = Pattern.compile(
-			"(" + LOCAL_PART_ATOM + "+|\"" + LOCAL_PART_INSIDE_QUOTES_ATOM + "+\")" +
-					"(\\." + "(" + LOCAL_PART_ATOM + "+|\"" + LOCAL_PART_INSIDE_QUOTES_ATOM + "+\")" + ")*", CASE_INSENSITIVE
-	);
+	private static final boolean[] LOCAL_PART_ATOM = asciiCharacters( "!#$%&'*+/=?^_`{|}~-" );
+
+	/**
+	 * The ASCII characters allowed inside a quoted string of the local part, besides letters and digits. Backslashes and
+	 * double quotes have to be escaped with a backslash. Non ASCII characters are allowed too.
+	 */
+	private static final boolean[] LOCAL_PART_INSIDE_QUOTES_ATOM = asciiCharacters( "!#$%&'*.(),<>[]:; @+/=?^_`{|}~-" );
 
 	@Override
 	public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
@@ -54,29 +55,112 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
 
 		// cannot split email string at @ as it can be a part of quoted local part of email.
 		// so we need to split at a position of last @ present in the string:
-		String stringValue = value.toString();
-		int splitPosition = stringValue.lastIndexOf( '@' );
+		int splitPosition = lastIndexOf( value, '@' );
 
 		// need to check if
 		if ( splitPosition < 0 ) {
 			return false;
 		}
 
-		String localPart = stringValue.substring( 0, splitPosition );
-		String domainPart = stringValue.substring( splitPosition + 1 );
-
-		if ( !isValidEmailLocalPart( localPart ) ) {
+		if ( !isValidEmailLocalPart( value, splitPosition ) ) {
 			return false;
 		}
 
-		return DomainNameUtil.isValidEmailDomainAddress( domainPart );
+		return DomainNameUtil.isValidEmailDomainAddress( value, splitPosition + 1, value.length() );
 	}
 
-	private boolean isValidEmailLocalPart(String localPart) {
-		if ( localPart.length() > MAX_LOCAL_PART_LENGTH ) {
+	/**
+	 * Checks the local part of the email, i.e. the characters before {@code end}: a dot separated list of words, each
+	 * word being either a sequence of atoms or a quoted string.
+	 */
+	private static boolean isValidEmailLocalPart(CharSequence value, int end) {
+		if ( end > MAX_LOCAL_PART_LENGTH ) {
 			return false;
 		}
-		Matcher matcher = LOCAL_PART_PATTERN.matcher( localPart );
-		return matcher.matches();
+
+		int i = 0;
+		while ( true ) {
+			if ( i == end ) {
+				// empty word
+				return false;
+			}
+
+			if ( value.charAt( i ) == '"' ) {
+				i = skipQuotedString( value, i + 1, end );
+				if ( i < 0 ) {
+					return false;
+				}
+			}
+			else {
+				int wordStart = i;
+				while ( i < end && isAllowed( value, i, end, LOCAL_PART_ATOM ) ) {
+					i++;
+				}
+				if ( i == wordStart ) {
+					return false;
+				}
+			}
+
+			if ( i == end ) {
+				return true;
+			}
+			if ( value.charAt( i ) != '.' ) {
+				return false;
+			}
+			i++;
+		}
+	}
+
+	/**
+	 * Returns the index following the closing double quote of a non empty quoted string starting at {@code start} or
+	 * -1 if the quoted string is invalid.
+	 */
+	private static int skipQuotedString(CharSequence value, int start, int end) {
+		int i = start;
+		while ( i < end ) {
+			char c = value.charAt( i );
+			if ( c == '"' ) {
+				return i > start ? i + 1 : -1;
+			}
+			if ( c == '\\' ) {
+				if ( i + 1 == end || ( value.charAt( i + 1 ) != '\\' && value.charAt( i + 1 ) != '"' ) ) {
+					return -1;
+				}
+				i += 2;
+			}
+			else if ( isAllowed( value, i, end, LOCAL_PART_INSIDE_QUOTES_ATOM ) ) {
+				i++;
+			}
+			else {
+				return -1;
+			}
+		}
+		return -1;
+	}
+
+	private static boolean isAllowed(CharSequence value, int index, int end, boolean[] allowedAsciiCharacters) {
+		char c = value.charAt( index );
+		if ( c < 128 ) {
+			return ( c >= 'a' && c <= 'z' ) || ( c >= 'A' && c <= 'Z' ) || ( c >= '0' && c <= '9' ) || allowedAsciiCharacters[c];
+		}
+		// the code points outside of the BMP are not allowed
+		return !( Character.isHighSurrogate( c ) && index + 1 < end && Character.isLowSurrogate( value.charAt( index + 1 ) ) );
+	}
+
+	private static int lastIndexOf(CharSequence value, char c) {
+		for ( int i = value.length() - 1; i >= 0; i-- ) {
+			if ( value.charAt( i ) == c ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static boolean[] asciiCharacters(String characters) {
+		boolean[] table = new boolean[128];
+		for ( int i = 0; i < characters.length(); i++ ) {
+			table[characters.charAt( i )] = true;
+		}
+		return table;
 	}
 }
@@ -6,14 +6,14 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.bv;
 
-import java.lang.invoke.MethodHandles;
-import java.math.BigDecimal;
-import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 import javax.validation.constraints.DecimalMax;
+import javax.validation.metadata.ConstraintDescriptor;
 
-import org.hibernate.validator.internal.util.logging.Log;
-import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidator;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
+import org.hibernate.validator.internal.constraintvalidators.bv.number.bound.decimal.DecimalBound;
+import org.hibernate.validator.internal.constraintvalidators.bv.number.bound.decimal.DecimalBounds;
 
 /**
  * Check that the character sequence (e.g. string) being validated represents a number, and has a value
@@ -21,22 +21,27 @@
  *
  * @author Alaa Nassef
  */
-public class DecimalMaxValidatorForCharSequence implements ConstraintValidator<DecimalMax, CharSequence> {
+public class DecimalMaxValidatorForCharSequence implements HibernateConstraintValidator<DecimalMax, CharSequence> {
 
-	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
-
-	private BigDecimal maxValue;
+	private DecimalBound maxValue;
 	private boolean inclusive;
+	private DecimalMax constraintAnnotation;
 
 	@Override
-	public void initialize(DecimalMax maxValue) {
-		try {
-			this.maxValue = new BigDecimal( maxValue.value() );
-		}
-		catch (NumberFormatException nfe) {
-			throw LOG.getInvalidBigDecimalFormatException( maxValue.value(), nfe );
+	public void initialize(ConstraintDescriptor<DecimalMax> constraintDescriptor, HibernateConstraintValidatorInitializationContext initializationContext) {
+		DecimalMax constraintAnnotation = constraintDescriptor.getAnnotation();
+		this.maxValue = DecimalBounds.getBound( initializationContext, constraintAnnotation.value() );
+		this.inclusive = constraintAnnotation.inclusive();
+		this.constraintAnnotation = constraintAnnotation;
+	}
+
+	@Override
+	public void initialize(DecimalMax constraintAnnotation) {
+		if ( constraintAnnotation != this.constraintAnnotation ) {
+			this.maxValue = DecimalBounds.parse( constraintAnnotation.value() );
+			this.inclusive = constraintAnnotation.inclusive();
+			this.constraintAnnotation = constraintAnnotation;
 		}
-		this.inclusive = maxValue.inclusive();
 	}
 
 	@Override
@@ -46,7 +51,7 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext constraint
 			return true;
 		}
 		try {
-			int comparisonResult = new BigDecimal( value.toString() ).compareTo( maxValue );
+			int comparisonResult = maxValue.compare( value );
 			return inclusive ? comparisonResult <= 0 : comparisonResult < 0;
 		}
 		catch (NumberFormatException nfe) {
@@ -6,14 +6,14 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.bv;
 
-import java.lang.invoke.MethodHandles;
-import java.math.BigDecimal;
-import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 import javax.validation.constraints.DecimalMin;
+import javax.validation.metadata.ConstraintDescriptor;
 
-import org.hibernate.validator.internal.util.logging.Log;
-import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidator;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
+import org.hibernate.validator.internal.constraintvalidators.bv.number.bound.decimal.DecimalBound;
+import org.hibernate.validator.internal.constraintvalidators.bv.number.bound.decimal.DecimalBounds;
 
 /**
  * Check that the character sequence (e.g. string) being validated represents a number, and has a value
@@ -21,22 +21,27 @@
  *
  * @author Hardy Ferentschik
  */
-public class DecimalMinValidatorForCharSequence implements ConstraintValidator<DecimalMin, CharSequence> {
+public class DecimalMinValidatorForCharSequence implements HibernateConstraintValidator<DecimalMin, CharSequence> {
 
-	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
-
-	private BigDecimal minValue;
+	private DecimalBound minValue;
 	private boolean inclusive;
+	private DecimalMin constraintAnnotation;
 
 	@Override
-	public void initialize(DecimalMin minValue) {
-		try {
-			this.minValue = new BigDecimal( minValue.value() );
-		}
-		catch (NumberFormatException nfe) {
-			throw LOG.getInvalidBigDecimalFormatException( minValue.value(), nfe );
+	public void initialize(ConstraintDescriptor<DecimalMin> constraintDescriptor, HibernateConstraintValidatorInitializationContext initializationContext) {
+		DecimalMin constraintAnnotation = constraintDescriptor.getAnnotation();
+		this.minValue = DecimalBounds.getBound( initializationContext, constraintAnnotation.value() );
+		this.inclusive = constraintAnnotation.inclusive();
+		this.constraintAnnotation = constraintAnnotation;
+	}
+
+	@Override
+	public void initialize(DecimalMin constraintAnnotation) {
+		if ( constraintAnnotation != this.constraintAnnotation ) {
+			this.minValue = DecimalBounds.parse( constraintAnnotation.value() );
+			this.inclusive = constraintAnnotation.inclusive();
+			this.constraintAnnotation = constraintAnnotation;
 		}
-		this.inclusive = minValue.inclusive();
 	}
 
 	@Override
@@ -46,7 +51,7 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext constraint
 			return true;
 		}
 		try {
-			int comparisonResult = new BigDecimal( value.toString() ).compareTo( minValue );
+			int comparisonResult = minValue.compare( value );
 			return inclusive ? comparisonResult >= 0 : comparisonResult > 0;
 		}
 		catch (NumberFormatException nfe) {
@@ -12,6 +12,7 @@
 import javax.validation.ConstraintValidatorContext;
 import javax.validation.constraints.Digits;
 
+import org.hibernate.validator.internal.constraintvalidators.bv.number.DecimalScanner;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 
@@ -43,6 +44,12 @@ public boolean isValid(CharSequence charSequence, ConstraintValidatorContext con
 			return true;
 		}
 
+		int separator = DecimalScanner.scan( charSequence );
+		if ( separator != DecimalScanner.NOT_PLAIN ) {
+			return maxIntegerLength >= DecimalScanner.integerPartLength( charSequence, separator, false )
+					&& maxFractionLength >= DecimalScanner.fractionPartLength( charSequence, separator, false );
+		}
+
 		BigDecimal bigNum = getBigDecimalValue( charSequence );
 		if ( bigNum == null ) {
 			return false;
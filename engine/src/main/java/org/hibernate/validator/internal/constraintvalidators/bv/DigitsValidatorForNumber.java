@@ -12,6 +12,7 @@
 import javax.validation.ConstraintValidatorContext;
 import javax.validation.constraints.Digits;
 
+import org.hibernate.validator.internal.constraintvalidators.bv.number.DecimalScanner;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 
@@ -43,12 +44,23 @@ public boolean isValid(Number num, ConstraintValidatorContext constraintValidato
 			return true;
 		}
 
+		// integral numbers stripped from their trailing zeros have no fraction part
+		if ( num instanceof Integer || num instanceof Long || num instanceof Short || num instanceof Byte ) {
+			return maxIntegerLength >= DecimalScanner.digitCount( num.longValue() );
+		}
+
 		BigDecimal bigNum;
 		if ( num instanceof BigDecimal ) {
 			bigNum = (BigDecimal) num;
 		}
 		else {
-			bigNum = new BigDecimal( num.toString() ).stripTrailingZeros();
+			String numAsString = num.toString();
+			int separator = DecimalScanner.scan( numAsString );
+			if ( separator != DecimalScanner.NOT_PLAIN ) {
+				return maxIntegerLength >= DecimalScanner.integerPartLength( numAsString, separator, true )
+						&& maxFractionLength >= DecimalScanner.fractionPartLength( numAsString, separator, true );
+			}
+			bigNum = new BigDecimal( numAsString ).stripTrailingZeros();
 		}
 
 		int integerPartLength = bigNum.precision() - bigNum.scale();
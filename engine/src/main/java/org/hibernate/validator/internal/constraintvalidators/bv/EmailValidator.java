@@ -6,47 +6,49 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.bv;
 
-import java.lang.invoke.MethodHandles;
 import java.util.regex.Matcher;
-import java.util.regex.PatternSyntaxException;
 
 import javax.validation.ConstraintValidatorContext;
 import javax.validation.constraints.Email;
 import javax.validation.constraints.Pattern;
+import javax.validation.metadata.ConstraintDescriptor;
 
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidator;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
 import org.hibernate.validator.internal.constraintvalidators.AbstractEmailValidator;
-import org.hibernate.validator.internal.util.logging.Log;
-import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.internal.util.regex.SharedPatterns;
 
 /**
  * Checks that a given character sequence (e.g. string) is a well-formed email address.
  *
  * @author Guillaume Smet
  */
-public class EmailValidator extends AbstractEmailValidator<Email> {
-
-	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+public class EmailValidator extends AbstractEmailValidator<Email> implements HibernateConstraintValidator<Email, CharSequence> {
 
 	private java.util.regex.Pattern pattern;
 
+	private Email constraintAnnotation;
+
 	@Override
-	public void initialize(Email emailAnnotation) {
-		super.initialize( emailAnnotation );
+	public void initialize(ConstraintDescriptor<Email> constraintDescriptor, HibernateConstraintValidatorInitializationContext initializationContext) {
+		Email emailAnnotation = constraintDescriptor.getAnnotation();
 
-		Pattern.Flag[] flags = emailAnnotation.flags();
-		int intFlag = 0;
-		for ( Pattern.Flag flag : flags ) {
-			intFlag = intFlag | flag.getValue();
+		// we only apply the regexp if there is one to apply
+		if ( hasRegexp( emailAnnotation ) ) {
+			pattern = SharedPatterns.getPattern( initializationContext, emailAnnotation.regexp(), getFlags( emailAnnotation ) );
 		}
+		constraintAnnotation = emailAnnotation;
+	}
 
-		// we only apply the regexp if there is one to apply
-		if ( !".*".equals( emailAnnotation.regexp() ) || emailAnnotation.flags().length > 0 ) {
-			try {
-				pattern = java.util.regex.Pattern.compile( emailAnnotation.regexp(), intFlag );
-			}
-			catch (PatternSyntaxException e) {
-				throw LOG.getInvalidRegularExpressionException( e );
-			}
+	@Override
+	public void initialize(Email emailAnnotation) {
+		super.initialize( emailAnnotation );
+
+		// the validator has not been initialized with the descriptor of this constraint, e.g. it has been instantiated
+		// directly
+		if ( emailAnnotation != constraintAnnotation ) {
+			pattern = hasRegexp( emailAnnotation ) ? SharedPatterns.compile( emailAnnotation.regexp(), getFlags( emailAnnotation ) ) : null;
+			constraintAnnotation = emailAnnotation;
 		}
 	}
 
@@ -64,4 +66,16 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
 		Matcher m = pattern.matcher( value );
 		return m.matches();
 	}
+
+	private static boolean hasRegexp(Email emailAnnotation) {
+		return !".*".equals( emailAnnotation.regexp() ) || emailAnnotation.flags().length > 0;
+	}
+
+	private static int getFlags(Email emailAnnotation) {
+		int intFlag = 0;
+		for ( Pattern.Flag flag : emailAnnotation.flags() ) {
+			intFlag = intFlag | flag.getValue();
+		}
+		return intFlag;
+	}
 }
@@ -7,43 +7,78 @@
 package org.hibernate.validator.internal.constraintvalidators.bv;
 
 import java.lang.invoke.MethodHandles;
-import java.util.regex.Matcher;
-import java.util.regex.PatternSyntaxException;
-import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
+import javax.validation.Payload;
 import javax.validation.constraints.Pattern;
+import javax.validation.metadata.ConstraintDescriptor;
 
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidator;
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
+import org.hibernate.validator.constraintvalidation.PatternMatching;
 import org.hibernate.validator.internal.engine.messageinterpolation.util.InterpolationHelper;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.internal.util.regex.LinearTimePattern;
+import org.hibernate.validator.internal.util.regex.SharedPatterns;
+import org.hibernate.validator.internal.util.regex.StepBudgetCharSequence;
+import org.hibernate.validator.internal.util.regex.StepBudgetExceededException;
 
 /**
+ * Validates a character sequence against a regular expression.
+ * <p>
+ * When linear time pattern matching is enabled, the regular expression is matched by {@link LinearTimePattern} if it
+ * supports all its constructs, {@code java.util.regex} being used otherwise. A positive step budget bounds the work
+ * done by either engine: a value exceeding it is considered invalid.
+ *
  * @author Hardy Ferentschik
  */
-public class PatternValidator implements ConstraintValidator<Pattern, CharSequence> {
+public class PatternValidator implements HibernateConstraintValidator<Pattern, CharSequence> {
 
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
 	private java.util.regex.Pattern pattern;
+	private LinearTimePattern linearTimePattern;
+	private long stepBudget;
 	private String escapedRegexp;
+	private Pattern constraintAnnotation;
 
 	@Override
-	public void initialize(Pattern parameters) {
-		Pattern.Flag[] flags = parameters.flags();
-		int intFlag = 0;
-		for ( Pattern.Flag flag : flags ) {
-			intFlag = intFlag | flag.getValue();
-		}
+	public void initialize(ConstraintDescriptor<Pattern> constraintDescriptor, HibernateConstraintValidatorInitializationContext initializationContext) {
+		Pattern parameters = constraintDescriptor.getAnnotation();
+		int intFlag = getFlags( parameters );
 
-		try {
-			pattern = java.util.regex.Pattern.compile( parameters.regexp(), intFlag );
+		pattern = SharedPatterns.getPattern( initializationContext, parameters.regexp(), intFlag );
+
+		boolean linearTimePatternMatchingEnabled = initializationContext.isLinearTimePatternMatchingEnabled();
+		for ( Class<? extends Payload> payload : constraintDescriptor.getPayload() ) {
+			if ( payload == PatternMatching.LinearTime.class ) {
+				linearTimePatternMatchingEnabled = true;
+			}
+			else if ( payload == PatternMatching.Backtracking.class ) {
+				linearTimePatternMatchingEnabled = false;
+			}
 		}
-		catch (PatternSyntaxException e) {
-			throw LOG.getInvalidRegularExpressionException( e );
+		if ( linearTimePatternMatchingEnabled ) {
+			linearTimePattern = SharedPatterns.getLinearTimePattern( initializationContext, parameters.regexp(), intFlag );
 		}
+		stepBudget = initializationContext.getPatternMatchingStepBudget();
 
 		escapedRegexp = InterpolationHelper.escapeMessageParameter( parameters.regexp() );
+		constraintAnnotation = parameters;
+	}
+
+	@Override
+	public void initialize(Pattern parameters) {
+		// the validator has not been initialized with the descriptor of this constraint, e.g. it has been instantiated
+		// directly: the pattern is not shared and the regular expression is matched by java.util.regex without step budget
+		if ( parameters != constraintAnnotation ) {
+			pattern = SharedPatterns.compile( parameters.regexp(), getFlags( parameters ) );
+			linearTimePattern = null;
+			stepBudget = 0L;
+			escapedRegexp = InterpolationHelper.escapeMessageParameter( parameters.regexp() );
+			constraintAnnotation = parameters;
+		}
 	}
 
 	@Override
@@ -56,7 +91,26 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext constraint
 			constraintValidatorContext.unwrap( HibernateConstraintValidatorContext.class ).addMessageParameter( "regexp", escapedRegexp );
 		}
 
-		Matcher m = pattern.matcher( value );
-		return m.matches();
+		try {
+			if ( linearTimePattern != null ) {
+				return linearTimePattern.matches( value, stepBudget );
+			}
+			if ( stepBudget > 0 ) {
+				return pattern.matcher( new StepBudgetCharSequence( value, stepBudget ) ).matches();
+			}
+			return pattern.matcher( value ).matches();
+		}
+		catch (StepBudgetExceededException e) {
+			LOG.patternMatchingStepBudgetExceeded( stepBudget, pattern.pattern() );
+			return false;
+		}
+	}
+
+	private static int getFlags(Pattern parameters) {
+		int intFlag = 0;
+		for ( Pattern.Flag flag : parameters.flags() ) {
+			intFlag = intFlag | flag.getValue();
+		}
+		return intFlag;
 	}
 }
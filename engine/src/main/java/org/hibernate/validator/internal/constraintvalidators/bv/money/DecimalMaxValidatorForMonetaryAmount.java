@@ -6,15 +6,15 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.bv.money;
 
-import java.lang.invoke.MethodHandles;
 import java.math.BigDecimal;
 import javax.money.MonetaryAmount;
-import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 import javax.validation.constraints.DecimalMax;
+import javax.validation.metadata.ConstraintDescriptor;
 
-import org.hibernate.validator.internal.util.logging.Log;
-import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidator;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
+import org.hibernate.validator.internal.constraintvalidators.bv.number.bound.decimal.DecimalBounds;
 
 /**
  * Check that the monetary amount being validated is less than or equal to the maximum
@@ -23,22 +23,27 @@
  * @author Lukas Niemeier
  * @author Willi Schönborn
  */
-public class DecimalMaxValidatorForMonetaryAmount implements ConstraintValidator<DecimalMax, MonetaryAmount> {
-
-	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+public class DecimalMaxValidatorForMonetaryAmount implements HibernateConstraintValidator<DecimalMax, MonetaryAmount> {
 
 	private BigDecimal maxValue;
 	private boolean inclusive;
+	private DecimalMax constraintAnnotation;
 
 	@Override
-	public void initialize(DecimalMax maxValue) {
-		try {
-			this.maxValue = new BigDecimal( maxValue.value() );
-		}
-		catch (NumberFormatException nfe) {
-			throw LOG.getInvalidBigDecimalFormatException( maxValue.value(), nfe );
+	public void initialize(ConstraintDescriptor<DecimalMax> constraintDescriptor, HibernateConstraintValidatorInitializationContext initializationContext) {
+		DecimalMax constraintAnnotation = constraintDescriptor.getAnnotation();
+		this.maxValue = DecimalBounds.getBound( initializationContext, constraintAnnotation.value() ).getValue();
+		this.inclusive = constraintAnnotation.inclusive();
+		this.constraintAnnotation = constraintAnnotation;
+	}
+
+	@Override
+	public void initialize(DecimalMax constraintAnnotation) {
+		if ( constraintAnnotation != this.constraintAnnotation ) {
+			this.maxValue = DecimalBounds.parse( constraintAnnotation.value() ).getValue();
+			this.inclusive = constraintAnnotation.inclusive();
+			this.constraintAnnotation = constraintAnnotation;
 		}
-		this.inclusive = maxValue.inclusive();
 	}
 
 	@Override
@@ -6,15 +6,15 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.bv.money;
 
-import java.lang.invoke.MethodHandles;
 import java.math.BigDecimal;
 import javax.money.MonetaryAmount;
-import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 import javax.validation.constraints.DecimalMin;
+import javax.validation.metadata.ConstraintDescriptor;
 
-import org.hibernate.validator.internal.util.logging.Log;
-import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidator;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
+import org.hibernate.validator.internal.constraintvalidators.bv.number.bound.decimal.DecimalBounds;
 
 /**
  * Check that the number being validated is less than or equal to the maximum
@@ -23,22 +23,27 @@
  * @author Lukas Niemeier
  * @author Willi Schönborn
  */
-public class DecimalMinValidatorForMonetaryAmount implements ConstraintValidator<DecimalMin, MonetaryAmount> {
-
-	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+public class DecimalMinValidatorForMonetaryAmount implements HibernateConstraintValidator<DecimalMin, MonetaryAmount> {
 
 	private BigDecimal minValue;
 	private boolean inclusive;
+	private DecimalMin constraintAnnotation;
 
 	@Override
-	public void initialize(DecimalMin minValue) {
-		try {
-			this.minValue = new BigDecimal( minValue.value() );
-		}
-		catch (NumberFormatException nfe) {
-			throw LOG.getInvalidBigDecimalFormatException( minValue.value(), nfe );
+	public void initialize(ConstraintDescriptor<DecimalMin> constraintDescriptor, HibernateConstraintValidatorInitializationContext initializationContext) {
+		DecimalMin constraintAnnotation = constraintDescriptor.getAnnotation();
+		this.minValue = DecimalBounds.getBound( initializationContext, constraintAnnotation.value() ).getValue();
+		this.inclusive = constraintAnnotation.inclusive();
+		this.constraintAnnotation = constraintAnnotation;
+	}
+
+	@Override
+	public void initialize(DecimalMin constraintAnnotation) {
+		if ( constraintAnnotation != this.constraintAnnotation ) {
+			this.minValue = DecimalBounds.parse( constraintAnnotation.value() ).getValue();
+			this.inclusive = constraintAnnotation.inclusive();
+			this.constraintAnnotation = constraintAnnotation;
 		}
-		this.inclusive = minValue.inclusive();
 	}
 
 	@Override
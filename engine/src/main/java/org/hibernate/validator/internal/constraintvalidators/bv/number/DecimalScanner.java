@@ -0,0 +1,118 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.constraintvalidators.bv.number;
+
+/**
+ * Analyzes the plain decimal representations of numbers directly over their characters, without creating
+ * {@code BigDecimal}s.
+ * <p>
+ * A plain decimal is an optional sign followed by ASCII digits containing at most one decimal point, with at least one
+ * digit. It is a subset of the representations accepted by {@code new BigDecimal( String )} and the results of the
+ * methods of this class are the ones we would get from the corresponding {@code BigDecimal}. The other
+ * representations (e.g. with an exponent) are left to {@code BigDecimal}.
+ */
+public final class DecimalScanner {
+
+	/**
+	 * Returned by {@link #scan(CharSequence)} when the value is not a plain decimal.
+	 */
+	public static final int NOT_PLAIN = -1;
+
+	private DecimalScanner() {
+	}
+
+	/**
+	 * @return the position of the decimal point, the length of the value if there is none, or {@link #NOT_PLAIN} if
+	 * the value is not a plain decimal
+	 */
+	public static int scan(CharSequence value) {
+		int length = value.length();
+		int separator = length;
+		boolean hasDigit = false;
+		for ( int i = integerPartStart( value ); i < length; i++ ) {
+			char c = value.charAt( i );
+			if ( c >= '0' && c <= '9' ) {
+				hasDigit = true;
+			}
+			else if ( c == '.' && separator == length ) {
+				separator = i;
+			}
+			else {
+				return NOT_PLAIN;
+			}
+		}
+		return hasDigit ? separator : NOT_PLAIN;
+	}
+
+	public static boolean isNegative(CharSequence value) {
+		return value.length() > 0 && value.charAt( 0 ) == '-';
+	}
+
+	/**
+	 * @return the position of the first character of the integer part, i.e. after the sign
+	 */
+	public static int integerPartStart(CharSequence value) {
+		if ( value.length() == 0 ) {
+			return 0;
+		}
+		char first = value.charAt( 0 );
+		return first == '-' || first == '+' ? 1 : 0;
+	}
+
+	/**
+	 * Returns the length of the integer part of a plain decimal as defined by {@code precision() - scale()}: leading
+	 * zeros are ignored and the result is negative for numbers having zeros right after the decimal point.
+	 *
+	 * @param value the plain decimal
+	 * @param separator the position of the decimal point as returned by {@link #scan(CharSequence)}
+	 * @param stripTrailingZeros whether the number is considered as stripped from its trailing zeros
+	 */
+	public static int integerPartLength(CharSequence value, int separator, boolean stripTrailingZeros) {
+		int length = value.length();
+		for ( int i = integerPartStart( value ); i < length; i++ ) {
+			char c = value.charAt( i );
+			if ( c > '0' && c <= '9' ) {
+				return i < separator ? separator - i : separator + 1 - i;
+			}
+		}
+
+		// the precision of zero is 1
+		return stripTrailingZeros ? 1 : 1 - fractionPartLength( value, separator, false );
+	}
+
+	/**
+	 * Returns the length of the fraction part of a plain decimal as defined by {@code scale()}, or 0 if the scale is
+	 * negative.
+	 *
+	 * @param value the plain decimal
+	 * @param separator the position of the decimal point as returned by {@link #scan(CharSequence)}
+	 * @param stripTrailingZeros whether the number is considered as stripped from its trailing zeros
+	 */
+	public static int fractionPartLength(CharSequence value, int separator, boolean stripTrailingZeros) {
+		int end = value.length();
+		if ( stripTrailingZeros ) {
+			while ( end > separator + 1 && value.charAt( end - 1 ) == '0' ) {
+				end--;
+			}
+		}
+		return end > separator + 1 ? end - separator - 1 : 0;
+	}
+
+	/**
+	 * @return the number of digits of the given value, 1 for 0
+	 */
+	public static int digitCount(long value) {
+		// work on negative values to support Long.MIN_VALUE
+		long remaining = value > 0 ? -value : value;
+		int count = 1;
+		while ( remaining <= -10 ) {
+			remaining /= 10;
+			count++;
+		}
+		return count;
+	}
+}
@@ -6,14 +6,12 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.bv.number.bound.decimal;
 
-import java.lang.invoke.MethodHandles;
-import java.math.BigDecimal;
-import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 import javax.validation.constraints.DecimalMax;
+import javax.validation.metadata.ConstraintDescriptor;
 
-import org.hibernate.validator.internal.util.logging.Log;
-import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidator;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
 
 /**
  * Check that the number being validated is less than or equal to the maximum
@@ -23,22 +21,28 @@
  * @author Xavier Sosnovsky
  * @author Marko Bekhta
  */
-public abstract class AbstractDecimalMaxValidator<T> implements ConstraintValidator<DecimalMax, T> {
+public abstract class AbstractDecimalMaxValidator<T> implements HibernateConstraintValidator<DecimalMax, T> {
 
-	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
-
-	protected BigDecimal maxValue;
+	protected DecimalBound maxValue;
 	private boolean inclusive;
+	private DecimalMax constraintAnnotation;
 
 	@Override
-	public void initialize(DecimalMax maxValue) {
-		try {
-			this.maxValue = new BigDecimal( maxValue.value() );
-		}
-		catch (NumberFormatException nfe) {
-			throw LOG.getInvalidBigDecimalFormatException( maxValue.value(), nfe );
+	public void initialize(ConstraintDescriptor<DecimalMax> constraintDescriptor, HibernateConstraintValidatorInitializationContext initializationContext) {
+		DecimalMax constraintAnnotation = constraintDescriptor.getAnnotation();
+		this.maxValue = DecimalBounds.getBound( initializationContext, constraintAnnotation.value() );
+		this.inclusive = constraintAnnotation.inclusive();
+		this.constraintAnnotation = constraintAnnotation;
+	}
+
+	@Override
+	public void initialize(DecimalMax constraintAnnotation) {
+		// the validator has not been initialized with the descriptor of this constraint, e.g. it has been instantiated directly
+		if ( constraintAnnotation != this.constraintAnnotation ) {
+			this.maxValue = DecimalBounds.parse( constraintAnnotation.value() );
+			this.inclusive = constraintAnnotation.inclusive();
+			this.constraintAnnotation = constraintAnnotation;
 		}
-		this.inclusive = maxValue.inclusive();
 	}
 
 	@Override
@@ -6,14 +6,12 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.bv.number.bound.decimal;
 
-import java.lang.invoke.MethodHandles;
-import java.math.BigDecimal;
-import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 import javax.validation.constraints.DecimalMin;
+import javax.validation.metadata.ConstraintDescriptor;
 
-import org.hibernate.validator.internal.util.logging.Log;
-import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidator;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
 
 /**
  * Check that the number being validated is greater than or equal to the minimum
@@ -23,22 +21,28 @@
  * @author Xavier Sosnovsky
  * @author Marko Bekhta
  */
-public abstract class AbstractDecimalMinValidator<T> implements ConstraintValidator<DecimalMin, T> {
+public abstract class AbstractDecimalMinValidator<T> implements HibernateConstraintValidator<DecimalMin, T> {
 
-	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
-
-	protected BigDecimal minValue;
+	protected DecimalBound minValue;
 	private boolean inclusive;
+	private DecimalMin constraintAnnotation;
 
 	@Override
-	public void initialize(DecimalMin minValue) {
-		try {
-			this.minValue = new BigDecimal( minValue.value() );
-		}
-		catch (NumberFormatException nfe) {
-			throw LOG.getInvalidBigDecimalFormatException( minValue.value(), nfe );
+	public void initialize(ConstraintDescriptor<DecimalMin> constraintDescriptor, HibernateConstraintValidatorInitializationContext initializationContext) {
+		DecimalMin constraintAnnotation = constraintDescriptor.getAnnotation();
+		this.minValue = DecimalBounds.getBound( initializationContext, constraintAnnotation.value() );
+		this.inclusive = constraintAnnotation.inclusive();
+		this.constraintAnnotation = constraintAnnotation;
+	}
+
+	@Override
+	public void initialize(DecimalMin constraintAnnotation) {
+		// the validator has not been initialized with the descriptor of this constraint, e.g. it has been instantiated directly
+		if ( constraintAnnotation != this.constraintAnnotation ) {
+			this.minValue = DecimalBounds.parse( constraintAnnotation.value() );
+			this.inclusive = constraintAnnotation.inclusive();
+			this.constraintAnnotation = constraintAnnotation;
 		}
-		this.inclusive = minValue.inclusive();
 	}
 
 	@Override
@@ -0,0 +1,194 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.constraintvalidators.bv.number.bound.decimal;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import org.hibernate.validator.internal.constraintvalidators.bv.number.DecimalScanner;
+
+/**
+ * The bound of a {@code DecimalMin} or {@code DecimalMax} constraint, normalized when the constraint validator is
+ * initialized so that integral numbers and plain decimal character sequences can be compared to it without creating
+ * {@code BigDecimal}s.
+ */
+public final class DecimalBound {
+
+	/**
+	 * Bounds having more digits than this in their plain representation are only compared as {@code BigDecimal}s.
+	 */
+	private static final int MAX_PLAIN_DIGITS = 1000;
+
+	private static final BigDecimal LONG_MIN_VALUE = BigDecimal.valueOf( Long.MIN_VALUE );
+
+	private static final BigDecimal LONG_MAX_VALUE = BigDecimal.valueOf( Long.MAX_VALUE );
+
+	private final BigDecimal value;
+
+	private final int signum;
+
+	/**
+	 * The digits of the integer part, without leading zeros, {@code null} if the bound is too large to be compared
+	 * digit by digit.
+	 */
+	private final String integerDigits;
+
+	/**
+	 * The digits of the fraction part, without trailing zeros.
+	 */
+	private final String fractionDigits;
+
+	/**
+	 * The comparison result for all the {@code long}s if the bound is out of the {@code long} range, 0 otherwise.
+	 */
+	private final int longComparison;
+
+	private final long floor;
+
+	private final boolean integral;
+
+	public DecimalBound(BigDecimal value) {
+		this.value = value;
+		this.signum = value.signum();
+
+		BigDecimal stripped = value.stripTrailingZeros();
+		String digits = stripped.unscaledValue().abs().toString();
+		int scale = stripped.scale();
+		if ( signum == 0 ) {
+			this.integerDigits = "";
+			this.fractionDigits = "";
+		}
+		else if ( Math.abs( (long) scale ) + digits.length() > MAX_PLAIN_DIGITS ) {
+			this.integerDigits = null;
+			this.fractionDigits = null;
+		}
+		else if ( scale <= 0 ) {
+			this.integerDigits = digits + zeros( -scale );
+			this.fractionDigits = "";
+		}
+		else if ( scale >= digits.length() ) {
+			this.integerDigits = "";
+			this.fractionDigits = zeros( scale - digits.length() ) + digits;
+		}
+		else {
+			this.integerDigits = digits.substring( 0, digits.length() - scale );
+			this.fractionDigits = digits.substring( digits.length() - scale );
+		}
+
+		if ( value.compareTo( LONG_MAX_VALUE ) > 0 ) {
+			this.longComparison = -1;
+			this.floor = Long.MAX_VALUE;
+			this.integral = false;
+		}
+		else if ( value.compareTo( LONG_MIN_VALUE ) < 0 ) {
+			this.longComparison = 1;
+			this.floor = Long.MIN_VALUE;
+			this.integral = false;
+		}
+		else {
+			BigDecimal floorValue = value.setScale( 0, RoundingMode.FLOOR );
+			this.longComparison = 0;
+			this.floor = floorValue.longValueExact();
+			this.integral = floorValue.compareTo( value ) == 0;
+		}
+	}
+
+	public BigDecimal getValue() {
+		return value;
+	}
+
+	/**
+	 * Compares a {@code long} to this bound.
+	 *
+	 * @return a negative integer, zero, or a positive integer as the number is less than, equal to, or greater than
+	 * this bound
+	 */
+	public int compare(long number) {
+		if ( longComparison != 0 ) {
+			return longComparison;
+		}
+		if ( number != floor ) {
+			return number < floor ? -1 : 1;
+		}
+		return integral ? 0 : -1;
+	}
+
+	/**
+	 * Compares a character sequence representing a number to this bound.
+	 *
+	 * @return a negative integer, zero, or a positive integer as the number is less than, equal to, or greater than
+	 * this bound
+	 * @throws NumberFormatException if the character sequence does not represent a valid {@code BigDecimal}
+	 */
+	public int compare(CharSequence number) {
+		int separator = integerDigits != null ? DecimalScanner.scan( number ) : DecimalScanner.NOT_PLAIN;
+		if ( separator == DecimalScanner.NOT_PLAIN ) {
+			return new BigDecimal( number.toString() ).compareTo( value );
+		}
+
+		int length = number.length();
+		int integerStart = DecimalScanner.integerPartStart( number );
+		while ( integerStart < separator && number.charAt( integerStart ) == '0' ) {
+			integerStart++;
+		}
+		int fractionEnd = length;
+		while ( fractionEnd > separator + 1 && number.charAt( fractionEnd - 1 ) == '0' ) {
+			fractionEnd--;
+		}
+		int fractionStart = Math.min( separator + 1, fractionEnd );
+
+		int numberSignum;
+		if ( integerStart == separator && fractionStart == fractionEnd ) {
+			numberSignum = 0;
+		}
+		else {
+			numberSignum = DecimalScanner.isNegative( number ) ? -1 : 1;
+		}
+
+		if ( numberSignum != signum ) {
+			return numberSignum < signum ? -1 : 1;
+		}
+		if ( numberSignum == 0 ) {
+			return 0;
+		}
+
+		int magnitudeComparison = compareMagnitude( number, integerStart, separator, fractionStart, fractionEnd );
+		return numberSignum > 0 ? magnitudeComparison : -magnitudeComparison;
+	}
+
+	private int compareMagnitude(CharSequence number, int integerStart, int integerEnd, int fractionStart, int fractionEnd) {
+		int integerLength = integerEnd - integerStart;
+		if ( integerLength != integerDigits.length() ) {
+			return integerLength < integerDigits.length() ? -1 : 1;
+		}
+		for ( int i = 0; i < integerLength; i++ ) {
+			int comparison = Character.compare( number.charAt( integerStart + i ), integerDigits.charAt( i ) );
+			if ( comparison != 0 ) {
+				return comparison < 0 ? -1 : 1;
+			}
+		}
+
+		// neither fraction part has trailing zeros: the longest one is the greatest if they share the same prefix
+		int fractionLength = fractionEnd - fractionStart;
+		int commonLength = Math.min( fractionLength, fractionDigits.length() );
+		for ( int i = 0; i < commonLength; i++ ) {
+			int comparison = Character.compare( number.charAt( fractionStart + i ), fractionDigits.charAt( i ) );
+			if ( comparison != 0 ) {
+				return comparison < 0 ? -1 : 1;
+			}
+		}
+		return Integer.compare( fractionLength, fractionDigits.length() );
+	}
+
+	private static String zeros(int count) {
+		StringBuilder zeros = new StringBuilder( count );
+		for ( int i = 0; i < count; i++ ) {
+			zeros.append( '0' );
+		}
+		return zeros.toString();
+	}
+}
@@ -0,0 +1,48 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.constraintvalidators.bv.number.bound.decimal;
+
+import java.lang.invoke.MethodHandles;
+import java.math.BigDecimal;
+
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
+import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintArtifactKey;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+
+/**
+ * Parses and normalizes the bounds of the {@code DecimalMin} and {@code DecimalMax} constraints once per validator
+ * factory.
+ */
+public final class DecimalBounds {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private DecimalBounds() {
+	}
+
+	/**
+	 * @throws IllegalArgumentException if the bound does not represent a valid {@code BigDecimal}
+	 */
+	public static DecimalBound getBound(HibernateConstraintValidatorInitializationContext initializationContext, String bound) {
+		return initializationContext.getConstraintArtifact( ConstraintArtifactKey.of( DecimalBound.class, bound ), key -> parse( (String) key.getAttribute( 0 ) ) );
+	}
+
+	/**
+	 * Parses the given bound without sharing it.
+	 *
+	 * @throws IllegalArgumentException if the bound does not represent a valid {@code BigDecimal}
+	 */
+	public static DecimalBound parse(String bound) {
+		try {
+			return new DecimalBound( new BigDecimal( bound ) );
+		}
+		catch (NumberFormatException nfe) {
+			throw LOG.getInvalidBigDecimalFormatException( bound, nfe );
+		}
+	}
+}
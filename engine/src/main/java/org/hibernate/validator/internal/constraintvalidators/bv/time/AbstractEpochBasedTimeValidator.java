@@ -32,13 +32,16 @@
 
 	protected Clock referenceClock;
 
+	/**
+	 * The tolerance applied to the time reference of the validation call.
+	 */
+	private Duration tolerance;
+
 	@Override
 	public void initialize(ConstraintDescriptor<C> constraintDescriptor, HibernateConstraintValidatorInitializationContext initializationContext) {
+		this.tolerance = getEffectiveTemporalValidationTolerance( initializationContext.getTemporalValidationTolerance() );
 		try {
-			this.referenceClock  = Clock.offset(
-					initializationContext.getClockProvider().getClock(),
-					getEffectiveTemporalValidationTolerance( initializationContext.getTemporalValidationTolerance() )
-			);
+			this.referenceClock  = Clock.offset( initializationContext.getClockProvider().getClock(), tolerance );
 		}
 		catch (Exception e) {
 			throw LOG.getUnableToGetCurrentTimeFromClockProvider( e );
@@ -52,7 +55,8 @@ public boolean isValid(T value, ConstraintValidatorContext context) {
 			return true;
 		}
 
-		int result = Long.compare( getEpochMillis( value, referenceClock ), referenceClock.millis() );
+		Clock reference = ReferenceClocks.getReferenceClock( context, tolerance, referenceClock );
+		int result = Long.compare( getEpochMillis( value, reference ), reference.millis() );
 
 		return isValid( result );
 	}
@@ -32,13 +32,16 @@
 
 	protected Clock referenceClock;
 
+	/**
+	 * The tolerance applied to the time reference of the validation call.
+	 */
+	private Duration tolerance;
+
 	@Override
 	public void initialize(ConstraintDescriptor<C> constraintDescriptor, HibernateConstraintValidatorInitializationContext initializationContext) {
+		this.tolerance = getEffectiveTemporalValidationTolerance( initializationContext.getTemporalValidationTolerance() );
 		try {
-			this.referenceClock  = Clock.offset(
-					initializationContext.getClockProvider().getClock(),
-					getEffectiveTemporalValidationTolerance( initializationContext.getTemporalValidationTolerance() )
-			);
+			this.referenceClock  = Clock.offset( initializationContext.getClockProvider().getClock(), tolerance );
 		}
 		catch (Exception e) {
 			throw LOG.getUnableToGetCurrentTimeFromClockProvider( e );
@@ -52,7 +55,7 @@ public boolean isValid(T value, ConstraintValidatorContext context) {
 			return true;
 		}
 
-		int result = getInstant( value ).compareTo( referenceClock.instant() );
+		int result = getInstant( value ).compareTo( ReferenceClocks.getReferenceClock( context, tolerance, referenceClock ).instant() );
 
 		return isValid( result );
 	}
@@ -34,13 +34,16 @@
 
 	protected Clock referenceClock;
 
+	/**
+	 * The tolerance applied to the time reference of the validation call.
+	 */
+	private Duration tolerance;
+
 	@Override
 	public void initialize(ConstraintDescriptor<C> constraintDescriptor, HibernateConstraintValidatorInitializationContext initializationContext) {
+		this.tolerance = getEffectiveTemporalValidationTolerance( initializationContext.getTemporalValidationTolerance() );
 		try {
-			this.referenceClock  = Clock.offset(
-					initializationContext.getClockProvider().getClock(),
-					getEffectiveTemporalValidationTolerance( initializationContext.getTemporalValidationTolerance() )
-			);
+			this.referenceClock  = Clock.offset( initializationContext.getClockProvider().getClock(), tolerance );
 		}
 		catch (Exception e) {
 			throw LOG.getUnableToGetCurrentTimeFromClockProvider( e );
@@ -54,7 +57,7 @@ public boolean isValid(T value, ConstraintValidatorContext context) {
 			return true;
 		}
 
-		int result = value.compareTo( getReferenceValue( referenceClock ) );
+		int result = value.compareTo( getReferenceValue( ReferenceClocks.getReferenceClock( context, tolerance, referenceClock ) ) );
 
 		return isValid( result );
 	}
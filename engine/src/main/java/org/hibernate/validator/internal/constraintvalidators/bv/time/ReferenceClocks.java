@@ -0,0 +1,48 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.constraintvalidators.bv.time;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Clock;
+import java.time.Duration;
+
+import javax.validation.ConstraintValidatorContext;
+
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+
+/**
+ * Resolves the time reference the time validators compare the validated values to.
+ */
+final class ReferenceClocks {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private ReferenceClocks() {
+	}
+
+	/**
+	 * Returns the time reference of the current validation call offset by the given tolerance or, if the context
+	 * does not provide one, the given default reference clock.
+	 */
+	static Clock getReferenceClock(ConstraintValidatorContext context, Duration tolerance, Clock defaultReferenceClock) {
+		if ( !( context instanceof HibernateConstraintValidatorContext ) ) {
+			return defaultReferenceClock;
+		}
+
+		Clock referenceClock;
+		try {
+			referenceClock = ( (HibernateConstraintValidatorContext) context ).getReferenceClock();
+		}
+		catch (Exception e) {
+			throw LOG.getUnableToGetCurrentTimeFromClockProvider( e );
+		}
+
+		return tolerance.isZero() ? referenceClock : Clock.offset( referenceClock, tolerance );
+	}
+}
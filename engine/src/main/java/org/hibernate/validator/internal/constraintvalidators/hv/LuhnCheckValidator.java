@@ -6,7 +6,6 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.hv;
 
-import java.util.List;
 import javax.validation.ConstraintValidator;
 
 import org.hibernate.validator.constraints.LuhnCheck;
@@ -37,14 +36,17 @@ public void initialize(LuhnCheck constraintAnnotation) {
 	/**
 	 * Validate check digit using Luhn algorithm
 	 *
-	 * @param digits The digits over which to calculate the checksum
+	 * @param value the character sequence containing the digits over which to calculate the checksum
+	 * @param start the index of the first character of the digits, inclusive
+	 * @param end the index of the last character of the digits, exclusive
+	 * @param digitCount the number of digits
 	 * @param checkDigit the check digit
 	 *
 	 * @return {@code true} if the luhn check result matches the check digit, {@code false} otherwise
 	 */
 	@Override
-	public boolean isCheckDigitValid(List<Integer> digits, char checkDigit) {
-		int modResult = ModUtil.calculateLuhnMod10Check( digits );
+	public boolean isCheckDigitValid(CharSequence value, int start, int end, int digitCount, char checkDigit) {
+		int modResult = ModUtil.calculateLuhnMod10Check( value, start, end );
 
 		if ( !Character.isDigit( checkDigit ) ) {
 			return false;
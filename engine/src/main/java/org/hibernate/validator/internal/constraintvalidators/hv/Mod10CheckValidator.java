@@ -7,7 +7,6 @@
 package org.hibernate.validator.internal.constraintvalidators.hv;
 
 import java.lang.invoke.MethodHandles;
-import java.util.List;
 import javax.validation.ConstraintValidator;
 
 import org.hibernate.validator.constraints.Mod10Check;
@@ -62,14 +61,17 @@ public void initialize(Mod10Check constraintAnnotation) {
 	/**
 	 * Validate check digit using Mod10
 	 *
-	 * @param digits The digits over which to calculate the checksum
+	 * @param value the character sequence containing the digits over which to calculate the checksum
+	 * @param start the index of the first character of the digits, inclusive
+	 * @param end the index of the last character of the digits, exclusive
+	 * @param digitCount the number of digits
 	 * @param checkDigit the check digit
 	 *
 	 * @return {@code true} if the mod 10 result matches the check digit, {@code false} otherwise
 	 */
 	@Override
-	public boolean isCheckDigitValid(List<Integer> digits, char checkDigit) {
-		int modResult = ModUtil.calculateMod10Check( digits, this.multiplier, this.weight );
+	public boolean isCheckDigitValid(CharSequence value, int start, int end, int digitCount, char checkDigit) {
+		int modResult = ModUtil.calculateMod10Check( value, start, end, this.multiplier, this.weight );
 
 		if ( !Character.isDigit( checkDigit ) ) {
 			return false;
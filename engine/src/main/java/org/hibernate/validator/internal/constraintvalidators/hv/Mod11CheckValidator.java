@@ -7,8 +7,6 @@
 package org.hibernate.validator.internal.constraintvalidators.hv;
 
 import java.lang.invoke.MethodHandles;
-import java.util.Collections;
-import java.util.List;
 import javax.validation.ConstraintValidator;
 
 import org.hibernate.validator.constraints.Mod11Check;
@@ -107,18 +105,17 @@ public void initialize(
 	/**
 	 * Validate check digit using Mod11 checksum
 	 *
-	 * @param digits The digits over which to calculate the checksum
+	 * @param value the character sequence containing the digits over which to calculate the checksum
+	 * @param start the index of the first character of the digits, inclusive
+	 * @param end the index of the last character of the digits, exclusive
+	 * @param digitCount the number of digits
 	 * @param checkDigit the check digit
 	 *
 	 * @return {@code true} if the mod11 result matches the check digit, {@code false} otherwise
 	 */
 	@Override
-	public boolean isCheckDigitValid(List<Integer> digits, char checkDigit) {
-		if ( reverseOrder ) {
-			Collections.reverse( digits );
-		}
-
-		int modResult = ModUtil.calculateModXCheckWithWeights( digits, 11, this.threshold, customWeights );
+	public boolean isCheckDigitValid(CharSequence value, int start, int end, int digitCount, char checkDigit) {
+		int modResult = ModUtil.calculateModXCheckWithWeights( value, start, end, digitCount, reverseOrder, 11, this.threshold, customWeights );
 		switch ( modResult ) {
 			case 10:
 				return checkDigit == this.treatCheck10As;
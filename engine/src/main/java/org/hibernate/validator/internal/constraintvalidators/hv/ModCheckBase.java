@@ -7,9 +7,6 @@
 package org.hibernate.validator.internal.constraintvalidators.hv;
 
 import java.lang.invoke.MethodHandles;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.regex.Pattern;
 import javax.validation.ConstraintValidatorContext;
 
 import org.hibernate.validator.internal.util.logging.Log;
@@ -28,8 +25,6 @@ public abstract class ModCheckBase {
 
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
-	private static final Pattern NUMBERS_ONLY_REGEXP = Pattern.compile( "[^0-9]" );
-
 	private static final int DEC_RADIX = 10;
 
 	/**
@@ -54,30 +49,81 @@ public boolean isValid(final CharSequence value, final ConstraintValidatorContex
 			return true;
 		}
 
-		String valueAsString = value.toString();
-		String digitsAsString;
-		char checkDigit;
-		try {
-			digitsAsString = extractVerificationString( valueAsString );
-			checkDigit = extractCheckDigit( valueAsString );
+		int length = value.length();
+
+		// the range of the digits to verify and the position of the check digit
+		int digitsStart;
+		int digitsEnd;
+		int checkDigitPosition;
+		if ( endIndex == Integer.MAX_VALUE ) {
+			// the string contains the check digit
+			digitsStart = 0;
+			digitsEnd = length - 1;
+		}
+		else if ( checkDigitIndex == -1 ) {
+			digitsStart = startIndex;
+			digitsEnd = endIndex;
+		}
+		else {
+			digitsStart = startIndex;
+			digitsEnd = endIndex + 1;
 		}
-		catch (IndexOutOfBoundsException e) {
+		// take last character of string to be validated unless the index is given explicitly
+		if ( checkDigitIndex == -1 ) {
+			checkDigitPosition = endIndex == Integer.MAX_VALUE ? length - 1 : endIndex;
+		}
+		else {
+			checkDigitPosition = checkDigitIndex;
+		}
+
+		if ( digitsStart > digitsEnd || digitsEnd > length || checkDigitPosition < 0 || checkDigitPosition >= length ) {
 			return false;
 		}
-		digitsAsString = stripNonDigitsIfRequired( digitsAsString );
 
-		List<Integer> digits;
-		try {
-			digits = extractDigits( digitsAsString );
+		char checkDigit = value.charAt( checkDigitPosition );
+
+		int digitCount = 0;
+		boolean nonAsciiDigits = false;
+		for ( int i = digitsStart; i < digitsEnd; i++ ) {
+			char c = value.charAt( i );
+			if ( c >= '0' && c <= '9' ) {
+				digitCount++;
+			}
+			else if ( ignoreNonDigitCharacters ) {
+				continue;
+			}
+			else if ( Character.isDigit( c ) ) {
+				digitCount++;
+				nonAsciiDigits = true;
+			}
+			else {
+				return false;
+			}
 		}
-		catch (NumberFormatException e) {
-			return false;
+
+		if ( nonAsciiDigits ) {
+			// rare case: we normalize the other Unicode digits to ASCII digits to compute the checksum
+			return this.isCheckDigitValid( toAsciiDigits( value, digitsStart, digitsEnd ), 0, digitCount, digitCount, checkDigit );
 		}
 
-		return this.isCheckDigitValid( digits, checkDigit );
+		return this.isCheckDigitValid( value, digitsStart, digitsEnd, digitCount, checkDigit );
 	}
 
-	public abstract boolean isCheckDigitValid(List<Integer> digits, char checkDigit);
+	/**
+	 * Validates the check digit against the digits contained in the given range of the character sequence.
+	 * <p>
+	 * The characters of the range which are not ASCII digits have to be ignored: they are the non digit characters
+	 * when {@code ignoreNonDigitCharacters} is enabled.
+	 *
+	 * @param value the character sequence containing the digits
+	 * @param start the index of the first character of the range, inclusive
+	 * @param end the index of the last character of the range, exclusive
+	 * @param digitCount the number of digits in the range
+	 * @param checkDigit the check digit
+	 *
+	 * @return {@code true} if the checksum of the digits matches the check digit, {@code false} otherwise
+	 */
+	public abstract boolean isCheckDigitValid(CharSequence value, int start, int end, int digitCount, char checkDigit);
 
 	protected void initialize(int startIndex, int endIndex, int checkDigitIndex, boolean ignoreNonDigitCharacters) {
 		this.startIndex = startIndex;
@@ -106,24 +152,6 @@ protected int extractDigit(char value) throws NumberFormatException {
 		}
 	}
 
-	/**
-	 * Parses the {@link String} value as a {@link List} of {@link Integer} objects
-	 *
-	 * @param value the input string to be parsed
-	 *
-	 * @return List of {@code Integer} objects.
-	 *
-	 * @throws NumberFormatException in case any of the characters is not a digit
-	 */
-	private List<Integer> extractDigits(final String value) throws NumberFormatException {
-		List<Integer> digits = new ArrayList<Integer>( value.length() );
-		char[] chars = value.toCharArray();
-		for ( char c : chars ) {
-			digits.add( extractDigit( c ) );
-		}
-		return digits;
-	}
-
 	private boolean validateOptions() {
 		if ( this.startIndex < 0 ) {
 			throw LOG.getStartIndexCannotBeNegativeException( this.startIndex );
@@ -144,41 +172,12 @@ private boolean validateOptions() {
 		return true;
 	}
 
-	private String stripNonDigitsIfRequired(String value) {
-		if ( ignoreNonDigitCharacters ) {
-			return NUMBERS_ONLY_REGEXP.matcher( value ).replaceAll( "" );
-		}
-		else {
-			return value;
-		}
-	}
-
-	private String extractVerificationString(String value) throws IndexOutOfBoundsException {
-		// the string contains the check digit, just return the digits to verify
-		if ( endIndex == Integer.MAX_VALUE ) {
-			return value.substring( 0, value.length() - 1 );
-		}
-		else if ( checkDigitIndex == -1 ) {
-			return value.substring( startIndex, endIndex );
-		}
-		else {
-			return value.substring( startIndex, endIndex + 1 );
-		}
-	}
-
-	private char extractCheckDigit(String value) throws IndexOutOfBoundsException {
-		// take last character of string to be validated unless the index is given explicitly
-		if ( checkDigitIndex == -1 ) {
-			if ( endIndex == Integer.MAX_VALUE ) {
-				return value.charAt( value.length() - 1 );
-			}
-			else {
-				return value.charAt( endIndex );
-			}
-		}
-		else {
-			return value.charAt( checkDigitIndex );
+	private static CharSequence toAsciiDigits(CharSequence value, int start, int end) {
+		StringBuilder digits = new StringBuilder( end - start );
+		for ( int i = start; i < end; i++ ) {
+			digits.append( (char) ( '0' + Character.digit( value.charAt( i ), DEC_RADIX ) ) );
 		}
+		return digits;
 	}
 
 }
@@ -6,15 +6,24 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.hv;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
 import java.util.Iterator;
 
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 
 import org.hibernate.validator.constraints.SafeHtml;
+import org.hibernate.validator.internal.util.privilegedactions.GetDeclaredMethodHandle;
 import org.jsoup.Jsoup;
+import org.jsoup.nodes.Attribute;
+import org.jsoup.nodes.DataNode;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
 import org.jsoup.parser.Parser;
 import org.jsoup.safety.Cleaner;
 import org.jsoup.safety.Whitelist;
@@ -23,14 +32,31 @@
  * Validate that the string does not contain malicious code.
  *
  * It uses <a href="http://www.jsoup.org">JSoup</a> as the underlying parser/sanitizer library.
+ * <p>
+ * When the whitelist checks of JSoup are accessible, the parsed nodes are checked in place, applying the same rules as
+ * {@link Cleaner#isValid(Document)} but stopping at the first disallowed node or attribute and without building a
+ * cleaned copy of the document. Otherwise, the {@code Cleaner} is used.
  *
  * @author George Gastaldi
  * @author Hardy Ferentschik
  * @author Marko Bekhta
  */
 public class SafeHtmlValidator implements ConstraintValidator<SafeHtml, CharSequence> {
+
+	/**
+	 * {@code Whitelist#isSafeTag(String)}, which is protected.
+	 */
+	private static final MethodHandle IS_SAFE_TAG = getWhitelistMethodHandle( "isSafeTag", String.class );
+
+	/**
+	 * {@code Whitelist#isSafeAttribute(String, Element, Attribute)}, which is protected.
+	 */
+	private static final MethodHandle IS_SAFE_ATTRIBUTE = getWhitelistMethodHandle( "isSafeAttribute", String.class, Element.class, Attribute.class );
+
 	private Whitelist whitelist;
 
+	private Cleaner cleaner;
+
 	private String baseURI;
 
 	@Override
@@ -69,6 +95,8 @@ public void initialize(SafeHtml safeHtmlAnnotation) {
 				}
 			}
 		}
+
+		cleaner = new Cleaner( whitelist );
 	}
 
 	@Override
@@ -77,17 +105,88 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
 			return true;
 		}
 
-		return new Cleaner( whitelist ).isValid( getFragmentAsDocument( value ) );
+		// using the XML parser ensures that all elements in the input are retained, also if they actually are not allowed at the given
+		// location; E.g. a <td> element isn't allowed directly within the <body> element, so it would be used by the default HTML parser.
+		// we need to retain it though to apply the given white list properly; See HV-873
+		Document fragment = Jsoup.parse( value.toString(), baseURI, Parser.xmlParser() );
+
+		if ( IS_SAFE_TAG == null || IS_SAFE_ATTRIBUTE == null ) {
+			return cleaner.isValid( getFragmentAsDocument( fragment ) );
+		}
+
+		// as for the cleaned document, only the elements of the fragment are considered at the root level
+		for ( Element element : fragment.children() ) {
+			if ( !isSafe( element ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks the given element and its descendants, iterating over the nodes to stop at the first disallowed one.
+	 */
+	private boolean isSafe(Element root) {
+		Node node = root;
+		while ( true ) {
+			if ( !isSafeNode( node ) ) {
+				return false;
+			}
+
+			if ( node.childNodeSize() > 0 ) {
+				node = node.childNode( 0 );
+				continue;
+			}
+
+			while ( node != root && node.nextSibling() == null ) {
+				node = node.parentNode();
+			}
+			if ( node == root ) {
+				return true;
+			}
+			node = node.nextSibling();
+		}
+	}
+
+	/**
+	 * Applies the rules of the {@code Cleaner}: all the elements and attributes must be allowed by the whitelist, data
+	 * nodes are only allowed in allowed elements and all other nodes (e.g. comments) are disallowed.
+	 */
+	private boolean isSafeNode(Node node) {
+		try {
+			if ( node instanceof Element ) {
+				Element element = (Element) node;
+				String tagName = element.tagName();
+				if ( !(boolean) IS_SAFE_TAG.invokeExact( whitelist, tagName ) ) {
+					return false;
+				}
+				for ( Attribute attribute : element.attributes() ) {
+					if ( !(boolean) IS_SAFE_ATTRIBUTE.invokeExact( whitelist, tagName, element, attribute ) ) {
+						return false;
+					}
+				}
+				return true;
+			}
+			if ( node instanceof TextNode ) {
+				return true;
+			}
+			if ( node instanceof DataNode ) {
+				return (boolean) IS_SAFE_TAG.invokeExact( whitelist, node.parent().nodeName() );
+			}
+			return false;
+		}
+		catch (RuntimeException | Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			throw new IllegalStateException( e );
+		}
 	}
 
 	/**
 	 * Returns a document whose {@code <body>} element contains the given HTML fragment.
 	 */
-	private Document getFragmentAsDocument(CharSequence value) {
-		// using the XML parser ensures that all elements in the input are retained, also if they actually are not allowed at the given
-		// location; E.g. a <td> element isn't allowed directly within the <body> element, so it would be used by the default HTML parser.
-		// we need to retain it though to apply the given white list properly; See HV-873
-		Document fragment = Jsoup.parse( value.toString(), baseURI, Parser.xmlParser() );
+	private Document getFragmentAsDocument(Document fragment) {
 		Document document = Document.createShell( baseURI );
 
 		// add the fragment's nodes to the body of resulting document
@@ -98,4 +197,23 @@ private Document getFragmentAsDocument(CharSequence value) {
 
 		return document;
 	}
+
+	private static MethodHandle getWhitelistMethodHandle(String methodName, Class<?>... parameterTypes) {
+		try {
+			return run( GetDeclaredMethodHandle.andMakeAccessible( MethodHandles.lookup(), Whitelist.class, methodName, parameterTypes ) );
+		}
+		catch (RuntimeException e) {
+			// the Cleaner will be used instead
+			return null;
+		}
+	}
+
+	/**
+	 * Runs the given privileged action, using a privileged block if required.
+	 * <b>NOTE:</b> This must never be changed into a publicly available method to avoid execution of arbitrary
+	 * privileged actions within HV's protection domain.
+	 */
+	private static <T> T run(PrivilegedAction<T> action) {
+		return System.getSecurityManager() != null ? AccessController.doPrivileged( action ) : action.run();
+	}
 }
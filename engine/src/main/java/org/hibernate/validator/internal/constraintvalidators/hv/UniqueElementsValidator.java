@@ -6,25 +6,34 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.hv;
 
-import static java.util.stream.Collectors.toList;
-
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
+import javax.validation.metadata.ConstraintDescriptor;
 
 import org.hibernate.validator.constraints.UniqueElements;
+import org.hibernate.validator.constraintvalidation.DuplicateReporting;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidator;
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
 import org.hibernate.validator.internal.util.CollectionHelper;
+import org.hibernate.validator.internal.util.LongHashSet;
 
 /**
  * Validates that the provided collection only contains unique elements, i.e. that we can't find 2 equal elements in the
  * collection.
  * <p>
  * Uniqueness is defined by the {@code equals()} method of the objects being compared.
+ * <p>
+ * Collections only containing {@code Integer}s, {@code Long}s or {@code String}s are checked in a single pass using the
+ * {@code long} value or the hash code of their elements, without boxing nor allocating an entry per element. If the
+ * elements are of different types or if two {@code String}s share the same hash code, the elements are compared using
+ * {@code equals()} instead.
  *
  * @author Tadhg Pearson
  * @author Guillaume Smet
@@ -32,7 +41,14 @@
 @SuppressWarnings("rawtypes")
 // as per the JLS, Collection<?> is a subtype of Collection, so we need to explicitly reference
 // Collection here to support having properties defined as Collection (see HV-1551)
-public class UniqueElementsValidator implements ConstraintValidator<UniqueElements, Collection> {
+public class UniqueElementsValidator implements HibernateConstraintValidator<UniqueElements, Collection> {
+
+	private boolean firstDuplicateOnly;
+
+	@Override
+	public void initialize(ConstraintDescriptor<UniqueElements> constraintDescriptor, HibernateConstraintValidatorInitializationContext initializationContext) {
+		firstDuplicateOnly = constraintDescriptor.getPayload().contains( DuplicateReporting.FirstDuplicate.class );
+	}
 
 	/**
 	 * @param collection the collection to validate
@@ -46,13 +62,16 @@ public boolean isValid(Collection collection, ConstraintValidatorContext constra
 			return true;
 		}
 
-		List<Object> duplicates = findDuplicates( collection );
+		// the duplicates are only reported when we have a HibernateConstraintValidatorContext
+		boolean reportDuplicates = constraintValidatorContext instanceof HibernateConstraintValidatorContext;
+
+		List<Object> duplicates = findDuplicates( collection, firstDuplicateOnly || !reportDuplicates );
 
 		if ( duplicates.isEmpty() ) {
 			return true;
 		}
 
-		if ( constraintValidatorContext instanceof HibernateConstraintValidatorContext ) {
+		if ( reportDuplicates ) {
 			constraintValidatorContext.unwrap( HibernateConstraintValidatorContext.class )
 					.addMessageParameter( "duplicates", duplicates.stream().map( String::valueOf ).collect( Collectors.joining( ", " ) ) )
 					.withDynamicPayload( CollectionHelper.toImmutableList( duplicates ) );
@@ -61,9 +80,131 @@ public boolean isValid(Collection collection, ConstraintValidatorContext constra
 		return false;
 	}
 
-	private List<Object> findDuplicates(Collection<?> collection) {
+	private List<Object> findDuplicates(Collection<?> collection, boolean firstDuplicateOnly) {
+		List<Object> duplicates = findDuplicatesByKey( collection, firstDuplicateOnly );
+		if ( duplicates == null ) {
+			duplicates = findDuplicatesByEquality( collection, firstDuplicateOnly );
+		}
+		return duplicates;
+	}
+
+	/**
+	 * Finds the duplicates in a single pass using the {@code long} key of the elements.
+	 *
+	 * @return the duplicates or {@code null} if the keys are not sufficient to find them, i.e. if the elements are not
+	 * all of the same supported type or if two {@code String}s share the same hash code
+	 */
+	private static List<Object> findDuplicatesByKey(Collection<?> collection, boolean firstDuplicateOnly) {
+		Class<?> elementType = null;
+		LongKey longKey = null;
+		LongHashSet keys = null;
+		boolean nullFound = false;
+		List<Object> duplicates = null;
+		for ( Object element : collection ) {
+			boolean duplicate;
+			if ( element == null ) {
+				duplicate = nullFound;
+				nullFound = true;
+			}
+			else {
+				if ( elementType == null ) {
+					elementType = element.getClass();
+					longKey = LongKey.of( elementType );
+					if ( longKey == null ) {
+						return null;
+					}
+					keys = new LongHashSet( collection.size() );
+				}
+				else if ( element.getClass() != elementType ) {
+					return null;
+				}
+
+				duplicate = !keys.add( longKey.getKey( element ) );
+				if ( duplicate && !longKey.isExact() ) {
+					return null;
+				}
+			}
+
+			if ( duplicate ) {
+				if ( firstDuplicateOnly ) {
+					return Collections.singletonList( element );
+				}
+				if ( duplicates == null ) {
+					duplicates = new ArrayList<>();
+				}
+				duplicates.add( element );
+			}
+		}
+
+		return duplicates == null ? Collections.emptyList() : duplicates;
+	}
+
+	private static List<Object> findDuplicatesByEquality(Collection<?> collection, boolean firstDuplicateOnly) {
 		Set<Object> uniqueElements = CollectionHelper.newHashSet( collection.size() );
-		return collection.stream().filter( o -> !uniqueElements.add( o ) )
-				.collect( toList() );
+		List<Object> duplicates = null;
+		for ( Object element : collection ) {
+			if ( !uniqueElements.add( element ) ) {
+				if ( firstDuplicateOnly ) {
+					return Collections.singletonList( element );
+				}
+				if ( duplicates == null ) {
+					duplicates = new ArrayList<>();
+				}
+				duplicates.add( element );
+			}
+		}
+
+		return duplicates == null ? Collections.emptyList() : duplicates;
+	}
+
+	/**
+	 * The {@code long} key used to find the duplicates without comparing the elements.
+	 */
+	private enum LongKey {
+
+		/**
+		 * The elements are {@code Integer}s or {@code Long}s: two elements are equal if and only if their keys are equal.
+		 */
+		VALUE( true ) {
+			@Override
+			long getKey(Object element) {
+				return ( (Number) element ).longValue();
+			}
+		},
+
+		/**
+		 * The elements are {@code String}s: two elements with the same key might still be different.
+		 */
+		HASH_CODE( false ) {
+			@Override
+			long getKey(Object element) {
+				return element.hashCode();
+			}
+		};
+
+		private final boolean exact;
+
+		LongKey(boolean exact) {
+			this.exact = exact;
+		}
+
+		abstract long getKey(Object element);
+
+		boolean isExact() {
+			return exact;
+		}
+
+		/**
+		 * Returns the key for the elements of the given type or {@code null} if the type is not supported.
+		 */
+		static LongKey of(Class<?> elementType) {
+			if ( elementType == Integer.class || elementType == Long.class ) {
+				return VALUE;
+			}
+			if ( elementType == String.class ) {
+				return HASH_CODE;
+			}
+			return null;
+		}
 	}
 }
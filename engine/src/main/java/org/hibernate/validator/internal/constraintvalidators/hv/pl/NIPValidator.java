@@ -6,8 +6,6 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.hv.pl;
 
-import java.util.List;
-
 import org.hibernate.validator.constraints.pl.NIP;
 
 /**
@@ -31,7 +29,7 @@ public void initialize(NIP constraintAnnotation) {
 	}
 
 	@Override
-	protected int[] getWeights(List<Integer> digits) {
+	protected int[] getWeights(int digitCount) {
 		return WEIGHTS_NIP;
 	}
 }
@@ -6,9 +6,6 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.hv.pl;
 
-import java.util.Collections;
-import java.util.List;
-
 import javax.validation.ConstraintValidator;
 
 import org.hibernate.validator.constraints.pl.PESEL;
@@ -35,15 +32,13 @@ public void initialize(PESEL constraintAnnotation) {
 	}
 
 	@Override
-	public boolean isCheckDigitValid(List<Integer> digits, char checkDigit) {
-		Collections.reverse( digits );
-
+	public boolean isCheckDigitValid(CharSequence value, int start, int end, int digitCount, char checkDigit) {
 		// if the length of the number is incorrect we can return fast
-		if ( digits.size() != WEIGHTS_PESEL.length  ) {
+		if ( digitCount != WEIGHTS_PESEL.length ) {
 			return false;
 		}
 
-		int modResult = ModUtil.calculateModXCheckWithWeights( digits, 10, Integer.MAX_VALUE, WEIGHTS_PESEL );
+		int modResult = ModUtil.calculateModXCheckWithWeights( value, start, end, digitCount, true, 10, Integer.MAX_VALUE, WEIGHTS_PESEL );
 		switch ( modResult ) {
 			case 10:
 				return checkDigit == '0';
@@ -7,8 +7,6 @@
 package org.hibernate.validator.internal.constraintvalidators.hv.pl;
 
 import java.lang.annotation.Annotation;
-import java.util.Collections;
-import java.util.List;
 import javax.validation.ConstraintValidator;
 
 import org.hibernate.validator.internal.constraintvalidators.hv.ModCheckBase;
@@ -24,18 +22,16 @@
 public abstract class PolishNumberValidator<T extends Annotation> extends ModCheckBase implements ConstraintValidator<T, CharSequence> {
 
 	@Override
-	public boolean isCheckDigitValid(List<Integer> digits, char checkDigit) {
-		Collections.reverse( digits );
-
-		int[] weights = getWeights( digits );
+	public boolean isCheckDigitValid(CharSequence value, int start, int end, int digitCount, char checkDigit) {
+		int[] weights = getWeights( digitCount );
 
 		// if the length of the number is incorrect we can return fast
-		if ( weights.length != digits.size() ) {
+		if ( weights.length != digitCount ) {
 			return false;
 		}
 
 		// as we need sum % 11 rather than 11 - (sum % 11) returned by Mod11 algorithm:
-		int modResult = 11 - ModUtil.calculateModXCheckWithWeights( digits, 11, Integer.MAX_VALUE, weights );
+		int modResult = 11 - ModUtil.calculateModXCheckWithWeights( value, start, end, digitCount, true, 11, Integer.MAX_VALUE, weights );
 		switch ( modResult ) {
 			case 10:
 			case 11:
@@ -45,5 +41,5 @@ public boolean isCheckDigitValid(List<Integer> digits, char checkDigit) {
 		}
 	}
 
-	protected abstract int[] getWeights(List<Integer> digits);
+	protected abstract int[] getWeights(int digitCount);
 }
@@ -112,6 +112,8 @@
 	private Duration temporalValidationTolerance;
 	private Object constraintValidatorPayload;
 	private GetterPropertySelectionStrategy getterPropertySelectionStrategy;
+	private Boolean linearTimePatternMatching;
+	private Long patternMatchingStepBudget;
 
 	// locales to initialize eagerly
 	private Set<Locale> localesToInitialize = Collections.emptySet();
@@ -309,6 +311,18 @@ public T temporalValidationTolerance(Duration temporalValidationTolerance) {
 		return thisAsT();
 	}
 
+	@Override
+	public T linearTimePatternMatching(boolean enabled) {
+		this.linearTimePatternMatching = enabled;
+		return thisAsT();
+	}
+
+	@Override
+	public T patternMatchingStepBudget(long stepBudget) {
+		this.patternMatchingStepBudget = stepBudget;
+		return thisAsT();
+	}
+
 	@Override
 	public T constraintValidatorPayload(Object constraintValidatorPayload) {
 		Contracts.assertNotNull( constraintValidatorPayload, MESSAGES.parameterMustNotBeNull( "constraintValidatorPayload" ) );
@@ -493,6 +507,14 @@ public Object getConstraintValidatorPayload() {
 		return constraintValidatorPayload;
 	}
 
+	public Boolean getLinearTimePatternMatching() {
+		return linearTimePatternMatching;
+	}
+
+	public Long getPatternMatchingStepBudget() {
+		return patternMatchingStepBudget;
+	}
+
 	public GetterPropertySelectionStrategy getGetterPropertySelectionStrategy() {
 		return getterPropertySelectionStrategy;
 	}
@@ -41,7 +41,7 @@
 	private final Object[] executableParameters;
 	private final Object executableReturnValue;
 	private final Object dynamicPayload;
-	private final int hashCode;
+	private int hashCode;
 
 	public static <T> ConstraintViolation<T> forBeanValidation(String messageTemplate,
 			Map<String, Object> messageParameters,
@@ -155,8 +155,7 @@ private ConstraintViolationImpl(String messageTemplate,
 		this.executableParameters = executableParameters;
 		this.executableReturnValue = executableReturnValue;
 		this.dynamicPayload = dynamicPayload;
-		// pre-calculate hash code, the class is immutable and hashCode is needed often
-		this.hashCode = createHashCode();
+		this.hashCode = -1;
 	}
 
 	@Override
@@ -290,7 +289,12 @@ public boolean equals(Object o) {
 	}
 
 	@Override
+	// deferred hash code building, the violations are not hashed by the engine
 	public int hashCode() {
+		if ( hashCode == -1 ) {
+			hashCode = createHashCode();
+		}
+
 		return hashCode;
 	}
 
@@ -175,6 +175,43 @@ static boolean determineTraversableResolverResultCacheEnabled(AbstractConfigurat
 		);
 	}
 
+	static boolean determineLinearTimePatternMatching(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
+		// the programmatic configuration takes precedence over the property
+		if ( configuration != null && configuration.getLinearTimePatternMatching() != null ) {
+			LOG.logLinearTimePatternMatching( configuration.getLinearTimePatternMatching() );
+			return configuration.getLinearTimePatternMatching();
+		}
+		String linearTimePatternMatchingProperty = properties.get( HibernateValidatorConfiguration.LINEAR_TIME_PATTERN_MATCHING );
+		if ( linearTimePatternMatchingProperty != null ) {
+			boolean linearTimePatternMatching = Boolean.valueOf( linearTimePatternMatchingProperty.trim() );
+			LOG.logLinearTimePatternMatching( linearTimePatternMatching );
+			return linearTimePatternMatching;
+		}
+
+		return false;
+	}
+
+	static long determinePatternMatchingStepBudget(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
+		// the programmatic configuration takes precedence over the property
+		if ( configuration != null && configuration.getPatternMatchingStepBudget() != null ) {
+			LOG.logPatternMatchingStepBudget( configuration.getPatternMatchingStepBudget() );
+			return configuration.getPatternMatchingStepBudget();
+		}
+		String stepBudgetProperty = properties.get( HibernateValidatorConfiguration.PATTERN_MATCHING_STEP_BUDGET );
+		if ( stepBudgetProperty != null ) {
+			try {
+				long stepBudget = Long.parseLong( stepBudgetProperty.trim() );
+				LOG.logPatternMatchingStepBudget( stepBudget );
+				return stepBudget;
+			}
+			catch (NumberFormatException e) {
+				throw LOG.getUnableToParsePatternMatchingStepBudgetException( stepBudgetProperty, e );
+			}
+		}
+
+		return 0L;
+	}
+
 	static boolean determineFailFast(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
 		// check whether fail fast is programmatically enabled
 		boolean tmpFailFast = configuration != null ? configuration.getFailFast() : false;
@@ -13,6 +13,8 @@
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineConstraintValidatorPayload;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineExternalClassLoader;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineFailFast;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineLinearTimePatternMatching;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determinePatternMatchingStepBudget;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineScriptEvaluatorFactory;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineTemporalValidationTolerance;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineTraversableResolverResultCacheEnabled;
@@ -152,7 +154,9 @@ public ValidatorFactoryImpl(ConfigurationState configurationState) {
 				determineScriptEvaluatorFactory( configurationState, properties, externalClassLoader ),
 				determineFailFast( hibernateSpecificConfig, properties ),
 				determineTraversableResolverResultCacheEnabled( hibernateSpecificConfig, properties ),
-				determineConstraintValidatorPayload( hibernateSpecificConfig )
+				determineConstraintValidatorPayload( hibernateSpecificConfig ),
+				determineLinearTimePatternMatching( hibernateSpecificConfig, properties ),
+				determinePatternMatchingStepBudget( hibernateSpecificConfig, properties )
 		);
 
 		ConstraintValidatorManager constraintValidatorManager = new ConstraintValidatorManagerImpl(
@@ -289,6 +293,7 @@ public void close() {
 		}
 		validatorFactoryScopedContext.getScriptEvaluatorFactory().clear();
 		constraintCreationContext.getValueExtractorManager().clear();
+		validatorFactoryScopedContext.getConstraintArtifactCache().clear();
 	}
 
 	public ValidatorFactoryScopedContext getValidatorFactoryScopedContext() {
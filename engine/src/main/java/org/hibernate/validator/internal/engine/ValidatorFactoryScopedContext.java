@@ -14,6 +14,7 @@
 import javax.validation.TraversableResolver;
 
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
+import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintArtifactCache;
 import org.hibernate.validator.internal.engine.constraintvalidation.HibernateConstraintValidatorInitializationContextImpl;
 import org.hibernate.validator.internal.util.Contracts;
 import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
@@ -80,11 +81,13 @@ public class ValidatorFactoryScopedContext {
 			ScriptEvaluatorFactory scriptEvaluatorFactory,
 			boolean failFast,
 			boolean traversableResolverResultCacheEnabled,
-			Object constraintValidatorPayload) {
+			Object constraintValidatorPayload,
+			boolean linearTimePatternMatchingEnabled,
+			long patternMatchingStepBudget) {
 		this( messageInterpolator, traversableResolver, parameterNameProvider, clockProvider, temporalValidationTolerance, scriptEvaluatorFactory, failFast,
 				traversableResolverResultCacheEnabled, constraintValidatorPayload,
 				new HibernateConstraintValidatorInitializationContextImpl( scriptEvaluatorFactory, clockProvider,
-						temporalValidationTolerance ) );
+						temporalValidationTolerance, linearTimePatternMatchingEnabled, patternMatchingStepBudget, new ConstraintArtifactCache() ) );
 	}
 
 	private ValidatorFactoryScopedContext(MessageInterpolator messageInterpolator,
@@ -149,6 +152,10 @@ public HibernateConstraintValidatorInitializationContext getConstraintValidatorI
 		return this.constraintValidatorInitializationContext;
 	}
 
+	ConstraintArtifactCache getConstraintArtifactCache() {
+		return this.constraintValidatorInitializationContext.getConstraintArtifactCache();
+	}
+
 	static class Builder {
 		private final ValidatorFactoryScopedContext defaultContext;
 
@@ -34,6 +34,8 @@
 import javax.validation.valueextraction.ValueExtractor;
 
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
+import org.hibernate.validator.engine.ConstraintViolationSink;
+import org.hibernate.validator.engine.StreamingValidator;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.groups.Group;
 import org.hibernate.validator.internal.engine.groups.GroupWithInheritance;
@@ -81,7 +83,7 @@
  * @author Kevin Pollet &lt;kevin.pollet@serli.com&gt; (C) 2011 SERLI
  * @author Guillaume Smet
  */
-public class ValidatorImpl implements Validator, ExecutableValidator {
+public class ValidatorImpl implements Validator, ExecutableValidator, StreamingValidator {
 
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
@@ -172,6 +174,36 @@ public final <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... grou
 		return validateInContext( validationContext, valueContext, validationOrder );
 	}
 
+	@Override
+	public final <T> int validate(T object, ConstraintViolationSink constraintViolationSink, Class<?>... groups) {
+		Contracts.assertNotNull( object, MESSAGES.validatedObjectMustNotBeNull() );
+		Contracts.assertValueNotNull( constraintViolationSink, "constraintViolationSink" );
+		sanityCheckGroups( groups );
+
+		@SuppressWarnings("unchecked")
+		Class<T> rootBeanClass = (Class<T>) object.getClass();
+		BeanMetaData<T> rootBeanMetaData = beanMetaDataManager.getBeanMetaData( rootBeanClass );
+
+		if ( !rootBeanMetaData.hasConstraints() ) {
+			return 0;
+		}
+
+		BaseBeanValidationContext<T> validationContext = getValidationContextBuilder().forValidate( rootBeanClass, rootBeanMetaData, object,
+				constraintViolationSink );
+
+		ValidationOrder validationOrder = determineGroupValidationOrder( groups );
+		BeanValueContext<?, Object> valueContext = ValueContexts.getLocalExecutionContextForBean(
+				validatorScopedContext.getParameterNameProvider(),
+				object,
+				validationContext.getRootBeanMetaData(),
+				PathImpl.createRootPath()
+		);
+
+		validateInContext( validationContext, valueContext, validationOrder );
+
+		return validationContext.getNumberOfFailingConstraints();
+	}
+
 	@Override
 	public final <T> Set<ConstraintViolation<T>> validateProperty(T object, String propertyName, Class<?>... groups) {
 		Contracts.assertNotNull( object, MESSAGES.validatedObjectMustNotBeNull() );
@@ -270,11 +302,23 @@ private <T> Set<ConstraintViolation<T>> validateParameters(T object, Executable
 			return Collections.emptySet();
 		}
 
+		// the lookup is cached by the bean metadata so unconstrained calls are cheap
+		Optional<ExecutableMetaData> executableMetaData = rootBeanMetaData.getMetaDataFor( executable );
+		if ( !executableMetaData.isPresent() ) {
+			return Collections.emptySet();
+		}
+		if ( !executableMetaData.get().hasParameterConstraints() ) {
+			// the parameter values are still checked as they would be by a full validation
+			assertParameterCount( executableMetaData.get(), parameterValues );
+			return Collections.emptySet();
+		}
+
 		ExecutableValidationContext<T> validationContext = getValidationContextBuilder().forValidateParameters(
 				rootBeanClass,
 				rootBeanMetaData,
 				object,
 				executable,
+				executableMetaData,
 				parameterValues
 		);
 
@@ -296,11 +340,18 @@ private <T> Set<ConstraintViolation<T>> validateReturnValue(T object, Executable
 			return Collections.emptySet();
 		}
 
+		// the lookup is cached by the bean metadata so unconstrained calls are cheap
+		Optional<ExecutableMetaData> executableMetaData = rootBeanMetaData.getMetaDataFor( executable );
+		if ( !executableMetaData.isPresent() || !executableMetaData.get().hasReturnValueConstraints() ) {
+			return Collections.emptySet();
+		}
+
 		ExecutableValidationContext<T> validationContext = getValidationContextBuilder().forValidateReturnValue(
 				rootBeanClass,
 				rootBeanMetaData,
 				object,
 				executable,
+				executableMetaData,
 				returnValue
 		);
 
@@ -321,7 +372,7 @@ public final <T> T unwrap(Class<T> type) {
 		//allow unwrapping into public super types; intentionally not exposing the
 		//fact that ExecutableValidator is implemented by this class as well as this
 		//might change
-		if ( type.isAssignableFrom( Validator.class ) ) {
+		if ( type.isAssignableFrom( Validator.class ) || type == StreamingValidator.class ) {
 			return type.cast( this );
 		}
 
@@ -417,7 +468,7 @@ private <T, U> Set<ConstraintViolation<T>> validateInContext(BaseBeanValidationC
 		while ( sequenceIterator.hasNext() ) {
 			Sequence sequence = sequenceIterator.next();
 			for ( GroupWithInheritance groupOfGroups : sequence ) {
-				int numberOfViolations = validationContext.getFailingConstraints().size();
+				int numberOfViolations = validationContext.getNumberOfFailingConstraints();
 
 				for ( Group group : groupOfGroups ) {
 					valueContext.setCurrentGroup( group.getDefiningClass() );
@@ -432,7 +483,7 @@ private <T, U> Set<ConstraintViolation<T>> validateInContext(BaseBeanValidationC
 						return validationContext.getFailingConstraints();
 					}
 				}
-				if ( validationContext.getFailingConstraints().size() > numberOfViolations ) {
+				if ( validationContext.getNumberOfFailingConstraints() > numberOfViolations ) {
 					break;
 				}
 			}
@@ -636,12 +687,7 @@ private void validateCascadedContainerElementsForCurrentGroup(Object value, Base
 				continue;
 			}
 
-			ValueExtractorDescriptor extractor = valueExtractorManager.getMaximallySpecificAndRuntimeContainerElementCompliantValueExtractor(
-					cascadingMetaData.getEnclosingType(),
-					cascadingMetaData.getTypeParameter(),
-					value.getClass(),
-					cascadingMetaData.getValueExtractorCandidates()
-			);
+			ValueExtractorDescriptor extractor = cascadingMetaData.getValueExtractor( valueExtractorManager, value.getClass() );
 
 			if ( extractor == null ) {
 				throw LOG.getNoValueExtractorFoundForTypeException( cascadingMetaData.getEnclosingType(), cascadingMetaData.getTypeParameter(), value.getClass() );
@@ -658,10 +704,42 @@ private class CascadingValueReceiver implements ValueExtractor.ValueReceiver {
 		private final ValueContext<?, ?> valueContext;
 		private final ContainerCascadingMetaData cascadingMetaData;
 
+		/**
+		 * The group of the container value context does not change while the values are extracted so the group
+		 * conversion and the validation order are resolved once per container.
+		 */
+		private final Class<?> currentGroup;
+		private final ValidationOrder validationOrder;
+
+		/**
+		 * The value contexts used to validate the elements, reset for each element.
+		 * <p>
+		 * They are not retained once an element has been validated and nested containers use their own receiver so
+		 * reusing them is safe.
+		 */
+		private BeanValueContext<?, Object> cascadedValueContext;
+		private BeanValueContext<?, Object> cascadedTypeArgumentValueContext;
+
+		/**
+		 * The elements of a container are usually of the same type so we keep the metadata of the last one around.
+		 */
+		private Class<?> lastElementClass;
+		private BeanMetaData<?> lastElementBeanMetaData;
+
 		public CascadingValueReceiver(BaseBeanValidationContext<?> validationContext, ValueContext<?, ?> valueContext, ContainerCascadingMetaData cascadingMetaData) {
 			this.validationContext = validationContext;
 			this.valueContext = valueContext;
 			this.cascadingMetaData = cascadingMetaData;
+
+			// We need to convert the group before checking if the bean was processed or not
+			// as group defines the processed status.
+			Class<?> originalGroup = valueContext.getCurrentGroup();
+			this.currentGroup = cascadingMetaData.convertGroup( originalGroup );
+
+			// expand the group only if was created by group conversion;
+			// otherwise we're looping through the right validation order
+			// already and need only to pass the current element
+			this.validationOrder = validationOrderGenerator.getValidationOrder( currentGroup, currentGroup != originalGroup );
 		}
 
 		@Override
@@ -688,23 +766,15 @@ public void keyedValue(String nodeName, Object key, Object value) {
 		}
 
 		private void doValidate(Object value, String nodeName) {
-			// We need to convert the group before checking if the bean was processed or not
-			// as group defines the processed status.
-			Class<?> originalGroup = valueContext.getCurrentGroup();
-			Class<?> currentGroup = cascadingMetaData.convertGroup( originalGroup );
-
 			if ( value == null ||
 					validationContext.isBeanAlreadyValidated( value, currentGroup, valueContext.getPropertyPath() ) ||
 					shouldFailFast( validationContext ) ) {
 				return;
 			}
 
-			// expand the group only if was created by group conversion;
-			// otherwise we're looping through the right validation order
-			// already and need only to pass the current element
-			ValidationOrder validationOrder = validationOrderGenerator.getValidationOrder( currentGroup, currentGroup != originalGroup );
+			BeanMetaData<?> beanMetaData = getElementBeanMetaData( value );
 
-			BeanValueContext<?, Object> cascadedValueContext = buildNewLocalExecutionContext( valueContext, value );
+			cascadedValueContext = resetLocalExecutionContext( cascadedValueContext, value, beanMetaData );
 
 			if ( cascadingMetaData.getDeclaredContainerClass() != null ) {
 				cascadedValueContext.setTypeParameter( cascadingMetaData.getDeclaredContainerClass(), cascadingMetaData.getDeclaredTypeParameterIndex() );
@@ -717,7 +787,7 @@ private void doValidate(Object value, String nodeName) {
 
 			// Cascade validation to container elements if we are dealing with a container element
 			if ( cascadingMetaData.hasContainerElementsMarkedForCascading() ) {
-				ValueContext<?, Object> cascadedTypeArgumentValueContext = buildNewLocalExecutionContext( valueContext, value );
+				cascadedTypeArgumentValueContext = resetLocalExecutionContext( cascadedTypeArgumentValueContext, value, beanMetaData );
 				if ( cascadingMetaData.getTypeParameter() != null ) {
 					cascadedValueContext.setTypeParameter( cascadingMetaData.getDeclaredContainerClass(), cascadingMetaData.getDeclaredTypeParameterIndex() );
 				}
@@ -729,6 +799,31 @@ private void doValidate(Object value, String nodeName) {
 				validateCascadedContainerElementsInContext( value, validationContext, cascadedTypeArgumentValueContext, cascadingMetaData, validationOrder );
 			}
 		}
+
+		private BeanMetaData<?> getElementBeanMetaData(Object value) {
+			if ( value.getClass() != lastElementClass ) {
+				lastElementBeanMetaData = beanMetaDataManager.getBeanMetaData( value.getClass() );
+				lastElementClass = value.getClass();
+			}
+			return lastElementBeanMetaData;
+		}
+
+		private BeanValueContext<?, Object> resetLocalExecutionContext(BeanValueContext<?, Object> elementValueContext, Object value, BeanMetaData<?> beanMetaData) {
+			if ( elementValueContext == null ) {
+				elementValueContext = ValueContexts.getLocalExecutionContextForBean(
+						validatorScopedContext.getParameterNameProvider(),
+						value,
+						beanMetaData,
+						valueContext.getPropertyPath()
+				);
+			}
+			else {
+				ValueContexts.resetLocalExecutionContextForBean( elementValueContext, value, beanMetaData, valueContext.getPropertyPath() );
+			}
+			elementValueContext.setCurrentValidatedValue( value );
+
+			return elementValueContext;
+		}
 	}
 
 	private void validateCascadedContainerElementsInContext(Object value, BaseBeanValidationContext<?> validationContext, ValueContext<?, ?> valueContext,
@@ -748,7 +843,7 @@ private void validateCascadedContainerElementsInContext(Object value, BaseBeanVa
 		while ( sequenceIterator.hasNext() ) {
 			Sequence sequence = sequenceIterator.next();
 			for ( GroupWithInheritance groupOfGroups : sequence ) {
-				int numberOfViolations = validationContext.getFailingConstraints().size();
+				int numberOfViolations = validationContext.getNumberOfFailingConstraints();
 
 				for ( Group group : groupOfGroups ) {
 					valueContext.setCurrentGroup( group.getDefiningClass() );
@@ -759,7 +854,7 @@ private void validateCascadedContainerElementsInContext(Object value, BaseBeanVa
 						return;
 					}
 				}
-				if ( validationContext.getFailingConstraints().size() > numberOfViolations ) {
+				if ( validationContext.getNumberOfFailingConstraints() > numberOfViolations ) {
 					break;
 				}
 			}
@@ -807,7 +902,7 @@ private <T> Set<ConstraintViolation<T>> validateValueInContext(BaseBeanValidatio
 		while ( sequenceIterator.hasNext() ) {
 			Sequence sequence = sequenceIterator.next();
 			for ( GroupWithInheritance groupOfGroups : sequence ) {
-				int numberOfConstraintViolationsBefore = validationContext.getFailingConstraints().size();
+				int numberOfConstraintViolationsBefore = validationContext.getNumberOfFailingConstraints();
 				for ( Group group : groupOfGroups ) {
 					valueContext.setCurrentGroup( group.getDefiningClass() );
 					validateConstraintsForCurrentGroup( validationContext, valueContext );
@@ -815,7 +910,7 @@ private <T> Set<ConstraintViolation<T>> validateValueInContext(BaseBeanValidatio
 						return validationContext.getFailingConstraints();
 					}
 				}
-				if ( validationContext.getFailingConstraints().size() > numberOfConstraintViolationsBefore ) {
+				if ( validationContext.getNumberOfFailingConstraints() > numberOfConstraintViolationsBefore ) {
 					break;
 				}
 			}
@@ -838,16 +933,7 @@ private <T> void validateParametersInContext(ExecutableValidationContext<T> vali
 
 		ExecutableMetaData executableMetaData = executableMetaDataOptional.get();
 
-		if ( parameterValues.length != executableMetaData.getParameterTypes().length ) {
-			throw LOG.getInvalidParameterCountForExecutableException(
-					ExecutableHelper.getExecutableAsString(
-							executableMetaData.getType().toString() + "#" + executableMetaData.getName(),
-							executableMetaData.getParameterTypes()
-					),
-					executableMetaData.getParameterTypes().length,
-					parameterValues.length
-			);
-		}
+		assertParameterCount( executableMetaData, parameterValues );
 
 		if ( beanMetaData.isDefaultGroupSequenceRedefined() ) {
 			validationOrder.assertDefaultGroupSequenceIsExpandable(
@@ -857,10 +943,18 @@ private <T> void validateParametersInContext(ExecutableValidationContext<T> vali
 			);
 		}
 
+		// the value context is shared by all the groups and parameters as the path is restored after each constraint
+		ValueContext<T, Object> valueContext = ValueContexts.getLocalExecutionContextForExecutable(
+				validatorScopedContext.getParameterNameProvider(),
+				validationContext.getRootBean(),
+				executableMetaData.getValidatableParametersMetaData(),
+				executableMetaData.createPath()
+		);
+
 		// process first single groups
 		Iterator<Group> groupIterator = validationOrder.getGroupIterator();
 		while ( groupIterator.hasNext() ) {
-			validateParametersForGroup( validationContext, executableMetaData, parameterValues, groupIterator.next() );
+			validateParametersForGroup( validationContext, executableMetaData, valueContext, parameterValues, groupIterator.next() );
 			if ( shouldFailFast( validationContext ) ) {
 				return;
 			}
@@ -870,7 +964,7 @@ private <T> void validateParametersInContext(ExecutableValidationContext<T> vali
 				validatorScopedContext.getParameterNameProvider(),
 				parameterValues,
 				executableMetaData.getValidatableParametersMetaData(),
-				PathImpl.createPathForExecutable( executableMetaData )
+				executableMetaData.createPath()
 		);
 
 		groupIterator = validationOrder.getGroupIterator();
@@ -888,10 +982,10 @@ private <T> void validateParametersInContext(ExecutableValidationContext<T> vali
 		while ( sequenceIterator.hasNext() ) {
 			Sequence sequence = sequenceIterator.next();
 			for ( GroupWithInheritance groupOfGroups : sequence ) {
-				int numberOfViolations = validationContext.getFailingConstraints().size();
+				int numberOfViolations = validationContext.getNumberOfFailingConstraints();
 
 				for ( Group group : groupOfGroups ) {
-					validateParametersForGroup( validationContext, executableMetaData, parameterValues, group );
+					validateParametersForGroup( validationContext, executableMetaData, valueContext, parameterValues, group );
 					if ( shouldFailFast( validationContext ) ) {
 						return;
 					}
@@ -904,15 +998,28 @@ private <T> void validateParametersInContext(ExecutableValidationContext<T> vali
 					}
 				}
 
-				if ( validationContext.getFailingConstraints().size() > numberOfViolations ) {
+				if ( validationContext.getNumberOfFailingConstraints() > numberOfViolations ) {
 					break;
 				}
 			}
 		}
 	}
 
-	private <T> void validateParametersForGroup(ExecutableValidationContext<T> validationContext, ExecutableMetaData executableMetaData, Object[] parameterValues,
-			Group group) {
+	private static void assertParameterCount(ExecutableMetaData executableMetaData, Object[] parameterValues) {
+		if ( parameterValues.length != executableMetaData.getParameterTypes().length ) {
+			throw LOG.getInvalidParameterCountForExecutableException(
+					ExecutableHelper.getExecutableAsString(
+							executableMetaData.getType().toString() + "#" + executableMetaData.getName(),
+							executableMetaData.getParameterTypes()
+					),
+					executableMetaData.getParameterTypes().length,
+					parameterValues.length
+			);
+		}
+	}
+
+	private <T> void validateParametersForGroup(ExecutableValidationContext<T> validationContext, ExecutableMetaData executableMetaData,
+			ValueContext<T, Object> valueContext, Object[] parameterValues, Group group) {
 		Contracts.assertNotNull( executableMetaData, "executableMetaData may not be null" );
 
 		// TODO GM: define behavior with respect to redefined default sequences. Should only the
@@ -925,11 +1032,11 @@ private <T> void validateParametersForGroup(ExecutableValidationContext<T> valid
 
 			while ( defaultGroupSequence.hasNext() ) {
 				Sequence sequence = defaultGroupSequence.next();
-				int numberOfViolations = validationContext.getFailingConstraints().size();
+				int numberOfViolations = validationContext.getNumberOfFailingConstraints();
 
 				for ( GroupWithInheritance expandedGroup : sequence ) {
 					for ( Group defaultGroupSequenceElement : expandedGroup ) {
-						validateParametersForSingleGroup( validationContext, parameterValues, executableMetaData, defaultGroupSequenceElement.getDefiningClass() );
+						validateParametersForSingleGroup( validationContext, valueContext, parameterValues, executableMetaData, defaultGroupSequenceElement.getDefiningClass() );
 
 						if ( shouldFailFast( validationContext ) ) {
 							return;
@@ -937,23 +1044,22 @@ private <T> void validateParametersForGroup(ExecutableValidationContext<T> valid
 					}
 
 					//stop processing after first group with errors occurred
-					if ( validationContext.getFailingConstraints().size() > numberOfViolations ) {
+					if ( validationContext.getNumberOfFailingConstraints() > numberOfViolations ) {
 						return;
 					}
 				}
 			}
 		}
 		else {
-			validateParametersForSingleGroup( validationContext, parameterValues, executableMetaData, group.getDefiningClass() );
+			validateParametersForSingleGroup( validationContext, valueContext, parameterValues, executableMetaData, group.getDefiningClass() );
 		}
 	}
 
-	private <T> void validateParametersForSingleGroup(ExecutableValidationContext<T> validationContext, Object[] parameterValues, ExecutableMetaData executableMetaData, Class<?> currentValidatedGroup) {
-		if ( !executableMetaData.getCrossParameterConstraints().isEmpty() ) {
-			ValueContext<T, Object> valueContext = getExecutableValueContext(
-					validationContext.getRootBean(), executableMetaData, executableMetaData.getValidatableParametersMetaData(), currentValidatedGroup
-			);
+	private <T> void validateParametersForSingleGroup(ExecutableValidationContext<T> validationContext, ValueContext<T, Object> valueContext, Object[] parameterValues,
+			ExecutableMetaData executableMetaData, Class<?> currentValidatedGroup) {
+		valueContext.setCurrentGroup( currentValidatedGroup );
 
+		if ( !executableMetaData.getCrossParameterConstraints().isEmpty() ) {
 			// 1. validate cross-parameter constraints
 			validateMetaConstraints( validationContext, valueContext, parameterValues, executableMetaData.getCrossParameterConstraints() );
 			if ( shouldFailFast( validationContext ) ) {
@@ -961,10 +1067,6 @@ private <T> void validateParametersForSingleGroup(ExecutableValidationContext<T>
 			}
 		}
 
-		ValueContext<T, Object> valueContext = getExecutableValueContext(
-				validationContext.getRootBean(), executableMetaData, executableMetaData.getValidatableParametersMetaData(), currentValidatedGroup
-		);
-
 		// 2. validate parameter constraints
 		for ( int i = 0; i < parameterValues.length; i++ ) {
 			ParameterMetaData parameterMetaData = executableMetaData.getParameterMetaData( i );
@@ -995,21 +1097,6 @@ private <T> void validateParametersForSingleGroup(ExecutableValidationContext<T>
 		}
 	}
 
-	private <T> ValueContext<T, Object> getExecutableValueContext(T object, ExecutableMetaData executableMetaData, Validatable validatable, Class<?> group) {
-		ValueContext<T, Object> valueContext;
-
-		valueContext = ValueContexts.getLocalExecutionContextForExecutable(
-				validatorScopedContext.getParameterNameProvider(),
-				object,
-				validatable,
-				PathImpl.createPathForExecutable( executableMetaData )
-		);
-
-		valueContext.setCurrentGroup( group );
-
-		return valueContext;
-	}
-
 	private <V, T> void validateReturnValueInContext(ExecutableValidationContext<T> validationContext, T bean, V value, ValidationOrder validationOrder) {
 		BeanMetaData<T> beanMetaData = validationContext.getRootBeanMetaData();
 
@@ -1026,11 +1113,19 @@ private <V, T> void validateReturnValueInContext(ExecutableValidationContext<T>
 			validationOrder.assertDefaultGroupSequenceIsExpandable( beanMetaData.getDefaultGroupSequence( bean ) );
 		}
 
+		// the value context is shared by all the groups as the path is restored after each constraint
+		ValueContext<?, Object> valueContext = ValueContexts.getLocalExecutionContextForExecutable(
+				validatorScopedContext.getParameterNameProvider(),
+				executableMetaData.getKind() == ElementKind.CONSTRUCTOR ? value : bean,
+				executableMetaData.getReturnValueMetaData(),
+				executableMetaData.createPath()
+		);
+
 		Iterator<Group> groupIterator = validationOrder.getGroupIterator();
 
 		// process first single groups
 		while ( groupIterator.hasNext() ) {
-			validateReturnValueForGroup( validationContext, executableMetaData, bean, value, groupIterator.next() );
+			validateReturnValueForGroup( validationContext, executableMetaData, valueContext, bean, value, groupIterator.next() );
 			if ( shouldFailFast( validationContext ) ) {
 				return;
 			}
@@ -1045,7 +1140,7 @@ private <V, T> void validateReturnValueInContext(ExecutableValidationContext<T>
 					validatorScopedContext.getParameterNameProvider(),
 					value,
 					executableMetaData.getReturnValueMetaData(),
-					PathImpl.createPathForExecutable( executableMetaData )
+					executableMetaData.createPath()
 			);
 
 			groupIterator = validationOrder.getGroupIterator();
@@ -1064,9 +1159,9 @@ private <V, T> void validateReturnValueInContext(ExecutableValidationContext<T>
 		while ( sequenceIterator.hasNext() ) {
 			Sequence sequence = sequenceIterator.next();
 			for ( GroupWithInheritance groupOfGroups : sequence ) {
-				int numberOfFailingConstraintsBeforeGroup = validationContext.getFailingConstraints().size();
+				int numberOfFailingConstraintsBeforeGroup = validationContext.getNumberOfFailingConstraints();
 				for ( Group group : groupOfGroups ) {
-					validateReturnValueForGroup( validationContext, executableMetaData, bean, value, group );
+					validateReturnValueForGroup( validationContext, executableMetaData, valueContext, bean, value, group );
 					if ( shouldFailFast( validationContext ) ) {
 						return;
 					}
@@ -1081,7 +1176,7 @@ private <V, T> void validateReturnValueInContext(ExecutableValidationContext<T>
 					}
 				}
 
-				if ( validationContext.getFailingConstraints().size() > numberOfFailingConstraintsBeforeGroup ) {
+				if ( validationContext.getNumberOfFailingConstraints() > numberOfFailingConstraintsBeforeGroup ) {
 					break;
 				}
 			}
@@ -1089,8 +1184,8 @@ private <V, T> void validateReturnValueInContext(ExecutableValidationContext<T>
 	}
 
 	//TODO GM: if possible integrate with validateParameterForGroup()
-	private <T> void validateReturnValueForGroup(BaseBeanValidationContext<T> validationContext, ExecutableMetaData executableMetaData, T bean, Object value,
-			Group group) {
+	private <T> void validateReturnValueForGroup(BaseBeanValidationContext<T> validationContext, ExecutableMetaData executableMetaData,
+			ValueContext<?, Object> valueContext, T bean, Object value, Group group) {
 		Contracts.assertNotNull( executableMetaData, "executableMetaData may not be null" );
 
 		// TODO GM: define behavior with respect to redefined default sequences. Should only the
@@ -1104,11 +1199,11 @@ private <T> void validateReturnValueForGroup(BaseBeanValidationContext<T> valida
 
 			while ( defaultGroupSequence.hasNext() ) {
 				Sequence sequence = defaultGroupSequence.next();
-				int numberOfViolations = validationContext.getFailingConstraints().size();
+				int numberOfViolations = validationContext.getNumberOfFailingConstraints();
 
 				for ( GroupWithInheritance expandedGroup : sequence ) {
 					for ( Group defaultGroupSequenceElement : expandedGroup ) {
-						validateReturnValueForSingleGroup( validationContext, executableMetaData, bean, value, defaultGroupSequenceElement.getDefiningClass() );
+						validateReturnValueForSingleGroup( validationContext, executableMetaData, valueContext, value, defaultGroupSequenceElement.getDefiningClass() );
 
 						if ( shouldFailFast( validationContext ) ) {
 							return;
@@ -1116,25 +1211,21 @@ private <T> void validateReturnValueForGroup(BaseBeanValidationContext<T> valida
 					}
 
 					//stop processing after first group with errors occurred
-					if ( validationContext.getFailingConstraints().size() > numberOfViolations ) {
+					if ( validationContext.getNumberOfFailingConstraints() > numberOfViolations ) {
 						return;
 					}
 				}
 			}
 		}
 		else {
-			validateReturnValueForSingleGroup( validationContext, executableMetaData, bean, value, group.getDefiningClass() );
+			validateReturnValueForSingleGroup( validationContext, executableMetaData, valueContext, value, group.getDefiningClass() );
 		}
 	}
 
-	private <T> void validateReturnValueForSingleGroup(BaseBeanValidationContext<T> validationContext, ExecutableMetaData executableMetaData, T bean, Object value, Class<?> oneGroup) {
+	private <T> void validateReturnValueForSingleGroup(BaseBeanValidationContext<T> validationContext, ExecutableMetaData executableMetaData,
+			ValueContext<?, Object> valueContext, Object value, Class<?> oneGroup) {
 		// validate constraints at return value itself
-		ValueContext<?, Object> valueContext = getExecutableValueContext(
-				executableMetaData.getKind() == ElementKind.CONSTRUCTOR ? value : bean,
-				executableMetaData,
-				executableMetaData.getReturnValueMetaData(),
-				oneGroup
-		);
+		valueContext.setCurrentGroup( oneGroup );
 
 		ReturnValueMetaData returnValueMetaData = executableMetaData.getReturnValueMetaData();
 
@@ -1371,7 +1462,7 @@ private boolean isReturnValueValidation(PathImpl path) {
 	}
 
 	private boolean shouldFailFast(BaseBeanValidationContext<?> validationContext) {
-		return validationContext.isFailFastModeEnabled() && !validationContext.getFailingConstraints().isEmpty();
+		return validationContext.isFailFastModeEnabled() && validationContext.getNumberOfFailingConstraints() > 0;
 	}
 
 	private PropertyMetaData getBeanPropertyMetaData(BeanMetaData<?> beanMetaData, Path.Node propertyNode) {
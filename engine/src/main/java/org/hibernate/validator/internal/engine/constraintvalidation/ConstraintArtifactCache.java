@@ -0,0 +1,58 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.constraintvalidation;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * A validator factory scoped cache of the artifacts derived from the constraint attributes (e.g. compiled regular
+ * expressions or parsed bounds), shared by all the constraint validators of the factory and of its validator contexts.
+ * <p>
+ * The cache is bounded: once it is full, the artifacts are still created but not cached anymore.
+ */
+public class ConstraintArtifactCache {
+
+	static final int DEFAULT_MAX_SIZE = 1024;
+
+	private final ConcurrentMap<Object, Object> artifacts = new ConcurrentHashMap<>();
+
+	private final int maxSize;
+
+	public ConstraintArtifactCache() {
+		this( DEFAULT_MAX_SIZE );
+	}
+
+	public ConstraintArtifactCache(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	@SuppressWarnings("unchecked")
+	public <K, A> A getArtifact(K key, Function<? super K, ? extends A> artifactFactory) {
+		Object artifact = artifacts.get( key );
+		if ( artifact != null ) {
+			return (A) artifact;
+		}
+
+		A newArtifact = artifactFactory.apply( key );
+		if ( newArtifact == null || artifacts.size() >= maxSize ) {
+			return newArtifact;
+		}
+
+		artifact = artifacts.putIfAbsent( key, newArtifact );
+		return artifact != null ? (A) artifact : newArtifact;
+	}
+
+	public int size() {
+		return artifacts.size();
+	}
+
+	public void clear() {
+		artifacts.clear();
+	}
+}
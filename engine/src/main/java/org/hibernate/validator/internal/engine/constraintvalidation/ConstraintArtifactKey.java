@@ -0,0 +1,60 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.constraintvalidation;
+
+import java.util.Arrays;
+
+/**
+ * The key of a constraint artifact in the {@link ConstraintArtifactCache}: the type of the artifact and the constraint
+ * attributes it is derived from.
+ */
+public final class ConstraintArtifactKey {
+
+	private final Class<?> artifactType;
+
+	private final Object[] attributes;
+
+	private final int hashCode;
+
+	private ConstraintArtifactKey(Class<?> artifactType, Object[] attributes) {
+		this.artifactType = artifactType;
+		this.attributes = attributes;
+		this.hashCode = 31 * artifactType.hashCode() + Arrays.hashCode( attributes );
+	}
+
+	public static ConstraintArtifactKey of(Class<?> artifactType, Object... attributes) {
+		return new ConstraintArtifactKey( artifactType, attributes );
+	}
+
+	public Object getAttribute(int index) {
+		return attributes[index];
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if ( this == o ) {
+			return true;
+		}
+		if ( o == null || getClass() != o.getClass() ) {
+			return false;
+		}
+
+		ConstraintArtifactKey other = (ConstraintArtifactKey) o;
+
+		return hashCode == other.hashCode && artifactType == other.artifactType && Arrays.equals( attributes, other.attributes );
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	@Override
+	public String toString() {
+		return "ConstraintArtifactKey [artifactType=" + artifactType.getName() + ", attributes=" + Arrays.toString( attributes ) + "]";
+	}
+}
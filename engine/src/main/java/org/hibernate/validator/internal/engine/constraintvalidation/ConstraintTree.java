@@ -19,6 +19,7 @@
 import javax.validation.ValidationException;
 
 import org.hibernate.validator.internal.engine.valuecontext.ValueContext;
+import org.hibernate.validator.internal.engine.valueextraction.BulkValueExtractor;
 import org.hibernate.validator.internal.engine.validationcontext.ValidationContext;
 import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
 import org.hibernate.validator.internal.util.logging.Log;
@@ -70,24 +71,41 @@ public static <U extends Annotation> ConstraintTree<U> of(ConstraintValidatorMan
 		}
 	}
 
-	public final boolean validateConstraints(ValidationContext<?> validationContext, ValueContext<?, ?> valueContext) {
+	public boolean validateConstraints(ValidationContext<?> validationContext, ValueContext<?, ?> valueContext) {
 		List<ConstraintValidatorContextImpl> violatedConstraintValidatorContexts = new ArrayList<>( 5 );
 		validateConstraints( validationContext, valueContext, violatedConstraintValidatorContexts );
 		if ( !violatedConstraintValidatorContexts.isEmpty() ) {
 			for ( ConstraintValidatorContextImpl constraintValidatorContext : violatedConstraintValidatorContexts ) {
-				for ( ConstraintViolationCreationContext constraintViolationCreationContext : constraintValidatorContext.getConstraintViolationCreationContexts() ) {
-					validationContext.addConstraintFailure(
-							valueContext, constraintViolationCreationContext, constraintValidatorContext.getConstraintDescriptor()
-					);
-				}
+				addConstraintFailures( validationContext, valueContext, constraintValidatorContext );
 			}
 			return false;
 		}
 		return true;
 	}
 
+	protected final void addConstraintFailures(ValidationContext<?> validationContext, ValueContext<?, ?> valueContext,
+			ConstraintValidatorContextImpl constraintValidatorContext) {
+		for ( ConstraintViolationCreationContext constraintViolationCreationContext : constraintValidatorContext.getConstraintViolationCreationContexts() ) {
+			validationContext.addConstraintFailure(
+					valueContext, constraintViolationCreationContext, constraintValidatorContext.getConstraintDescriptor()
+			);
+		}
+	}
+
 	protected abstract void validateConstraints(ValidationContext<?> validationContext, ValueContext<?, ?> valueContext, Collection<ConstraintValidatorContextImpl> violatedConstraintValidatorContexts);
 
+	/**
+	 * Returns the index of the next element of a container, starting from {@code fromIndex}, which needs to be
+	 * validated through {@link #validateConstraints(ValidationContext, ValueContext)}. The elements before this index
+	 * are known to be valid.
+	 *
+	 * @return the index of the next element to validate or {@code size} if all the remaining elements are valid
+	 */
+	public <C> int getNextElementToValidate(ValidationContext<?> validationContext, ValueContext<?, ?> valueContext,
+			BulkValueExtractor<C> bulkValueExtractor, C container, int fromIndex, int size) {
+		return fromIndex;
+	}
+
 	public final ConstraintDescriptorImpl<A> getDescriptor() {
 		return descriptor;
 	}
@@ -7,6 +7,7 @@
 package org.hibernate.validator.internal.engine.constraintvalidation;
 
 import java.lang.invoke.MethodHandles;
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -46,8 +47,9 @@ public class ConstraintValidatorContextImpl implements HibernateConstraintValida
 	private Map<String, Object> messageParameters;
 	private Map<String, Object> expressionVariables;
 	private final ClockProvider clockProvider;
-	private final PathImpl basePath;
-	private final ConstraintDescriptor<?> constraintDescriptor;
+	private final ClockProvider referenceClockProvider;
+	private PathImpl basePath;
+	private ConstraintDescriptor<?> constraintDescriptor;
 	private List<ConstraintViolationCreationContext> constraintViolationCreationContexts;
 	private boolean defaultDisabled;
 	private Object dynamicPayload;
@@ -58,12 +60,35 @@ public ConstraintValidatorContextImpl(
 			PathImpl propertyPath,
 			ConstraintDescriptor<?> constraintDescriptor,
 			Object constraintValidatorPayload) {
+		this( clockProvider, clockProvider, propertyPath, constraintDescriptor, constraintValidatorPayload );
+	}
+
+	public ConstraintValidatorContextImpl(
+			ClockProvider clockProvider,
+			ClockProvider referenceClockProvider,
+			PathImpl propertyPath,
+			ConstraintDescriptor<?> constraintDescriptor,
+			Object constraintValidatorPayload) {
 		this.clockProvider = clockProvider;
+		this.referenceClockProvider = referenceClockProvider;
 		this.basePath = propertyPath;
 		this.constraintDescriptor = constraintDescriptor;
 		this.constraintValidatorPayload = constraintValidatorPayload;
 	}
 
+	/**
+	 * Resets this context so that it can be used to validate another constraint.
+	 */
+	public void reset(PathImpl propertyPath, ConstraintDescriptor<?> constraintDescriptor) {
+		this.basePath = propertyPath;
+		this.constraintDescriptor = constraintDescriptor;
+		this.messageParameters = null;
+		this.expressionVariables = null;
+		this.constraintViolationCreationContexts = null;
+		this.defaultDisabled = false;
+		this.dynamicPayload = null;
+	}
+
 	@Override
 	public final void disableDefaultConstraintViolation() {
 		defaultDisabled = true;
@@ -120,6 +145,11 @@ public ClockProvider getClockProvider() {
 		return clockProvider;
 	}
 
+	@Override
+	public Clock getReferenceClock() {
+		return referenceClockProvider.getClock();
+	}
+
 	@Override
 	public HibernateConstraintValidatorContext withDynamicPayload(Object violationContext) {
 		this.dynamicPayload = violationContext;
@@ -166,11 +196,13 @@ protected final PathImpl getCopyOfBasePath() {
 	}
 
 	private ConstraintViolationCreationContext getDefaultConstraintViolationCreationContext() {
+		// the default violation is created once the validator is done with this context, which is then not reused, so
+		// there is no need to copy the parameters
 		return new ConstraintViolationCreationContext(
 				getDefaultConstraintMessageTemplate(),
 				basePath,
-				messageParameters != null ? new HashMap<>( messageParameters ) : Collections.emptyMap(),
-				expressionVariables != null ? new HashMap<>( expressionVariables ) : Collections.emptyMap(),
+				messageParameters != null ? messageParameters : Collections.emptyMap(),
+				expressionVariables != null ? expressionVariables : Collections.emptyMap(),
 				dynamicPayload
 		);
 	}
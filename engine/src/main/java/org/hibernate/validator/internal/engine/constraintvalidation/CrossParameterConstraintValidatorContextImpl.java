@@ -24,7 +24,12 @@ public class CrossParameterConstraintValidatorContextImpl extends ConstraintVali
 	private final List<String> methodParameterNames;
 
 	public CrossParameterConstraintValidatorContextImpl(List<String> methodParameterNames, ClockProvider clockProvider, PathImpl propertyPath, ConstraintDescriptor<?> constraintDescriptor, Object constraintValidatorPayload) {
-		super( clockProvider, propertyPath, constraintDescriptor, constraintValidatorPayload );
+		this( methodParameterNames, clockProvider, clockProvider, propertyPath, constraintDescriptor, constraintValidatorPayload );
+	}
+
+	public CrossParameterConstraintValidatorContextImpl(List<String> methodParameterNames, ClockProvider clockProvider, ClockProvider referenceClockProvider,
+			PathImpl propertyPath, ConstraintDescriptor<?> constraintDescriptor, Object constraintValidatorPayload) {
+		super( clockProvider, referenceClockProvider, propertyPath, constraintDescriptor, constraintValidatorPayload );
 		Contracts.assertTrue( propertyPath.getLeafNode().getKind() == ElementKind.CROSS_PARAMETER, "Context can only be used for corss parameter validation" );
 		this.methodParameterNames = methodParameterNames;
 	}
@@ -7,6 +7,7 @@
 package org.hibernate.validator.internal.engine.constraintvalidation;
 
 import java.time.Duration;
+import java.util.function.Function;
 
 import javax.validation.ClockProvider;
 
@@ -25,13 +26,26 @@ public class HibernateConstraintValidatorInitializationContextImpl implements Hi
 
 	private final Duration temporalValidationTolerance;
 
+	private final boolean linearTimePatternMatchingEnabled;
+
+	private final long patternMatchingStepBudget;
+
+	/**
+	 * Shared by all the initialization contexts of a given validator factory, thus not part of the identity of the context.
+	 */
+	private final ConstraintArtifactCache constraintArtifactCache;
+
 	private final int hashCode;
 
 	public HibernateConstraintValidatorInitializationContextImpl(ScriptEvaluatorFactory scriptEvaluatorFactory, ClockProvider clockProvider,
-			Duration temporalValidationTolerance) {
+			Duration temporalValidationTolerance, boolean linearTimePatternMatchingEnabled, long patternMatchingStepBudget,
+			ConstraintArtifactCache constraintArtifactCache) {
 		this.scriptEvaluatorFactory = scriptEvaluatorFactory;
 		this.clockProvider = clockProvider;
 		this.temporalValidationTolerance = temporalValidationTolerance;
+		this.linearTimePatternMatchingEnabled = linearTimePatternMatchingEnabled;
+		this.patternMatchingStepBudget = patternMatchingStepBudget;
+		this.constraintArtifactCache = constraintArtifactCache;
 		this.hashCode = createHashCode();
 	}
 
@@ -42,7 +56,8 @@ public static HibernateConstraintValidatorInitializationContextImpl of(Hibernate
 			return defaultContext;
 		}
 
-		return new HibernateConstraintValidatorInitializationContextImpl( scriptEvaluatorFactory, clockProvider, temporalValidationTolerance );
+		return new HibernateConstraintValidatorInitializationContextImpl( scriptEvaluatorFactory, clockProvider, temporalValidationTolerance,
+				defaultContext.linearTimePatternMatchingEnabled, defaultContext.patternMatchingStepBudget, defaultContext.constraintArtifactCache );
 	}
 
 	@Override
@@ -60,6 +75,25 @@ public Duration getTemporalValidationTolerance() {
 		return temporalValidationTolerance;
 	}
 
+	@Override
+	public boolean isLinearTimePatternMatchingEnabled() {
+		return linearTimePatternMatchingEnabled;
+	}
+
+	@Override
+	public long getPatternMatchingStepBudget() {
+		return patternMatchingStepBudget;
+	}
+
+	@Override
+	public <K, A> A getConstraintArtifact(K key, Function<? super K, ? extends A> artifactFactory) {
+		return constraintArtifactCache.getArtifact( key, artifactFactory );
+	}
+
+	public ConstraintArtifactCache getConstraintArtifactCache() {
+		return constraintArtifactCache;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if ( this == o ) {
@@ -80,6 +114,12 @@ public boolean equals(Object o) {
 		if ( !temporalValidationTolerance.equals( hibernateConstraintValidatorInitializationContextImpl.temporalValidationTolerance ) ) {
 			return false;
 		}
+		if ( linearTimePatternMatchingEnabled != hibernateConstraintValidatorInitializationContextImpl.linearTimePatternMatchingEnabled ) {
+			return false;
+		}
+		if ( patternMatchingStepBudget != hibernateConstraintValidatorInitializationContextImpl.patternMatchingStepBudget ) {
+			return false;
+		}
 		return true;
 	}
 
@@ -92,6 +132,8 @@ private int createHashCode() {
 		int result = System.identityHashCode( scriptEvaluatorFactory );
 		result = 31 * result + System.identityHashCode( clockProvider );
 		result = 31 * result + temporalValidationTolerance.hashCode();
+		result = 31 * result + Boolean.hashCode( linearTimePatternMatchingEnabled );
+		result = 31 * result + Long.hashCode( patternMatchingStepBudget );
 		return result;
 	}
 }
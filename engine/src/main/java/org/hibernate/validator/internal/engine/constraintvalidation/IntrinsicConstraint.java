@@ -0,0 +1,165 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.constraintvalidation;
+
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.Size;
+
+import org.hibernate.validator.internal.constraintvalidators.bv.NotBlankValidator;
+import org.hibernate.validator.internal.constraintvalidators.bv.NotNullValidator;
+import org.hibernate.validator.internal.constraintvalidators.bv.notempty.NotEmptyValidatorForArray;
+import org.hibernate.validator.internal.constraintvalidators.bv.notempty.NotEmptyValidatorForCharSequence;
+import org.hibernate.validator.internal.constraintvalidators.bv.notempty.NotEmptyValidatorForCollection;
+import org.hibernate.validator.internal.constraintvalidators.bv.notempty.NotEmptyValidatorForMap;
+import org.hibernate.validator.internal.constraintvalidators.bv.number.bound.MaxValidatorForByte;
+import org.hibernate.validator.internal.constraintvalidators.bv.number.bound.MaxValidatorForInteger;
+import org.hibernate.validator.internal.constraintvalidators.bv.number.bound.MaxValidatorForLong;
+import org.hibernate.validator.internal.constraintvalidators.bv.number.bound.MaxValidatorForShort;
+import org.hibernate.validator.internal.constraintvalidators.bv.number.bound.MinValidatorForByte;
+import org.hibernate.validator.internal.constraintvalidators.bv.number.bound.MinValidatorForInteger;
+import org.hibernate.validator.internal.constraintvalidators.bv.number.bound.MinValidatorForLong;
+import org.hibernate.validator.internal.constraintvalidators.bv.number.bound.MinValidatorForShort;
+import org.hibernate.validator.internal.constraintvalidators.bv.size.SizeValidatorForArray;
+import org.hibernate.validator.internal.constraintvalidators.bv.size.SizeValidatorForCharSequence;
+import org.hibernate.validator.internal.constraintvalidators.bv.size.SizeValidatorForCollection;
+import org.hibernate.validator.internal.constraintvalidators.bv.size.SizeValidatorForMap;
+import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
+
+/**
+ * The logic of the most common built-in constraint validators ({@code @NotNull}, {@code @NotBlank}, {@code @NotEmpty},
+ * {@code @Size}, {@code @Min} and {@code @Max} for the usual types), evaluated by the engine without calling the
+ * {@code ConstraintValidator} and without creating a constraint validator context when the value is valid.
+ * <p>
+ * This avoids a megamorphic call to {@code ConstraintValidator#isValid()}. It is only used when the validator resolved
+ * for the constraint is exactly the corresponding built-in validator: custom validators, even extending the built-in
+ * ones, are always called.
+ */
+final class IntrinsicConstraint {
+
+	private static final int NONE = 0;
+	private static final int NOT_NULL = 1;
+	private static final int NOT_BLANK = 2;
+	private static final int CHAR_SEQUENCE_LENGTH = 3;
+	private static final int COLLECTION_SIZE = 4;
+	private static final int MAP_SIZE = 5;
+	private static final int ARRAY_LENGTH = 6;
+	private static final int NUMBER_VALUE = 7;
+
+	private static final Map<Class<?>, Integer> KINDS;
+
+	static {
+		Map<Class<?>, Integer> kinds = new HashMap<>();
+		kinds.put( NotNullValidator.class, NOT_NULL );
+		kinds.put( NotBlankValidator.class, NOT_BLANK );
+		kinds.put( NotEmptyValidatorForCharSequence.class, CHAR_SEQUENCE_LENGTH );
+		kinds.put( NotEmptyValidatorForCollection.class, COLLECTION_SIZE );
+		kinds.put( NotEmptyValidatorForMap.class, MAP_SIZE );
+		kinds.put( NotEmptyValidatorForArray.class, ARRAY_LENGTH );
+		kinds.put( SizeValidatorForCharSequence.class, CHAR_SEQUENCE_LENGTH );
+		kinds.put( SizeValidatorForCollection.class, COLLECTION_SIZE );
+		kinds.put( SizeValidatorForMap.class, MAP_SIZE );
+		kinds.put( SizeValidatorForArray.class, ARRAY_LENGTH );
+		kinds.put( MinValidatorForByte.class, NUMBER_VALUE );
+		kinds.put( MinValidatorForShort.class, NUMBER_VALUE );
+		kinds.put( MinValidatorForInteger.class, NUMBER_VALUE );
+		kinds.put( MinValidatorForLong.class, NUMBER_VALUE );
+		kinds.put( MaxValidatorForByte.class, NUMBER_VALUE );
+		kinds.put( MaxValidatorForShort.class, NUMBER_VALUE );
+		kinds.put( MaxValidatorForInteger.class, NUMBER_VALUE );
+		kinds.put( MaxValidatorForLong.class, NUMBER_VALUE );
+		KINDS = kinds;
+	}
+
+	/**
+	 * The class of the validator this intrinsic replaces.
+	 */
+	private final Class<?> validatorClass;
+
+	private final int kind;
+
+	private final boolean nullValid;
+
+	private final long min;
+
+	private final long max;
+
+	private IntrinsicConstraint(Class<?> validatorClass, int kind, boolean nullValid, long min, long max) {
+		this.validatorClass = validatorClass;
+		this.kind = kind;
+		this.nullValid = nullValid;
+		this.min = min;
+		this.max = max;
+	}
+
+	/**
+	 * Returns the intrinsic corresponding to the given validator class and constraint. If there is no such intrinsic,
+	 * the returned instance is not {@link #isApplicable() applicable}.
+	 */
+	static IntrinsicConstraint of(Class<?> validatorClass, ConstraintDescriptorImpl<?> descriptor) {
+		Integer kind = KINDS.get( validatorClass );
+		if ( kind == null ) {
+			return new IntrinsicConstraint( validatorClass, NONE, false, 0, 0 );
+		}
+
+		Annotation annotation = descriptor.getAnnotation();
+		if ( annotation instanceof Size ) {
+			return new IntrinsicConstraint( validatorClass, kind, true, ( (Size) annotation ).min(), ( (Size) annotation ).max() );
+		}
+		if ( annotation instanceof Min ) {
+			return new IntrinsicConstraint( validatorClass, kind, true, ( (Min) annotation ).value(), Long.MAX_VALUE );
+		}
+		if ( annotation instanceof Max ) {
+			return new IntrinsicConstraint( validatorClass, kind, true, Long.MIN_VALUE, ( (Max) annotation ).value() );
+		}
+		// @NotNull, @NotBlank and @NotEmpty
+		return new IntrinsicConstraint( validatorClass, kind, false, 1, Long.MAX_VALUE );
+	}
+
+	boolean isApplicable() {
+		return kind != NONE;
+	}
+
+	Class<?> getValidatorClass() {
+		return validatorClass;
+	}
+
+	@SuppressWarnings("rawtypes")
+	boolean isValid(Object value) {
+		if ( value == null ) {
+			return nullValid;
+		}
+
+		switch ( kind ) {
+			case NOT_NULL:
+				return true;
+			case NOT_BLANK:
+				return ( (CharSequence) value ).toString().trim().length() > 0;
+			case CHAR_SEQUENCE_LENGTH:
+				return isInRange( ( (CharSequence) value ).length() );
+			case COLLECTION_SIZE:
+				return isInRange( ( (Collection) value ).size() );
+			case MAP_SIZE:
+				return isInRange( ( (Map) value ).size() );
+			case ARRAY_LENGTH:
+				return isInRange( ( (Object[]) value ).length );
+			case NUMBER_VALUE:
+				return isInRange( ( (Number) value ).longValue() );
+			default:
+				throw new IllegalStateException( "Not an intrinsic constraint" );
+		}
+	}
+
+	private boolean isInRange(long value) {
+		return value >= min && value <= max;
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.constraintvalidation;
+
+import java.time.Clock;
+
+import javax.validation.ClockProvider;
+
+/**
+ * A {@link ClockProvider} reading the current time from the configured {@code ClockProvider} the first time it is
+ * asked for a clock and returning a clock fixed at this instant from then on.
+ * <p>
+ * One instance is used per validation call so that all the temporal constraints of the call are validated against the
+ * same time reference, without querying the configured {@code ClockProvider} for each validated value.
+ * <p>
+ * Not thread-safe, as a validation call is executed by a single thread.
+ */
+public final class ReferenceClockProvider implements ClockProvider {
+
+	private final ClockProvider delegate;
+
+	private Clock referenceClock;
+
+	public ReferenceClockProvider(ClockProvider delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public Clock getClock() {
+		if ( referenceClock == null ) {
+			Clock clock = delegate.getClock();
+			referenceClock = Clock.fixed( clock.instant(), clock.getZone() );
+		}
+		return referenceClock;
+	}
+}
@@ -15,6 +15,7 @@
 
 import org.hibernate.validator.internal.engine.validationcontext.ValidationContext;
 import org.hibernate.validator.internal.engine.valuecontext.ValueContext;
+import org.hibernate.validator.internal.engine.valueextraction.BulkValueExtractor;
 import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
@@ -33,15 +34,62 @@
 
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
+	/**
+	 * The intrinsic corresponding to the last validator used, if any.
+	 */
+	private volatile IntrinsicConstraint intrinsicConstraint;
+
 	public SimpleConstraintTree(ConstraintValidatorManager constraintValidatorManager, ConstraintDescriptorImpl<B> descriptor, Type validatedValueType) {
 		super( constraintValidatorManager, descriptor, validatedValueType );
 	}
 
+	@Override
+	public boolean validateConstraints(ValidationContext<?> validationContext, ValueContext<?, ?> valueContext) {
+		// avoids the allocation of the list of the violated contexts
+		ConstraintValidatorContextImpl violatedConstraintValidatorContext = validateConstraint( validationContext, valueContext );
+		if ( violatedConstraintValidatorContext == null ) {
+			return true;
+		}
+
+		addConstraintFailures( validationContext, valueContext, violatedConstraintValidatorContext );
+		return false;
+	}
+
 	@Override
 	protected void validateConstraints(ValidationContext<?> validationContext,
 			ValueContext<?, ?> valueContext,
 			Collection<ConstraintValidatorContextImpl> violatedConstraintValidatorContexts) {
+		ConstraintValidatorContextImpl violatedConstraintValidatorContext = validateConstraint( validationContext, valueContext );
+		if ( violatedConstraintValidatorContext != null ) {
+			violatedConstraintValidatorContexts.add( violatedConstraintValidatorContext );
+		}
+	}
+
+	@Override
+	public <C> int getNextElementToValidate(ValidationContext<?> validationContext, ValueContext<?, ?> valueContext,
+			BulkValueExtractor<C> bulkValueExtractor, C container, int fromIndex, int size) {
+		IntrinsicConstraint intrinsicConstraint = getIntrinsicConstraint( getInitializedConstraintValidator( validationContext, valueContext ) );
+		if ( !intrinsicConstraint.isApplicable() ) {
+			return fromIndex;
+		}
 
+		int index = fromIndex;
+		try {
+			while ( index < size && intrinsicConstraint.isValid( bulkValueExtractor.getValue( container, index ) ) ) {
+				index++;
+			}
+		}
+		catch (RuntimeException e) {
+			// the element will be validated again by the regular path which will report the error
+			return index;
+		}
+		return index;
+	}
+
+	/**
+	 * @return the context of the violated constraint or {@code null} if the constraint is not violated
+	 */
+	private ConstraintValidatorContextImpl validateConstraint(ValidationContext<?> validationContext, ValueContext<?, ?> valueContext) {
 		if ( LOG.isTraceEnabled() ) {
 			LOG.tracef(
 					"Validating value %s against constraint defined by %s.",
@@ -53,14 +101,44 @@ protected void validateConstraints(ValidationContext<?> validationContext,
 		// find the right constraint validator
 		ConstraintValidator<B, ?> validator = getInitializedConstraintValidator( validationContext, valueContext );
 
-		// create a constraint validator context
+		// the most common built-in constraints are evaluated inline, a context is only created to report the violation
+		IntrinsicConstraint intrinsicConstraint = getIntrinsicConstraint( validator );
+		if ( intrinsicConstraint.isApplicable() ) {
+			if ( validateIntrinsicConstraint( valueContext, intrinsicConstraint ) ) {
+				return null;
+			}
+			return validationContext.createConstraintValidatorContextFor( descriptor, valueContext.getPropertyPath() );
+		}
+
+		// create a constraint validator context, reusing the one released by the previous successful validation if any
 		ConstraintValidatorContextImpl constraintValidatorContext = validationContext.createConstraintValidatorContextFor(
 				descriptor, valueContext.getPropertyPath()
 		);
 
 		// validate
 		if ( validateSingleConstraint( valueContext, constraintValidatorContext, validator ).isPresent() ) {
-			violatedConstraintValidatorContexts.add( constraintValidatorContext );
+			return constraintValidatorContext;
+		}
+
+		validationContext.releaseConstraintValidatorContext( constraintValidatorContext );
+		return null;
+	}
+
+	private IntrinsicConstraint getIntrinsicConstraint(ConstraintValidator<B, ?> validator) {
+		IntrinsicConstraint intrinsicConstraint = this.intrinsicConstraint;
+		if ( intrinsicConstraint == null || intrinsicConstraint.getValidatorClass() != validator.getClass() ) {
+			intrinsicConstraint = IntrinsicConstraint.of( validator.getClass(), descriptor );
+			this.intrinsicConstraint = intrinsicConstraint;
+		}
+		return intrinsicConstraint;
+	}
+
+	private static boolean validateIntrinsicConstraint(ValueContext<?, ?> valueContext, IntrinsicConstraint intrinsicConstraint) {
+		try {
+			return intrinsicConstraint.isValid( valueContext.getCurrentValidatedValue() );
+		}
+		catch (RuntimeException e) {
+			throw LOG.getExceptionDuringIsValidCallException( e );
 		}
 	}
 }
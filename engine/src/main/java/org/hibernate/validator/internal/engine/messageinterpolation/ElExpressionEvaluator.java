@@ -0,0 +1,137 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation;
+
+import java.lang.invoke.MethodHandles;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Locale;
+
+import javax.el.ELManager;
+import javax.el.ExpressionFactory;
+import javax.validation.MessageInterpolator;
+
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.internal.util.privilegedactions.GetClassLoader;
+import org.hibernate.validator.internal.util.privilegedactions.SetContextClassLoader;
+import org.hibernate.validator.spi.messageinterpolation.ExpressionEvaluator;
+
+/**
+ * The {@link ExpressionEvaluator} based on the Expression Language, used by default to evaluate the expressions
+ * contained in the messages.
+ * <p>
+ * It keeps the Expression Language state out of
+ * {@link org.hibernate.validator.messageinterpolation.ResourceBundleMessageInterpolator}, which therefore does not
+ * require an Expression Language implementation when it is given another evaluator.
+ */
+public class ElExpressionEvaluator implements ExpressionEvaluator {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	/**
+	 * The name under which the validated value is exposed to the expressions.
+	 */
+	private static final String VALIDATED_VALUE_NAME = "validatedValue";
+
+	private final ExpressionFactory expressionFactory;
+
+	/**
+	 * Creates an evaluator using the {@link ExpressionFactory} of the Expression Language implementation available.
+	 *
+	 * @throws javax.validation.ValidationException if no Expression Language implementation can be found
+	 */
+	public ElExpressionEvaluator() {
+		this( buildExpressionFactory() );
+	}
+
+	public ElExpressionEvaluator(ExpressionFactory expressionFactory) {
+		this.expressionFactory = expressionFactory;
+	}
+
+	@Override
+	public String evaluate(String expression, MessageInterpolator.Context context, Locale locale) {
+		return new ElTermResolver( locale, expressionFactory ).interpolate( context, expression );
+	}
+
+	@Override
+	public boolean isCacheable(String expression) {
+		return !expression.contains( VALIDATED_VALUE_NAME );
+	}
+
+	/**
+	 * The javax.el FactoryFinder uses the TCCL to load the {@link ExpressionFactory} implementation so we need to be
+	 * extra careful when initializing it.
+	 *
+	 * @return the {@link ExpressionFactory}
+	 */
+	private static ExpressionFactory buildExpressionFactory() {
+		// First, we try to load the instance from the original TCCL.
+		if ( canLoadExpressionFactory() ) {
+			ExpressionFactory expressionFactory = ELManager.getExpressionFactory();
+			LOG.debug( "Loaded expression factory via original TCCL" );
+			return expressionFactory;
+		}
+
+		final ClassLoader originalContextClassLoader = run( GetClassLoader.fromContext() );
+
+		try {
+			// Then we try the Hibernate Validator class loader. In a fully-functional modular environment such as
+			// WildFly or Jigsaw, it is the way to go.
+			run( SetContextClassLoader.action( ElExpressionEvaluator.class.getClassLoader() ) );
+
+			if ( canLoadExpressionFactory() ) {
+				ExpressionFactory expressionFactory = ELManager.getExpressionFactory();
+				LOG.debug( "Loaded expression factory via HV classloader" );
+				return expressionFactory;
+			}
+
+			// Finally we try the CL of the EL module itself; the EL RI uses the TCCL to load the implementation from
+			// its own module, so this should work
+			run( SetContextClassLoader.action( ELManager.class.getClassLoader() ) );
+			if ( canLoadExpressionFactory() ) {
+				ExpressionFactory expressionFactory = ELManager.getExpressionFactory();
+				LOG.debug( "Loaded expression factory via EL classloader" );
+				return expressionFactory;
+			}
+		}
+		catch (Throwable e) {
+			throw LOG.getUnableToInitializeELExpressionFactoryException( e );
+		}
+		finally {
+			run( SetContextClassLoader.action( originalContextClassLoader ) );
+		}
+
+		// HV-793 - We fail eagerly in case we have no EL dependencies on the classpath
+		throw LOG.getUnableToInitializeELExpressionFactoryException( null );
+	}
+
+	/**
+	 * Instead of testing the different class loaders via {@link ELManager}, we directly access the
+	 * {@link ExpressionFactory}. This avoids issues with loading the {@code ELUtil} class (used by {@code ELManager})
+	 * after a failed attempt.
+	 */
+	private static boolean canLoadExpressionFactory() {
+		try {
+			ExpressionFactory.newInstance();
+			return true;
+		}
+		catch (Throwable e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Runs the given privileged action, using a privileged block if required.
+	 * <p>
+	 * <b>NOTE:</b> This must never be changed into a publicly available method to avoid execution of arbitrary
+	 * privileged actions within HV's protection domain.
+	 */
+	private static <T> T run(PrivilegedAction<T> action) {
+		return System.getSecurityManager() != null ? AccessController.doPrivileged( action ) : action.run();
+	}
+}
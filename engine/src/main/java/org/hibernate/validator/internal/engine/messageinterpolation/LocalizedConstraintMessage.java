@@ -0,0 +1,64 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation;
+
+import java.util.Locale;
+
+import javax.validation.metadata.ConstraintDescriptor;
+
+/**
+ * A message template localized for a given constraint. The constraint descriptor is compared by identity.
+ */
+public class LocalizedConstraintMessage {
+	private final String message;
+	private final Locale locale;
+	private final ConstraintDescriptor<?> constraintDescriptor;
+	private final int hashCode;
+
+	public LocalizedConstraintMessage(String message, Locale locale, ConstraintDescriptor<?> constraintDescriptor) {
+		this.message = message;
+		this.locale = locale;
+		this.constraintDescriptor = constraintDescriptor;
+		this.hashCode = buildHashCode();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if ( this == o ) {
+			return true;
+		}
+		if ( o == null || getClass() != o.getClass() ) {
+			return false;
+		}
+
+		LocalizedConstraintMessage that = (LocalizedConstraintMessage) o;
+
+		if ( constraintDescriptor != that.constraintDescriptor ) {
+			return false;
+		}
+		if ( !message.equals( that.message ) ) {
+			return false;
+		}
+		if ( !locale.equals( that.locale ) ) {
+			return false;
+		}
+
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	private int buildHashCode() {
+		int result = message.hashCode();
+		result = 31 * result + locale.hashCode();
+		result = 31 * result + System.identityHashCode( constraintDescriptor );
+		return result;
+	}
+}
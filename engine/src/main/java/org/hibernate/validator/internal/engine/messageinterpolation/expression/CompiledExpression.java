@@ -0,0 +1,57 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation.expression;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * An expression compiled to a tree of {@link MethodHandle}s by {@link ExpressionCompiler}.
+ * <p>
+ * Compiled expressions are immutable and thread-safe.
+ */
+public class CompiledExpression {
+
+	private final String expression;
+
+	/**
+	 * The root of the method handle tree, of type {@code (ExpressionBindings)Object}.
+	 */
+	private final MethodHandle evaluator;
+
+	CompiledExpression(String expression, MethodHandle evaluator) {
+		this.expression = expression;
+		this.evaluator = evaluator;
+	}
+
+	/**
+	 * Evaluates the expression and coerces the result to a string.
+	 *
+	 * @param bindings the variables available to the expression
+	 *
+	 * @return the result of the evaluation, an empty string if the result is {@code null}
+	 */
+	public String evaluate(ExpressionBindings bindings) {
+		try {
+			return ExpressionOperations.toString( (Object) evaluator.invokeExact( bindings ) );
+		}
+		catch (RuntimeException | Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			throw new IllegalStateException( e );
+		}
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder sb = new StringBuilder();
+		sb.append( "CompiledExpression" );
+		sb.append( "{expression='" ).append( expression ).append( '\'' );
+		sb.append( '}' );
+		return sb.toString();
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation.expression;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.validation.MessageInterpolator;
+
+import org.hibernate.validator.internal.engine.messageinterpolation.FormatterWrapper;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.internal.util.stereotypes.Lazy;
+import org.hibernate.validator.messageinterpolation.HibernateMessageInterpolatorContext;
+
+/**
+ * The variables available to a compiled expression during its evaluation.
+ * <p>
+ * The variables are resolved in the same order as with the Expression Language: the expression variables first, then
+ * the constraint attributes and finally the formatter and the validated value.
+ */
+public class ExpressionBindings {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	/**
+	 * Name under which the validated value is exposed.
+	 */
+	static final String VALIDATED_VALUE_NAME = "validatedValue";
+
+	/**
+	 * Name under which the formatter is exposed.
+	 */
+	static final String FORMATTER_NAME = "formatter";
+
+	private final MessageInterpolator.Context context;
+
+	private final Locale locale;
+
+	@Lazy
+	private FormatterWrapper formatter;
+
+	public ExpressionBindings(MessageInterpolator.Context context, Locale locale) {
+		this.context = context;
+		this.locale = locale;
+	}
+
+	Object getVariable(String name) {
+		if ( context instanceof HibernateMessageInterpolatorContext ) {
+			Map<String, Object> expressionVariables = ( (HibernateMessageInterpolatorContext) context ).getExpressionVariables();
+			if ( expressionVariables.containsKey( name ) ) {
+				return expressionVariables.get( name );
+			}
+		}
+
+		Map<String, Object> attributes = context.getConstraintDescriptor().getAttributes();
+		if ( attributes.containsKey( name ) ) {
+			return attributes.get( name );
+		}
+
+		if ( FORMATTER_NAME.equals( name ) ) {
+			return getFormatter();
+		}
+		if ( VALIDATED_VALUE_NAME.equals( name ) ) {
+			return context.getValidatedValue();
+		}
+
+		throw LOG.getUnknownVariableInExpressionException( name );
+	}
+
+	FormatterWrapper getFormatter() {
+		if ( formatter == null ) {
+			formatter = new FormatterWrapper( locale );
+		}
+		return formatter;
+	}
+}
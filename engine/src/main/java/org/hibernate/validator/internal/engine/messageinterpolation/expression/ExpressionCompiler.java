@@ -0,0 +1,593 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation.expression;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+
+/**
+ * Compiles the expressions of message templates to a tree of {@link MethodHandle}s.
+ * <p>
+ * The supported grammar is the subset of the Expression Language commonly used in constraint messages:
+ * <ul>
+ * <li>literals: strings delimited by single or double quotes, integral and floating point numbers, {@code true},
+ * {@code false} and {@code null},</li>
+ * <li>variables and property access: {@code validatedValue.address.city}, {@code map['key']}, {@code list[0]},</li>
+ * <li>arithmetic operators: {@code +}, {@code -}, {@code *}, {@code /} ({@code div}), {@code %} ({@code mod}),</li>
+ * <li>string concatenation: {@code +=},</li>
+ * <li>relational operators: {@code ==} ({@code eq}), {@code !=} ({@code ne}), {@code <} ({@code lt}),
+ * {@code >} ({@code gt}), {@code <=} ({@code le}), {@code >=} ({@code ge}),</li>
+ * <li>logical operators: {@code &&} ({@code and}), {@code ||} ({@code or}), {@code !} ({@code not}) and
+ * {@code empty},</li>
+ * <li>the conditional operator: {@code condition ? a : b},</li>
+ * <li>calls to {@code formatter.format(...)}.</li>
+ * </ul>
+ * The precedence of the operators is the one defined by the Expression Language specification.
+ */
+public final class ExpressionCompiler {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	private static final String EXPRESSION_START = "${";
+
+	private static final String EXPRESSION_END = "}";
+
+	private static final String FORMAT_METHOD_NAME = "format";
+
+	private static final Object[] EMPTY_ARRAY = new Object[0];
+
+	private static final MethodType EXPRESSION_TYPE = MethodType.methodType( Object.class, ExpressionBindings.class );
+
+	private static final MethodType UNARY_OPERATION_TYPE = MethodType.methodType( Object.class, Object.class );
+
+	private static final MethodType BINARY_OPERATION_TYPE = MethodType.methodType( Object.class, Object.class, Object.class );
+
+	private static final MethodHandle GET_VARIABLE;
+
+	private static final MethodHandle GET_PROPERTY;
+
+	private static final MethodHandle TO_BOOLEAN;
+
+	private static final MethodHandle FORMAT;
+
+	static {
+		try {
+			GET_VARIABLE = LOOKUP.findVirtual( ExpressionBindings.class, "getVariable", MethodType.methodType( Object.class, String.class ) );
+			GET_PROPERTY = LOOKUP.findVirtual( PropertyAccessor.class, "get", UNARY_OPERATION_TYPE );
+			TO_BOOLEAN = LOOKUP.findStatic( ExpressionOperations.class, "toBoolean", MethodType.methodType( boolean.class, Object.class ) );
+			FORMAT = LOOKUP.findStatic( ExpressionOperations.class, "format", MethodType.methodType( Object.class, Object.class, Object[].class ) );
+		}
+		catch (NoSuchMethodException | IllegalAccessException e) {
+			throw new ExceptionInInitializerError( e );
+		}
+	}
+
+	private static final MethodHandle ADD = operation( "add", BINARY_OPERATION_TYPE );
+	private static final MethodHandle SUBTRACT = operation( "subtract", BINARY_OPERATION_TYPE );
+	private static final MethodHandle MULTIPLY = operation( "multiply", BINARY_OPERATION_TYPE );
+	private static final MethodHandle DIVIDE = operation( "divide", BINARY_OPERATION_TYPE );
+	private static final MethodHandle MODULO = operation( "modulo", BINARY_OPERATION_TYPE );
+	private static final MethodHandle CONCATENATE = operation( "concatenate", BINARY_OPERATION_TYPE );
+	private static final MethodHandle EQUAL = operation( "equal", BINARY_OPERATION_TYPE );
+	private static final MethodHandle NOT_EQUAL = operation( "notEqual", BINARY_OPERATION_TYPE );
+	private static final MethodHandle LESS_THAN = operation( "lessThan", BINARY_OPERATION_TYPE );
+	private static final MethodHandle GREATER_THAN = operation( "greaterThan", BINARY_OPERATION_TYPE );
+	private static final MethodHandle LESS_THAN_OR_EQUAL = operation( "lessThanOrEqual", BINARY_OPERATION_TYPE );
+	private static final MethodHandle GREATER_THAN_OR_EQUAL = operation( "greaterThanOrEqual", BINARY_OPERATION_TYPE );
+	private static final MethodHandle INDEX = operation( "index", BINARY_OPERATION_TYPE );
+	private static final MethodHandle NEGATE = operation( "negate", UNARY_OPERATION_TYPE );
+	private static final MethodHandle NOT = operation( "not", UNARY_OPERATION_TYPE );
+	private static final MethodHandle EMPTY = operation( "empty", UNARY_OPERATION_TYPE );
+	private static final MethodHandle TO_BOXED_BOOLEAN = TO_BOOLEAN.asType( UNARY_OPERATION_TYPE );
+
+	private final String expression;
+
+	private final List<Token> tokens;
+
+	private int position;
+
+	private ExpressionCompiler(String expression) {
+		this.expression = expression;
+		this.tokens = new ArrayList<>();
+	}
+
+	/**
+	 * Compiles the given expression.
+	 *
+	 * @param expression the expression, including the delimiters
+	 *
+	 * @return the compiled expression
+	 *
+	 * @throws ExpressionSyntaxException if the expression is invalid or uses unsupported constructs
+	 */
+	public static CompiledExpression compile(String expression) {
+		ExpressionCompiler compiler = new ExpressionCompiler( expression );
+		return new CompiledExpression( expression, compiler.compile() );
+	}
+
+	private MethodHandle compile() {
+		if ( !expression.startsWith( EXPRESSION_START ) || !expression.endsWith( EXPRESSION_END )
+				|| expression.length() < EXPRESSION_START.length() + EXPRESSION_END.length() ) {
+			throw LOG.getInvalidExpressionException( expression, 0 );
+		}
+
+		tokenize( EXPRESSION_START.length(), expression.length() - EXPRESSION_END.length() );
+
+		MethodHandle root = parseConditional();
+		if ( current().type != TokenType.END ) {
+			throw syntaxError();
+		}
+		return root;
+	}
+
+	// parser
+
+	private MethodHandle parseConditional() {
+		MethodHandle condition = parseOr();
+		if ( !acceptOperator( "?" ) ) {
+			return condition;
+		}
+		MethodHandle whenTrue = parseConditional();
+		expectOperator( ":" );
+		MethodHandle whenFalse = parseConditional();
+		return MethodHandles.guardWithTest( MethodHandles.filterReturnValue( condition, TO_BOOLEAN ), whenTrue, whenFalse );
+	}
+
+	private MethodHandle parseOr() {
+		MethodHandle left = parseAnd();
+		while ( acceptOperator( "||" ) || acceptKeyword( "or" ) ) {
+			MethodHandle right = parseAnd();
+			left = MethodHandles.guardWithTest(
+					MethodHandles.filterReturnValue( left, TO_BOOLEAN ),
+					constant( Boolean.TRUE ),
+					MethodHandles.filterReturnValue( right, TO_BOXED_BOOLEAN )
+			);
+		}
+		return left;
+	}
+
+	private MethodHandle parseAnd() {
+		MethodHandle left = parseEquality();
+		while ( acceptOperator( "&&" ) || acceptKeyword( "and" ) ) {
+			MethodHandle right = parseEquality();
+			left = MethodHandles.guardWithTest(
+					MethodHandles.filterReturnValue( left, TO_BOOLEAN ),
+					MethodHandles.filterReturnValue( right, TO_BOXED_BOOLEAN ),
+					constant( Boolean.FALSE )
+			);
+		}
+		return left;
+	}
+
+	private MethodHandle parseEquality() {
+		MethodHandle left = parseRelational();
+		while ( true ) {
+			if ( acceptOperator( "==" ) || acceptKeyword( "eq" ) ) {
+				left = binary( EQUAL, left, parseRelational() );
+			}
+			else if ( acceptOperator( "!=" ) || acceptKeyword( "ne" ) ) {
+				left = binary( NOT_EQUAL, left, parseRelational() );
+			}
+			else {
+				return left;
+			}
+		}
+	}
+
+	private MethodHandle parseRelational() {
+		MethodHandle left = parseConcatenation();
+		while ( true ) {
+			if ( acceptOperator( "<" ) || acceptKeyword( "lt" ) ) {
+				left = binary( LESS_THAN, left, parseConcatenation() );
+			}
+			else if ( acceptOperator( ">" ) || acceptKeyword( "gt" ) ) {
+				left = binary( GREATER_THAN, left, parseConcatenation() );
+			}
+			else if ( acceptOperator( "<=" ) || acceptKeyword( "le" ) ) {
+				left = binary( LESS_THAN_OR_EQUAL, left, parseConcatenation() );
+			}
+			else if ( acceptOperator( ">=" ) || acceptKeyword( "ge" ) ) {
+				left = binary( GREATER_THAN_OR_EQUAL, left, parseConcatenation() );
+			}
+			else {
+				return left;
+			}
+		}
+	}
+
+	private MethodHandle parseConcatenation() {
+		MethodHandle left = parseAdditive();
+		while ( acceptOperator( "+=" ) ) {
+			left = binary( CONCATENATE, left, parseAdditive() );
+		}
+		return left;
+	}
+
+	private MethodHandle parseAdditive() {
+		MethodHandle left = parseMultiplicative();
+		while ( true ) {
+			if ( acceptOperator( "+" ) ) {
+				left = binary( ADD, left, parseMultiplicative() );
+			}
+			else if ( acceptOperator( "-" ) ) {
+				left = binary( SUBTRACT, left, parseMultiplicative() );
+			}
+			else {
+				return left;
+			}
+		}
+	}
+
+	private MethodHandle parseMultiplicative() {
+		MethodHandle left = parseUnary();
+		while ( true ) {
+			if ( acceptOperator( "*" ) ) {
+				left = binary( MULTIPLY, left, parseUnary() );
+			}
+			else if ( acceptOperator( "/" ) || acceptKeyword( "div" ) ) {
+				left = binary( DIVIDE, left, parseUnary() );
+			}
+			else if ( acceptOperator( "%" ) || acceptKeyword( "mod" ) ) {
+				left = binary( MODULO, left, parseUnary() );
+			}
+			else {
+				return left;
+			}
+		}
+	}
+
+	private MethodHandle parseUnary() {
+		if ( acceptOperator( "-" ) ) {
+			return MethodHandles.filterReturnValue( parseUnary(), NEGATE );
+		}
+		if ( acceptOperator( "!" ) || acceptKeyword( "not" ) ) {
+			return MethodHandles.filterReturnValue( parseUnary(), NOT );
+		}
+		if ( acceptKeyword( "empty" ) ) {
+			return MethodHandles.filterReturnValue( parseUnary(), EMPTY );
+		}
+		return parsePostfix();
+	}
+
+	private MethodHandle parsePostfix() {
+		MethodHandle base = parsePrimary();
+		while ( true ) {
+			if ( acceptOperator( "." ) ) {
+				Token name = current();
+				if ( name.type != TokenType.IDENTIFIER ) {
+					throw syntaxError();
+				}
+				position++;
+
+				if ( acceptOperator( "(" ) ) {
+					if ( !FORMAT_METHOD_NAME.equals( name.value ) ) {
+						throw LOG.getInvalidExpressionException( expression, name.start );
+					}
+					base = binary( FORMAT, base, parseArguments() );
+				}
+				else {
+					base = MethodHandles.filterReturnValue( base, GET_PROPERTY.bindTo( new PropertyAccessor( name.value ) ) );
+				}
+			}
+			else if ( acceptOperator( "[" ) ) {
+				MethodHandle index = parseConditional();
+				expectOperator( "]" );
+				base = binary( INDEX, base, index );
+			}
+			else {
+				return base;
+			}
+		}
+	}
+
+	/**
+	 * Parses the arguments of a method call, the opening parenthesis being already consumed.
+	 *
+	 * @return a method handle of type {@code (ExpressionBindings)Object[]} returning the values of the arguments
+	 */
+	private MethodHandle parseArguments() {
+		List<MethodHandle> arguments = new ArrayList<>();
+		if ( !acceptOperator( ")" ) ) {
+			do {
+				arguments.add( parseConditional() );
+			}
+			while ( acceptOperator( "," ) );
+			expectOperator( ")" );
+		}
+
+		if ( arguments.isEmpty() ) {
+			return MethodHandles.dropArguments( MethodHandles.constant( Object[].class, EMPTY_ARRAY ), 0, ExpressionBindings.class );
+		}
+
+		MethodHandle collector = MethodHandles.identity( Object[].class ).asCollector( Object[].class, arguments.size() );
+		collector = MethodHandles.filterArguments( collector, 0, arguments.toArray( new MethodHandle[arguments.size()] ) );
+		return MethodHandles.permuteArguments( collector, MethodType.methodType( Object[].class, ExpressionBindings.class ), new int[arguments.size()] );
+	}
+
+	private MethodHandle parsePrimary() {
+		Token token = current();
+		switch ( token.type ) {
+			case STRING:
+				position++;
+				return constant( token.value );
+			case INTEGER:
+				position++;
+				return constant( parseNumber( token, false ) );
+			case DECIMAL:
+				position++;
+				return constant( parseNumber( token, true ) );
+			case IDENTIFIER:
+				position++;
+				switch ( token.value ) {
+					case "true":
+						return constant( Boolean.TRUE );
+					case "false":
+						return constant( Boolean.FALSE );
+					case "null":
+						return constant( null );
+					default:
+						if ( isReservedWord( token.value ) || current().isOperator( "(" ) ) {
+							throw LOG.getInvalidExpressionException( expression, token.start );
+						}
+						return MethodHandles.insertArguments( GET_VARIABLE, 1, token.value );
+				}
+			case OPERATOR:
+				if ( acceptOperator( "(" ) ) {
+					MethodHandle nested = parseConditional();
+					expectOperator( ")" );
+					return nested;
+				}
+				throw syntaxError();
+			default:
+				throw syntaxError();
+		}
+	}
+
+	private Object parseNumber(Token token, boolean decimal) {
+		try {
+			return decimal ? (Object) Double.valueOf( token.value ) : (Object) Long.valueOf( token.value );
+		}
+		catch (NumberFormatException e) {
+			throw LOG.getInvalidExpressionException( expression, token.start );
+		}
+	}
+
+	private boolean acceptOperator(String operator) {
+		if ( current().isOperator( operator ) ) {
+			position++;
+			return true;
+		}
+		return false;
+	}
+
+	private boolean acceptKeyword(String keyword) {
+		Token token = current();
+		if ( token.type == TokenType.IDENTIFIER && token.value.equals( keyword ) ) {
+			position++;
+			return true;
+		}
+		return false;
+	}
+
+	private void expectOperator(String operator) {
+		if ( !acceptOperator( operator ) ) {
+			throw syntaxError();
+		}
+	}
+
+	private Token current() {
+		return tokens.get( position );
+	}
+
+	private ExpressionSyntaxException syntaxError() {
+		return LOG.getInvalidExpressionException( expression, current().start );
+	}
+
+	private static boolean isReservedWord(String identifier) {
+		switch ( identifier ) {
+			case "and":
+			case "or":
+			case "not":
+			case "eq":
+			case "ne":
+			case "lt":
+			case "gt":
+			case "le":
+			case "ge":
+			case "div":
+			case "mod":
+			case "empty":
+			case "instanceof":
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	// method handle combinators
+
+	private static MethodHandle operation(String name, MethodType type) {
+		try {
+			return LOOKUP.findStatic( ExpressionOperations.class, name, type );
+		}
+		catch (NoSuchMethodException | IllegalAccessException e) {
+			throw new ExceptionInInitializerError( e );
+		}
+	}
+
+	private static MethodHandle constant(Object value) {
+		return MethodHandles.dropArguments( MethodHandles.constant( Object.class, value ), 0, ExpressionBindings.class );
+	}
+
+	/**
+	 * Applies a binary operation to the results of two method handles of type {@code (ExpressionBindings)X}, both
+	 * receiving the same bindings.
+	 */
+	private static MethodHandle binary(MethodHandle operation, MethodHandle left, MethodHandle right) {
+		MethodHandle combined = MethodHandles.filterArguments( operation, 0, left, right );
+		return MethodHandles.permuteArguments( combined, EXPRESSION_TYPE, 0, 0 );
+	}
+
+	// tokenizer
+
+	private void tokenize(int start, int end) {
+		int i = start;
+		while ( i < end ) {
+			char character = expression.charAt( i );
+			if ( Character.isWhitespace( character ) ) {
+				i++;
+			}
+			else if ( character == '\'' || character == '"' ) {
+				i = tokenizeString( i, end );
+			}
+			else if ( Character.isDigit( character ) || ( character == '.' && i + 1 < end && Character.isDigit( expression.charAt( i + 1 ) ) ) ) {
+				i = tokenizeNumber( i, end );
+			}
+			else if ( Character.isJavaIdentifierStart( character ) ) {
+				int identifierStart = i;
+				while ( i < end && Character.isJavaIdentifierPart( expression.charAt( i ) ) ) {
+					i++;
+				}
+				tokens.add( new Token( TokenType.IDENTIFIER, expression.substring( identifierStart, i ), identifierStart ) );
+			}
+			else {
+				i = tokenizeOperator( i, end );
+			}
+		}
+		tokens.add( new Token( TokenType.END, null, end ) );
+	}
+
+	private int tokenizeString(int start, int end) {
+		char delimiter = expression.charAt( start );
+		StringBuilder value = new StringBuilder();
+		int i = start + 1;
+		while ( i < end ) {
+			char character = expression.charAt( i );
+			if ( character == '\\' && i + 1 < end ) {
+				char escaped = expression.charAt( i + 1 );
+				if ( escaped == '\\' || escaped == '\'' || escaped == '"' ) {
+					value.append( escaped );
+					i += 2;
+					continue;
+				}
+			}
+			else if ( character == delimiter ) {
+				tokens.add( new Token( TokenType.STRING, value.toString(), start ) );
+				return i + 1;
+			}
+			value.append( character );
+			i++;
+		}
+		throw LOG.getInvalidExpressionException( expression, start );
+	}
+
+	private int tokenizeNumber(int start, int end) {
+		int i = start;
+		boolean decimal = false;
+		while ( i < end && Character.isDigit( expression.charAt( i ) ) ) {
+			i++;
+		}
+		if ( i < end && expression.charAt( i ) == '.' ) {
+			decimal = true;
+			i++;
+			while ( i < end && Character.isDigit( expression.charAt( i ) ) ) {
+				i++;
+			}
+		}
+		if ( i < end && ( expression.charAt( i ) == 'e' || expression.charAt( i ) == 'E' ) ) {
+			decimal = true;
+			i++;
+			if ( i < end && ( expression.charAt( i ) == '+' || expression.charAt( i ) == '-' ) ) {
+				i++;
+			}
+			while ( i < end && Character.isDigit( expression.charAt( i ) ) ) {
+				i++;
+			}
+		}
+		tokens.add( new Token( decimal ? TokenType.DECIMAL : TokenType.INTEGER, expression.substring( start, i ), start ) );
+		return i;
+	}
+
+	private int tokenizeOperator(int start, int end) {
+		if ( start + 1 < end ) {
+			String twoCharacterOperator = expression.substring( start, start + 2 );
+			switch ( twoCharacterOperator ) {
+				case "==":
+				case "!=":
+				case "<=":
+				case ">=":
+				case "&&":
+				case "||":
+				case "+=":
+					tokens.add( new Token( TokenType.OPERATOR, twoCharacterOperator, start ) );
+					return start + 2;
+				default:
+					break;
+			}
+		}
+
+		char character = expression.charAt( start );
+		switch ( character ) {
+			case '<':
+			case '>':
+			case '+':
+			case '-':
+			case '*':
+			case '/':
+			case '%':
+			case '!':
+			case '?':
+			case ':':
+			case '.':
+			case ',':
+			case '(':
+			case ')':
+			case '[':
+			case ']':
+				tokens.add( new Token( TokenType.OPERATOR, String.valueOf( character ), start ) );
+				return start + 1;
+			default:
+				throw LOG.getInvalidExpressionException( expression, start );
+		}
+	}
+
+	private enum TokenType {
+		STRING,
+		INTEGER,
+		DECIMAL,
+		IDENTIFIER,
+		OPERATOR,
+		END
+	}
+
+	private static final class Token {
+
+		private final TokenType type;
+
+		private final String value;
+
+		private final int start;
+
+		private Token(TokenType type, String value, int start) {
+			this.type = type;
+			this.value = value;
+			this.start = start;
+		}
+
+		private boolean isOperator(String operator) {
+			return type == TokenType.OPERATOR && value.equals( operator );
+		}
+	}
+}
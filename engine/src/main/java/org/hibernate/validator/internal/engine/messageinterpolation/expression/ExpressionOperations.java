@@ -0,0 +1,368 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation.expression;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.validator.internal.engine.messageinterpolation.FormatterWrapper;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+
+/**
+ * The operators supported by the simple expression evaluator.
+ * <p>
+ * The coercion rules are a simplified version of the ones defined by the Expression Language specification: integral
+ * numbers are handled as {@code Long}, floating point numbers as {@code Double} and {@code BigDecimal} and
+ * {@code BigInteger} are preserved.
+ * <p>
+ * These methods are used as building blocks of the {@code MethodHandle} trees built by {@link ExpressionCompiler}.
+ */
+final class ExpressionOperations {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private static final Object[] EMPTY_ARRAY = new Object[0];
+
+	private ExpressionOperations() {
+	}
+
+	// coercions
+
+	static boolean toBoolean(Object value) {
+		if ( value == null ) {
+			return false;
+		}
+		if ( value instanceof Boolean ) {
+			return (Boolean) value;
+		}
+		if ( value instanceof String ) {
+			return Boolean.parseBoolean( (String) value );
+		}
+		throw LOG.getUnableToCoerceExpressionValueException( value, Boolean.class );
+	}
+
+	static String toString(Object value) {
+		if ( value == null ) {
+			return "";
+		}
+		return value.toString();
+	}
+
+	private static Number toNumber(Object value) {
+		if ( value == null ) {
+			return 0L;
+		}
+		if ( value instanceof Number ) {
+			return (Number) value;
+		}
+		if ( value instanceof Character ) {
+			return (long) (Character) value;
+		}
+		if ( value instanceof String ) {
+			String string = (String) value;
+			try {
+				if ( isFloatingPointString( string ) ) {
+					return Double.valueOf( string );
+				}
+				return Long.valueOf( string );
+			}
+			catch (NumberFormatException e) {
+				throw LOG.getUnableToCoerceExpressionValueException( value, Number.class );
+			}
+		}
+		throw LOG.getUnableToCoerceExpressionValueException( value, Number.class );
+	}
+
+	private static BigDecimal toBigDecimal(Number number) {
+		if ( number instanceof BigDecimal ) {
+			return (BigDecimal) number;
+		}
+		if ( number instanceof BigInteger ) {
+			return new BigDecimal( (BigInteger) number );
+		}
+		if ( isFloatingPoint( number ) ) {
+			return BigDecimal.valueOf( number.doubleValue() );
+		}
+		return BigDecimal.valueOf( number.longValue() );
+	}
+
+	private static BigInteger toBigInteger(Number number) {
+		if ( number instanceof BigInteger ) {
+			return (BigInteger) number;
+		}
+		return BigInteger.valueOf( number.longValue() );
+	}
+
+	private static boolean isFloatingPoint(Object value) {
+		return value instanceof Double || value instanceof Float || ( value instanceof String && isFloatingPointString( (String) value ) );
+	}
+
+	private static boolean isFloatingPointString(String value) {
+		return value.indexOf( '.' ) > -1 || value.indexOf( 'e' ) > -1 || value.indexOf( 'E' ) > -1;
+	}
+
+	private static boolean isNumeric(Object value) {
+		return value instanceof Number || value instanceof Character;
+	}
+
+	// arithmetic operators
+
+	static Object add(Object left, Object right) {
+		return arithmetic( '+', left, right );
+	}
+
+	static Object subtract(Object left, Object right) {
+		return arithmetic( '-', left, right );
+	}
+
+	static Object multiply(Object left, Object right) {
+		return arithmetic( '*', left, right );
+	}
+
+	static Object divide(Object left, Object right) {
+		Number leftNumber = toNumber( left );
+		Number rightNumber = toNumber( right );
+		if ( leftNumber instanceof BigDecimal || rightNumber instanceof BigDecimal
+				|| leftNumber instanceof BigInteger || rightNumber instanceof BigInteger ) {
+			return toBigDecimal( leftNumber ).divide( toBigDecimal( rightNumber ), MathContext.DECIMAL128 );
+		}
+		return leftNumber.doubleValue() / rightNumber.doubleValue();
+	}
+
+	static Object modulo(Object left, Object right) {
+		Number leftNumber = toNumber( left );
+		Number rightNumber = toNumber( right );
+		if ( leftNumber instanceof BigDecimal || rightNumber instanceof BigDecimal || isFloatingPoint( leftNumber ) || isFloatingPoint( rightNumber ) ) {
+			return leftNumber.doubleValue() % rightNumber.doubleValue();
+		}
+		if ( leftNumber instanceof BigInteger || rightNumber instanceof BigInteger ) {
+			return toBigInteger( leftNumber ).remainder( toBigInteger( rightNumber ) );
+		}
+		return leftNumber.longValue() % rightNumber.longValue();
+	}
+
+	static Object negate(Object value) {
+		Number number = toNumber( value );
+		if ( number instanceof BigDecimal ) {
+			return ( (BigDecimal) number ).negate();
+		}
+		if ( number instanceof BigInteger ) {
+			return ( (BigInteger) number ).negate();
+		}
+		if ( isFloatingPoint( number ) ) {
+			return -number.doubleValue();
+		}
+		return -number.longValue();
+	}
+
+	private static Object arithmetic(char operator, Object left, Object right) {
+		Number leftNumber = toNumber( left );
+		Number rightNumber = toNumber( right );
+
+		if ( leftNumber instanceof BigDecimal || rightNumber instanceof BigDecimal
+				|| ( ( leftNumber instanceof BigInteger || rightNumber instanceof BigInteger ) && ( isFloatingPoint( leftNumber ) || isFloatingPoint( rightNumber ) ) ) ) {
+			BigDecimal leftDecimal = toBigDecimal( leftNumber );
+			BigDecimal rightDecimal = toBigDecimal( rightNumber );
+			switch ( operator ) {
+				case '+':
+					return leftDecimal.add( rightDecimal );
+				case '-':
+					return leftDecimal.subtract( rightDecimal );
+				default:
+					return leftDecimal.multiply( rightDecimal );
+			}
+		}
+		if ( leftNumber instanceof BigInteger || rightNumber instanceof BigInteger ) {
+			BigInteger leftInteger = toBigInteger( leftNumber );
+			BigInteger rightInteger = toBigInteger( rightNumber );
+			switch ( operator ) {
+				case '+':
+					return leftInteger.add( rightInteger );
+				case '-':
+					return leftInteger.subtract( rightInteger );
+				default:
+					return leftInteger.multiply( rightInteger );
+			}
+		}
+		if ( isFloatingPoint( leftNumber ) || isFloatingPoint( rightNumber ) ) {
+			double leftDouble = leftNumber.doubleValue();
+			double rightDouble = rightNumber.doubleValue();
+			switch ( operator ) {
+				case '+':
+					return leftDouble + rightDouble;
+				case '-':
+					return leftDouble - rightDouble;
+				default:
+					return leftDouble * rightDouble;
+			}
+		}
+
+		long leftLong = leftNumber.longValue();
+		long rightLong = rightNumber.longValue();
+		switch ( operator ) {
+			case '+':
+				return leftLong + rightLong;
+			case '-':
+				return leftLong - rightLong;
+			default:
+				return leftLong * rightLong;
+		}
+	}
+
+	// string operators
+
+	static Object concatenate(Object left, Object right) {
+		return toString( left ).concat( toString( right ) );
+	}
+
+	// logical operators
+
+	static Object not(Object value) {
+		return !toBoolean( value );
+	}
+
+	static Object empty(Object value) {
+		if ( value == null ) {
+			return Boolean.TRUE;
+		}
+		if ( value instanceof String ) {
+			return ( (String) value ).isEmpty();
+		}
+		if ( value instanceof Collection ) {
+			return ( (Collection<?>) value ).isEmpty();
+		}
+		if ( value instanceof Map ) {
+			return ( (Map<?, ?>) value ).isEmpty();
+		}
+		if ( value.getClass().isArray() ) {
+			return Array.getLength( value ) == 0;
+		}
+		return Boolean.FALSE;
+	}
+
+	// relational operators
+
+	static Object equal(Object left, Object right) {
+		return isEqual( left, right );
+	}
+
+	static Object notEqual(Object left, Object right) {
+		return !isEqual( left, right );
+	}
+
+	static Object lessThan(Object left, Object right) {
+		return left != null && right != null && compare( left, right ) < 0;
+	}
+
+	static Object greaterThan(Object left, Object right) {
+		return left != null && right != null && compare( left, right ) > 0;
+	}
+
+	static Object lessThanOrEqual(Object left, Object right) {
+		return left != null && right != null && compare( left, right ) <= 0;
+	}
+
+	static Object greaterThanOrEqual(Object left, Object right) {
+		return left != null && right != null && compare( left, right ) >= 0;
+	}
+
+	private static boolean isEqual(Object left, Object right) {
+		if ( left == right ) {
+			return true;
+		}
+		if ( left == null || right == null ) {
+			return false;
+		}
+		if ( isNumeric( left ) || isNumeric( right ) ) {
+			return compareNumbers( toNumber( left ), toNumber( right ) ) == 0;
+		}
+		if ( left instanceof Boolean || right instanceof Boolean ) {
+			return toBoolean( left ) == toBoolean( right );
+		}
+		if ( left instanceof Enum && right instanceof String ) {
+			return ( (Enum<?>) left ).name().equals( right );
+		}
+		if ( left instanceof String && right instanceof Enum ) {
+			return ( (Enum<?>) right ).name().equals( left );
+		}
+		if ( left instanceof String || right instanceof String ) {
+			return left.toString().equals( right.toString() );
+		}
+		return left.equals( right );
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static int compare(Object left, Object right) {
+		if ( isNumeric( left ) || isNumeric( right ) ) {
+			return compareNumbers( toNumber( left ), toNumber( right ) );
+		}
+		if ( left instanceof String || right instanceof String ) {
+			return left.toString().compareTo( right.toString() );
+		}
+		if ( left instanceof Comparable ) {
+			return ( (Comparable) left ).compareTo( right );
+		}
+		throw LOG.getUnableToCoerceExpressionValueException( left, Comparable.class );
+	}
+
+	private static int compareNumbers(Number left, Number right) {
+		if ( left instanceof BigDecimal || right instanceof BigDecimal ) {
+			return toBigDecimal( left ).compareTo( toBigDecimal( right ) );
+		}
+		if ( isFloatingPoint( left ) || isFloatingPoint( right ) ) {
+			return Double.compare( left.doubleValue(), right.doubleValue() );
+		}
+		if ( left instanceof BigInteger || right instanceof BigInteger ) {
+			return toBigInteger( left ).compareTo( toBigInteger( right ) );
+		}
+		return Long.compare( left.longValue(), right.longValue() );
+	}
+
+	// accessors
+
+	static Object index(Object base, Object index) {
+		if ( base == null || index == null ) {
+			return null;
+		}
+		if ( base instanceof Map ) {
+			return ( (Map<?, ?>) base ).get( index );
+		}
+		if ( base instanceof List ) {
+			List<?> list = (List<?>) base;
+			int i = toNumber( index ).intValue();
+			return i >= 0 && i < list.size() ? list.get( i ) : null;
+		}
+		if ( base.getClass().isArray() ) {
+			int i = toNumber( index ).intValue();
+			return i >= 0 && i < Array.getLength( base ) ? Array.get( base, i ) : null;
+		}
+		return PropertyAccessor.getProperty( base, toString( index ) );
+	}
+
+	static Object format(Object formatter, Object[] arguments) {
+		if ( !( formatter instanceof FormatterWrapper ) || arguments.length == 0 || !( arguments[0] instanceof String ) ) {
+			throw LOG.getOnlyFormatterFormatIsSupportedInExpressionException();
+		}
+
+		Object[] formattingArguments;
+		if ( arguments.length == 1 ) {
+			formattingArguments = EMPTY_ARRAY;
+		}
+		else {
+			formattingArguments = new Object[arguments.length - 1];
+			System.arraycopy( arguments, 1, formattingArguments, 0, arguments.length - 1 );
+		}
+		return ( (FormatterWrapper) formatter ).format( (String) arguments[0], formattingArguments );
+	}
+}
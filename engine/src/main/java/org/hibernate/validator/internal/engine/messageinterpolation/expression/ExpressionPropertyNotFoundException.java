@@ -0,0 +1,18 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation.expression;
+
+import javax.validation.ValidationException;
+
+/**
+ * Exception thrown in case a variable or a property referenced by an expression cannot be resolved.
+ */
+public class ExpressionPropertyNotFoundException extends ValidationException {
+	public ExpressionPropertyNotFoundException(String s) {
+		super( s );
+	}
+}
@@ -0,0 +1,19 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation.expression;
+
+import javax.validation.ValidationException;
+
+/**
+ * Exception thrown in case an expression of a message template is invalid or not supported by the simple expression
+ * evaluator.
+ */
+public class ExpressionSyntaxException extends ValidationException {
+	public ExpressionSyntaxException(String s) {
+		super( s );
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation.expression;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Map;
+
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.internal.util.privilegedactions.GetMethod;
+
+/**
+ * Reads a given property of the objects it is applied to.
+ * <p>
+ * The getter resolved for the last type encountered is kept in an inline cache, thus avoiding any lookup when the
+ * expression is always applied to the same type of objects.
+ */
+final class PropertyAccessor {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType( Object.class, Object.class );
+
+	private final String propertyName;
+
+	/**
+	 * The getter resolved for the last type encountered. The type and the getter are stored in the same immutable
+	 * object so that they are always consistent.
+	 */
+	private volatile ResolvedGetter lastResolvedGetter;
+
+	PropertyAccessor(String propertyName) {
+		this.propertyName = propertyName;
+	}
+
+	Object get(Object base) throws Throwable {
+		if ( base == null ) {
+			return null;
+		}
+		if ( base instanceof Map ) {
+			return ( (Map<?, ?>) base ).get( propertyName );
+		}
+
+		ResolvedGetter resolvedGetter = lastResolvedGetter;
+		if ( resolvedGetter == null || resolvedGetter.type != base.getClass() ) {
+			resolvedGetter = new ResolvedGetter( base.getClass(), getGetter( base.getClass(), propertyName ) );
+			lastResolvedGetter = resolvedGetter;
+		}
+
+		return resolvedGetter.getter.invokeExact( base );
+	}
+
+	static Object getProperty(Object base, String propertyName) {
+		if ( base instanceof Map ) {
+			return ( (Map<?, ?>) base ).get( propertyName );
+		}
+
+		try {
+			return getGetter( base.getClass(), propertyName ).invokeExact( base );
+		}
+		catch (RuntimeException | Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			throw new IllegalStateException( e );
+		}
+	}
+
+	private static MethodHandle getGetter(Class<?> type, String propertyName) {
+		String capitalizedPropertyName = Character.toUpperCase( propertyName.charAt( 0 ) ) + propertyName.substring( 1 );
+
+		Method getter = getPublicMethod( type, "get" + capitalizedPropertyName );
+		if ( getter == null || getter.getReturnType() == void.class ) {
+			getter = getPublicMethod( type, "is" + capitalizedPropertyName );
+			if ( getter != null && getter.getReturnType() != boolean.class ) {
+				getter = null;
+			}
+		}
+		if ( getter == null ) {
+			throw LOG.getUnknownPropertyInExpressionException( propertyName, type );
+		}
+
+		try {
+			return MethodHandles.publicLookup().unreflect( getter ).asType( GETTER_TYPE );
+		}
+		catch (IllegalAccessException e) {
+			throw LOG.getUnknownPropertyInExpressionException( propertyName, type );
+		}
+	}
+
+	/**
+	 * Returns a public method with the given name declared by a public type of the hierarchy of the given type so that
+	 * it can be invoked without making it accessible.
+	 */
+	private static Method getPublicMethod(Class<?> type, String methodName) {
+		if ( Modifier.isPublic( type.getModifiers() ) ) {
+			Method method = run( GetMethod.action( type, methodName ) );
+			if ( method != null && Modifier.isPublic( method.getDeclaringClass().getModifiers() ) ) {
+				return method;
+			}
+		}
+
+		for ( Class<?> interfaze : type.getInterfaces() ) {
+			Method method = getPublicMethod( interfaze, methodName );
+			if ( method != null ) {
+				return method;
+			}
+		}
+
+		if ( type.getSuperclass() != null ) {
+			return getPublicMethod( type.getSuperclass(), methodName );
+		}
+
+		return null;
+	}
+
+	/**
+	 * Runs the given privileged action, using a privileged block if required.
+	 * <p>
+	 * <b>NOTE:</b> This must never be changed into a publicly available method to avoid execution of arbitrary
+	 * privileged actions within HV's protection domain.
+	 */
+	private static <T> T run(PrivilegedAction<T> action) {
+		return System.getSecurityManager() != null ? AccessController.doPrivileged( action ) : action.run();
+	}
+
+	private static final class ResolvedGetter {
+
+		private final Class<?> type;
+
+		private final MethodHandle getter;
+
+		private ResolvedGetter(Class<?> type, MethodHandle getter) {
+			this.type = type;
+			this.getter = getter;
+		}
+	}
+}
@@ -0,0 +1,11 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+
+/**
+ * Compiler and runtime support of the lightweight expression evaluator used for message interpolation.
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation.expression;
@@ -9,6 +9,8 @@
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.validator.internal.engine.messageinterpolation.util.InterpolationHelper;
+
 /**
  * Allows to iterate over a list of message tokens and replace parameters.
  *
@@ -83,6 +85,28 @@ public String getInterpolatedMessage() {
 
 		return messageBuilder.toString();
 	}
+
+	/**
+	 * Same as {@link #getInterpolatedMessage()} but the escaped literals are replaced while the tokens are
+	 * concatenated, thus producing the final message in a single pass.
+	 *
+	 * @return the interpolated message with its escaped literals replaced
+	 */
+	public String getUnescapedInterpolatedMessage() {
+		if ( !allInterpolationTermsProcessed ) {
+			throw new IllegalStateException( "Not all interpolation terms have been processed yet." );
+		}
+		StringBuilder messageBuilder = new StringBuilder();
+		boolean pendingEscape = false;
+		for ( Token token : tokenList ) {
+			pendingEscape = InterpolationHelper.appendUnescaped( messageBuilder, token.getTokenValue(), 0, pendingEscape );
+		}
+		if ( pendingEscape ) {
+			messageBuilder.append( InterpolationHelper.ESCAPE_CHARACTER );
+		}
+
+		return messageBuilder.toString();
+	}
 }
 
 
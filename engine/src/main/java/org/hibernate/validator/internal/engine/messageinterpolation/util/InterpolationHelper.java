@@ -33,4 +33,66 @@ public static String escapeMessageParameter(String messageParameter) {
 		return ESCAPE_MESSAGE_PARAMETER_PATTERN.matcher( messageParameter ).replaceAll( Matcher.quoteReplacement( String.valueOf( ESCAPE_CHARACTER ) ) + "$1" );
 	}
 
+	/**
+	 * Replaces the escaped literals of the given message (curly braces, dollar sign and backslash preceded by a
+	 * backslash) by their unescaped counterpart in a single pass.
+	 *
+	 * @param message the message to unescape
+	 *
+	 * @return the unescaped message, the message itself if it does not contain any escape character
+	 */
+	public static String unescapeMessage(String message) {
+		int firstEscape = message.indexOf( ESCAPE_CHARACTER );
+		if ( firstEscape < 0 ) {
+			return message;
+		}
+
+		StringBuilder unescapedMessage = new StringBuilder( message.length() );
+		unescapedMessage.append( message, 0, firstEscape );
+		boolean pendingEscape = appendUnescaped( unescapedMessage, message, firstEscape, false );
+		if ( pendingEscape ) {
+			unescapedMessage.append( ESCAPE_CHARACTER );
+		}
+		return unescapedMessage.toString();
+	}
+
+	/**
+	 * Appends the given fragment to the builder while replacing the escaped literals.
+	 * <p>
+	 * The escape state is passed from one fragment to the next so that a message made of several fragments can be
+	 * unescaped while being concatenated. The caller is responsible for appending the trailing escape character if
+	 * the last call returns {@code true}.
+	 *
+	 * @param builder the builder to append to
+	 * @param fragment the fragment to unescape
+	 * @param start the index of the fragment from which we start the unescaping
+	 * @param pendingEscape whether the previous fragment ended with a pending escape character
+	 *
+	 * @return whether this fragment ends with a pending escape character
+	 */
+	public static boolean appendUnescaped(StringBuilder builder, String fragment, int start, boolean pendingEscape) {
+		boolean escaped = pendingEscape;
+		for ( int i = start; i < fragment.length(); i++ ) {
+			char character = fragment.charAt( i );
+			if ( escaped ) {
+				if ( !isEscapableCharacter( character ) ) {
+					builder.append( ESCAPE_CHARACTER );
+				}
+				builder.append( character );
+				escaped = false;
+			}
+			else if ( character == ESCAPE_CHARACTER ) {
+				escaped = true;
+			}
+			else {
+				builder.append( character );
+			}
+		}
+		return escaped;
+	}
+
+	private static boolean isEscapableCharacter(char character) {
+		return character == BEGIN_TERM || character == END_TERM || character == ESCAPE_CHARACTER || character == EL_DESIGNATOR;
+	}
+
 }
@@ -23,10 +23,12 @@
 import javax.validation.metadata.ConstraintDescriptor;
 
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
+import org.hibernate.validator.engine.ConstraintViolationSink;
 import org.hibernate.validator.internal.engine.MessageInterpolatorContext;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorContextImpl;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintViolationCreationContext;
+import org.hibernate.validator.internal.engine.constraintvalidation.ReferenceClockProvider;
 import org.hibernate.validator.internal.engine.path.PathImpl;
 import org.hibernate.validator.internal.engine.valuecontext.ValueContext;
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
@@ -119,7 +121,37 @@
 	 * Contains all failing constraints so far.
 	 */
 	@Lazy
-	private Set<ConstraintViolation<T>> failingConstraintViolations;
+	private ConstraintViolationSet<T> failingConstraintViolations;
+
+	/**
+	 * The units for which a constraint violation has been raised so far ({@link FailingConstraintUnit}), used to filter
+	 * out the duplicate violations.
+	 */
+	@Lazy
+	private Set<FailingConstraintUnit> failingConstraintUnits;
+
+	/**
+	 * The sink receiving the constraint violations. If not {@code null}, the constraint violations are pushed to this
+	 * sink and are not collected in {@link #failingConstraintViolations}.
+	 */
+	private final ConstraintViolationSink constraintViolationSink;
+
+	/**
+	 * Provides the time reference shared by all the constraints validated in this context.
+	 */
+	@Lazy
+	private ReferenceClockProvider referenceClockProvider;
+
+	/**
+	 * A constraint validator context released after a successful validation, reused for the next constraint.
+	 */
+	@Lazy
+	private ConstraintValidatorContextImpl releasedConstraintValidatorContext;
+
+	/**
+	 * The number of constraint violations raised so far.
+	 */
+	private int numberOfFailingConstraints;
 
 	protected AbstractValidationContext(
 			ConstraintValidatorManager constraintValidatorManager,
@@ -131,6 +163,23 @@ protected AbstractValidationContext(
 			Class<T> rootBeanClass,
 			BeanMetaData<T> rootBeanMetaData,
 			boolean disableAlreadyValidatedBeanTracking
+	) {
+		this( constraintValidatorManager, constraintValidatorFactory, validatorScopedContext, traversableResolver, constraintValidatorInitializationContext,
+				rootBean, rootBeanClass, rootBeanMetaData, disableAlreadyValidatedBeanTracking, null
+		);
+	}
+
+	protected AbstractValidationContext(
+			ConstraintValidatorManager constraintValidatorManager,
+			ConstraintValidatorFactory constraintValidatorFactory,
+			ValidatorScopedContext validatorScopedContext,
+			TraversableResolver traversableResolver,
+			HibernateConstraintValidatorInitializationContext constraintValidatorInitializationContext,
+			T rootBean,
+			Class<T> rootBeanClass,
+			BeanMetaData<T> rootBeanMetaData,
+			boolean disableAlreadyValidatedBeanTracking,
+			ConstraintViolationSink constraintViolationSink
 	) {
 		this.constraintValidatorManager = constraintValidatorManager;
 		this.validatorScopedContext = validatorScopedContext;
@@ -143,6 +192,8 @@ protected AbstractValidationContext(
 		this.rootBeanMetaData = rootBeanMetaData;
 
 		this.disableAlreadyValidatedBeanTracking = disableAlreadyValidatedBeanTracking;
+
+		this.constraintViolationSink = constraintViolationSink;
 	}
 
 	@Override
@@ -220,6 +271,11 @@ public Set<ConstraintViolation<T>> getFailingConstraints() {
 		return failingConstraintViolations;
 	}
 
+	@Override
+	public int getNumberOfFailingConstraints() {
+		return numberOfFailingConstraints;
+	}
+
 	@Override
 	public void addConstraintFailure(
 			ValueContext<?, ?> valueContext,
@@ -235,10 +291,32 @@ public void addConstraintFailure(
 				constraintViolationCreationContext.getMessageParameters(),
 				constraintViolationCreationContext.getExpressionVariables()
 		);
+
+		if ( constraintViolationSink != null ) {
+			// the sink must not retain the path so we don't need to copy it
+			constraintViolationSink.addConstraintViolation(
+					constraintViolationCreationContext.getPath(),
+					messageTemplate,
+					interpolatedMessage,
+					descriptor,
+					valueContext.getCurrentValidatedValue()
+			);
+			numberOfFailingConstraints++;
+			return;
+		}
+
 		// at this point we make a copy of the path to avoid side effects
-		Path path = PathImpl.createCopy( constraintViolationCreationContext.getPath() );
+		PathImpl path = PathImpl.createCopy( constraintViolationCreationContext.getPath() );
+
+		// duplicates can only be raised for equal constraints on the same leaf bean and path so we check this cheap key instead of
+		// comparing the constraint violations
+		if ( !getInitializedFailingConstraintUnits().add(
+				new FailingConstraintUnit( valueContext.getCurrentBean(), valueContext.getCurrentValidatedValue(), path, descriptor, messageTemplate,
+						interpolatedMessage ) ) ) {
+			return;
+		}
 
-		getInitializedFailingConstraintViolations().add(
+		getInitializedFailingConstraintViolations().addUnique(
 				createConstraintViolation(
 						messageTemplate,
 						interpolatedMessage,
@@ -248,6 +326,7 @@ public void addConstraintFailure(
 						constraintViolationCreationContext
 				)
 		);
+		numberOfFailingConstraints++;
 	}
 
 	protected abstract ConstraintViolation<T> createConstraintViolation(
@@ -282,14 +361,38 @@ public void markConstraintProcessed(Object bean, Path path, MetaConstraint<?> me
 
 	@Override
 	public ConstraintValidatorContextImpl createConstraintValidatorContextFor(ConstraintDescriptorImpl<?> constraintDescriptor, PathImpl path) {
+		ConstraintValidatorContextImpl constraintValidatorContext = releasedConstraintValidatorContext;
+		if ( constraintValidatorContext != null ) {
+			// the context is taken out of the reusable slot as long as it is in use
+			releasedConstraintValidatorContext = null;
+			constraintValidatorContext.reset( path, constraintDescriptor );
+			return constraintValidatorContext;
+		}
+
 		return new ConstraintValidatorContextImpl(
 				validatorScopedContext.getClockProvider(),
+				getReferenceClockProvider(),
 				path,
 				constraintDescriptor,
 				validatorScopedContext.getConstraintValidatorPayload()
 		);
 	}
 
+	@Override
+	public void releaseConstraintValidatorContext(ConstraintValidatorContextImpl constraintValidatorContext) {
+		// subclasses such as the cross-parameter context are not reused
+		if ( constraintValidatorContext.getClass() == ConstraintValidatorContextImpl.class ) {
+			releasedConstraintValidatorContext = constraintValidatorContext;
+		}
+	}
+
+	protected ReferenceClockProvider getReferenceClockProvider() {
+		if ( referenceClockProvider == null ) {
+			referenceClockProvider = new ReferenceClockProvider( validatorScopedContext.getClockProvider() );
+		}
+		return referenceClockProvider;
+	}
+
 	@Override
 	public abstract String toString();
 
@@ -396,13 +499,20 @@ private Map<Object, Set<PathImpl>> getInitializedProcessedPathsPerBean() {
 		return processedPathsPerBean;
 	}
 
-	private Set<ConstraintViolation<T>> getInitializedFailingConstraintViolations() {
+	private ConstraintViolationSet<T> getInitializedFailingConstraintViolations() {
 		if ( failingConstraintViolations == null ) {
-			failingConstraintViolations = new HashSet<>();
+			failingConstraintViolations = new ConstraintViolationSet<>();
 		}
 		return failingConstraintViolations;
 	}
 
+	private Set<FailingConstraintUnit> getInitializedFailingConstraintUnits() {
+		if ( failingConstraintUnits == null ) {
+			failingConstraintUnits = new HashSet<>();
+		}
+		return failingConstraintUnits;
+	}
+
 	private static final class BeanPathMetaConstraintProcessedUnit {
 
 		// these fields are final but we don't mark them as final as an optimization
@@ -453,6 +563,78 @@ private int createHashCode() {
 		}
 	}
 
+	/**
+	 * Identifies a constraint violation for duplicate detection. It is equivalent to
+	 * {@code ConstraintViolationImpl#equals()} within a given validation call but cheaper: the bean, the value and
+	 * the constraint are compared by identity first and the interpolated message is not hashed.
+	 */
+	private static final class FailingConstraintUnit {
+
+		// these fields are final but we don't mark them as final as an optimization
+		private Object leafBean;
+		private Object value;
+		private PathImpl path;
+		private ConstraintDescriptor<?> descriptor;
+		private String messageTemplate;
+		private String interpolatedMessage;
+		private int hashCode;
+
+		FailingConstraintUnit(Object leafBean, Object value, PathImpl path, ConstraintDescriptor<?> descriptor, String messageTemplate,
+				String interpolatedMessage) {
+			this.leafBean = leafBean;
+			this.value = value;
+			this.path = path;
+			this.descriptor = descriptor;
+			this.messageTemplate = messageTemplate;
+			this.interpolatedMessage = interpolatedMessage;
+			this.hashCode = createHashCode();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+
+			// No need to check if the class matches because of how this class is used in the set.
+			FailingConstraintUnit that = (FailingConstraintUnit) o;
+
+			if ( leafBean != that.leafBean ) {  // instance equality
+				return false;
+			}
+			if ( value != that.value ) {  // instance equality
+				return false;
+			}
+			if ( descriptor != that.descriptor && !descriptor.equals( that.descriptor ) ) {
+				return false;
+			}
+			if ( !path.equals( that.path ) ) {
+				return false;
+			}
+			if ( messageTemplate != null ? !messageTemplate.equals( that.messageTemplate ) : that.messageTemplate != null ) {
+				return false;
+			}
+			if ( interpolatedMessage != null ? !interpolatedMessage.equals( that.interpolatedMessage ) : that.interpolatedMessage != null ) {
+				return false;
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		private int createHashCode() {
+			int result = System.identityHashCode( leafBean );
+			result = 31 * result + System.identityHashCode( value );
+			result = 31 * result + path.hashCode();
+			result = 31 * result + descriptor.hashCode();
+			return result;
+		}
+	}
+
 	private static final class BeanGroupProcessedUnit {
 
 		// these fields are final but we don't mark them as final as an optimization
@@ -13,6 +13,7 @@
 import javax.validation.metadata.ConstraintDescriptor;
 
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
+import org.hibernate.validator.engine.ConstraintViolationSink;
 import org.hibernate.validator.internal.engine.ConstraintViolationImpl;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintViolationCreationContext;
@@ -34,10 +35,11 @@
 			HibernateConstraintValidatorInitializationContext constraintValidatorInitializationContext,
 			T rootBean,
 			Class<T> rootBeanClass,
-			BeanMetaData<T> rootBeanMetaData
+			BeanMetaData<T> rootBeanMetaData,
+			ConstraintViolationSink constraintViolationSink
 	) {
 		super( constraintValidatorManager, constraintValidatorFactory, validatorScopedContext, traversableResolver, constraintValidatorInitializationContext,
-				rootBean, rootBeanClass, rootBeanMetaData, buildDisableAlreadyValidatedBeanTracking( rootBeanMetaData )
+				rootBean, rootBeanClass, rootBeanMetaData, buildDisableAlreadyValidatedBeanTracking( rootBeanMetaData ), constraintViolationSink
 		);
 	}
 
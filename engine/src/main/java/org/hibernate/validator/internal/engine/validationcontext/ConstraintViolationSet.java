@@ -0,0 +1,102 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.validationcontext;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import javax.validation.ConstraintViolation;
+
+/**
+ * The set of the constraint violations raised by a validation call, backed by an {@link ArrayList}.
+ * <p>
+ * The validation context takes care of not adding duplicates via {@link #addUnique(ConstraintViolation)} so the
+ * violations don't need to be hashed while validating. {@link #contains(Object)} and
+ * {@link #add(ConstraintViolation)} perform a linear search on small sets; past {@link #INDEX_THRESHOLD} elements,
+ * a hash index of the violations is built on the first such call and kept up to date afterwards.
+ */
+final class ConstraintViolationSet<T> extends AbstractSet<ConstraintViolation<T>> implements Serializable {
+
+	private static final long serialVersionUID = 2284327413469367513L;
+
+	private static final int INDEX_THRESHOLD = 8;
+
+	private final List<ConstraintViolation<T>> constraintViolations = new ArrayList<>();
+
+	/**
+	 * Only built when the set is queried by the user; dropped when an element is removed through the iterator.
+	 */
+	private transient Set<ConstraintViolation<T>> index;
+
+	void addUnique(ConstraintViolation<T> constraintViolation) {
+		constraintViolations.add( constraintViolation );
+		if ( index != null ) {
+			index.add( constraintViolation );
+		}
+	}
+
+	@Override
+	public boolean add(ConstraintViolation<T> constraintViolation) {
+		if ( !isIndexed() ) {
+			if ( constraintViolations.contains( constraintViolation ) ) {
+				return false;
+			}
+		}
+		else if ( !index.add( constraintViolation ) ) {
+			return false;
+		}
+		return constraintViolations.add( constraintViolation );
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return isIndexed() ? index.contains( o ) : constraintViolations.contains( o );
+	}
+
+	@Override
+	public Iterator<ConstraintViolation<T>> iterator() {
+		return new ConstraintViolationIterator();
+	}
+
+	@Override
+	public int size() {
+		return constraintViolations.size();
+	}
+
+	private boolean isIndexed() {
+		if ( index == null && constraintViolations.size() > INDEX_THRESHOLD ) {
+			index = new HashSet<>( constraintViolations );
+		}
+		return index != null;
+	}
+
+	private class ConstraintViolationIterator implements Iterator<ConstraintViolation<T>> {
+
+		private final Iterator<ConstraintViolation<T>> delegate = constraintViolations.iterator();
+
+		@Override
+		public boolean hasNext() {
+			return delegate.hasNext();
+		}
+
+		@Override
+		public ConstraintViolation<T> next() {
+			return delegate.next();
+		}
+
+		@Override
+		public void remove() {
+			delegate.remove();
+			index = null;
+		}
+	}
+}
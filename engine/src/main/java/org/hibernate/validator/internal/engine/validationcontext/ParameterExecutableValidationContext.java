@@ -100,18 +100,14 @@ public ConstraintValidatorContextImpl createConstraintValidatorContextFor(Constr
 			return new CrossParameterConstraintValidatorContextImpl(
 					getParameterNames(),
 					validatorScopedContext.getClockProvider(),
+					getReferenceClockProvider(),
 					path,
 					constraintDescriptor,
 					validatorScopedContext.getConstraintValidatorPayload()
 			);
 		}
 
-		return new ConstraintValidatorContextImpl(
-				validatorScopedContext.getClockProvider(),
-				path,
-				constraintDescriptor,
-				validatorScopedContext.getConstraintValidatorPayload()
-		);
+		return super.createConstraintValidatorContextFor( constraintDescriptor, path );
 	}
 
 	@Override
@@ -54,5 +54,18 @@ void addConstraintFailure(
 
 	Set<ConstraintViolation<T>> getFailingConstraints();
 
+	/**
+	 * Returns the number of constraint violations raised so far. Contrary to {@link #getFailingConstraints()}, it
+	 * also accounts for the violations which have been pushed to a sink.
+	 */
+	int getNumberOfFailingConstraints();
+
 	ConstraintValidatorContextImpl createConstraintValidatorContextFor(ConstraintDescriptorImpl<?> constraintDescriptor, PathImpl path);
+
+	/**
+	 * Notifies that the given constraint validator context is not used anymore, i.e. that the constraint has been
+	 * validated successfully: the context might be reused by the next call to
+	 * {@link #createConstraintValidatorContextFor(ConstraintDescriptorImpl, PathImpl)}.
+	 */
+	void releaseConstraintValidatorContext(ConstraintValidatorContextImpl constraintValidatorContext);
 }
@@ -7,14 +7,17 @@
 package org.hibernate.validator.internal.engine.validationcontext;
 
 import java.lang.reflect.Executable;
+import java.util.Optional;
 
 import javax.validation.ConstraintValidatorFactory;
 import javax.validation.TraversableResolver;
 
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
+import org.hibernate.validator.engine.ConstraintViolationSink;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.path.PathImpl;
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
+import org.hibernate.validator.internal.metadata.aggregated.ExecutableMetaData;
 
 /**
  * Builder for creating {@link AbstractValidationContext}s suited for the different kinds of validation.
@@ -44,6 +47,11 @@ public ValidationContextBuilder(
 	}
 
 	public <T> BaseBeanValidationContext<T> forValidate(Class<T> rootBeanClass, BeanMetaData<T> rootBeanMetaData, T rootBean) {
+		return forValidate( rootBeanClass, rootBeanMetaData, rootBean, null );
+	}
+
+	public <T> BaseBeanValidationContext<T> forValidate(Class<T> rootBeanClass, BeanMetaData<T> rootBeanMetaData, T rootBean,
+			ConstraintViolationSink constraintViolationSink) {
 		return new BeanValidationContext<>(
 				constraintValidatorManager,
 				constraintValidatorFactory,
@@ -52,7 +60,8 @@ public <T> BaseBeanValidationContext<T> forValidate(Class<T> rootBeanClass, Bean
 				constraintValidatorInitializationContext,
 				rootBean,
 				rootBeanClass,
-				rootBeanMetaData
+				rootBeanMetaData,
+				constraintViolationSink
 		);
 	}
 
@@ -89,6 +98,7 @@ public <T> ExecutableValidationContext<T> forValidateParameters(
 			BeanMetaData<T> rootBeanMetaData,
 			T rootBean,
 			Executable executable,
+			Optional<ExecutableMetaData> executableMetaData,
 			Object[] executableParameters) {
 		return new ParameterExecutableValidationContext<>(
 				constraintValidatorManager,
@@ -100,7 +110,7 @@ public <T> ExecutableValidationContext<T> forValidateParameters(
 				rootBeanClass,
 				rootBeanMetaData,
 				executable,
-				rootBeanMetaData.getMetaDataFor( executable ),
+				executableMetaData,
 				executableParameters
 		);
 	}
@@ -110,6 +120,7 @@ public <T> ExecutableValidationContext<T> forValidateReturnValue(
 			BeanMetaData<T> rootBeanMetaData,
 			T rootBean,
 			Executable executable,
+			Optional<ExecutableMetaData> executableMetaData,
 			Object executableReturnValue) {
 		return new ReturnValueExecutableValidationContext<>(
 				constraintValidatorManager,
@@ -121,7 +132,7 @@ public <T> ExecutableValidationContext<T> forValidateReturnValue(
 				rootBeanClass,
 				rootBeanMetaData,
 				executable,
-				rootBeanMetaData.getMetaDataFor( executable ),
+				executableMetaData,
 				executableReturnValue
 		);
 	}
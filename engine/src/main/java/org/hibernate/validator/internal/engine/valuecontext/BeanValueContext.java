@@ -8,6 +8,7 @@
 
 import org.hibernate.validator.internal.engine.path.PathImpl;
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
+import org.hibernate.validator.internal.metadata.facets.Validatable;
 import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
 
 /**
@@ -18,13 +19,18 @@
 	/**
 	 * The metadata of the current bean.
 	 */
-	private final BeanMetaData<T> currentBeanMetaData;
+	private BeanMetaData<T> currentBeanMetaData;
 
 	BeanValueContext(ExecutableParameterNameProvider parameterNameProvider, T currentBean, BeanMetaData<T> currentBeanMetaData, PathImpl propertyPath) {
 		super( parameterNameProvider, currentBean, currentBeanMetaData, propertyPath );
 		this.currentBeanMetaData = currentBeanMetaData;
 	}
 
+	final void reset(T currentBean, BeanMetaData<T> currentBeanMetaData, PathImpl propertyPath) {
+		reset( currentBean, (Validatable) currentBeanMetaData, propertyPath );
+		this.currentBeanMetaData = currentBeanMetaData;
+	}
+
 	public final BeanMetaData<T> getCurrentBeanMetaData() {
 		return currentBeanMetaData;
 	}
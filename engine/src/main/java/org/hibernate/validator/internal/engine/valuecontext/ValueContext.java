@@ -35,7 +35,7 @@
 	/**
 	 * The current bean which gets validated. This is the bean hosting the constraints which get validated.
 	 */
-	private final T currentBean;
+	private T currentBean;
 
 	/**
 	 * The current property path we are validating.
@@ -52,7 +52,7 @@
 	 */
 	private V currentValue;
 
-	private final Validatable currentValidatable;
+	private Validatable currentValidatable;
 
 	/**
 	 * The {@code ConstraintLocationKind} the constraint was defined on
@@ -66,6 +66,18 @@
 		this.propertyPath = propertyPath;
 	}
 
+	/**
+	 * Resets this context so that it can be used to validate another bean.
+	 */
+	final void reset(T currentBean, Validatable validatable, PathImpl propertyPath) {
+		this.currentBean = currentBean;
+		this.currentValidatable = validatable;
+		this.propertyPath = propertyPath;
+		this.currentGroup = null;
+		this.currentValue = null;
+		this.constraintLocationKind = null;
+	}
+
 	public final PathImpl getPropertyPath() {
 		return propertyPath;
 	}
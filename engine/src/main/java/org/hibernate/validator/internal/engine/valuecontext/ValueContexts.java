@@ -40,6 +40,19 @@ public static <T, V> BeanValueContext<T, V> getLocalExecutionContextForBean(
 		return new BeanValueContext<>( parameterNameProvider, value, (BeanMetaData<T>) currentBeanMetaData, propertyPath );
 	}
 
+	/**
+	 * Resets a value context created by {@link #getLocalExecutionContextForBean(ExecutableParameterNameProvider, Object, BeanMetaData, PathImpl)}
+	 * so that it can be used to validate another bean, e.g. the next element of a cascaded container.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T, V> void resetLocalExecutionContextForBean(
+			BeanValueContext<T, V> valueContext,
+			Object value,
+			BeanMetaData<?> currentBeanMetaData,
+			PathImpl propertyPath) {
+		valueContext.reset( (T) value, (BeanMetaData<T>) currentBeanMetaData, propertyPath );
+	}
+
 	@SuppressWarnings("unchecked")
 	public static <T, V> BeanValueContext<T, V> getLocalExecutionContextForValueValidation(
 			ExecutableParameterNameProvider parameterNameProvider,
@@ -0,0 +1,45 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.valueextraction;
+
+import javax.validation.valueextraction.ValueExtractor;
+import javax.validation.valueextraction.ValueExtractor.ValueReceiver;
+
+/**
+ * An optional extension of {@link ValueExtractor} for containers providing random access to their elements, such as
+ * arrays and {@link java.util.RandomAccess} lists.
+ * <p>
+ * It allows the engine to check the elements in a tight loop before pushing them one by one to a
+ * {@link ValueReceiver}.
+ * <p>
+ * For a given container, the values must be the ones passed to {@link ValueReceiver#indexedValue(String, int, Object)}
+ * by {@link ValueExtractor#extractValues(Object, ValueReceiver)}.
+ *
+ * @param <T> the type of the container
+ */
+public interface BulkValueExtractor<T> {
+
+	/**
+	 * @return {@code true} if the elements of the given container can be accessed by index efficiently
+	 */
+	default boolean isBulkExtractionSupported(T originalValue) {
+		return true;
+	}
+
+	int size(T originalValue);
+
+	/**
+	 * @return the element at the given index
+	 */
+	Object getValue(T originalValue, int index);
+
+	/**
+	 * Passes the element at the given index to the receiver as {@link ValueExtractor#extractValues(Object, ValueReceiver)}
+	 * does.
+	 */
+	void extractValue(T originalValue, int index, ValueReceiver receiver);
+}
@@ -7,13 +7,14 @@
 package org.hibernate.validator.internal.engine.valueextraction;
 
 import java.util.List;
+import java.util.RandomAccess;
 
 import javax.validation.valueextraction.ExtractedValue;
 import javax.validation.valueextraction.ValueExtractor;
 
 import org.hibernate.validator.internal.engine.path.NodeImpl;
 
-class ListValueExtractor implements ValueExtractor<List<@ExtractedValue ?>> {
+class ListValueExtractor implements ValueExtractor<List<@ExtractedValue ?>>, BulkValueExtractor<List<?>> {
 
 	static final ValueExtractorDescriptor DESCRIPTOR = new ValueExtractorDescriptor( new ListValueExtractor() );
 
@@ -26,4 +27,24 @@ public void extractValues(List<?> originalValue, ValueReceiver receiver) {
 			receiver.indexedValue( NodeImpl.LIST_ELEMENT_NODE_NAME, i, originalValue.get( i ) );
 		}
 	}
+
+	@Override
+	public boolean isBulkExtractionSupported(List<?> originalValue) {
+		return originalValue instanceof RandomAccess;
+	}
+
+	@Override
+	public int size(List<?> originalValue) {
+		return originalValue.size();
+	}
+
+	@Override
+	public Object getValue(List<?> originalValue, int index) {
+		return originalValue.get( index );
+	}
+
+	@Override
+	public void extractValue(List<?> originalValue, int index, ValueReceiver receiver) {
+		receiver.indexedValue( NodeImpl.LIST_ELEMENT_NODE_NAME, index, originalValue.get( index ) );
+	}
 }
@@ -11,7 +11,7 @@
 
 import org.hibernate.validator.internal.engine.path.NodeImpl;
 
-class ObjectArrayValueExtractor implements ValueExtractor<Object @ExtractedValue[]> {
+class ObjectArrayValueExtractor implements ValueExtractor<Object @ExtractedValue[]>, BulkValueExtractor<Object[]> {
 
 	static final ValueExtractorDescriptor DESCRIPTOR = new ValueExtractorDescriptor( new ObjectArrayValueExtractor() );
 
@@ -24,4 +24,19 @@ public void extractValues(Object[] originalValue, ValueReceiver receiver) {
 			receiver.indexedValue( NodeImpl.ITERABLE_ELEMENT_NODE_NAME, i, originalValue[i] );
 		}
 	}
+
+	@Override
+	public int size(Object[] originalValue) {
+		return originalValue.length;
+	}
+
+	@Override
+	public Object getValue(Object[] originalValue, int index) {
+		return originalValue[index];
+	}
+
+	@Override
+	public void extractValue(Object[] originalValue, int index, ValueReceiver receiver) {
+		receiver.indexedValue( NodeImpl.ITERABLE_ELEMENT_NODE_NAME, index, originalValue[index] );
+	}
 }
@@ -0,0 +1,83 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.valueextraction;
+
+/**
+ * A small cache of values resolved from the runtime type of a container, meant to be held by the metadata of a given
+ * cascaded element.
+ * <p>
+ * A given element is nearly always validated with values of the same runtime type (e.g. always an {@code ArrayList}),
+ * so the last resolved entry is kept in a dedicated slot and the lookup is then a simple identity comparison. A
+ * handful of other runtime types are kept as a fallback, further types are not cached and are resolved each time.
+ * <p>
+ * The runtime types are compared by identity and the values may be {@code null}.
+ * <p>
+ * Thread-safe: the entries are immutable and published through volatile fields. Concurrent additions may lose an
+ * entry, which will then simply be resolved again.
+ *
+ * @param <V> the type of the cached values
+ */
+public final class RuntimeTypeInlineCache<V> {
+
+	private static final int MAX_POLYMORPHIC_ENTRIES = 4;
+
+	private static final Entry<?>[] NO_ENTRIES = new Entry<?>[0];
+
+	private volatile Entry<V> lastEntry;
+
+	@SuppressWarnings("unchecked")
+	private volatile Entry<V>[] polymorphicEntries = (Entry<V>[]) NO_ENTRIES;
+
+	/**
+	 * @param runtimeType the runtime type of the container
+	 * @return the entry cached for this runtime type or {@code null} if there is none
+	 */
+	public Entry<V> get(Class<?> runtimeType) {
+		Entry<V> entry = lastEntry;
+		if ( entry != null && entry.runtimeType == runtimeType ) {
+			return entry;
+		}
+
+		for ( Entry<V> polymorphicEntry : polymorphicEntries ) {
+			if ( polymorphicEntry.runtimeType == runtimeType ) {
+				return polymorphicEntry;
+			}
+		}
+		return null;
+	}
+
+	public void put(Class<?> runtimeType, V value) {
+		Entry<V> entry = new Entry<>( runtimeType, value );
+
+		Entry<V>[] currentPolymorphicEntries = polymorphicEntries;
+		if ( currentPolymorphicEntries.length < MAX_POLYMORPHIC_ENTRIES ) {
+			@SuppressWarnings("unchecked")
+			Entry<V>[] newPolymorphicEntries = (Entry<V>[]) new Entry<?>[currentPolymorphicEntries.length + 1];
+			System.arraycopy( currentPolymorphicEntries, 0, newPolymorphicEntries, 0, currentPolymorphicEntries.length );
+			newPolymorphicEntries[currentPolymorphicEntries.length] = entry;
+			polymorphicEntries = newPolymorphicEntries;
+		}
+
+		lastEntry = entry;
+	}
+
+	public static final class Entry<V> {
+
+		private final Class<?> runtimeType;
+
+		private final V value;
+
+		private Entry(Class<?> runtimeType, V value) {
+			this.runtimeType = runtimeType;
+			this.value = value;
+		}
+
+		public V getValue() {
+			return value;
+		}
+	}
+}
@@ -48,4 +48,23 @@ public static void extractValues(ValueExtractorDescriptor valueExtractorDescript
 			throw LOG.getErrorWhileExtractingValuesInValueExtractorException( valueExtractor.getClass(), e );
 		}
 	}
+
+	/**
+	 * Passes the element at the given index to the receiver, the value extractor of the descriptor being a
+	 * {@link BulkValueExtractor}.
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public static void extractValue(ValueExtractorDescriptor valueExtractorDescriptor, Object containerValue, int index,
+			ValueExtractor.ValueReceiver valueReceiver) {
+		ValueExtractor valueExtractor = valueExtractorDescriptor.getValueExtractor();
+		try {
+			( (BulkValueExtractor) valueExtractor ).extractValue( containerValue, index, valueReceiver );
+		}
+		catch (ValidationException e) {
+			throw e;
+		}
+		catch (Exception e) {
+			throw LOG.getErrorWhileExtractingValuesInValueExtractorException( valueExtractor.getClass(), e );
+		}
+	}
 }
@@ -25,6 +25,7 @@
 import javax.validation.metadata.ContainerElementTypeDescriptor;
 import javax.validation.metadata.GroupConversionDescriptor;
 
+import org.hibernate.validator.internal.metadata.core.ContainerElementMetaConstraints;
 import org.hibernate.validator.internal.metadata.core.MetaConstraint;
 import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
 import org.hibernate.validator.internal.metadata.descriptor.ContainerElementTypeDescriptorImpl;
@@ -64,7 +65,8 @@ public AbstractConstraintMetaData(String name,
 		this.type = type;
 		this.directConstraints = CollectionHelper.toImmutableSet( directConstraints );
 		this.containerElementsConstraints = CollectionHelper.toImmutableSet( containerElementsConstraints );
-		this.allConstraints = Stream.concat( directConstraints.stream(), containerElementsConstraints.stream() )
+		// the container element constraints applied to the same values are grouped to be validated together
+		this.allConstraints = Stream.concat( directConstraints.stream(), ContainerElementMetaConstraints.of( containerElementsConstraints ).stream() )
 				.collect( Collectors.collectingAndThen( Collectors.toSet(), CollectionHelper::toImmutableSet ) );
 		this.isCascading = isCascading;
 		this.isConstrained = isConstrained;
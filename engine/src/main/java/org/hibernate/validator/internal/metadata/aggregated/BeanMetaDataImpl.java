@@ -19,6 +19,8 @@
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 import javax.validation.ElementKind;
@@ -109,6 +111,14 @@
 	@Immutable
 	private final Set<String> unconstrainedExecutables;
 
+	/**
+	 * The executable meta data keyed by executable, an empty {@code Optional} representing an unconstrained
+	 * executable. The executables of the hierarchy are registered when building the bean meta data so that the lookups
+	 * don't need the signature of the executable. The other ones, e.g. bridge methods, are resolved using the
+	 * signatures then added.
+	 */
+	private final ConcurrentMap<Executable, Optional<ExecutableMetaData>> executableMetaDataByExecutable;
+
 	/**
 	 * Property meta data keyed against the property name
 	 */
@@ -182,6 +192,7 @@ public BeanMetaDataImpl(Class<T> beanClass,
 
 		Set<ExecutableMetaData> executableMetaDataSet = newHashSet();
 		Set<String> tmpUnconstrainedExecutables = newHashSet();
+		ConcurrentMap<Executable, Optional<ExecutableMetaData>> executableMetaDataByExecutable = new ConcurrentHashMap<>();
 
 		boolean hasConstraints = false;
 		Set<MetaConstraint<?>> allMetaConstraints = newHashSet();
@@ -198,11 +209,17 @@ else if ( constraintMetaData.getKind() == ElementKind.BEAN ) {
 			}
 			else {
 				ExecutableMetaData executableMetaData = (ExecutableMetaData) constraintMetaData;
+				Optional<ExecutableMetaData> registeredExecutableMetaData;
 				if ( elementHasConstraints ) {
 					executableMetaDataSet.add( executableMetaData );
+					registeredExecutableMetaData = Optional.of( executableMetaData );
 				}
 				else {
 					tmpUnconstrainedExecutables.addAll( executableMetaData.getSignatures() );
+					registeredExecutableMetaData = Optional.empty();
+				}
+				for ( Executable executable : executableMetaData.getExecutables() ) {
+					executableMetaDataByExecutable.put( executable, registeredExecutableMetaData );
 				}
 			}
 		}
@@ -233,6 +250,7 @@ else if ( constraintMetaData.getKind() == ElementKind.BEAN ) {
 
 		this.executableMetaDataMap = CollectionHelper.toImmutableMap( bySignature( executableMetaDataSet ) );
 		this.unconstrainedExecutables = CollectionHelper.toImmutableSet( tmpUnconstrainedExecutables );
+		this.executableMetaDataByExecutable = executableMetaDataByExecutable;
 
 		// We initialize those elements eagerly so that any eventual error is thrown when bootstrapping the bean metadata
 		this.defaultGroupSequenceRedefined = this.defaultGroupSequence.size() > 1 || hasDefaultGroupSequenceProvider();
@@ -302,13 +320,22 @@ public Set<MetaConstraint<?>> getDirectMetaConstraints() {
 
 	@Override
 	public Optional<ExecutableMetaData> getMetaDataFor(Executable executable) {
+		Optional<ExecutableMetaData> executableMetaData = executableMetaDataByExecutable.get( executable );
+		if ( executableMetaData == null ) {
+			executableMetaData = getMetaDataForSignature( executable );
+			executableMetaDataByExecutable.put( executable, executableMetaData );
+		}
+		return executableMetaData;
+	}
+
+	private Optional<ExecutableMetaData> getMetaDataForSignature(Executable executable) {
 		String signature = ExecutableHelper.getSignature( executable );
 
 		if ( unconstrainedExecutables.contains( signature ) ) {
 			return Optional.empty();
 		}
 
-		ExecutableMetaData executableMetaData = executableMetaDataMap.get( ExecutableHelper.getSignature( executable ) );
+		ExecutableMetaData executableMetaData = executableMetaDataMap.get( signature );
 
 		if ( executableMetaData == null ) {
 			// there is no executable metadata - specified object and method do not match
@@ -17,6 +17,7 @@
 import javax.validation.metadata.GroupConversionDescriptor;
 
 import org.hibernate.validator.internal.engine.valueextraction.AnnotatedObject;
+import org.hibernate.validator.internal.engine.valueextraction.RuntimeTypeInlineCache;
 import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorDescriptor;
 import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorManager;
 import org.hibernate.validator.internal.util.CollectionHelper;
@@ -90,6 +91,11 @@ public class ContainerCascadingMetaData implements CascadingMetaData {
 	 */
 	private final Set<ValueExtractorDescriptor> valueExtractorCandidates;
 
+	/**
+	 * The value extractors chosen among the candidates for the runtime types of the validated containers.
+	 */
+	private final RuntimeTypeInlineCache<ValueExtractorDescriptor> valueExtractorsByRuntimeType = new RuntimeTypeInlineCache<>();
+
 	public static ContainerCascadingMetaData of(ValueExtractorManager valueExtractorManager, CascadingMetaDataBuilder cascadingMetaDataBuilder,
 			Object context) {
 		return new ContainerCascadingMetaData( valueExtractorManager, cascadingMetaDataBuilder );
@@ -235,8 +241,31 @@ public CascadingMetaData addRuntimeContainerSupport(ValueExtractorManager valueE
 		return this;
 	}
 
-	public Set<ValueExtractorDescriptor> getValueExtractorCandidates() {
-		return valueExtractorCandidates;
+	/**
+	 * Returns the maximally specific value extractor among the candidates for the given runtime type of the container.
+	 *
+	 * @return the value extractor or {@code null} if none was found
+	 * @see ValueExtractorManager#getMaximallySpecificAndRuntimeContainerElementCompliantValueExtractor(Type, TypeVariable, Class, java.util.Collection)
+	 */
+	public ValueExtractorDescriptor getValueExtractor(ValueExtractorManager valueExtractorManager, Class<?> runtimeType) {
+		if ( valueExtractorCandidates.size() == 1 ) {
+			return valueExtractorCandidates.iterator().next();
+		}
+
+		RuntimeTypeInlineCache.Entry<ValueExtractorDescriptor> cachedValueExtractor = valueExtractorsByRuntimeType.get( runtimeType );
+		if ( cachedValueExtractor != null ) {
+			return cachedValueExtractor.getValue();
+		}
+
+		ValueExtractorDescriptor valueExtractor = valueExtractorManager.getMaximallySpecificAndRuntimeContainerElementCompliantValueExtractor(
+				enclosingType,
+				typeParameter,
+				runtimeType,
+				valueExtractorCandidates
+		);
+		valueExtractorsByRuntimeType.put( runtimeType, valueExtractor );
+
+		return valueExtractor;
 	}
 
 	@Override
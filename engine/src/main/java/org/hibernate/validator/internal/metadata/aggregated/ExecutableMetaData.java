@@ -10,6 +10,7 @@
 import static org.hibernate.validator.internal.util.CollectionHelper.newHashMap;
 import static org.hibernate.validator.internal.util.CollectionHelper.newHashSet;
 
+import java.lang.reflect.Executable;
 import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.Collections;
@@ -23,6 +24,7 @@
 
 import org.hibernate.validator.internal.engine.ConstraintCreationContext;
 import org.hibernate.validator.internal.engine.MethodValidationConfiguration;
+import org.hibernate.validator.internal.engine.path.PathImpl;
 import org.hibernate.validator.internal.metadata.aggregated.rule.MethodConfigurationRule;
 import org.hibernate.validator.internal.metadata.core.MetaConstraint;
 import org.hibernate.validator.internal.metadata.descriptor.ExecutableDescriptorImpl;
@@ -31,6 +33,7 @@
 import org.hibernate.validator.internal.metadata.raw.ConstrainedExecutable;
 import org.hibernate.validator.internal.metadata.raw.ConstrainedParameter;
 import org.hibernate.validator.internal.properties.Callable;
+import org.hibernate.validator.internal.properties.javabean.JavaBeanExecutable;
 import org.hibernate.validator.internal.util.CollectionHelper;
 import org.hibernate.validator.internal.util.ExecutableHelper;
 import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
@@ -74,15 +77,38 @@ public class ExecutableMetaData extends AbstractConstraintMetaData {
 	 */
 	private final Set<String> signatures;
 
+	/**
+	 * The executables from the hierarchy represented by this object: the executable itself and the ones it overrides.
+	 */
+	@Immutable
+	private final Set<Executable> executables;
+
 	private final ReturnValueMetaData returnValueMetaData;
 	private final ElementKind kind;
 
+	/**
+	 * The path pointing to the represented executable, used as a template to avoid creating its nodes for each
+	 * validation. It must not be modified.
+	 */
+	private final PathImpl path;
+
+	/**
+	 * Whether there are any constraints or cascades on the parameters, including cross-parameter constraints.
+	 */
+	private final boolean hasParameterConstraints;
+
+	/**
+	 * Whether there are any constraints or cascades on the return value.
+	 */
+	private final boolean hasReturnValueConstraints;
+
 	private ExecutableMetaData(
 			String name,
 			Type returnType,
 			Class<?>[] parameterTypes,
 			ElementKind kind,
 			Set<String> signatures,
+			Set<Executable> executables,
 			Set<MetaConstraint<?>> returnValueConstraints,
 			Set<MetaConstraint<?>> returnValueContainerElementConstraints,
 			List<ParameterMetaData> parameterMetaDataList,
@@ -104,6 +130,7 @@ private ExecutableMetaData(
 		this.validatableParametersMetaData = new ValidatableParametersMetaData( parameterMetaDataList );
 		this.crossParameterConstraints = CollectionHelper.toImmutableSet( crossParameterConstraints );
 		this.signatures = signatures;
+		this.executables = CollectionHelper.toImmutableSet( executables );
 		this.returnValueMetaData = new ReturnValueMetaData(
 				returnType,
 				returnValueConstraints,
@@ -112,6 +139,11 @@ private ExecutableMetaData(
 		);
 		this.isGetter = isGetter;
 		this.kind = kind;
+		this.path = PathImpl.createPathForExecutable( this );
+		this.hasParameterConstraints = !crossParameterConstraints.isEmpty()
+				|| parameterMetaDataList.stream().anyMatch( ParameterMetaData::isConstrained );
+		this.hasReturnValueConstraints = !returnValueConstraints.isEmpty() || !returnValueContainerElementConstraints.isEmpty()
+				|| cascadingMetaData.isMarkedForCascadingOnAnnotatedObjectOrContainerElements();
 	}
 
 	/**
@@ -141,6 +173,17 @@ public Set<String> getSignatures() {
 		return signatures;
 	}
 
+	/**
+	 * Returns the executables represented by this meta data object: the executable itself and the executables it
+	 * overrides in the hierarchy.
+	 *
+	 * @return The executables represented by this meta data object. Only the executables of the JavaBeans model are
+	 * returned so {@link #getSignatures()} remains the reference to look up this meta data object.
+	 */
+	public Set<Executable> getExecutables() {
+		return executables;
+	}
+
 	/**
 	 * Returns the cross-parameter constraints declared for the represented
 	 * method or constructor.
@@ -161,6 +204,29 @@ public ReturnValueMetaData getReturnValueMetaData() {
 		return returnValueMetaData;
 	}
 
+	/**
+	 * @return a new path pointing to the represented executable
+	 */
+	public PathImpl createPath() {
+		return PathImpl.createCopy( path );
+	}
+
+	/**
+	 * @return {@code true} if the parameters of the represented executable have any constraints or cascades, in which
+	 * case they need to be validated
+	 */
+	public boolean hasParameterConstraints() {
+		return hasParameterConstraints;
+	}
+
+	/**
+	 * @return {@code true} if the return value of the represented executable has any constraints or cascades, in which
+	 * case it needs to be validated
+	 */
+	public boolean hasReturnValueConstraints() {
+		return hasReturnValueConstraints;
+	}
+
 	@Override
 	public ExecutableDescriptorImpl asDescriptor(boolean defaultGroupSequenceRedefined, List<Class<?>> defaultGroupSequence) {
 		return new ExecutableDescriptorImpl(
@@ -250,6 +316,7 @@ public boolean equals(Object obj) {
 	 */
 	public static class Builder extends MetaDataBuilder {
 		private final Set<String> signatures = newHashSet();
+		private final Set<Executable> executables = newHashSet();
 
 		/**
 		 * Either CONSTRUCTOR, METHOD or GETTER.
@@ -331,6 +398,9 @@ public final void add(ConstrainedElement constrainedElement) {
 			ConstrainedExecutable constrainedExecutable = (ConstrainedExecutable) constrainedElement;
 
 			signatures.add( constrainedExecutable.getCallable().getSignature() );
+			if ( constrainedExecutable.getCallable() instanceof JavaBeanExecutable ) {
+				executables.add( ( (JavaBeanExecutable<?>) constrainedExecutable.getCallable() ).getExecutable() );
+			}
 
 			constrainedExecutables.add( constrainedExecutable );
 			isConstrained = isConstrained || constrainedExecutable.isConstrained();
@@ -385,6 +455,7 @@ public ExecutableMetaData build() {
 					kind == ConstrainedElementKind.CONSTRUCTOR ? ElementKind.CONSTRUCTOR : ElementKind.METHOD,
 					kind == ConstrainedElementKind.CONSTRUCTOR ? Collections.singleton( callable.getSignature() ) :
 							CollectionHelper.toImmutableSet( signatures ),
+					executables,
 					adaptOriginsAndImplicitGroups( getDirectConstraints() ),
 					adaptOriginsAndImplicitGroups( getContainerElementConstraints() ),
 					findParameterMetaData(),
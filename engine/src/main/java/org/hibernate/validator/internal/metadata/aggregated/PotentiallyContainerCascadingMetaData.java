@@ -14,6 +14,7 @@
 import javax.validation.metadata.GroupConversionDescriptor;
 
 import org.hibernate.validator.internal.engine.valueextraction.AnnotatedObject;
+import org.hibernate.validator.internal.engine.valueextraction.RuntimeTypeInlineCache;
 import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorDescriptor;
 import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorManager;
 import org.hibernate.validator.internal.util.logging.Log;
@@ -37,6 +38,11 @@ public class PotentiallyContainerCascadingMetaData implements CascadingMetaData
 
 	private final Set<ValueExtractorDescriptor> potentialValueExtractorDescriptors;
 
+	/**
+	 * The effective cascading metadata for the runtime types of the validated values.
+	 */
+	private final RuntimeTypeInlineCache<CascadingMetaData> cascadingMetaDataByRuntimeType = new RuntimeTypeInlineCache<>();
+
 	public static PotentiallyContainerCascadingMetaData of(CascadingMetaDataBuilder cascadingMetaDataBuilder, Set<ValueExtractorDescriptor> potentialValueExtractorDescriptors, Object context) {
 		return new PotentiallyContainerCascadingMetaData( cascadingMetaDataBuilder, potentialValueExtractorDescriptors );
 	}
@@ -82,6 +88,18 @@ public boolean isContainer() {
 
 	@Override
 	public CascadingMetaData addRuntimeContainerSupport(ValueExtractorManager valueExtractorManager, Class<?> valueClass) {
+		RuntimeTypeInlineCache.Entry<CascadingMetaData> cachedCascadingMetaData = cascadingMetaDataByRuntimeType.get( valueClass );
+		if ( cachedCascadingMetaData != null ) {
+			return cachedCascadingMetaData.getValue();
+		}
+
+		CascadingMetaData cascadingMetaData = doAddRuntimeContainerSupport( valueExtractorManager, valueClass );
+		cascadingMetaDataByRuntimeType.put( valueClass, cascadingMetaData );
+
+		return cascadingMetaData;
+	}
+
+	private CascadingMetaData doAddRuntimeContainerSupport(ValueExtractorManager valueExtractorManager, Class<?> valueClass) {
 		ValueExtractorDescriptor compliantValueExtractor = valueExtractorManager.getResolver()
 				.getMaximallySpecificValueExtractorForAllContainerElements( valueClass, potentialValueExtractorDescriptors );
 		if ( compliantValueExtractor == null ) {
@@ -0,0 +1,203 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.metadata.core;
+
+import static org.hibernate.validator.internal.util.CollectionHelper.newHashSet;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.validator.internal.engine.validationcontext.ValidationContext;
+import org.hibernate.validator.internal.engine.valuecontext.ValueContext;
+import org.hibernate.validator.internal.engine.valueextraction.BulkValueExtractor;
+import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorHelper;
+import org.hibernate.validator.internal.util.StringHelper;
+
+/**
+ * Groups the container element constraints applied to the same values, e.g. {@code @NotBlank} and {@code @Size} in
+ * {@code List<@NotBlank @Size(max = 64) String>}, so that the container is walked only once: each extracted value is
+ * validated against all the constraints of the group, and the path of the value is only built for the values which
+ * need to go through the regular validation.
+ * <p>
+ * The grouped constraints share the same location, value extraction path and group so they are validated under the
+ * exact same conditions. Only constraints defined for one group only are grouped as the already validated constraints
+ * are not tracked for them.
+ * <p>
+ * In fail fast mode, the grouped constraints are validated one after the other as if they were not grouped so that
+ * the validation stops at the first failing constraint.
+ * <p>
+ * These groups are only used for validation, the descriptors are still built from the individual constraints.
+ */
+public final class ContainerElementMetaConstraints<A extends Annotation> extends MetaConstraint<A> {
+
+	private final MetaConstraint<?>[] metaConstraints;
+
+	private final int hashCode;
+
+	private ContainerElementMetaConstraints(MetaConstraint<A> firstMetaConstraint, List<MetaConstraint<?>> metaConstraints) {
+		super( firstMetaConstraint );
+		this.metaConstraints = metaConstraints.toArray( new MetaConstraint<?>[metaConstraints.size()] );
+		this.hashCode = Arrays.hashCode( this.metaConstraints );
+	}
+
+	/**
+	 * Groups the given container element constraints which are applied to the same values.
+	 *
+	 * @return the constraints to validate, the given set if no constraints can be grouped
+	 */
+	public static Set<MetaConstraint<?>> of(Set<MetaConstraint<?>> containerElementsConstraints) {
+		if ( containerElementsConstraints.size() < 2 ) {
+			return containerElementsConstraints;
+		}
+
+		List<List<MetaConstraint<?>>> groupedMetaConstraints = new ArrayList<>();
+		Set<MetaConstraint<?>> metaConstraints = newHashSet( containerElementsConstraints.size() );
+
+		for ( MetaConstraint<?> metaConstraint : containerElementsConstraints ) {
+			if ( !metaConstraint.isDefinedForOneGroupOnly() || metaConstraint.getValueExtractionPath() == null ) {
+				metaConstraints.add( metaConstraint );
+				continue;
+			}
+
+			List<MetaConstraint<?>> group = findGroup( groupedMetaConstraints, metaConstraint );
+			if ( group == null ) {
+				group = new ArrayList<>();
+				groupedMetaConstraints.add( group );
+			}
+			group.add( metaConstraint );
+		}
+
+		if ( groupedMetaConstraints.size() == containerElementsConstraints.size() - metaConstraints.size() ) {
+			return containerElementsConstraints;
+		}
+
+		for ( List<MetaConstraint<?>> group : groupedMetaConstraints ) {
+			if ( group.size() == 1 ) {
+				metaConstraints.add( group.get( 0 ) );
+			}
+			else {
+				metaConstraints.add( of( group.get( 0 ), group ) );
+			}
+		}
+
+		return metaConstraints;
+	}
+
+	private static List<MetaConstraint<?>> findGroup(List<List<MetaConstraint<?>>> groupedMetaConstraints, MetaConstraint<?> metaConstraint) {
+		for ( List<MetaConstraint<?>> group : groupedMetaConstraints ) {
+			MetaConstraint<?> firstMetaConstraint = group.get( 0 );
+			if ( firstMetaConstraint.getLocation().equals( metaConstraint.getLocation() )
+					&& firstMetaConstraint.getGroupList().equals( metaConstraint.getGroupList() )
+					&& firstMetaConstraint.hasSameValueExtractionPath( metaConstraint ) ) {
+				return group;
+			}
+		}
+		return null;
+	}
+
+	private static <A extends Annotation> ContainerElementMetaConstraints<A> of(MetaConstraint<A> firstMetaConstraint, List<MetaConstraint<?>> metaConstraints) {
+		return new ContainerElementMetaConstraints<>( firstMetaConstraint, metaConstraints );
+	}
+
+	@Override
+	public boolean validateConstraint(ValidationContext<?> validationContext, ValueContext<?, Object> valueContext) {
+		if ( validationContext.isFailFastModeEnabled() ) {
+			for ( MetaConstraint<?> metaConstraint : metaConstraints ) {
+				if ( !metaConstraint.validateConstraint( validationContext, valueContext ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		return super.validateConstraint( validationContext, valueContext );
+	}
+
+	@Override
+	boolean validateElementsInBulk(ValidationContext<?> validationContext, ValueContext<?, Object> valueContext,
+			BulkValueExtractor<Object> bulkValueExtractor, Object container) {
+		TypeParameterValueReceiver receiver = null;
+
+		int size = bulkValueExtractor.size( container );
+
+		// for each constraint, the index of the next element which is not known to be valid
+		int[] nextElementsToValidate = new int[metaConstraints.length];
+		int index = size;
+		for ( int i = 0; i < metaConstraints.length; i++ ) {
+			nextElementsToValidate[i] = metaConstraints[i].getConstraintTree()
+					.getNextElementToValidate( validationContext, valueContext, bulkValueExtractor, container, 0, size );
+			index = Math.min( index, nextElementsToValidate[i] );
+		}
+
+		while ( index < size ) {
+			if ( receiver == null ) {
+				receiver = new TypeParameterValueReceiver( validationContext, valueContext, getValueExtractionPath() );
+			}
+			ValueExtractorHelper.extractValue( getValueExtractionPath().getValueExtractorDescriptor(), container, index, receiver );
+
+			int nextIndex = size;
+			for ( int i = 0; i < metaConstraints.length; i++ ) {
+				if ( nextElementsToValidate[i] == index ) {
+					nextElementsToValidate[i] = metaConstraints[i].getConstraintTree()
+							.getNextElementToValidate( validationContext, valueContext, bulkValueExtractor, container, index + 1, size );
+				}
+				nextIndex = Math.min( nextIndex, nextElementsToValidate[i] );
+			}
+			index = nextIndex;
+		}
+
+		return receiver == null || receiver.isSuccess();
+	}
+
+	@Override
+	boolean validateExtractedValue(ValidationContext<?> validationContext, ValueContext<?, Object> valueContext) {
+		boolean success = true;
+		for ( MetaConstraint<?> metaConstraint : metaConstraints ) {
+			success &= metaConstraint.doValidateConstraint( validationContext, valueContext );
+		}
+		return success;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if ( this == o ) {
+			return true;
+		}
+		if ( o == null || getClass() != o.getClass() ) {
+			return false;
+		}
+
+		ContainerElementMetaConstraints<?> that = (ContainerElementMetaConstraints<?>) o;
+
+		return Arrays.equals( metaConstraints, that.metaConstraints );
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder sb = new StringBuilder();
+		sb.append( "ContainerElementMetaConstraints" );
+		sb.append( "{constraintTypes=[" );
+		for ( int i = 0; i < metaConstraints.length; i++ ) {
+			if ( i > 0 ) {
+				sb.append( ", " );
+			}
+			sb.append( StringHelper.toShortString( metaConstraints[i].getDescriptor().getAnnotation().annotationType() ) );
+		}
+		sb.append( "], location=" ).append( getLocation() );
+		sb.append( ", valueExtractionPath=" ).append( getValueExtractionPath() );
+		sb.append( "}" );
+		return sb.toString();
+	}
+}
@@ -11,6 +11,7 @@
 import java.lang.reflect.TypeVariable;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Set;
 
 import javax.validation.valueextraction.ValueExtractor;
@@ -20,6 +21,7 @@
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.validationcontext.ValidationContext;
 import org.hibernate.validator.internal.engine.valuecontext.BeanValueContext;
+import org.hibernate.validator.internal.engine.valueextraction.BulkValueExtractor;
 import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorDescriptor;
 import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorHelper;
 import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
@@ -79,6 +81,17 @@
 		this.isDefinedForOneGroupOnly = constraintDescriptor.getGroups().size() <= 1;
 	}
 
+	/**
+	 * Creates a constraint sharing the constraint tree, the location and the value extraction path of the given one.
+	 */
+	MetaConstraint(MetaConstraint<A> metaConstraint) {
+		this.constraintTree = metaConstraint.constraintTree;
+		this.location = metaConstraint.location;
+		this.valueExtractionPath = metaConstraint.valueExtractionPath;
+		this.hashCode = metaConstraint.hashCode;
+		this.isDefinedForOneGroupOnly = metaConstraint.isDefinedForOneGroupOnly;
+	}
+
 	private static ValueExtractionPathNode getValueExtractionPath(List<ContainerClassTypeParameterAndExtractor> valueExtractionPath) {
 		switch ( valueExtractionPath.size() ) {
 			case 0: return null;
@@ -113,9 +126,15 @@ public boolean validateConstraint(ValidationContext<?> validationContext, ValueC
 		if ( valueExtractionPath != null ) {
 			Object valueToValidate = valueContext.getCurrentValidatedValue();
 			if ( valueToValidate != null ) {
-				TypeParameterValueReceiver receiver = new TypeParameterValueReceiver( validationContext, valueContext, valueExtractionPath );
-				ValueExtractorHelper.extractValues( valueExtractionPath.getValueExtractorDescriptor(), valueToValidate, receiver );
-				success = receiver.isSuccess();
+				BulkValueExtractor<Object> bulkValueExtractor = valueExtractionPath.getBulkValueExtractor();
+				if ( bulkValueExtractor != null && bulkValueExtractor.isBulkExtractionSupported( valueToValidate ) ) {
+					success = validateElementsInBulk( validationContext, valueContext, bulkValueExtractor, valueToValidate );
+				}
+				else {
+					TypeParameterValueReceiver receiver = new TypeParameterValueReceiver( validationContext, valueContext, valueExtractionPath );
+					ValueExtractorHelper.extractValues( valueExtractionPath.getValueExtractorDescriptor(), valueToValidate, receiver );
+					success = receiver.isSuccess();
+				}
 			}
 		}
 		// regular constraint
@@ -125,7 +144,40 @@ public boolean validateConstraint(ValidationContext<?> validationContext, ValueC
 		return success;
 	}
 
-	private boolean doValidateConstraint(ValidationContext<?> executionContext, ValueContext<?, ?> valueContext) {
+	/**
+	 * Validates the elements of a container providing random access to them: the elements known to be valid are
+	 * skipped in a tight loop and only the other ones go through the regular value extraction.
+	 */
+	boolean validateElementsInBulk(ValidationContext<?> validationContext, ValueContext<?, Object> valueContext,
+			BulkValueExtractor<Object> bulkValueExtractor, Object container) {
+		TypeParameterValueReceiver receiver = null;
+
+		int size = bulkValueExtractor.size( container );
+		int index = 0;
+		while ( index < size ) {
+			index = constraintTree.getNextElementToValidate( validationContext, valueContext, bulkValueExtractor, container, index, size );
+			if ( index == size ) {
+				break;
+			}
+
+			if ( receiver == null ) {
+				receiver = new TypeParameterValueReceiver( validationContext, valueContext, valueExtractionPath );
+			}
+			ValueExtractorHelper.extractValue( valueExtractionPath.getValueExtractorDescriptor(), container, index, receiver );
+			index++;
+		}
+
+		return receiver == null || receiver.isSuccess();
+	}
+
+	/**
+	 * Validates the value extracted from the container, once the value context points to it.
+	 */
+	boolean validateExtractedValue(ValidationContext<?> validationContext, ValueContext<?, Object> valueContext) {
+		return doValidateConstraint( validationContext, valueContext );
+	}
+
+	final boolean doValidateConstraint(ValidationContext<?> executionContext, ValueContext<?, ?> valueContext) {
 		valueContext.setConstraintLocationKind( getConstraintLocationKind() );
 		boolean validationResult = constraintTree.validateConstraints( executionContext, valueContext );
 
@@ -136,6 +188,33 @@ public ConstraintLocation getLocation() {
 		return location;
 	}
 
+	final ConstraintTree<A> getConstraintTree() {
+		return constraintTree;
+	}
+
+	final ValueExtractionPathNode getValueExtractionPath() {
+		return valueExtractionPath;
+	}
+
+	/**
+	 * @return {@code true} if the values validated by this constraint are extracted from the container the same way as
+	 * the ones validated by the given constraint
+	 */
+	final boolean hasSameValueExtractionPath(MetaConstraint<?> other) {
+		ValueExtractionPathNode node = valueExtractionPath;
+		ValueExtractionPathNode otherNode = other.valueExtractionPath;
+		while ( node != null && otherNode != null ) {
+			if ( node.getContainerClass() != otherNode.getContainerClass()
+					|| !Objects.equals( node.getTypeParameterIndex(), otherNode.getTypeParameterIndex() )
+					|| node.getValueExtractorDescriptor().getValueExtractor() != otherNode.getValueExtractorDescriptor().getValueExtractor() ) {
+				return false;
+			}
+			node = node.hasNext() ? node.getNext() : null;
+			otherNode = otherNode.hasNext() ? otherNode.getNext() : null;
+		}
+		return node == null && otherNode == null;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if ( this == o ) {
@@ -182,14 +261,14 @@ public String toString() {
 		return sb.toString();
 	}
 
-	private final class TypeParameterValueReceiver implements ValueExtractor.ValueReceiver {
+	final class TypeParameterValueReceiver implements ValueExtractor.ValueReceiver {
 
 		private final ValidationContext<?> validationContext;
 		private final ValueContext<?, Object> valueContext;
 		private boolean success = true;
 		private ValueExtractionPathNode currentValueExtractionPathNode;
 
-		public TypeParameterValueReceiver(ValidationContext<?> validationContext, ValueContext<?, Object> valueContext, ValueExtractionPathNode currentValueExtractionPathNode) {
+		TypeParameterValueReceiver(ValidationContext<?> validationContext, ValueContext<?, Object> valueContext, ValueExtractionPathNode currentValueExtractionPathNode) {
 			this.validationContext = validationContext;
 			this.valueContext = valueContext;
 			this.currentValueExtractionPathNode = currentValueExtractionPathNode;
@@ -243,7 +322,7 @@ private void doValidate(Object value, String nodeName) {
 				}
 			}
 			else {
-				success &= doValidateConstraint( validationContext, valueContext );
+				success &= validateExtractedValue( validationContext, valueContext );
 			}
 
 			// reset the value context to the state before this call
@@ -278,7 +357,15 @@ public String toString() {
 		}
 	}
 
-	private interface ValueExtractionPathNode {
+	@SuppressWarnings("unchecked")
+	private static BulkValueExtractor<Object> toBulkValueExtractor(ValueExtractorDescriptor valueExtractorDescriptor) {
+		if ( valueExtractorDescriptor.getValueExtractor() instanceof BulkValueExtractor ) {
+			return (BulkValueExtractor<Object>) valueExtractorDescriptor.getValueExtractor();
+		}
+		return null;
+	}
+
+	interface ValueExtractionPathNode {
 		boolean hasNext();
 		ValueExtractionPathNode getPrevious();
 		ValueExtractionPathNode getNext();
@@ -286,6 +373,12 @@ private interface ValueExtractionPathNode {
 		TypeVariable<?> getTypeParameter();
 		Integer getTypeParameterIndex();
 		ValueExtractorDescriptor getValueExtractorDescriptor();
+
+		/**
+		 * @return the value extractor if it is a {@link BulkValueExtractor} and this node is the last one of the path,
+		 * {@code null} otherwise
+		 */
+		BulkValueExtractor<Object> getBulkValueExtractor();
 	}
 
 	private static final class SingleValueExtractionPathNode implements ValueExtractionPathNode {
@@ -295,11 +388,14 @@ private static final class SingleValueExtractionPathNode implements ValueExtract
 		private final Integer typeParameterIndex;
 		private final ValueExtractorDescriptor valueExtractorDescriptor;
 
+		private final BulkValueExtractor<Object> bulkValueExtractor;
+
 		public SingleValueExtractionPathNode(ContainerClassTypeParameterAndExtractor typeParameterAndExtractor) {
 			this.containerClass = typeParameterAndExtractor.containerClass;
 			this.typeParameter = typeParameterAndExtractor.typeParameter;
 			this.typeParameterIndex = typeParameterAndExtractor.typeParameterIndex;
 			this.valueExtractorDescriptor = typeParameterAndExtractor.valueExtractorDescriptor;
+			this.bulkValueExtractor = toBulkValueExtractor( valueExtractorDescriptor );
 		}
 
 		@Override
@@ -337,6 +433,11 @@ public ValueExtractorDescriptor getValueExtractorDescriptor() {
 			return valueExtractorDescriptor;
 		}
 
+		@Override
+		public BulkValueExtractor<Object> getBulkValueExtractor() {
+			return bulkValueExtractor;
+		}
+
 		@Override
 		public String toString() {
 			return "SingleValueExtractionPathNode [containerClass=" + containerClass +
@@ -353,6 +454,7 @@ private static final class LinkedValueExtractionPathNode implements ValueExtract
 		private final TypeVariable<?> typeParameter;
 		private final Integer typeParameterIndex;
 		private final ValueExtractorDescriptor valueExtractorDescriptor;
+		private final BulkValueExtractor<Object> bulkValueExtractor;
 
 		private LinkedValueExtractionPathNode( ValueExtractionPathNode previous, List<ContainerClassTypeParameterAndExtractor> elements) {
 			ContainerClassTypeParameterAndExtractor first = elements.get( 0 );
@@ -364,9 +466,11 @@ private LinkedValueExtractionPathNode( ValueExtractionPathNode previous, List<Co
 
 			if ( elements.size() == 1 ) {
 				this.next = null;
+				this.bulkValueExtractor = toBulkValueExtractor( valueExtractorDescriptor );
 			}
 			else {
 				this.next = new LinkedValueExtractionPathNode( this, elements.subList( 1, elements.size() ) );
+				this.bulkValueExtractor = null;
 			}
 		}
 
@@ -405,6 +509,11 @@ public ValueExtractorDescriptor getValueExtractorDescriptor() {
 			return valueExtractorDescriptor;
 		}
 
+		@Override
+		public BulkValueExtractor<Object> getBulkValueExtractor() {
+			return bulkValueExtractor;
+		}
+
 		@Override
 		public String toString() {
 			return "LinkedValueExtractionPathNode [containerClass=" + containerClass +
@@ -37,6 +37,12 @@
 	private final Type type;
 	private final List<JavaBeanParameter> parameters;
 
+	/**
+	 * The parameter names resolved by the last parameter name provider used, so that they are not resolved again for
+	 * each validated parameter.
+	 */
+	private volatile ParameterNames parameterNames;
+
 	JavaBeanExecutable(T executable, boolean hasReturnValue) {
 		this.executable = executable;
 		this.type = ReflectionHelper.typeOf( executable );
@@ -77,7 +83,12 @@ public Type getType() {
 
 	@Override
 	public String getParameterName(ExecutableParameterNameProvider parameterNameProvider, int parameterIndex) {
-		return parameterNameProvider.getParameterNames( executable ).get( parameterIndex );
+		ParameterNames parameterNames = this.parameterNames;
+		if ( parameterNames == null || parameterNames.parameterNameProvider != parameterNameProvider ) {
+			parameterNames = new ParameterNames( parameterNameProvider, parameterNameProvider.getParameterNames( executable ) );
+			this.parameterNames = parameterNames;
+		}
+		return parameterNames.names.get( parameterIndex );
 	}
 
 	@Override
@@ -85,6 +96,10 @@ public boolean isPrivate() {
 		return Modifier.isPrivate( executable.getModifiers() );
 	}
 
+	public T getExecutable() {
+		return executable;
+	}
+
 	@Override
 	public String getSignature() {
 		return ExecutableHelper.getSignature( executable );
@@ -227,4 +242,16 @@ private static Type getErasedTypeIfTypeVariable(Type genericType) {
 
 		return genericType;
 	}
+
+	private static final class ParameterNames {
+
+		private final ExecutableParameterNameProvider parameterNameProvider;
+
+		private final List<String> names;
+
+		private ParameterNames(ExecutableParameterNameProvider parameterNameProvider, List<String> names) {
+			this.parameterNameProvider = parameterNameProvider;
+			this.names = names;
+		}
+	}
 }
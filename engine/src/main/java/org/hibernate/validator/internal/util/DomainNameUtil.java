@@ -6,13 +6,21 @@
  */
 package org.hibernate.validator.internal.util;
 
-import static java.util.regex.Pattern.CASE_INSENSITIVE;
-
 import java.net.IDN;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
+ * Checks the validity of domain names.
+ * <p>
+ * The grammar is checked in a single pass, without any regular expression nor allocation. The accepted domains are:
+ * <ul>
+ * <li>host names: dot separated labels made of letters, digits, the characters {@code !#$%&'*+/=?^_`{|}~}, non ASCII
+ * characters and dashes - a label can neither start nor end with a dash,</li>
+ * <li>for emails, IPv4 addresses wrapped in {@code []} and IPv6 addresses wrapped in {@code [IPv6:]},</li>
+ * <li>for URLs, IPv6 addresses wrapped in {@code []}.</li>
+ * </ul>
+ * The length of the labels and of the domain is then checked. {@link IDN#toASCII(String)} is only used for the
+ * domains containing non ASCII characters.
+ *
  * @author Marko Bekhta
  * @author Guillaume Smet
  */
@@ -24,30 +32,25 @@ public final class DomainNameUtil {
 	 */
 	private static final int MAX_DOMAIN_PART_LENGTH = 255;
 
-	private static final String DOMAIN_CHARS_WITHOUT_DASH = "[a-z\u0080-\uFFFF0-9!#$%&'*+/=?^_`{|}~]";
-	private static final String DOMAIN_LABEL = "(" + DOMAIN_CHARS_WITHOUT_DASH + "-*)*" + DOMAIN_CHARS_WITHOUT_DASH + "+";
-	private static final String DOMAIN = DOMAIN_LABEL + "+(\\." + DOMAIN_LABEL + "+)*";
-
-	private static final String IP_DOMAIN = "[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}";
-	//IP v6 regex taken from http://stackoverflow.com/questions/53497/regular-expression-that-matches-valid-ipv6-addresses
-	private static final String IP_V6_DOMAIN = "(([0-9a-fA-F]{1,4}:){7,7}[0-9a-fA-F]{1,4}|([0-9a-fA-F]{1,4}:){1,7}:|([0-9a-fA-F]{1,4}:){1,6}:[0-9a-fA-F]{1,4}|([0-9a-fA-F]{1,4}:){1,5}(:[0-9a-fA-F]{1,4}){1,2}|([0-9a-fA-F]{1,4}:){1,4}(:[0-9a-fA-F]{1,4}){1,3}|([0-9a-fA-F]{1,4}:){1,3}(:[0-9a-fA-F]{1,4}){1,4}|([0-9a-fA-F]{1,4}:){1,2}(:[0-9a-fA-F]{1,4}){1,5}|[0-9a-fA-F]{1,4}:((:[0-9a-fA-F]{1,4}){1,6})|:((:[0-9a-fA-F]{1,4}){1,7}|:)|fe80:(:[0-9a-fA-F]{0,4}){0,4}%[0-9a-zA-Z]{1,}|::(ffff(:0{1,4}){0,1}:){0,1}((25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9])\\.){3,3}(25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9])|([0-9a-fA-F]{1,4}:){1,4}:((25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9])\\.){3,3}(25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9]))";
-
 	/**
-	 * Regular expression for the domain part of an URL
-	 * <p>
-	 * A host string must be a domain string, an IPv4 address string, or "[", followed by an IPv6 address string,
-	 * followed by "]".
+	 * The maximum length of a label of an ASCII domain name.
 	 */
-	private static final Pattern DOMAIN_PATTERN = Pattern.compile(
-			DOMAIN + "|\\[" + IP_V6_DOMAIN + "\\]", CASE_INSENSITIVE
-	);
+	private static final int MAX_LABEL_LENGTH = 63;
+
+	private static final int MAX_HEX_GROUP_LENGTH = 4;
+
+	private static final int MAX_IP_V6_GROUPS = 8;
+
+	private static final String IP_V6_PREFIX = "IPv6:";
+
+	private static final String LINK_LOCAL_IP_V6_PREFIX = "fe80:";
+
+	private static final String IP_V4_MAPPED_IP_V6_PREFIX = "::ffff:";
 
 	/**
-	 * Regular expression for the domain part of an email address (everything after '@')
+	 * The ASCII characters allowed in a domain label, dash excepted.
 	 */
-	private static final Pattern EMAIL_DOMAIN_PATTERN = Pattern.compile(
-			DOMAIN + "|\\[" + IP_DOMAIN + "\\]|" + "\\[IPv6:" + IP_V6_DOMAIN + "\\]", CASE_INSENSITIVE
-	);
+	private static final boolean[] DOMAIN_CHARS_WITHOUT_DASH = asciiCharacters( "!#$%&'*+/=?^_`{|}~" );
 
 	private DomainNameUtil() {
 	}
@@ -60,7 +63,31 @@ private DomainNameUtil() {
 	 * @return {@code true} if the provided string is a valid domain, {@code false} otherwise
 	 */
 	public static boolean isValidEmailDomainAddress(String domain) {
-		return isValidDomainAddress( domain, EMAIL_DOMAIN_PATTERN );
+		return isValidEmailDomainAddress( domain, 0, domain.length() );
+	}
+
+	/**
+	 * Checks the validity of the domain name used in an email, delimited by {@code start} and {@code end} in the given
+	 * character sequence.
+	 *
+	 * @param value the character sequence containing the domain
+	 * @param start the index of the first character of the domain
+	 * @param end the index after the last character of the domain
+	 * @return {@code true} if the domain is valid, {@code false} otherwise
+	 */
+	public static boolean isValidEmailDomainAddress(CharSequence value, int start, int end) {
+		if ( start < end && value.charAt( start ) == '[' ) {
+			if ( value.charAt( end - 1 ) != ']' ) {
+				return false;
+			}
+			if ( !isValidIpV4( value, start + 1, end - 1 ) &&
+					!( regionMatchesIgnoreCase( value, start + 1, end - 1, IP_V6_PREFIX ) && isValidIpV6( value, start + 1 + IP_V6_PREFIX.length(), end - 1 ) ) ) {
+				return false;
+			}
+			return hasValidAsciiLength( value, start, end );
+		}
+
+		return isValidHostName( value, start, end );
 	}
 
 	/**
@@ -70,34 +97,357 @@ public static boolean isValidEmailDomainAddress(String domain) {
 	 * @return {@code true} if the provided string is a valid domain, {@code false} otherwise
 	 */
 	public static boolean isValidDomainAddress(String domain) {
-		return isValidDomainAddress( domain, DOMAIN_PATTERN );
+		return isValidDomainAddress( domain, 0, domain.length() );
 	}
 
-	private static boolean isValidDomainAddress(String domain, Pattern pattern) {
-		// if we have a trailing dot the domain part we have an invalid email address.
-		// the regular expression match would take care of this, but IDN.toASCII drops the trailing '.'
-		if ( domain.endsWith( "." ) ) {
+	/**
+	 * Checks validity of a domain name delimited by {@code start} and {@code end} in the given character sequence.
+	 *
+	 * @param value the character sequence containing the domain
+	 * @param start the index of the first character of the domain
+	 * @param end the index after the last character of the domain
+	 * @return {@code true} if the domain is valid, {@code false} otherwise
+	 */
+	public static boolean isValidDomainAddress(CharSequence value, int start, int end) {
+		if ( start < end && value.charAt( start ) == '[' ) {
+			if ( value.charAt( end - 1 ) != ']' || !isValidIpV6( value, start + 1, end - 1 ) ) {
+				return false;
+			}
+			return hasValidAsciiLength( value, start, end );
+		}
+
+		return isValidHostName( value, start, end );
+	}
+
+	private static boolean isValidHostName(CharSequence value, int start, int end) {
+		if ( start == end ) {
 			return false;
 		}
 
-		Matcher matcher = pattern.matcher( domain );
-		if ( !matcher.matches() ) {
+		boolean ascii = true;
+		boolean labelStart = true;
+		char previous = 0;
+
+		for ( int i = start; i < end; i++ ) {
+			char c = value.charAt( i );
+
+			if ( c == '.' ) {
+				// a label can neither be empty nor end with a dash
+				if ( labelStart || previous == '-' ) {
+					return false;
+				}
+				labelStart = true;
+			}
+			else if ( c == '-' ) {
+				// a label cannot start with a dash
+				if ( labelStart ) {
+					return false;
+				}
+			}
+			else if ( c < 128 ) {
+				if ( !isAsciiLetterOrDigit( c ) && !DOMAIN_CHARS_WITHOUT_DASH[c] ) {
+					return false;
+				}
+				labelStart = false;
+			}
+			else {
+				// the code points outside of the BMP are not allowed
+				if ( isSupplementaryCodePoint( value, i, end ) ) {
+					return false;
+				}
+				ascii = false;
+				labelStart = false;
+			}
+
+			previous = c;
+		}
+
+		// this also covers the trailing dot, that IDN.toASCII() would drop
+		if ( labelStart || previous == '-' ) {
 			return false;
 		}
 
+		if ( ascii ) {
+			return hasValidAsciiLength( value, start, end );
+		}
+
 		String asciiString;
 		try {
-			asciiString = IDN.toASCII( domain );
+			asciiString = IDN.toASCII( value.subSequence( start, end ).toString() );
 		}
 		catch (IllegalArgumentException e) {
 			return false;
 		}
 
-		if ( asciiString.length() > MAX_DOMAIN_PART_LENGTH ) {
+		return asciiString.length() <= MAX_DOMAIN_PART_LENGTH;
+	}
+
+	/**
+	 * Checks the length of the domain and of its labels, as {@link IDN#toASCII(String)} would do for an ASCII domain.
+	 */
+	private static boolean hasValidAsciiLength(CharSequence value, int start, int end) {
+		if ( end - start > MAX_DOMAIN_PART_LENGTH ) {
+			return false;
+		}
+
+		int labelStart = start;
+		for ( int i = start; i < end; i++ ) {
+			if ( value.charAt( i ) == '.' ) {
+				if ( i - labelStart > MAX_LABEL_LENGTH ) {
+					return false;
+				}
+				labelStart = i + 1;
+			}
+		}
+		return end - labelStart <= MAX_LABEL_LENGTH;
+	}
+
+	/**
+	 * Checks a dotted IPv4 address made of four numbers of one to three digits.
+	 */
+	private static boolean isValidIpV4(CharSequence value, int start, int end) {
+		int i = start;
+		for ( int part = 0; part < 4; part++ ) {
+			if ( part > 0 ) {
+				if ( i >= end || value.charAt( i ) != '.' ) {
+					return false;
+				}
+				i++;
+			}
+			int partStart = i;
+			while ( i < end && isAsciiDigit( value.charAt( i ) ) ) {
+				i++;
+			}
+			if ( i == partStart || i - partStart > 3 ) {
+				return false;
+			}
+		}
+		return i == end;
+	}
+
+	/**
+	 * Checks an IPv6 address: eight groups of hexadecimal digits, possibly compressed with {@code ::}, a link-local
+	 * address with a zone index or an address ending with an embedded IPv4 address.
+	 */
+	private static boolean isValidIpV6(CharSequence value, int start, int end) {
+		if ( indexOf( value, '%', start, end ) >= 0 ) {
+			return isValidLinkLocalIpV6WithZoneIndex( value, start, end );
+		}
+
+		if ( indexOf( value, '.', start, end ) >= 0 ) {
+			return isValidIpV6WithEmbeddedIpV4( value, start, end );
+		}
+
+		int doubleColon = indexOf( value, "::", start, end );
+		if ( doubleColon < 0 ) {
+			return countHexGroups( value, start, end ) == MAX_IP_V6_GROUPS;
+		}
+
+		// only one :: is allowed
+		if ( indexOf( value, "::", doubleColon + 1, end ) >= 0 ) {
 			return false;
 		}
 
+		int leftGroups = doubleColon == start ? 0 : countHexGroups( value, start, doubleColon );
+		int rightGroups = doubleColon + 2 == end ? 0 : countHexGroups( value, doubleColon + 2, end );
+		if ( leftGroups < 0 || rightGroups < 0 ) {
+			return false;
+		}
+
+		// :: stands for at least one group
+		return leftGroups + rightGroups < MAX_IP_V6_GROUPS;
+	}
+
+	/**
+	 * Checks a link-local address such as {@code fe80::1%eth0}: {@code fe80:} followed by at most four groups made of
+	 * a colon and at most four hexadecimal digits, then a zone index.
+	 */
+	private static boolean isValidLinkLocalIpV6WithZoneIndex(CharSequence value, int start, int end) {
+		if ( !regionMatchesIgnoreCase( value, start, end, LINK_LOCAL_IP_V6_PREFIX ) ) {
+			return false;
+		}
+
+		int i = start + LINK_LOCAL_IP_V6_PREFIX.length();
+		int groups = 0;
+		while ( value.charAt( i ) != '%' ) {
+			if ( value.charAt( i ) != ':' || ++groups > 4 ) {
+				return false;
+			}
+			i++;
+			int groupStart = i;
+			while ( isHexDigit( value.charAt( i ) ) ) {
+				i++;
+			}
+			if ( i - groupStart > MAX_HEX_GROUP_LENGTH ) {
+				return false;
+			}
+		}
+
+		// the zone index
+		i++;
+		if ( i == end ) {
+			return false;
+		}
+		for ( ; i < end; i++ ) {
+			if ( !isAsciiLetterOrDigit( value.charAt( i ) ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks an address ending with an IPv4 address with octets in the range 0-255: either an IPv4-mapped address
+	 * ({@code ::ffff:1.2.3.4} and its variants) or one to four groups followed by {@code ::} and the IPv4 address.
+	 */
+	private static boolean isValidIpV6WithEmbeddedIpV4(CharSequence value, int start, int end) {
+		int lastColon = lastIndexOf( value, ':', start, end );
+		if ( lastColon < 0 || !isValidIpV4Octets( value, lastColon + 1, end ) ) {
+			return false;
+		}
+
+		int prefixEnd = lastColon + 1;
+		int prefixLength = prefixEnd - start;
+
+		if ( prefixLength == 2 ) {
+			return value.charAt( start ) == ':' && value.charAt( start + 1 ) == ':';
+		}
+
+		if ( regionMatchesIgnoreCase( value, start, prefixEnd, IP_V4_MAPPED_IP_V6_PREFIX ) ) {
+			if ( prefixLength == IP_V4_MAPPED_IP_V6_PREFIX.length() ) {
+				return true;
+			}
+			// ::ffff:0:1.2.3.4
+			int zeros = prefixLength - IP_V4_MAPPED_IP_V6_PREFIX.length() - 1;
+			if ( zeros < 1 || zeros > 4 ) {
+				return false;
+			}
+			for ( int i = start + IP_V4_MAPPED_IP_V6_PREFIX.length(); i < lastColon; i++ ) {
+				if ( value.charAt( i ) != '0' ) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		// one to four groups followed by ::
+		if ( prefixLength < 3 || value.charAt( lastColon - 1 ) != ':' ) {
+			return false;
+		}
+		int groups = countHexGroups( value, start, lastColon - 1 );
+		return groups >= 1 && groups <= 4;
+	}
+
+	private static boolean isValidIpV4Octets(CharSequence value, int start, int end) {
+		if ( !isValidIpV4( value, start, end ) ) {
+			return false;
+		}
+
+		int octet = 0;
+		int digits = 0;
+		for ( int i = start; i <= end; i++ ) {
+			if ( i == end || value.charAt( i ) == '.' ) {
+				if ( octet > 255 || ( digits == 3 && value.charAt( i - 3 ) == '0' ) ) {
+					return false;
+				}
+				octet = 0;
+				digits = 0;
+			}
+			else {
+				octet = octet * 10 + ( value.charAt( i ) - '0' );
+				digits++;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the number of colon separated groups of one to four hexadecimal digits or -1 if the region does not
+	 * only contain such groups.
+	 */
+	private static int countHexGroups(CharSequence value, int start, int end) {
+		int groups = 0;
+		int groupStart = start;
+		for ( int i = start; i <= end; i++ ) {
+			if ( i == end || value.charAt( i ) == ':' ) {
+				int groupLength = i - groupStart;
+				if ( groupLength == 0 || groupLength > MAX_HEX_GROUP_LENGTH ) {
+					return -1;
+				}
+				groups++;
+				groupStart = i + 1;
+			}
+			else if ( !isHexDigit( value.charAt( i ) ) ) {
+				return -1;
+			}
+		}
+		return groups;
+	}
+
+	private static boolean isSupplementaryCodePoint(CharSequence value, int index, int end) {
+		return Character.isHighSurrogate( value.charAt( index ) ) && index + 1 < end && Character.isLowSurrogate( value.charAt( index + 1 ) );
+	}
+
+	private static boolean isAsciiLetterOrDigit(char c) {
+		return ( c >= 'a' && c <= 'z' ) || ( c >= 'A' && c <= 'Z' ) || isAsciiDigit( c );
+	}
+
+	private static boolean isAsciiDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isHexDigit(char c) {
+		return isAsciiDigit( c ) || ( c >= 'a' && c <= 'f' ) || ( c >= 'A' && c <= 'F' );
+	}
+
+	private static boolean regionMatchesIgnoreCase(CharSequence value, int start, int end, String prefix) {
+		if ( end - start < prefix.length() ) {
+			return false;
+		}
+		for ( int i = 0; i < prefix.length(); i++ ) {
+			if ( toAsciiLowerCase( value.charAt( start + i ) ) != toAsciiLowerCase( prefix.charAt( i ) ) ) {
+				return false;
+			}
+		}
 		return true;
 	}
 
+	private static char toAsciiLowerCase(char c) {
+		return c >= 'A' && c <= 'Z' ? (char) ( c + ( 'a' - 'A' ) ) : c;
+	}
+
+	private static int indexOf(CharSequence value, char c, int start, int end) {
+		for ( int i = start; i < end; i++ ) {
+			if ( value.charAt( i ) == c ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static int indexOf(CharSequence value, String s, int start, int end) {
+		for ( int i = start; i <= end - s.length(); i++ ) {
+			if ( regionMatchesIgnoreCase( value, i, end, s ) ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static int lastIndexOf(CharSequence value, char c, int start, int end) {
+		for ( int i = end - 1; i >= start; i-- ) {
+			if ( value.charAt( i ) == c ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static boolean[] asciiCharacters(String characters) {
+		boolean[] table = new boolean[128];
+		for ( int i = 0; i < characters.length(); i++ ) {
+			table[characters.charAt( i )] = true;
+		}
+		return table;
+	}
 }
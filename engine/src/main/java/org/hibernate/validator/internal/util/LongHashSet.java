@@ -0,0 +1,88 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.util;
+
+/**
+ * A set of {@code long} values using open addressing with linear probing, avoiding the boxing of the values and the
+ * allocation of an entry per value of a {@link java.util.HashSet}.
+ * <p>
+ * The set grows as needed but never shrinks.
+ */
+public final class LongHashSet {
+
+	private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+	/**
+	 * The value marking the empty slots. It is stored out of the table when added to the set.
+	 */
+	private static final long EMPTY = 0L;
+
+	private long[] table;
+
+	private int mask;
+
+	private int size;
+
+	private boolean containsEmpty;
+
+	public LongHashSet(int expectedSize) {
+		int capacity = Integer.highestOneBit( Math.max( 4, Math.min( expectedSize, MAXIMUM_CAPACITY / 2 ) ) * 2 - 1 ) << 1;
+		this.table = new long[capacity];
+		this.mask = capacity - 1;
+	}
+
+	/**
+	 * Adds a value to the set.
+	 *
+	 * @param value the value to add
+	 * @return {@code true} if the set did not already contain the value
+	 */
+	public boolean add(long value) {
+		if ( value == EMPTY ) {
+			if ( containsEmpty ) {
+				return false;
+			}
+			containsEmpty = true;
+			return true;
+		}
+
+		int index = hash( value ) & mask;
+		long current;
+		while ( ( current = table[index] ) != EMPTY ) {
+			if ( current == value ) {
+				return false;
+			}
+			index = ( index + 1 ) & mask;
+		}
+		table[index] = value;
+		if ( ++size > table.length >> 1 ) {
+			grow();
+		}
+		return true;
+	}
+
+	private void grow() {
+		long[] oldTable = table;
+		table = new long[oldTable.length << 1];
+		mask = table.length - 1;
+		for ( long value : oldTable ) {
+			if ( value != EMPTY ) {
+				int index = hash( value ) & mask;
+				while ( table[index] != EMPTY ) {
+					index = ( index + 1 ) & mask;
+				}
+				table[index] = value;
+			}
+		}
+	}
+
+	private static int hash(long value) {
+		// spreads the bits as the values to store are often sequential
+		long hash = value * 0x9E3779B97F4A7C15L;
+		return (int) ( hash ^ ( hash >>> 32 ) );
+	}
+}
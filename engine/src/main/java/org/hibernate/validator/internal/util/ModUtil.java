@@ -130,4 +130,147 @@ public static int calculateModXCheckWithWeights(final List<Integer> digits, int
 		}
 		return moduloParam - ( sum % moduloParam );
 	}
+
+	/**
+	 * Calculate Luhn Modulo 10 checksum (Luhn algorithm implementation) on a range of a character sequence.
+	 * <p>
+	 * Characters which are not ASCII digits are ignored.
+	 *
+	 * @param digits The character sequence containing the digits over which to calculate the checksum
+	 * @param start the index of the first character of the range, inclusive
+	 * @param end the index of the last character of the range, exclusive
+	 *
+	 * @return the result of the mod10 checksum calculation
+	 */
+	public static int calculateLuhnMod10Check(final CharSequence digits, final int start, final int end) {
+		int sum = 0;
+		boolean even = true;
+		for ( int index = end - 1; index >= start; index-- ) {
+			int digit = digits.charAt( index ) - '0';
+			if ( digit < 0 || digit > 9 ) {
+				continue;
+			}
+
+			if ( even ) {
+				digit <<= 1;
+			}
+			if ( digit > 9 ) {
+				digit -= 9;
+			}
+			sum += digit;
+			even = !even;
+		}
+		return ( 10 - ( sum % 10 ) ) % 10;
+	}
+
+	/**
+	 * Calculate Generic Modulo 10 checksum on a range of a character sequence.
+	 * <p>
+	 * Characters which are not ASCII digits are ignored.
+	 *
+	 * @param digits The character sequence containing the digits over which to calculate the checksum
+	 * @param start the index of the first character of the range, inclusive
+	 * @param end the index of the last character of the range, exclusive
+	 * @param multiplier Multiplier used for the odd digits in the algorithm
+	 * @param weight Multiplier used for the even digits in the algorithm
+	 *
+	 * @return the result of the mod10 checksum calculation
+	 */
+	public static int calculateMod10Check(final CharSequence digits, final int start, final int end, int multiplier, int weight) {
+		int sum = 0;
+		boolean even = true;
+		for ( int index = end - 1; index >= start; index-- ) {
+			int digit = digits.charAt( index ) - '0';
+			if ( digit < 0 || digit > 9 ) {
+				continue;
+			}
+
+			if ( even ) {
+				digit *= multiplier;
+			}
+			else {
+				digit *= weight;
+			}
+
+			sum += digit;
+			even = !even;
+		}
+		return ( 10 - ( sum % 10 ) ) % 10;
+	}
+
+	/**
+	 * Calculate Modulo 11 checksum on a range of a character sequence.
+	 * <p>
+	 * Characters which are not ASCII digits are ignored.
+	 *
+	 * @param digits the character sequence containing the digits for which to calculate the checksum
+	 * @param start the index of the first character of the range, inclusive
+	 * @param end the index of the last character of the range, exclusive
+	 * @param threshold the threshold for the Mod11 algorithm multiplier growth
+	 *
+	 * @return the result of the mod11 checksum calculation
+	 */
+	public static int calculateMod11Check(final CharSequence digits, final int start, final int end, final int threshold) {
+		int sum = 0;
+		int multiplier = 2;
+
+		for ( int index = end - 1; index >= start; index-- ) {
+			int digit = digits.charAt( index ) - '0';
+			if ( digit < 0 || digit > 9 ) {
+				continue;
+			}
+
+			sum += digit * multiplier++;
+			if ( multiplier > threshold ) {
+				multiplier = 2;
+			}
+		}
+		return 11 - ( sum % 11 );
+	}
+
+	/**
+	 * Calculate Modulo {@code moduloParam} checksum with given weights on a range of a character sequence. It behaves
+	 * as {@link #calculateModXCheckWithWeights(List, int, int, int...)} called with the digits of the range,
+	 * optionally reversed.
+	 * <p>
+	 * Characters which are not ASCII digits are ignored.
+	 *
+	 * @param digits the character sequence containing the digits for which to calculate the checksum
+	 * @param start the index of the first character of the range, inclusive
+	 * @param end the index of the last character of the range, exclusive
+	 * @param digitCount the number of ASCII digits in the range
+	 * @param reverseOrder whether the digits should be processed in the reverse order, i.e. from left to right
+	 * @param moduloParam modulo parameter to be used
+	 * @param threshold the threshold for the multiplier growth, used when no weights are provided
+	 * @param weights weights for the sum.
+	 *
+	 * @return the result of mod checksum calculation
+	 */
+	public static int calculateModXCheckWithWeights(final CharSequence digits, final int start, final int end, final int digitCount,
+			final boolean reverseOrder, int moduloParam, final int threshold, int... weights) {
+		int sum = 0;
+		int multiplier = 1;
+		int digitIndex = digitCount - 1;
+		int step = reverseOrder ? 1 : -1;
+
+		for ( int index = reverseOrder ? start : end - 1; index >= start && index < end; index += step ) {
+			int digit = digits.charAt( index ) - '0';
+			if ( digit < 0 || digit > 9 ) {
+				continue;
+			}
+
+			if ( weights.length != 0 ) {
+				multiplier = weights[weights.length - digitIndex % weights.length - 1];
+			}
+			else {
+				multiplier++;
+				if ( multiplier > threshold ) {
+					multiplier = 2;
+				}
+			}
+			sum += digit * multiplier;
+			digitIndex--;
+		}
+		return moduloParam - ( sum % moduloParam );
+	}
 }
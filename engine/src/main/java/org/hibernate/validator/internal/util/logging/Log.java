@@ -46,6 +46,8 @@
 import javax.validation.valueextraction.ValueExtractorDefinitionException;
 import javax.xml.stream.XMLStreamException;
 
+import org.hibernate.validator.internal.engine.messageinterpolation.expression.ExpressionPropertyNotFoundException;
+import org.hibernate.validator.internal.engine.messageinterpolation.expression.ExpressionSyntaxException;
 import org.hibernate.validator.internal.engine.messageinterpolation.parser.MessageDescriptorFormatException;
 import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl.ConstraintType;
 import org.hibernate.validator.internal.metadata.location.ConstraintLocation;
@@ -892,4 +894,37 @@ ConstraintDefinitionException getConstraintValidatorDefinitionConstraintMismatch
 
 	@Message(id = 253, value = "Unable to instantiate property node name provider class %s.")
 	ValidationException getUnableToInstantiatePropertyNodeNameProviderClassException(String propertyNodeNameProviderClassName, @Cause Exception e);
+
+	@Message(id = 254, value = "The expression '%1$s' is invalid or uses a construct not supported by the simple expression evaluator (error at position %2$d).")
+	ExpressionSyntaxException getInvalidExpressionException(String expression, int position);
+
+	@Message(id = 255, value = "Unable to find a readable property '%1$s' in type %2$s.")
+	ExpressionPropertyNotFoundException getUnknownPropertyInExpressionException(String propertyName, @FormatWith(ClassObjectFormatter.class) Class<?> type);
+
+	@Message(id = 256, value = "Unable to find the variable '%1$s'.")
+	ExpressionPropertyNotFoundException getUnknownVariableInExpressionException(String variableName);
+
+	@Message(id = 257, value = "Unable to coerce '%1$s' to %2$s.")
+	ValidationException getUnableToCoerceExpressionValueException(Object value, @FormatWith(ClassObjectFormatter.class) Class<?> type);
+
+	@Message(id = 258, value = "Only formatter#format(String, Object...) can be invoked in an expression.")
+	ValidationException getOnlyFormatterFormatIsSupportedInExpressionException();
+
+	@Message(id = 259, value = "Unable to parse the pattern matching step budget property %s. It should be a number of steps.")
+	ValidationException getUnableToParsePatternMatchingStepBudgetException(String stepBudgetProperty, @Cause Exception e);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = 260, value = "The step budget of %1$d was exceeded while matching the regular expression %2$s, the value is considered invalid.")
+	void patternMatchingStepBudgetExceeded(long stepBudget, String regexp);
+
+	@Message(id = 261, value = "Unable to parse the method validation exception message max length property %s. It should be a number of characters.")
+	ValidationException getUnableToParseMethodValidationExceptionMessageMaxLengthException(String maxLengthProperty, @Cause Exception e);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = 262, value = "Linear time pattern matching set to %1$b.")
+	void logLinearTimePatternMatching(boolean linearTimePatternMatching);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = 263, value = "Pattern matching step budget set to %1$d.")
+	void logPatternMatchingStepBudget(long stepBudget);
 }
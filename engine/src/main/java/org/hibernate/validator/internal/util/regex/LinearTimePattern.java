@@ -0,0 +1,820 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.util.regex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * A regular expression engine guaranteeing a matching time linear in the length of the input, by simulating a
+ * Thompson NFA instead of backtracking.
+ * <p>
+ * Only a subset of the {@link Pattern} syntax is supported: literals, {@code .}, character classes without nested
+ * classes nor intersections, the {@code \d}, {@code \w}, {@code \s} predefined classes and their negations, capturing
+ * and non capturing groups, alternations, greedy and reluctant quantifiers, {@code ^} and {@code $}. The
+ * {@link Pattern#CASE_INSENSITIVE} and {@link Pattern#DOTALL} flags are supported.
+ * <p>
+ * {@link #compile(String, int)} returns {@code null} for any other construct so that the caller can fall back to
+ * {@code java.util.regex}. The regular expression is expected to have been validated by
+ * {@link Pattern#compile(String, int)} beforehand.
+ */
+public final class LinearTimePattern {
+
+	private static final int SUPPORTED_FLAGS = Pattern.CASE_INSENSITIVE | Pattern.DOTALL;
+
+	/**
+	 * The maximum number of states of the automaton, counted repetitions being expanded.
+	 */
+	private static final int MAX_STATES = 10_000;
+
+	private static final int UNBOUNDED = -1;
+
+	private static final byte CHARACTER = 0;
+	private static final byte CHARACTER_CLASS = 1;
+	private static final byte ANY = 2;
+	private static final byte SPLIT = 3;
+	private static final byte BEGIN = 4;
+	private static final byte END = 5;
+	private static final byte MATCH = 6;
+
+	private final byte[] types;
+
+	private final int[] codePoints;
+
+	private final CharacterClass[] characterClasses;
+
+	private final int[] out1;
+
+	private final int[] out2;
+
+	private final int startState;
+
+	private final boolean caseInsensitive;
+
+	private final boolean dotAll;
+
+	private LinearTimePattern(Automaton automaton, int startState, boolean caseInsensitive, boolean dotAll) {
+		int stateCount = automaton.stateCount;
+		this.types = Arrays.copyOf( automaton.types, stateCount );
+		this.codePoints = Arrays.copyOf( automaton.codePoints, stateCount );
+		this.characterClasses = Arrays.copyOf( automaton.characterClasses, stateCount );
+		this.out1 = Arrays.copyOf( automaton.out1, stateCount );
+		this.out2 = Arrays.copyOf( automaton.out2, stateCount );
+		this.startState = startState;
+		this.caseInsensitive = caseInsensitive;
+		this.dotAll = dotAll;
+	}
+
+	/**
+	 * Compiles the given regular expression.
+	 *
+	 * @param regexp the regular expression
+	 * @param flags the {@link Pattern} flags
+	 *
+	 * @return the compiled pattern or {@code null} if the regular expression uses a construct not supported by this
+	 * engine
+	 */
+	public static LinearTimePattern compile(String regexp, int flags) {
+		if ( ( flags & ~SUPPORTED_FLAGS ) != 0 ) {
+			return null;
+		}
+
+		boolean caseInsensitive = ( flags & Pattern.CASE_INSENSITIVE ) != 0;
+		try {
+			Node node = new Parser( regexp, caseInsensitive ).parse();
+
+			Automaton automaton = new Automaton();
+			int startState = node.compile( automaton, automaton.addState( MATCH ) );
+
+			return new LinearTimePattern( automaton, startState, caseInsensitive, ( flags & Pattern.DOTALL ) != 0 );
+		}
+		catch (UnsupportedRegexpException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Checks whether the entire value matches the pattern, as {@link java.util.regex.Matcher#matches()} does.
+	 *
+	 * @param value the value to match
+	 * @param stepBudget the maximum number of steps allowed, a value less than or equal to 0 meaning no limit
+	 *
+	 * @return {@code true} if the value matches the pattern
+	 *
+	 * @throws StepBudgetExceededException if the step budget is exhausted
+	 */
+	public boolean matches(CharSequence value, long stepBudget) {
+		int stateCount = types.length;
+		int[] currentStates = new int[stateCount];
+		int[] nextStates = new int[stateCount];
+		int[] generations = new int[stateCount];
+		int[] stack = new int[2 * stateCount + 1];
+		long remainingSteps = stepBudget > 0 ? stepBudget : Long.MAX_VALUE;
+
+		int generation = 1;
+		int currentCount = addClosure( startState, value, 0, currentStates, 0, generations, generation, stack );
+		remainingSteps -= currentCount;
+
+		int length = value.length();
+		int position = 0;
+		while ( position < length ) {
+			if ( currentCount == 0 ) {
+				return false;
+			}
+			if ( remainingSteps < 0 ) {
+				throw StepBudgetExceededException.INSTANCE;
+			}
+
+			int codePoint = Character.codePointAt( value, position );
+			int nextPosition = position + Character.charCount( codePoint );
+
+			generation++;
+			int nextCount = 0;
+			for ( int i = 0; i < currentCount; i++ ) {
+				int state = currentStates[i];
+				if ( accepts( state, codePoint ) ) {
+					nextCount = addClosure( out1[state], value, nextPosition, nextStates, nextCount, generations, generation, stack );
+				}
+			}
+			remainingSteps -= currentCount + nextCount;
+
+			int[] tmp = currentStates;
+			currentStates = nextStates;
+			nextStates = tmp;
+			currentCount = nextCount;
+			position = nextPosition;
+		}
+
+		for ( int i = 0; i < currentCount; i++ ) {
+			if ( types[currentStates[i]] == MATCH ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Adds the states reachable from the given state without consuming any character to the list.
+	 *
+	 * @return the new size of the list
+	 */
+	private int addClosure(int state, CharSequence value, int position, int[] states, int count, int[] generations, int generation, int[] stack) {
+		int stackSize = 0;
+		stack[stackSize++] = state;
+		while ( stackSize > 0 ) {
+			int current = stack[--stackSize];
+			if ( generations[current] == generation ) {
+				continue;
+			}
+			generations[current] = generation;
+
+			switch ( types[current] ) {
+				case SPLIT:
+					stack[stackSize++] = out2[current];
+					stack[stackSize++] = out1[current];
+					break;
+				case BEGIN:
+					if ( position == 0 ) {
+						stack[stackSize++] = out1[current];
+					}
+					break;
+				case END:
+					if ( isEnd( value, position ) ) {
+						stack[stackSize++] = out1[current];
+					}
+					break;
+				default:
+					states[count++] = current;
+			}
+		}
+		return count;
+	}
+
+	private boolean accepts(int state, int codePoint) {
+		switch ( types[state] ) {
+			case CHARACTER:
+				int expected = codePoints[state];
+				return codePoint == expected || ( caseInsensitive && isAsciiLetter( expected ) && ( codePoint ^ 0x20 ) == expected );
+			case CHARACTER_CLASS:
+				CharacterClass characterClass = characterClasses[state];
+				if ( characterClass.contains( codePoint ) || ( caseInsensitive && isAsciiLetter( codePoint ) && characterClass.contains( codePoint ^ 0x20 ) ) ) {
+					return !characterClass.negated;
+				}
+				return characterClass.negated;
+			case ANY:
+				return dotAll || !isLineTerminator( codePoint );
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Mimics the behavior of {@code $} in {@link Pattern}: it matches at the end of the input and before a line
+	 * terminator ending the input.
+	 */
+	private static boolean isEnd(CharSequence value, int position) {
+		int length = value.length();
+		if ( position == length ) {
+			return true;
+		}
+		if ( position == length - 2 ) {
+			return value.charAt( position ) == '\r' && value.charAt( position + 1 ) == '\n';
+		}
+		if ( position == length - 1 ) {
+			char c = value.charAt( position );
+			if ( c == '\n' ) {
+				return position == 0 || value.charAt( position - 1 ) != '\r';
+			}
+			return isLineTerminator( c );
+		}
+		return false;
+	}
+
+	private static boolean isLineTerminator(int codePoint) {
+		return codePoint == '\n' || codePoint == '\r' || codePoint == '\u0085' || ( codePoint | 1 ) == '\u2029';
+	}
+
+	private static boolean isAsciiLetter(int codePoint) {
+		return ( codePoint >= 'a' && codePoint <= 'z' ) || ( codePoint >= 'A' && codePoint <= 'Z' );
+	}
+
+	private static final class Automaton {
+
+		private byte[] types = new byte[16];
+		private int[] codePoints = new int[16];
+		private CharacterClass[] characterClasses = new CharacterClass[16];
+		private int[] out1 = new int[16];
+		private int[] out2 = new int[16];
+		private int stateCount;
+
+		private int addState(byte type) {
+			if ( stateCount == MAX_STATES ) {
+				throw UnsupportedRegexpException.INSTANCE;
+			}
+			if ( stateCount == types.length ) {
+				int newLength = types.length * 2;
+				types = Arrays.copyOf( types, newLength );
+				codePoints = Arrays.copyOf( codePoints, newLength );
+				characterClasses = Arrays.copyOf( characterClasses, newLength );
+				out1 = Arrays.copyOf( out1, newLength );
+				out2 = Arrays.copyOf( out2, newLength );
+			}
+			types[stateCount] = type;
+			return stateCount++;
+		}
+
+		private int addState(byte type, int next) {
+			int state = addState( type );
+			out1[state] = next;
+			return state;
+		}
+
+		private int addSplit(int next1, int next2) {
+			int state = addState( SPLIT );
+			out1[state] = next1;
+			out2[state] = next2;
+			return state;
+		}
+	}
+
+	/**
+	 * A node of the syntax tree. It is compiled backwards: each node is given the state following it and returns its
+	 * entry state.
+	 */
+	private abstract static class Node {
+
+		abstract int compile(Automaton automaton, int next);
+
+		boolean isAssertion() {
+			return false;
+		}
+	}
+
+	private static final class CharacterNode extends Node {
+
+		private final int codePoint;
+
+		private CharacterNode(int codePoint) {
+			this.codePoint = codePoint;
+		}
+
+		@Override
+		int compile(Automaton automaton, int next) {
+			int state = automaton.addState( CHARACTER, next );
+			automaton.codePoints[state] = codePoint;
+			return state;
+		}
+	}
+
+	private static final class CharacterClassNode extends Node {
+
+		private final CharacterClass characterClass;
+
+		private CharacterClassNode(CharacterClass characterClass) {
+			this.characterClass = characterClass;
+		}
+
+		@Override
+		int compile(Automaton automaton, int next) {
+			int state = automaton.addState( CHARACTER_CLASS, next );
+			automaton.characterClasses[state] = characterClass;
+			return state;
+		}
+	}
+
+	private static final class SimpleNode extends Node {
+
+		private final byte type;
+
+		private SimpleNode(byte type) {
+			this.type = type;
+		}
+
+		@Override
+		int compile(Automaton automaton, int next) {
+			return automaton.addState( type, next );
+		}
+
+		@Override
+		boolean isAssertion() {
+			return type == BEGIN || type == END;
+		}
+	}
+
+	private static final class ConcatenationNode extends Node {
+
+		private final List<Node> nodes;
+
+		private ConcatenationNode(List<Node> nodes) {
+			this.nodes = nodes;
+		}
+
+		@Override
+		int compile(Automaton automaton, int next) {
+			int state = next;
+			for ( int i = nodes.size() - 1; i >= 0; i-- ) {
+				state = nodes.get( i ).compile( automaton, state );
+			}
+			return state;
+		}
+	}
+
+	private static final class AlternationNode extends Node {
+
+		private final List<Node> nodes;
+
+		private AlternationNode(List<Node> nodes) {
+			this.nodes = nodes;
+		}
+
+		@Override
+		int compile(Automaton automaton, int next) {
+			int state = nodes.get( nodes.size() - 1 ).compile( automaton, next );
+			for ( int i = nodes.size() - 2; i >= 0; i-- ) {
+				state = automaton.addSplit( nodes.get( i ).compile( automaton, next ), state );
+			}
+			return state;
+		}
+	}
+
+	private static final class RepetitionNode extends Node {
+
+		private final Node node;
+
+		private final int min;
+
+		private final int max;
+
+		private RepetitionNode(Node node, int min, int max) {
+			this.node = node;
+			this.min = min;
+			this.max = max;
+		}
+
+		@Override
+		int compile(Automaton automaton, int next) {
+			int state;
+			if ( max == UNBOUNDED ) {
+				int loop = automaton.addSplit( -1, next );
+				// the arrays of the automaton might be reallocated when compiling the node
+				int body = node.compile( automaton, loop );
+				automaton.out1[loop] = body;
+				state = loop;
+			}
+			else {
+				state = next;
+				for ( int i = min; i < max; i++ ) {
+					state = automaton.addSplit( node.compile( automaton, state ), next );
+				}
+			}
+			for ( int i = 0; i < min; i++ ) {
+				state = node.compile( automaton, state );
+			}
+			return state;
+		}
+	}
+
+	/**
+	 * A set of code point ranges.
+	 */
+	private static final class CharacterClass {
+
+		private static final CharacterClass DIGITS = new CharacterClass( new int[] { '0', '9' }, false );
+		private static final CharacterClass WORD_CHARACTERS = new CharacterClass( new int[] { '0', '9', 'A', 'Z', '_', '_', 'a', 'z' }, false );
+		private static final CharacterClass WHITESPACES = new CharacterClass( new int[] { '\t', '\r', ' ', ' ' }, false );
+
+		private final int[] ranges;
+
+		private final boolean negated;
+
+		private CharacterClass(int[] ranges, boolean negated) {
+			this.ranges = ranges;
+			this.negated = negated;
+		}
+
+		private boolean contains(int codePoint) {
+			for ( int i = 0; i < ranges.length; i += 2 ) {
+				if ( codePoint >= ranges[i] && codePoint <= ranges[i + 1] ) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * @return the ranges of the complement of this class, which must not be negated and whose ranges must be
+		 * sorted
+		 */
+		private int[] complementRanges() {
+			int[] complement = new int[ranges.length + 2];
+			int size = 0;
+			int start = 0;
+			for ( int i = 0; i < ranges.length; i += 2 ) {
+				if ( ranges[i] > start ) {
+					complement[size++] = start;
+					complement[size++] = ranges[i] - 1;
+				}
+				start = ranges[i + 1] + 1;
+			}
+			if ( start <= Character.MAX_CODE_POINT ) {
+				complement[size++] = start;
+				complement[size++] = Character.MAX_CODE_POINT;
+			}
+			return Arrays.copyOf( complement, size );
+		}
+	}
+
+	private static final class Parser {
+
+		private final String regexp;
+
+		private final boolean caseInsensitive;
+
+		private int position;
+
+		private Parser(String regexp, boolean caseInsensitive) {
+			this.regexp = regexp;
+			this.caseInsensitive = caseInsensitive;
+		}
+
+		private Node parse() {
+			Node node = parseAlternation();
+			if ( position < regexp.length() ) {
+				throw UnsupportedRegexpException.INSTANCE;
+			}
+			return node;
+		}
+
+		private Node parseAlternation() {
+			List<Node> alternatives = new ArrayList<>();
+			alternatives.add( parseConcatenation() );
+			while ( position < regexp.length() && regexp.charAt( position ) == '|' ) {
+				position++;
+				alternatives.add( parseConcatenation() );
+			}
+			return alternatives.size() == 1 ? alternatives.get( 0 ) : new AlternationNode( alternatives );
+		}
+
+		private Node parseConcatenation() {
+			List<Node> nodes = new ArrayList<>();
+			while ( position < regexp.length() && regexp.charAt( position ) != '|' && regexp.charAt( position ) != ')' ) {
+				nodes.add( parseRepetition() );
+			}
+			return nodes.size() == 1 ? nodes.get( 0 ) : new ConcatenationNode( nodes );
+		}
+
+		private Node parseRepetition() {
+			Node node = parseAtom();
+			if ( position == regexp.length() ) {
+				return node;
+			}
+
+			int min;
+			int max;
+			switch ( regexp.charAt( position ) ) {
+				case '*':
+					min = 0;
+					max = UNBOUNDED;
+					position++;
+					break;
+				case '+':
+					min = 1;
+					max = UNBOUNDED;
+					position++;
+					break;
+				case '?':
+					min = 0;
+					max = 1;
+					position++;
+					break;
+				case '{':
+					position++;
+					min = parseNumber();
+					if ( peek( ',' ) ) {
+						position++;
+						max = peek( '}' ) ? UNBOUNDED : parseNumber();
+					}
+					else {
+						max = min;
+					}
+					expect( '}' );
+					break;
+				default:
+					return node;
+			}
+
+			if ( node.isAssertion() || ( max != UNBOUNDED && max < min ) ) {
+				throw UnsupportedRegexpException.INSTANCE;
+			}
+			if ( peek( '?' ) ) {
+				// a reluctant quantifier does not change the outcome of a full match
+				position++;
+			}
+			if ( position < regexp.length() && "*+?{".indexOf( regexp.charAt( position ) ) >= 0 ) {
+				// possessive quantifier
+				throw UnsupportedRegexpException.INSTANCE;
+			}
+
+			return new RepetitionNode( node, min, max );
+		}
+
+		private Node parseAtom() {
+			int codePoint = nextCodePoint();
+			switch ( codePoint ) {
+				case '(':
+					if ( peek( '?' ) ) {
+						position++;
+						if ( peek( ':' ) ) {
+							position++;
+						}
+						else if ( peek( '<' ) && position + 1 < regexp.length() && Character.isLetter( regexp.charAt( position + 1 ) ) ) {
+							// named group
+							int end = regexp.indexOf( '>', position );
+							if ( end < 0 ) {
+								throw UnsupportedRegexpException.INSTANCE;
+							}
+							position = end + 1;
+						}
+						else {
+							// lookarounds, inline flags, atomic groups...
+							throw UnsupportedRegexpException.INSTANCE;
+						}
+					}
+					Node group = parseAlternation();
+					expect( ')' );
+					return group;
+				case '[':
+					return new CharacterClassNode( parseCharacterClass() );
+				case '.':
+					return new SimpleNode( ANY );
+				case '^':
+					return new SimpleNode( BEGIN );
+				case '$':
+					return new SimpleNode( END );
+				case '\\':
+					return parseEscape( false );
+				case '*':
+				case '+':
+				case '?':
+				case '{':
+				case ')':
+					throw UnsupportedRegexpException.INSTANCE;
+				default:
+					return new CharacterNode( codePoint );
+			}
+		}
+
+		private CharacterClass parseCharacterClass() {
+			boolean negated = false;
+			if ( peek( '^' ) ) {
+				negated = true;
+				position++;
+			}
+			if ( negated && caseInsensitive ) {
+				throw UnsupportedRegexpException.INSTANCE;
+			}
+			if ( peek( ']' ) ) {
+				throw UnsupportedRegexpException.INSTANCE;
+			}
+
+			List<int[]> ranges = new ArrayList<>();
+			boolean first = true;
+			while ( !peek( ']' ) ) {
+				if ( position == regexp.length() || peek( '[' ) || regexp.startsWith( "&&", position ) ) {
+					throw UnsupportedRegexpException.INSTANCE;
+				}
+				if ( !first && peek( '-' ) && position + 1 < regexp.length() && regexp.charAt( position + 1 ) != ']' ) {
+					throw UnsupportedRegexpException.INSTANCE;
+				}
+				first = false;
+
+				int start;
+				if ( peek( '\\' ) ) {
+					position++;
+					Node escaped = parseEscape( true );
+					if ( escaped instanceof CharacterClassNode ) {
+						if ( peek( '-' ) ) {
+							throw UnsupportedRegexpException.INSTANCE;
+						}
+						ranges.add( ( (CharacterClassNode) escaped ).characterClass.ranges );
+						continue;
+					}
+					start = ( (CharacterNode) escaped ).codePoint;
+				}
+				else {
+					start = nextCodePoint();
+				}
+
+				int end = start;
+				if ( peek( '-' ) && position + 1 < regexp.length() && regexp.charAt( position + 1 ) != ']' ) {
+					position++;
+					if ( peek( '[' ) ) {
+						throw UnsupportedRegexpException.INSTANCE;
+					}
+					if ( peek( '\\' ) ) {
+						position++;
+						Node escaped = parseEscape( true );
+						if ( !( escaped instanceof CharacterNode ) ) {
+							throw UnsupportedRegexpException.INSTANCE;
+						}
+						end = ( (CharacterNode) escaped ).codePoint;
+					}
+					else {
+						end = nextCodePoint();
+					}
+					if ( end < start ) {
+						throw UnsupportedRegexpException.INSTANCE;
+					}
+				}
+				ranges.add( new int[] { start, end } );
+			}
+			position++;
+
+			int size = 0;
+			for ( int[] range : ranges ) {
+				size += range.length;
+			}
+			int[] allRanges = new int[size];
+			int i = 0;
+			for ( int[] range : ranges ) {
+				System.arraycopy( range, 0, allRanges, i, range.length );
+				i += range.length;
+			}
+			return new CharacterClass( allRanges, negated );
+		}
+
+		/**
+		 * Parses the escape sequence following a backslash.
+		 *
+		 * @return a {@link CharacterNode} or a {@link CharacterClassNode} for the predefined character classes
+		 */
+		private Node parseEscape(boolean inCharacterClass) {
+			if ( position == regexp.length() ) {
+				throw UnsupportedRegexpException.INSTANCE;
+			}
+			int codePoint = nextCodePoint();
+			switch ( codePoint ) {
+				case 'd':
+					return new CharacterClassNode( CharacterClass.DIGITS );
+				case 'D':
+					return new CharacterClassNode( new CharacterClass( CharacterClass.DIGITS.complementRanges(), false ) );
+				case 'w':
+					return new CharacterClassNode( CharacterClass.WORD_CHARACTERS );
+				case 'W':
+					return new CharacterClassNode( new CharacterClass( CharacterClass.WORD_CHARACTERS.complementRanges(), false ) );
+				case 's':
+					return new CharacterClassNode( CharacterClass.WHITESPACES );
+				case 'S':
+					return new CharacterClassNode( new CharacterClass( CharacterClass.WHITESPACES.complementRanges(), false ) );
+				case 't':
+					return new CharacterNode( '\t' );
+				case 'n':
+					return new CharacterNode( '\n' );
+				case 'r':
+					return new CharacterNode( '\r' );
+				case 'f':
+					return new CharacterNode( '\f' );
+				case 'a':
+					return new CharacterNode( '\u0007' );
+				case 'e':
+					return new CharacterNode( '\u001B' );
+				case 'x':
+					if ( peek( '{' ) ) {
+						position++;
+						int end = regexp.indexOf( '}', position );
+						if ( end < 0 ) {
+							throw UnsupportedRegexpException.INSTANCE;
+						}
+						int hexCodePoint = parseHex( end );
+						position++;
+						return new CharacterNode( checkNotSurrogate( hexCodePoint ) );
+					}
+					return new CharacterNode( parseHex( position + 2 ) );
+				case 'u':
+					return new CharacterNode( checkNotSurrogate( parseHex( position + 4 ) ) );
+				default:
+					if ( codePoint < 128 && Character.isLetterOrDigit( codePoint ) ) {
+						// back references, boundaries, Unicode classes, quotations...
+						throw UnsupportedRegexpException.INSTANCE;
+					}
+					return new CharacterNode( codePoint );
+			}
+		}
+
+		private int parseHex(int end) {
+			if ( end > regexp.length() || end == position ) {
+				throw UnsupportedRegexpException.INSTANCE;
+			}
+			int value = 0;
+			for ( ; position < end; position++ ) {
+				int digit = Character.digit( regexp.charAt( position ), 16 );
+				if ( digit < 0 || value > Character.MAX_CODE_POINT ) {
+					throw UnsupportedRegexpException.INSTANCE;
+				}
+				value = value * 16 + digit;
+			}
+			if ( value > Character.MAX_CODE_POINT ) {
+				throw UnsupportedRegexpException.INSTANCE;
+			}
+			return value;
+		}
+
+		private int parseNumber() {
+			int start = position;
+			int value = 0;
+			while ( position < regexp.length() && regexp.charAt( position ) >= '0' && regexp.charAt( position ) <= '9' ) {
+				value = value * 10 + ( regexp.charAt( position ) - '0' );
+				if ( value > MAX_STATES ) {
+					throw UnsupportedRegexpException.INSTANCE;
+				}
+				position++;
+			}
+			if ( position == start ) {
+				throw UnsupportedRegexpException.INSTANCE;
+			}
+			return value;
+		}
+
+		private int nextCodePoint() {
+			int codePoint = regexp.codePointAt( position );
+			position += Character.charCount( codePoint );
+			return checkNotSurrogate( codePoint );
+		}
+
+		private boolean peek(char c) {
+			return position < regexp.length() && regexp.charAt( position ) == c;
+		}
+
+		private void expect(char c) {
+			if ( !peek( c ) ) {
+				throw UnsupportedRegexpException.INSTANCE;
+			}
+			position++;
+		}
+
+		private static int checkNotSurrogate(int codePoint) {
+			if ( codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE ) {
+				throw UnsupportedRegexpException.INSTANCE;
+			}
+			return codePoint;
+		}
+	}
+
+	/**
+	 * Thrown by the parser when a construct is not supported.
+	 */
+	private static final class UnsupportedRegexpException extends RuntimeException {
+
+		private static final UnsupportedRegexpException INSTANCE = new UnsupportedRegexpException();
+
+		private UnsupportedRegexpException() {
+			super( null, null, false, false );
+		}
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.util.regex;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
+import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintArtifactKey;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+
+/**
+ * Compiles the regular expressions of the constraints once per validator factory, sharing the compiled patterns
+ * between all the constraint validators using the same regular expression and flags.
+ */
+public final class SharedPatterns {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private SharedPatterns() {
+	}
+
+	/**
+	 * @throws IllegalArgumentException if the regular expression is invalid
+	 */
+	public static Pattern getPattern(HibernateConstraintValidatorInitializationContext initializationContext, String regexp, int flags) {
+		return initializationContext.getConstraintArtifact( ConstraintArtifactKey.of( Pattern.class, regexp, flags ), key -> compile( (String) key.getAttribute( 0 ), (int) key.getAttribute( 1 ) ) );
+	}
+
+	/**
+	 * @return the linear time pattern or {@code null} if the regular expression uses constructs not supported by
+	 * {@link LinearTimePattern}
+	 */
+	public static LinearTimePattern getLinearTimePattern(HibernateConstraintValidatorInitializationContext initializationContext, String regexp, int flags) {
+		return initializationContext.getConstraintArtifact( ConstraintArtifactKey.of( LinearTimePattern.class, regexp, flags ), SharedPatterns::compileLinearTimePattern )
+				.orElse( null );
+	}
+
+	/**
+	 * Compiles the given regular expression without sharing it.
+	 *
+	 * @throws IllegalArgumentException if the regular expression is invalid
+	 */
+	public static Pattern compile(String regexp, int flags) {
+		try {
+			return Pattern.compile( regexp, flags );
+		}
+		catch (PatternSyntaxException e) {
+			throw LOG.getInvalidRegularExpressionException( e );
+		}
+	}
+
+	private static Optional<LinearTimePattern> compileLinearTimePattern(ConstraintArtifactKey key) {
+		return Optional.ofNullable( LinearTimePattern.compile( (String) key.getAttribute( 0 ), (int) key.getAttribute( 1 ) ) );
+	}
+}
@@ -0,0 +1,49 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.util.regex;
+
+/**
+ * A {@link CharSequence} counting the characters read and throwing a {@link StepBudgetExceededException} once the
+ * budget is exhausted.
+ * <p>
+ * Used to bound the work done by the backtracking {@code java.util.regex} engine: each step of the engine reads at
+ * least one character.
+ */
+public final class StepBudgetCharSequence implements CharSequence {
+
+	private final CharSequence delegate;
+
+	private long remainingSteps;
+
+	public StepBudgetCharSequence(CharSequence delegate, long stepBudget) {
+		this.delegate = delegate;
+		this.remainingSteps = stepBudget;
+	}
+
+	@Override
+	public int length() {
+		return delegate.length();
+	}
+
+	@Override
+	public char charAt(int index) {
+		if ( --remainingSteps < 0 ) {
+			throw StepBudgetExceededException.INSTANCE;
+		}
+		return delegate.charAt( index );
+	}
+
+	@Override
+	public CharSequence subSequence(int start, int end) {
+		return new StepBudgetCharSequence( delegate.subSequence( start, end ), remainingSteps );
+	}
+
+	@Override
+	public String toString() {
+		return delegate.toString();
+	}
+}
@@ -0,0 +1,21 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.util.regex;
+
+/**
+ * Thrown when the matching of a regular expression exceeds its step budget.
+ * <p>
+ * It is used for flow control only: it is never propagated to the user and does not capture a stack trace.
+ */
+public final class StepBudgetExceededException extends RuntimeException {
+
+	static final StepBudgetExceededException INSTANCE = new StepBudgetExceededException();
+
+	private StepBudgetExceededException() {
+		super( null, null, false, false );
+	}
+}
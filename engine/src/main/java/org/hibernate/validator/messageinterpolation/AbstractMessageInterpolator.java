@@ -16,18 +16,19 @@
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import javax.validation.MessageInterpolator;
 import javax.validation.ValidationException;
 
+import org.hibernate.validator.Incubating;
 import org.hibernate.validator.internal.engine.messageinterpolation.InterpolationTermType;
+import org.hibernate.validator.internal.engine.messageinterpolation.LocalizedConstraintMessage;
 import org.hibernate.validator.internal.engine.messageinterpolation.LocalizedMessage;
 import org.hibernate.validator.internal.engine.messageinterpolation.parser.MessageDescriptorFormatException;
 import org.hibernate.validator.internal.engine.messageinterpolation.parser.Token;
 import org.hibernate.validator.internal.engine.messageinterpolation.parser.TokenCollector;
 import org.hibernate.validator.internal.engine.messageinterpolation.parser.TokenIterator;
+import org.hibernate.validator.internal.engine.messageinterpolation.util.InterpolationHelper;
 import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
@@ -65,6 +66,11 @@ public abstract class AbstractMessageInterpolator implements MessageInterpolator
 	 */
 	private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
 
+	/**
+	 * The maximum number of interpolated messages kept in the cache.
+	 */
+	private static final int MAX_INTERPOLATED_MESSAGES = 10_000;
+
 	/**
 	 * The name of the default message bundle.
 	 */
@@ -117,16 +123,20 @@ public abstract class AbstractMessageInterpolator implements MessageInterpolator
 	 */
 	private final ConcurrentReferenceHashMap<String, List<Token>> tokenizedELMessages;
 
+	/**
+	 * The fully interpolated messages which depend neither on the validated value nor on the dynamic message parameters
+	 * and expression variables are cached in this map. They are cached per constraint descriptor as the descriptor
+	 * attributes are used for the interpolation.
+	 * <p>
+	 * A message is only cached if all its terms are declared cacheable by {@link #isInterpolationCacheable(String)}.
+	 */
+	private final ConcurrentReferenceHashMap<LocalizedConstraintMessage, String> interpolatedMessages;
+
 	/**
 	 * Flag indicating whether this interpolator should cache some of the interpolation steps.
 	 */
 	private final boolean cachingEnabled;
 
-	private static final Pattern LEFT_BRACE = Pattern.compile( "\\{", Pattern.LITERAL );
-	private static final Pattern RIGHT_BRACE = Pattern.compile( "\\}", Pattern.LITERAL );
-	private static final Pattern SLASH = Pattern.compile( "\\\\", Pattern.LITERAL );
-	private static final Pattern DOLLAR = Pattern.compile( "\\$", Pattern.LITERAL );
-
 	/**
 	 * {@code MessageInterpolator} using the default resource bundle locators.
 	 */
@@ -269,11 +279,20 @@ public AbstractMessageInterpolator(ResourceBundleLocator userResourceBundleLocat
 					SOFT,
 					EnumSet.noneOf( ConcurrentReferenceHashMap.Option.class )
 			);
+			this.interpolatedMessages = new ConcurrentReferenceHashMap<LocalizedConstraintMessage, String>(
+					DEFAULT_INITIAL_CAPACITY,
+					DEFAULT_LOAD_FACTOR,
+					DEFAULT_CONCURRENCY_LEVEL,
+					SOFT,
+					SOFT,
+					EnumSet.noneOf( ConcurrentReferenceHashMap.Option.class )
+			);
 		}
 		else {
 			resolvedMessages = null;
 			tokenizedParameterMessages = null;
 			tokenizedELMessages = null;
+			interpolatedMessages = null;
 		}
 	}
 
@@ -323,6 +342,16 @@ private String interpolateMessage(String message, Context context, Locale locale
 			return replaceEscapedLiterals( message );
 		}
 
+		// if the interpolation does not depend on dynamic variables, the message might have been interpolated already
+		// for this constraint
+		boolean cacheable = cachingEnabled && context.getConstraintDescriptor() != null && !hasDynamicVariables( context );
+		if ( cacheable && !interpolatedMessages.isEmpty() ) {
+			String interpolatedMessage = interpolatedMessages.get( new LocalizedConstraintMessage( message, locale, context.getConstraintDescriptor() ) );
+			if ( interpolatedMessage != null ) {
+				return interpolatedMessage;
+			}
+		}
+
 		String resolvedMessage = null;
 
 		// either retrieve message from cache, or if message is not yet there or caching is disabled,
@@ -337,26 +366,50 @@ private String interpolateMessage(String message, Context context, Locale locale
 		// there's no need for steps 2-3 unless there's `{param}`/`${expr}` in the message
 		if ( resolvedMessage.indexOf( '{' ) > -1 ) {
 			// resolve parameter expressions (step 2)
-			resolvedMessage = interpolateExpression(
-					new TokenIterator( getParameterTokens( resolvedMessage, tokenizedParameterMessages, InterpolationTermType.PARAMETER ) ),
-					context,
-					locale
-			);
+			TokenIterator tokenIterator = new TokenIterator( getParameterTokens( resolvedMessage, tokenizedParameterMessages, InterpolationTermType.PARAMETER ) );
+			cacheable &= interpolateExpression( tokenIterator, context, locale );
+			resolvedMessage = tokenIterator.getInterpolatedMessage();
 
 			// resolve EL expressions (step 3)
-			resolvedMessage = interpolateExpression(
-					new TokenIterator( getParameterTokens( resolvedMessage, tokenizedELMessages, InterpolationTermType.EL ) ),
-					context,
-					locale
-			);
+			tokenIterator = new TokenIterator( getParameterTokens( resolvedMessage, tokenizedELMessages, InterpolationTermType.EL ) );
+			cacheable &= interpolateExpression( tokenIterator, context, locale );
+
+			// last but not least we have to take care of escaped literals, it is done while building the final message
+			resolvedMessage = tokenIterator.getUnescapedInterpolatedMessage();
+
+			if ( cacheable ) {
+				cacheInterpolatedMessage( message, locale, context, resolvedMessage );
+			}
+
+			return resolvedMessage;
 		}
 
 		// last but not least we have to take care of escaped literals
 		resolvedMessage = replaceEscapedLiterals( resolvedMessage );
 
+		if ( cacheable ) {
+			cacheInterpolatedMessage( message, locale, context, resolvedMessage );
+		}
+
 		return resolvedMessage;
 	}
 
+	private boolean hasDynamicVariables(Context context) {
+		if ( !( context instanceof HibernateMessageInterpolatorContext ) ) {
+			return false;
+		}
+
+		HibernateMessageInterpolatorContext hibernateContext = (HibernateMessageInterpolatorContext) context;
+		return !hibernateContext.getMessageParameters().isEmpty() || !hibernateContext.getExpressionVariables().isEmpty();
+	}
+
+	private void cacheInterpolatedMessage(String message, Locale locale, Context context, String interpolatedMessage) {
+		// the cache is bounded: once full, we simply stop caching new messages
+		if ( interpolatedMessages.size() < MAX_INTERPOLATED_MESSAGES ) {
+			interpolatedMessages.putIfAbsent( new LocalizedConstraintMessage( message, locale, context.getConstraintDescriptor() ), interpolatedMessage );
+		}
+	}
+
 	private List<Token> getParameterTokens(String resolvedMessage, ConcurrentReferenceHashMap<String, List<Token>> cache, InterpolationTermType termType) {
 		if ( cachingEnabled ) {
 			return cache.computeIfAbsent(
@@ -416,13 +469,7 @@ private String resolveMessage(String message, Locale locale) {
 	}
 
 	private String replaceEscapedLiterals(String resolvedMessage) {
-		if ( resolvedMessage.indexOf( '\\' ) > -1 ) {
-			resolvedMessage = LEFT_BRACE.matcher( resolvedMessage ).replaceAll( "{" );
-			resolvedMessage = RIGHT_BRACE.matcher( resolvedMessage ).replaceAll( "}" );
-			resolvedMessage = SLASH.matcher( resolvedMessage ).replaceAll( Matcher.quoteReplacement( "\\" ) );
-			resolvedMessage = DOLLAR.matcher( resolvedMessage ).replaceAll( Matcher.quoteReplacement( "$" ) );
-		}
-		return resolvedMessage;
+		return InterpolationHelper.unescapeMessage( resolvedMessage );
 	}
 
 	private boolean hasReplacementTakenPlace(String origMessage, String newMessage) {
@@ -443,19 +490,44 @@ private String interpolateBundleMessage(String message, ResourceBundle bundle, L
 		return tokenIterator.getInterpolatedMessage();
 	}
 
-	private String interpolateExpression(TokenIterator tokenIterator, Context context, Locale locale)
+	/**
+	 * Interpolates the terms of the given token iterator.
+	 *
+	 * @return {@code true} if the interpolation of all the terms is cacheable, {@code false} otherwise
+	 */
+	private boolean interpolateExpression(TokenIterator tokenIterator, Context context, Locale locale)
 			throws MessageDescriptorFormatException {
+		boolean cacheable = true;
 		while ( tokenIterator.hasMoreInterpolationTerms() ) {
 			String term = tokenIterator.nextInterpolationTerm();
+			cacheable = cacheable && isInterpolationCacheable( term );
 
 			String resolvedExpression = interpolate( context, locale, term );
 			tokenIterator.replaceCurrentInterpolationTerm( resolvedExpression );
 		}
-		return tokenIterator.getInterpolatedMessage();
+		return cacheable;
 	}
 
 	public abstract String interpolate(Context context, Locale locale, String term);
 
+	/**
+	 * Returns whether the result of {@link #interpolate(Context, Locale, String)} for the given term only depends on
+	 * the term, the locale and the attributes of the constraint. The interpolated messages are only cached if all their
+	 * terms are cacheable, in which case they are reused for all the violations of a given constraint.
+	 * <p>
+	 * The default implementation returns {@code false}, i.e. the caching of the interpolated messages is opt-in.
+	 *
+	 * @param term the parameter or expression to interpolate, including its delimiters
+	 *
+	 * @return {@code true} if the interpolation of the given term can be cached, {@code false} otherwise
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	protected boolean isInterpolationCacheable(String term) {
+		return false;
+	}
+
 	private String resolveParameter(String parameterName, ResourceBundle bundle, Locale locale, boolean recursive)
 			throws MessageDescriptorFormatException {
 		String parameterValue;
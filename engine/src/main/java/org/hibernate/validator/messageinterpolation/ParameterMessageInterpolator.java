@@ -46,4 +46,11 @@ public String interpolate(Context context, Locale locale, String term) {
 			return parameterTermResolver.interpolate( context, term );
 		}
 	}
+
+	@Override
+	protected boolean isInterpolationCacheable(String term) {
+		// the parameters are resolved from the constraint attributes and the expressions are left as is, but a subclass
+		// might interpolate the terms differently
+		return getClass() == ParameterMessageInterpolator.class;
+	}
 }
@@ -6,21 +6,18 @@
  */
 package org.hibernate.validator.messageinterpolation;
 
-import java.lang.invoke.MethodHandles;
-import java.security.AccessController;
-import java.security.PrivilegedAction;
 import java.util.Collections;
 import java.util.Locale;
 import java.util.Set;
 
-import javax.el.ELManager;
 import javax.el.ExpressionFactory;
 
+import org.hibernate.validator.Incubating;
+import org.hibernate.validator.internal.engine.messageinterpolation.ElExpressionEvaluator;
 import org.hibernate.validator.internal.engine.messageinterpolation.InterpolationTerm;
-import org.hibernate.validator.internal.util.logging.Log;
-import org.hibernate.validator.internal.util.logging.LoggerFactory;
-import org.hibernate.validator.internal.util.privilegedactions.GetClassLoader;
-import org.hibernate.validator.internal.util.privilegedactions.SetContextClassLoader;
+import org.hibernate.validator.internal.engine.messageinterpolation.ParameterTermResolver;
+import org.hibernate.validator.internal.util.Contracts;
+import org.hibernate.validator.spi.messageinterpolation.ExpressionEvaluator;
 import org.hibernate.validator.spi.resourceloading.ResourceBundleLocator;
 
 /**
@@ -35,9 +32,10 @@
  */
 public class ResourceBundleMessageInterpolator extends AbstractMessageInterpolator {
 
-	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
-
-	private final ExpressionFactory expressionFactory;
+	/**
+	 * The evaluator of the expressions, based on the Expression Language unless another one is given.
+	 */
+	private final ExpressionEvaluator expressionEvaluator;
 
 	public ResourceBundleMessageInterpolator() {
 		this( Collections.emptySet() );
@@ -70,19 +68,19 @@ public ResourceBundleMessageInterpolator(ResourceBundleLocator userResourceBundl
 
 	public ResourceBundleMessageInterpolator(Set<Locale> localesToInitialize) {
 		super( localesToInitialize );
-		this.expressionFactory = buildExpressionFactory();
+		this.expressionEvaluator = new ElExpressionEvaluator();
 	}
 
 	public ResourceBundleMessageInterpolator(ResourceBundleLocator userResourceBundleLocator, Set<Locale> localesToInitialize) {
 		super( userResourceBundleLocator, localesToInitialize );
-		this.expressionFactory = buildExpressionFactory();
+		this.expressionEvaluator = new ElExpressionEvaluator();
 	}
 
 	public ResourceBundleMessageInterpolator(ResourceBundleLocator userResourceBundleLocator,
 			ResourceBundleLocator contributorResourceBundleLocator,
 			Set<Locale> localesToInitialize) {
 		super( userResourceBundleLocator, contributorResourceBundleLocator, localesToInitialize );
-		this.expressionFactory = buildExpressionFactory();
+		this.expressionEvaluator = new ElExpressionEvaluator();
 	}
 
 	public ResourceBundleMessageInterpolator(ResourceBundleLocator userResourceBundleLocator,
@@ -90,12 +88,12 @@ public ResourceBundleMessageInterpolator(ResourceBundleLocator userResourceBundl
 			Set<Locale> localesToInitialize,
 			boolean cachingEnabled) {
 		super( userResourceBundleLocator, contributorResourceBundleLocator, localesToInitialize, cachingEnabled );
-		this.expressionFactory = buildExpressionFactory();
+		this.expressionEvaluator = new ElExpressionEvaluator();
 	}
 
 	public ResourceBundleMessageInterpolator(ResourceBundleLocator userResourceBundleLocator, Set<Locale> localesToInitialize, boolean cachingEnabled) {
 		super( userResourceBundleLocator, null, localesToInitialize, cachingEnabled );
-		this.expressionFactory = buildExpressionFactory();
+		this.expressionEvaluator = new ElExpressionEvaluator();
 	}
 
 	public ResourceBundleMessageInterpolator(ResourceBundleLocator userResourceBundleLocator,
@@ -103,84 +101,62 @@ public ResourceBundleMessageInterpolator(ResourceBundleLocator userResourceBundl
 			boolean cachingEnabled,
 			ExpressionFactory expressionFactory) {
 		super( userResourceBundleLocator, null, localesToInitialize, cachingEnabled );
-		this.expressionFactory = expressionFactory;
+		this.expressionEvaluator = new ElExpressionEvaluator( expressionFactory );
 	}
 
-	@Override
-	public String interpolate(Context context, Locale locale, String term) {
-		InterpolationTerm expression = new InterpolationTerm( term, locale, expressionFactory );
-		return expression.interpolate( context );
+	/**
+	 * {@code MessageInterpolator} delegating the evaluation of the expressions to the given
+	 * {@link ExpressionEvaluator} instead of the Expression Language. No Expression Language implementation is
+	 * required when using this constructor.
+	 *
+	 * @param expressionEvaluator the evaluator used to evaluate the expressions contained in the messages
+	 *
+	 * @since 6.1
+	 */
+	@Incubating
+	public ResourceBundleMessageInterpolator(ExpressionEvaluator expressionEvaluator) {
+		this( null, null, Collections.emptySet(), true, expressionEvaluator );
 	}
 
 	/**
-	 * The javax.el FactoryFinder uses the TCCL to load the {@link ExpressionFactory} implementation so we need to be
-	 * extra careful when initializing it.
+	 * {@code MessageInterpolator} delegating the evaluation of the expressions to the given
+	 * {@link ExpressionEvaluator} instead of the Expression Language. No Expression Language implementation is
+	 * required when using this constructor.
+	 *
+	 * @param userResourceBundleLocator {@code ResourceBundleLocator} used to load user provided resource bundle
+	 * @param contributorResourceBundleLocator {@code ResourceBundleLocator} used to load resource bundle of constraint contributor
+	 * @param localesToInitialize The set of locales to initialize at bootstrap.
+	 * @param cachingEnabled Whether resolved messages should be cached or not.
+	 * @param expressionEvaluator the evaluator used to evaluate the expressions contained in the messages
 	 *
-	 * @return the {@link ExpressionFactory}
+	 * @since 6.1
 	 */
-	private static ExpressionFactory buildExpressionFactory() {
-		// First, we try to load the instance from the original TCCL.
-		if ( canLoadExpressionFactory() ) {
-			ExpressionFactory expressionFactory = ELManager.getExpressionFactory();
-			LOG.debug( "Loaded expression factory via original TCCL" );
-			return expressionFactory;
-		}
+	@Incubating
+	public ResourceBundleMessageInterpolator(ResourceBundleLocator userResourceBundleLocator,
+			ResourceBundleLocator contributorResourceBundleLocator,
+			Set<Locale> localesToInitialize,
+			boolean cachingEnabled,
+			ExpressionEvaluator expressionEvaluator) {
+		super( userResourceBundleLocator, contributorResourceBundleLocator, localesToInitialize, cachingEnabled );
+		Contracts.assertValueNotNull( expressionEvaluator, "expressionEvaluator" );
+		this.expressionEvaluator = expressionEvaluator;
+	}
 
-		final ClassLoader originalContextClassLoader = run( GetClassLoader.fromContext() );
-
-		try {
-			// Then we try the Hibernate Validator class loader. In a fully-functional modular environment such as
-			// WildFly or Jigsaw, it is the way to go.
-			run( SetContextClassLoader.action( ResourceBundleMessageInterpolator.class.getClassLoader() ) );
-
-			if ( canLoadExpressionFactory() ) {
-				ExpressionFactory expressionFactory = ELManager.getExpressionFactory();
-				LOG.debug( "Loaded expression factory via HV classloader" );
-				return expressionFactory;
-			}
-
-			// Finally we try the CL of the EL module itself; the EL RI uses the TCCL to load the implementation from
-			// its own module, so this should work
-			run( SetContextClassLoader.action( ELManager.class.getClassLoader() ) );
-			if ( canLoadExpressionFactory() ) {
-				ExpressionFactory expressionFactory = ELManager.getExpressionFactory();
-				LOG.debug( "Loaded expression factory via EL classloader" );
-				return expressionFactory;
-			}
-		}
-		catch (Throwable e) {
-			throw LOG.getUnableToInitializeELExpressionFactoryException( e );
-		}
-		finally {
-			run( SetContextClassLoader.action( originalContextClassLoader ) );
+	@Override
+	public String interpolate(Context context, Locale locale, String term) {
+		if ( InterpolationTerm.isElExpression( term ) ) {
+			return expressionEvaluator.evaluate( term, context, locale );
 		}
 
-		// HV-793 - We fail eagerly in case we have no EL dependencies on the classpath
-		throw LOG.getUnableToInitializeELExpressionFactoryException( null );
+		return new ParameterTermResolver().interpolate( context, term );
 	}
 
-	/**
-	 * Instead of testing the different class loaders via {@link ELManager}, we directly access the
-	 * {@link ExpressionFactory}. This avoids issues with loading the {@code ELUtil} class (used by {@code ELManager})
-	 * after a failed attempt.
-	 */
-	private static boolean canLoadExpressionFactory() {
-		try {
-			ExpressionFactory.newInstance();
-			return true;
-		}
-		catch (Throwable e) {
+	@Override
+	protected boolean isInterpolationCacheable(String term) {
+		// a subclass might interpolate the terms differently, it has to opt in by overriding this method
+		if ( getClass() != ResourceBundleMessageInterpolator.class ) {
 			return false;
 		}
-	}
-
-	/**
-	 * Runs the given privileged action, using a privileged block if required.
-	 * <p>
-	 * <b>NOTE:</b> This must never be changed into a publicly available method to avoid execution of arbitrary
-	 * privileged actions within HV's protection domain.
-	 */
-	private static <T> T run(PrivilegedAction<T> action) {
-		return System.getSecurityManager() != null ? AccessController.doPrivileged( action ) : action.run();
+		return !InterpolationTerm.isElExpression( term ) || expressionEvaluator.isCacheable( term );
 	}
 }
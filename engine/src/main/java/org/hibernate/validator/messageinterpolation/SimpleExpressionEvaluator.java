@@ -0,0 +1,86 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.messageinterpolation;
+
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.SOFT;
+
+import java.lang.invoke.MethodHandles;
+import java.util.EnumSet;
+import java.util.Locale;
+
+import javax.validation.MessageInterpolator;
+
+import org.hibernate.validator.Incubating;
+import org.hibernate.validator.internal.engine.messageinterpolation.expression.CompiledExpression;
+import org.hibernate.validator.internal.engine.messageinterpolation.expression.ExpressionBindings;
+import org.hibernate.validator.internal.engine.messageinterpolation.expression.ExpressionCompiler;
+import org.hibernate.validator.internal.engine.messageinterpolation.expression.ExpressionPropertyNotFoundException;
+import org.hibernate.validator.internal.engine.messageinterpolation.expression.ExpressionSyntaxException;
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.spi.messageinterpolation.ExpressionEvaluator;
+
+/**
+ * A lightweight {@link ExpressionEvaluator} which does not require an Expression Language implementation.
+ * <p>
+ * It supports the subset of the Expression Language commonly used in constraint messages: literals, access to the
+ * variables and to their properties, arithmetic, relational and logical operators, string concatenation with
+ * {@code +=}, the conditional operator and calls to {@code formatter.format(...)}. Other method invocations, lambda
+ * expressions and collection constructions are not supported.
+ * <p>
+ * The expressions are compiled once to a tree of method handles and the compiled expressions are cached.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @since 6.1
+ */
+@Incubating
+public class SimpleExpressionEvaluator implements ExpressionEvaluator {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private static final String VALIDATED_VALUE_NAME = "validatedValue";
+
+	private static final int DEFAULT_INITIAL_CAPACITY = 100;
+	private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+	private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+	private final ConcurrentReferenceHashMap<String, CompiledExpression> compiledExpressions = new ConcurrentReferenceHashMap<>(
+			DEFAULT_INITIAL_CAPACITY,
+			DEFAULT_LOAD_FACTOR,
+			DEFAULT_CONCURRENCY_LEVEL,
+			SOFT,
+			SOFT,
+			EnumSet.noneOf( ConcurrentReferenceHashMap.Option.class )
+	);
+
+	@Override
+	public String evaluate(String expression, MessageInterpolator.Context context, Locale locale) {
+		try {
+			CompiledExpression compiledExpression = compiledExpressions.computeIfAbsent( expression, ExpressionCompiler::compile );
+			return compiledExpression.evaluate( new ExpressionBindings( context, locale ) );
+		}
+		catch (ExpressionPropertyNotFoundException e) {
+			LOG.unknownPropertyInExpressionLanguage( expression, e );
+		}
+		catch (ExpressionSyntaxException e) {
+			LOG.errorInExpressionLanguage( expression, e );
+		}
+		catch (Exception e) {
+			LOG.evaluatingExpressionLanguageExpressionCausedException( expression, e );
+		}
+
+		return expression;
+	}
+
+	@Override
+	public boolean isCacheable(String expression) {
+		// the formatter depends on the locale only, the other variables are the constraint attributes
+		return !expression.contains( VALIDATED_VALUE_NAME );
+	}
+}
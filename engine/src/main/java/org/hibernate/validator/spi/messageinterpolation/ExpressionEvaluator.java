@@ -0,0 +1,70 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.spi.messageinterpolation;
+
+import java.util.Locale;
+
+import javax.validation.MessageInterpolator;
+
+import org.hibernate.validator.Incubating;
+import org.hibernate.validator.messageinterpolation.ResourceBundleMessageInterpolator;
+import org.hibernate.validator.messageinterpolation.SimpleExpressionEvaluator;
+
+/**
+ * Evaluates the expressions (e.g. {@code ${validatedValue > 0 ? 'positive' : 'negative'}}) contained in message
+ * templates.
+ * <p>
+ * By default, {@link ResourceBundleMessageInterpolator} evaluates expressions using the Unified Expression Language.
+ * An {@code ExpressionEvaluator} can be passed to the interpolator to use an alternative engine, for instance
+ * {@link SimpleExpressionEvaluator} which does not require an Expression Language implementation.
+ * <p>
+ * Implementations must be thread-safe.
+ *
+ * @since 6.1
+ */
+@Incubating
+public interface ExpressionEvaluator {
+
+	/**
+	 * Evaluates the given expression.
+	 * <p>
+	 * The following variables should be made available to the expression:
+	 * <ul>
+	 * <li>the attributes of the constraint,</li>
+	 * <li>the expression variables if the context is a
+	 * {@link org.hibernate.validator.messageinterpolation.HibernateMessageInterpolatorContext},</li>
+	 * <li>{@code validatedValue}, the validated value,</li>
+	 * <li>{@code formatter}, an object exposing a {@code format(String format, Object... args)} method formatting
+	 * its arguments for the given locale.</li>
+	 * </ul>
+	 * <p>
+	 * If the expression cannot be evaluated, the expression itself should be returned so that it appears as is in
+	 * the interpolated message.
+	 *
+	 * @param expression the expression to evaluate, including the <code>${</code> and <code>}</code> delimiters
+	 * @param context the interpolation context
+	 * @param locale the locale used for the interpolation
+	 *
+	 * @return the result of the evaluation converted to a string
+	 */
+	String evaluate(String expression, MessageInterpolator.Context context, Locale locale);
+
+	/**
+	 * Returns whether the result of the evaluation of the given expression only depends on the expression, the locale
+	 * and the attributes of the constraint, e.g. because it does not reference {@code validatedValue}.
+	 * <p>
+	 * The interpolator caches the messages whose expressions are all cacheable. The default implementation returns
+	 * {@code false}.
+	 *
+	 * @param expression the expression, including the <code>${</code> and <code>}</code> delimiters
+	 *
+	 * @return {@code true} if the result of the evaluation can be cached, {@code false} otherwise
+	 */
+	default boolean isCacheable(String expression) {
+		return false;
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.constraintvalidators.bv;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.fail;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import org.hibernate.validator.internal.constraintvalidators.bv.number.DecimalScanner;
+import org.hibernate.validator.internal.constraintvalidators.bv.number.bound.decimal.DecimalBound;
+import org.testng.annotations.Test;
+
+/**
+ * Checks that {@link DecimalScanner} and {@link DecimalBound} give the same results as {@link BigDecimal}.
+ */
+public class DecimalScannerTest {
+
+	private static final String[] VALUES = {
+			"0", "-0", "+0", "00", "0.", ".0", "0.000", "1", "-1", "+1", "1.", ".5", "-.5", "0.05", "00.050", "12.50", "1200",
+			"-1200.00", "123456789012345678901234567890.123456789", "9223372036854775807", "9223372036854775808",
+			"-9223372036854775808", "-9223372036854775809", "9223372036854775807.5", "-9223372036854775808.5", "1E5", "1e-3",
+			"1E+1000"
+	};
+
+	private static final String[] INVALID_VALUES = { "", "-", "+", ".", "-.", "1.2.3", "1-2", "a", " 1", "1 ", "--1", "1e", "0x1" };
+
+	@Test
+	public void testLengthsMatchBigDecimal() {
+		for ( String value : VALUES ) {
+			assertLengthsMatchBigDecimal( value );
+		}
+
+		Random random = new Random( 42 );
+		for ( int i = 0; i < 100_000; i++ ) {
+			assertLengthsMatchBigDecimal( randomPlainDecimal( random ) );
+		}
+	}
+
+	@Test
+	public void testInvalidValues() {
+		for ( String value : INVALID_VALUES ) {
+			assertEquals( DecimalScanner.scan( value ), DecimalScanner.NOT_PLAIN, value );
+		}
+		assertEquals( DecimalScanner.scan( "1\u0661" ), DecimalScanner.NOT_PLAIN );
+		assertEquals( DecimalScanner.scan( "1e5" ), DecimalScanner.NOT_PLAIN );
+	}
+
+	@Test
+	public void testDigitCount() {
+		long[] values = { 0L, 1L, -1L, 9L, 10L, -10L, 99L, 100L, 1200L, Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE };
+		for ( long value : values ) {
+			BigDecimal bigDecimal = BigDecimal.valueOf( value ).stripTrailingZeros();
+			assertEquals( DecimalScanner.digitCount( value ), bigDecimal.precision() - bigDecimal.scale(), String.valueOf( value ) );
+		}
+	}
+
+	@Test
+	public void testCharSequenceComparisonsMatchBigDecimal() {
+		Random random = new Random( 42 );
+		for ( String bound : VALUES ) {
+			DecimalBound decimalBound = new DecimalBound( new BigDecimal( bound ) );
+			for ( String value : VALUES ) {
+				assertSameComparison( decimalBound, value );
+			}
+			for ( int i = 0; i < 2_000; i++ ) {
+				assertSameComparison( decimalBound, randomPlainDecimal( random ) );
+			}
+			for ( String value : INVALID_VALUES ) {
+				try {
+					decimalBound.compare( value );
+					fail( "Expected a NumberFormatException for " + value );
+				}
+				catch (NumberFormatException e) {
+					// expected
+				}
+			}
+		}
+
+		for ( int i = 0; i < 20_000; i++ ) {
+			String bound = randomPlainDecimal( random );
+			DecimalBound decimalBound = new DecimalBound( new BigDecimal( bound ) );
+			assertSameComparison( decimalBound, bound );
+			assertSameComparison( decimalBound, randomPlainDecimal( random ) );
+		}
+	}
+
+	@Test
+	public void testLongComparisonsMatchBigDecimal() {
+		long[] values = { 0L, 1L, -1L, 5L, 1200L, 1201L, Long.MAX_VALUE, Long.MAX_VALUE - 1, Long.MIN_VALUE, Long.MIN_VALUE + 1 };
+		for ( String bound : VALUES ) {
+			DecimalBound decimalBound = new DecimalBound( new BigDecimal( bound ) );
+			for ( long value : values ) {
+				assertEquals( Integer.signum( decimalBound.compare( value ) ), BigDecimal.valueOf( value ).compareTo( decimalBound.getValue() ),
+						value + " compared to " + bound );
+			}
+		}
+	}
+
+	@Test
+	public void testHugeBoundsAreComparedAsBigDecimals() {
+		DecimalBound decimalBound = new DecimalBound( new BigDecimal( "1E+100000" ) );
+		assertEquals( decimalBound.compare( "1" ), -1 );
+		assertEquals( decimalBound.compare( "1E+100001" ), 1 );
+		assertNotEquals( decimalBound.compare( Long.MAX_VALUE ), 1 );
+	}
+
+	private static void assertLengthsMatchBigDecimal(String value) {
+		int separator = DecimalScanner.scan( value );
+		if ( separator == DecimalScanner.NOT_PLAIN ) {
+			assertNotEquals( value.indexOf( 'E' ) + value.indexOf( 'e' ), -2, value );
+			return;
+		}
+
+		BigDecimal bigDecimal = new BigDecimal( value );
+		assertEquals( DecimalScanner.integerPartLength( value, separator, false ), bigDecimal.precision() - bigDecimal.scale(), value );
+		assertEquals( DecimalScanner.fractionPartLength( value, separator, false ), Math.max( bigDecimal.scale(), 0 ), value );
+
+		BigDecimal stripped = bigDecimal.stripTrailingZeros();
+		assertEquals( DecimalScanner.integerPartLength( value, separator, true ), stripped.precision() - stripped.scale(), value );
+		assertEquals( DecimalScanner.fractionPartLength( value, separator, true ), Math.max( stripped.scale(), 0 ), value );
+	}
+
+	private static void assertSameComparison(DecimalBound decimalBound, String value) {
+		assertEquals( Integer.signum( decimalBound.compare( value ) ), new BigDecimal( value ).compareTo( decimalBound.getValue() ),
+				value + " compared to " + decimalBound.getValue() );
+	}
+
+	private static String randomPlainDecimal(Random random) {
+		StringBuilder value = new StringBuilder();
+		int sign = random.nextInt( 4 );
+		if ( sign == 0 ) {
+			value.append( '-' );
+		}
+		else if ( sign == 1 ) {
+			value.append( '+' );
+		}
+		int integerDigits = random.nextInt( 5 );
+		int fractionDigits = random.nextInt( 5 );
+		boolean separator = integerDigits == 0 || fractionDigits > 0 || random.nextBoolean();
+		if ( integerDigits == 0 && fractionDigits == 0 ) {
+			integerDigits = 1;
+		}
+		for ( int i = 0; i < integerDigits; i++ ) {
+			value.append( randomDigit( random ) );
+		}
+		if ( separator ) {
+			value.append( '.' );
+		}
+		for ( int i = 0; i < fractionDigits; i++ ) {
+			value.append( randomDigit( random ) );
+		}
+		return value.toString();
+	}
+
+	private static char randomDigit(Random random) {
+		// favor zeros and a small set of digits to exercise the equality cases
+		int digit = random.nextInt( 6 );
+		return digit < 3 ? '0' : (char) ( '0' + digit - 2 );
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.constraintvalidators.bv;
+
+import static org.hibernate.validator.testutils.ConstraintValidatorInitializationHelper.initialize;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import javax.validation.constraints.Email;
+
+import org.hibernate.validator.internal.constraintvalidators.bv.EmailValidator;
+import org.hibernate.validator.internal.util.annotation.ConstraintAnnotationDescriptor;
+import org.testng.annotations.Test;
+
+public class EmailValidatorTest {
+
+	@Test
+	public void testInitializedWithAnnotation() {
+		EmailValidator validator = new EmailValidator();
+		validator.initialize( email( ".*@example\\.org" ) );
+
+		assertTrue( validator.isValid( null, null ) );
+		assertTrue( validator.isValid( "john@example.org", null ) );
+		assertFalse( validator.isValid( "john@example.com", null ) );
+		assertFalse( validator.isValid( "john", null ) );
+
+		// the validator may be initialized again with another constraint
+		validator.initialize( email( ".*" ) );
+		assertTrue( validator.isValid( "john@example.com", null ) );
+	}
+
+	@Test
+	public void testInitializedWithAnotherAnnotationAfterTheDescriptor() {
+		EmailValidator validator = new EmailValidator();
+		initialize( validator, emailDescriptor( ".*@example\\.org" ) );
+		assertFalse( validator.isValid( "john@example.com", null ) );
+
+		validator.initialize( email( ".*@example\\.com" ) );
+		assertTrue( validator.isValid( "john@example.com", null ) );
+	}
+
+	private static Email email(String regexp) {
+		return emailDescriptor( regexp ).getAnnotation();
+	}
+
+	private static ConstraintAnnotationDescriptor<Email> emailDescriptor(String regexp) {
+		ConstraintAnnotationDescriptor.Builder<Email> descriptorBuilder = new ConstraintAnnotationDescriptor.Builder<>( Email.class );
+		descriptorBuilder.setAttribute( "regexp", regexp );
+		return descriptorBuilder.build();
+	}
+}
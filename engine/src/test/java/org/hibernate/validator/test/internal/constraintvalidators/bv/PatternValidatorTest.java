@@ -6,15 +6,29 @@
  */
 package org.hibernate.validator.test.internal.constraintvalidators.bv;
 
+import static org.hibernate.validator.testutils.ConstraintValidatorInitializationHelper.getConstraintValidatorInitializationContext;
+import static org.hibernate.validator.testutils.ConstraintValidatorInitializationHelper.initialize;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
+import java.time.Duration;
+import java.util.Set;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Payload;
+import javax.validation.Validator;
 import javax.validation.constraints.Pattern;
 
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
+import org.hibernate.validator.constraintvalidation.PatternMatching;
 import org.hibernate.validator.internal.constraintvalidators.bv.PatternValidator;
+import org.hibernate.validator.internal.engine.DefaultClockProvider;
+import org.hibernate.validator.internal.engine.scripting.DefaultScriptEvaluatorFactory;
 import org.hibernate.validator.internal.util.annotation.ConstraintAnnotationDescriptor;
 import org.hibernate.validator.testutil.MyCustomStringImpl;
 import org.hibernate.validator.testutil.TestForIssue;
+import org.hibernate.validator.testutils.ValidatorUtil;
 import org.testng.annotations.Test;
 
 /**
@@ -78,4 +92,109 @@ public void testInvalidRegularExpression() {
 		PatternValidator constraint = new PatternValidator();
 		constraint.initialize( p );
 	}
+
+	@Test
+	public void testLinearTimePatternMatching() {
+		PatternValidator constraint = new PatternValidator();
+		initialize( constraint, patternDescriptor( "(a+)+b" ), initializationContext( true, 0L ) );
+
+		assertTrue( constraint.isValid( "aaab", null ) );
+		assertFalse( constraint.isValid( repeat( 'a', 10_000 ) + "!", null ) );
+
+		// unsupported constructs fall back to java.util.regex
+		constraint = new PatternValidator();
+		initialize( constraint, patternDescriptor( "(a)\\1" ), initializationContext( true, 0L ) );
+
+		assertTrue( constraint.isValid( "aa", null ) );
+		assertFalse( constraint.isValid( "ab", null ) );
+	}
+
+	@Test
+	public void testStepBudgetExceededIsInvalid() {
+		String value = repeat( 'a', 40 ) + "!";
+
+		PatternValidator constraint = new PatternValidator();
+		initialize( constraint, patternDescriptor( "(.*a){12}b" ), initializationContext( false, 100_000L ) );
+
+		assertTrue( constraint.isValid( "aaaaaaaaaaaab", null ) );
+		assertFalse( constraint.isValid( value, null ) );
+
+		constraint = new PatternValidator();
+		initialize( constraint, patternDescriptor( "(a+)+b" ), initializationContext( true, 10L ) );
+
+		assertTrue( constraint.isValid( "ab", null ) );
+		assertFalse( constraint.isValid( value, null ) );
+	}
+
+	@Test
+	public void testPayloadOverridesPatternMatchingConfiguration() {
+		PatternValidator constraint = new PatternValidator();
+		initialize( constraint, patternDescriptor( "(.*a){12}b", PatternMatching.LinearTime.class ), initializationContext( false, 100_000L ) );
+
+		// the linear time engine stays within the budget
+		assertFalse( constraint.isValid( repeat( 'a', 40 ) + "!", null ) );
+		assertTrue( constraint.isValid( "aaaaaaaaaaaab", null ) );
+
+		constraint = new PatternValidator();
+		initialize( constraint, patternDescriptor( "(.*a){12}b", PatternMatching.Backtracking.class ), initializationContext( true, 100_000L ) );
+
+		assertTrue( constraint.isValid( "aaaaaaaaaaaab", null ) );
+	}
+
+	@Test
+	public void testPatternMatchingConfigurationProperties() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration();
+		configuration.addProperty( HibernateValidatorConfiguration.LINEAR_TIME_PATTERN_MATCHING, "true" );
+		configuration.addProperty( HibernateValidatorConfiguration.PATTERN_MATCHING_STEP_BUDGET, "1000" );
+		Validator validator = configuration.buildValidatorFactory().getValidator();
+
+		Set<ConstraintViolation<Bean>> violations = validator.validate( new Bean( repeat( 'a', 10_000 ) + "!" ) );
+		assertTrue( violations.size() == 1 );
+		assertTrue( validator.validate( new Bean( "aab" ) ).isEmpty() );
+	}
+
+	@Test
+	public void testProgrammaticPatternMatchingConfigurationTakesPrecedence() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration();
+		configuration.addProperty( HibernateValidatorConfiguration.LINEAR_TIME_PATTERN_MATCHING, "false" );
+		configuration.addProperty( HibernateValidatorConfiguration.PATTERN_MATCHING_STEP_BUDGET, "1" );
+		configuration.linearTimePatternMatching( true );
+		configuration.patternMatchingStepBudget( 0L );
+		Validator validator = configuration.buildValidatorFactory().getValidator();
+
+		assertTrue( validator.validate( new Bean( "aab" ) ).isEmpty() );
+		assertTrue( validator.validate( new Bean( repeat( 'a', 10_000 ) + "!" ) ).size() == 1 );
+	}
+
+	@SafeVarargs
+	private static ConstraintAnnotationDescriptor<Pattern> patternDescriptor(String regexp, Class<? extends Payload>... payload) {
+		ConstraintAnnotationDescriptor.Builder<Pattern> descriptorBuilder = new ConstraintAnnotationDescriptor.Builder<>( Pattern.class );
+		descriptorBuilder.setAttribute( "regexp", regexp );
+		descriptorBuilder.setAttribute( "payload", payload );
+		return descriptorBuilder.build();
+	}
+
+	private static HibernateConstraintValidatorInitializationContext initializationContext(boolean linearTimePatternMatchingEnabled,
+			long patternMatchingStepBudget) {
+		return getConstraintValidatorInitializationContext( new DefaultScriptEvaluatorFactory( null ), DefaultClockProvider.INSTANCE, Duration.ZERO,
+				linearTimePatternMatchingEnabled, patternMatchingStepBudget );
+	}
+
+	private static String repeat(char c, int count) {
+		StringBuilder sb = new StringBuilder( count );
+		for ( int i = 0; i < count; i++ ) {
+			sb.append( c );
+		}
+		return sb.toString();
+	}
+
+	private static class Bean {
+
+		@Pattern(regexp = "(a+)+b")
+		private final String value;
+
+		private Bean(String value) {
+			this.value = value;
+		}
+	}
 }
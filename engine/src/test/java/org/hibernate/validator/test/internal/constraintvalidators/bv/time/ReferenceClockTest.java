@@ -0,0 +1,142 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.constraintvalidators.bv.time;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNoViolations;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.hibernate.validator.testutils.ValidatorUtil.getConfiguration;
+import static org.testng.Assert.assertEquals;
+
+import java.lang.reflect.Method;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.validation.ClockProvider;
+import javax.validation.Validator;
+import javax.validation.constraints.Future;
+import javax.validation.constraints.FutureOrPresent;
+import javax.validation.constraints.PastOrPresent;
+
+import org.joda.time.DateTime;
+import org.joda.time.ReadableInstant;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that the {@code ClockProvider} is queried once per validation call and that all the temporal constraints of a
+ * validation call share the same time reference.
+ */
+public class ReferenceClockTest {
+
+	private static final Instant REFERENCE = Instant.parse( "2000-01-01T00:00:00Z" );
+
+	private TickingClockProvider clockProvider;
+	private Validator validator;
+
+	@BeforeMethod
+	public void setupValidator() {
+		clockProvider = new TickingClockProvider();
+		validator = getConfiguration()
+				.clockProvider( clockProvider )
+				.buildValidatorFactory()
+				.getValidator();
+	}
+
+	@Test
+	public void clockProviderIsQueriedOncePerValidationCall() {
+		Schedule schedule = new Schedule();
+		for ( int i = 0; i < 100; i++ ) {
+			schedule.slots.add( REFERENCE.plus( Duration.ofDays( 1 ) ) );
+		}
+		schedule.start = REFERENCE.plus( Duration.ofDays( 1 ) );
+		schedule.startAsReadableInstant = new DateTime( REFERENCE.plus( Duration.ofDays( 1 ) ).toEpochMilli() );
+
+		// initializes the constraint validators
+		assertNoViolations( validator.validate( schedule ) );
+
+		int count = clockProvider.count;
+		assertNoViolations( validator.validate( schedule ) );
+		assertEquals( clockProvider.count - count, 1 );
+
+		count = clockProvider.count;
+		assertNoViolations( validator.validateProperty( schedule, "slots" ) );
+		assertEquals( clockProvider.count - count, 1 );
+	}
+
+	@Test
+	public void timeReferenceIsReadForEachValidationCall() {
+		Instant start = REFERENCE.plus( Duration.ofMinutes( 30 ) );
+
+		// initializes the constraint validator
+		validator.validateValue( Meeting.class, "start", start );
+
+		clockProvider.count = 0;
+		assertNoViolations( validator.validateValue( Meeting.class, "start", start ) );
+		assertThat( validator.validateValue( Meeting.class, "start", start ) ).containsOnlyViolations(
+				violationOf( Future.class )
+		);
+	}
+
+	@Test
+	public void clockProviderIsQueriedOncePerParameterValidationCall() throws Exception {
+		Method method = Scheduler.class.getMethod( "schedule", Instant.class, Instant.class );
+		Instant future = REFERENCE.plus( Duration.ofDays( 1 ) );
+
+		assertNoViolations( validator.forExecutables().validateParameters( new Scheduler(), method, new Object[] { future, future } ) );
+
+		int count = clockProvider.count;
+		assertThat( validator.forExecutables().validateParameters( new Scheduler(), method, new Object[] { future, REFERENCE.minusSeconds( 1 ) } ) )
+				.containsOnlyViolations(
+						violationOf( Future.class )
+				);
+		assertEquals( clockProvider.count - count, 1 );
+	}
+
+	private static class Schedule {
+
+		@FutureOrPresent
+		private Instant start = REFERENCE;
+
+		@Future
+		private ReadableInstant startAsReadableInstant = new DateTime( REFERENCE.plus( Duration.ofDays( 1 ) ).toEpochMilli() );
+
+		@PastOrPresent
+		private Instant lastUpdate = REFERENCE.minus( Duration.ofDays( 1 ) );
+
+		private List<@FutureOrPresent Instant> slots = new ArrayList<>();
+	}
+
+	private static class Meeting {
+
+		@Future
+		private Instant start;
+	}
+
+	public static class Scheduler {
+
+		public void schedule(@Future Instant start, @Future Instant end) {
+		}
+	}
+
+	/**
+	 * A {@link ClockProvider} returning a clock one hour later than the previous one each time it is queried.
+	 */
+	private static class TickingClockProvider implements ClockProvider {
+
+		private int count;
+
+		@Override
+		public Clock getClock() {
+			return Clock.fixed( REFERENCE.plus( Duration.ofHours( count++ ) ), ZoneOffset.UTC );
+		}
+	}
+}
@@ -0,0 +1,198 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.constraintvalidators.hv;
+
+import static java.util.regex.Pattern.CASE_INSENSITIVE;
+import static org.testng.Assert.assertEquals;
+
+import java.net.IDN;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.hibernate.validator.internal.constraintvalidators.hv.EmailValidator;
+import org.hibernate.validator.internal.util.DomainNameUtil;
+
+import org.testng.annotations.Test;
+
+/**
+ * Checks that the hand-written email and domain validation accepts exactly the same values as the regular expressions
+ * previously used, using the email test corpus and random mutations of it.
+ */
+public class EmailValidatorConformanceTest {
+
+	private static final int NUMBER_OF_MUTATIONS = 50_000;
+
+	private static final List<String> CORPUS = Arrays.asList(
+			"", "emmanuel@hibernate.org", "emmanuel@hibernate", "emma-n_uel@hibernate", "emma+nuel@hibernate.org",
+			"emma=nuel@hibernate.org", "emmanuel@[123.12.2.11]", "*@example.net", "fred&barny@example.com", "---@example.com",
+			"foo-bar@example.net", "mailbox.sub1.sub2@this-domain", "prettyandsimple@example.com", "very.common@example.com",
+			"disposable.style.email.with+symbol@example.com", "other.email-with-dash@example.com", "x@example.com",
+			"\"much.more unusual\"@example.com", "\"very.unusual.@.unusual.com\"@example.com",
+			"\"very.(),:;<>[]\\\".VERY.\\\"very@\\\\ \\\"very\\\".unusual\"@strange.example.com",
+			"\"some \".\" strange \".\" part*:; \"@strange.example.com", "example-indeed@strange-example.com",
+			"admin@mailserver1", "#!$%&'*+-/=?^_`{}|~@example.org", "\" \"@example.org", "example@localhost",
+			"example@s.solutions", "user@localserver", "user@tt", "user@[IPv6:2001:DB8::1]", "myname@östereich.at",
+			"θσερ@εχαμπλε.ψομ", "nothing@xn--fken-gra.no", "xn--80ahgue5b@xn--p-8sbkgc5ag7bhce.xn--ba-lmcq",
+			"emmanuel.hibernate.org", "emma nuel@hibernate.org", "emma(nuel@hibernate.org", "emmanuel@",
+			"emma\nnuel@hibernate.org", "emma@nuel@hibernate.org", "emma@nuel@.hibernate.org", "Just a string", "string",
+			"me@", "@example.com", "me.@example.com", ".me@example.com", "me@example..com", "me\\@example.com",
+			"Abc.example.com", "A@b@c@example.com", "just\"not\"right@example.com", "this is\"not\\allowed@example.com",
+			"this\\ still\\\"not\\\\allowed@example.com", "john..doe@example.com", "john.doe@example..com",
+			"validation@hibernate.com@", "Test^Email@example.com", "θσερ.εχαμπλε.ψομ",
+			"a@[IPv6:::]", "a@[IPv6:fe80::1%eth0]", "a@[IPv6:::ffff:0:192.168.0.1]", "a@[IPv6:64:ff9b::192.0.2.33]",
+			"a@[IPv6:1:2:3:4:5:6:7:8]", "a@[IPv6:1::8]", "a@[IPv6:1:2:3:4:5:6:7::]", "a@[IPv6:::2:3:4:5:6:7:8]",
+			"a@[ipv6:::FFFF:1.2.3.4]", "a@[1.2.3]", "a@[1.2.3.4.5]", "a@[1234.1.1.1]", "a@foo-.bar", "a@-foo.bar",
+			"a@foo.bar.", "a@f。oo", "a😀@foo.bar", "a@foo😀.bar", "\"a😀\"@foo.bar",
+			"a\ud83d@foo.bar", "a@\udc00foo.bar", "a@xn--a.com", "a@İpv6.com", "a@[İPv6:::1]",
+			"a@" + stringOfLength( 63 ) + "." + stringOfLength( 63 ) + ".com", "a@" + stringOfLength( 64 ) + ".com",
+			"a@" + stringOfLength( 63 ) + "." + stringOfLength( 63 ) + "." + stringOfLength( 63 ) + "." + stringOfLength( 63 ) + ".com",
+			stringOfLength( 64 ) + "@foo.bar", stringOfLength( 65 ) + "@foo.bar",
+			"a@é" + stringOfLength( 62 ) + ".com", "a@é" + stringOfLength( 70 ) + ".com"
+	);
+
+	/**
+	 * The tokens used to mutate the corpus.
+	 */
+	private static final String[] TOKENS = {
+			"a", "Z", "0", "9", "f", "F", "e", "8", "-", ".", "@", "\"", "\\", "[", "]", ":", "%", " ", "!", "(", ")", ",",
+			"<", ">", ";", "{", "|", "}", "~", "_", "'", "é", "ö", "。", "\ud83d", "\ude00", "😀", "\n", "İ",
+			"::", "IPv6:", "ipv6:", "fe80:", "ffff:", "0:", "255", "256", "099", "1.2.3.4", "[IPv6:", "\\\"", "\\\\", "xn--",
+			"abcdefghijklmnopqrstuvwxyz", stringOfLength( 63 )
+	};
+
+	@Test
+	public void testEmailValidationConformsToLegacyRegularExpressions() {
+		EmailValidator validator = new EmailValidator();
+
+		for ( String email : CORPUS ) {
+			assertEquals( validator.isValid( email, null ), LegacyEmailValidator.isValid( email ), email );
+		}
+
+		Random random = new Random( 42 );
+		for ( int i = 0; i < NUMBER_OF_MUTATIONS; i++ ) {
+			String email = mutate( CORPUS.get( random.nextInt( CORPUS.size() ) ), random );
+			assertEquals( validator.isValid( email, null ), LegacyEmailValidator.isValid( email ), email );
+		}
+	}
+
+	@Test
+	public void testDomainValidationConformsToLegacyRegularExpressions() {
+		Random random = new Random( 42 );
+		for ( int i = 0; i < NUMBER_OF_MUTATIONS; i++ ) {
+			String email = mutate( CORPUS.get( random.nextInt( CORPUS.size() ) ), random );
+			String domain = email.substring( email.lastIndexOf( '@' ) + 1 ).replace( "IPv6:", "" );
+			assertEquals( DomainNameUtil.isValidDomainAddress( domain ), LegacyEmailValidator.isValidDomainAddress( domain ), domain );
+		}
+	}
+
+	private static String mutate(String value, Random random) {
+		StringBuilder sb = new StringBuilder( value );
+		int mutations = 1 + random.nextInt( 3 );
+		for ( int i = 0; i < mutations; i++ ) {
+			int position = sb.length() == 0 ? 0 : random.nextInt( sb.length() + 1 );
+			switch ( random.nextInt( 3 ) ) {
+				case 0:
+					sb.insert( position, TOKENS[random.nextInt( TOKENS.length )] );
+					break;
+				case 1:
+					if ( position < sb.length() ) {
+						sb.deleteCharAt( position );
+					}
+					break;
+				default:
+					if ( position < sb.length() ) {
+						sb.replace( position, position + 1, TOKENS[random.nextInt( TOKENS.length )] );
+					}
+					break;
+			}
+		}
+		return sb.toString();
+	}
+
+	private static String stringOfLength(int length) {
+		StringBuilder sb = new StringBuilder();
+		for ( int i = 0; i < length; i++ ) {
+			sb.append( 'a' );
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * The regular expression based implementation of the email validation, used as a reference.
+	 */
+	private static class LegacyEmailValidator {
+
+		private static final int MAX_LOCAL_PART_LENGTH = 64;
+
+		private static final String LOCAL_PART_ATOM = "[a-z0-9!#$%&'*+/=?^_`{|}~\u0080-\uFFFF-]";
+		private static final String LOCAL_PART_INSIDE_QUOTES_ATOM = "([a-z0-9!#$%&'*.(),<>\\[\\]:;  @+/=?^_`{|}~\u0080-\uFFFF-]|\\\\\\\\|\\\\\\\")";
+		private static final Pattern LOCAL_PART_PATTERN = Pattern.compile(
+				"(" + LOCAL_PART_ATOM + "+|\"" + LOCAL_PART_INSIDE_QUOTES_ATOM + "+\")" +
+						"(\\." + "(" + LOCAL_PART_ATOM + "+|\"" + LOCAL_PART_INSIDE_QUOTES_ATOM + "+\")" + ")*", CASE_INSENSITIVE
+		);
+
+		private static final int MAX_DOMAIN_PART_LENGTH = 255;
+
+		private static final String DOMAIN_CHARS_WITHOUT_DASH = "[a-z\u0080-\uFFFF0-9!#$%&'*+/=?^_`{|}~]";
+		private static final String DOMAIN_LABEL = "(" + DOMAIN_CHARS_WITHOUT_DASH + "-*)*" + DOMAIN_CHARS_WITHOUT_DASH + "+";
+		private static final String DOMAIN = DOMAIN_LABEL + "+(\\." + DOMAIN_LABEL + "+)*";
+
+		private static final String IP_DOMAIN = "[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}";
+		private static final String IP_V6_DOMAIN = "(([0-9a-fA-F]{1,4}:){7,7}[0-9a-fA-F]{1,4}|([0-9a-fA-F]{1,4}:){1,7}:|([0-9a-fA-F]{1,4}:){1,6}:[0-9a-fA-F]{1,4}|([0-9a-fA-F]{1,4}:){1,5}(:[0-9a-fA-F]{1,4}){1,2}|([0-9a-fA-F]{1,4}:){1,4}(:[0-9a-fA-F]{1,4}){1,3}|([0-9a-fA-F]{1,4}:){1,3}(:[0-9a-fA-F]{1,4}){1,4}|([0-9a-fA-F]{1,4}:){1,2}(:[0-9a-fA-F]{1,4}){1,5}|[0-9a-fA-F]{1,4}:((:[0-9a-fA-F]{1,4}){1,6})|:((:[0-9a-fA-F]{1,4}){1,7}|:)|fe80:(:[0-9a-fA-F]{0,4}){0,4}%[0-9a-zA-Z]{1,}|::(ffff(:0{1,4}){0,1}:){0,1}((25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9])\\.){3,3}(25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9])|([0-9a-fA-F]{1,4}:){1,4}:((25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9])\\.){3,3}(25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9]))";
+
+		private static final Pattern DOMAIN_PATTERN = Pattern.compile(
+				DOMAIN + "|\\[" + IP_V6_DOMAIN + "\\]", CASE_INSENSITIVE
+		);
+
+		private static final Pattern EMAIL_DOMAIN_PATTERN = Pattern.compile(
+				DOMAIN + "|\\[" + IP_DOMAIN + "\\]|" + "\\[IPv6:" + IP_V6_DOMAIN + "\\]", CASE_INSENSITIVE
+		);
+
+		private static boolean isValid(String value) {
+			if ( value.length() == 0 ) {
+				return true;
+			}
+
+			int splitPosition = value.lastIndexOf( '@' );
+			if ( splitPosition < 0 ) {
+				return false;
+			}
+
+			String localPart = value.substring( 0, splitPosition );
+			if ( localPart.length() > MAX_LOCAL_PART_LENGTH || !LOCAL_PART_PATTERN.matcher( localPart ).matches() ) {
+				return false;
+			}
+
+			return isValidDomainAddress( value.substring( splitPosition + 1 ), EMAIL_DOMAIN_PATTERN );
+		}
+
+		private static boolean isValidDomainAddress(String domain) {
+			return isValidDomainAddress( domain, DOMAIN_PATTERN );
+		}
+
+		private static boolean isValidDomainAddress(String domain, Pattern pattern) {
+			if ( domain.endsWith( "." ) ) {
+				return false;
+			}
+			if ( !pattern.matcher( domain ).matches() ) {
+				return false;
+			}
+
+			String asciiString;
+			try {
+				asciiString = IDN.toASCII( domain );
+			}
+			catch (IllegalArgumentException e) {
+				return false;
+			}
+
+			return asciiString.length() <= MAX_DOMAIN_PART_LENGTH;
+		}
+	}
+}
@@ -70,6 +70,34 @@ public void testIgnoreNonNumeric() throws Exception {
 		assertTrue( validator.isValid( new MyCustomStringImpl( "A79927398713" ), null ) );
 	}
 
+	@Test
+	public void testNonAsciiDigits() throws Exception {
+		LuhnCheckValidator validator = new LuhnCheckValidator();
+		validator.initialize( createLuhnCheckAnnotation( 0, Integer.MAX_VALUE, -1, false ) );
+
+		// Arabic-Indic digits are digits, they are taken into account
+		assertTrue( validator.isValid( "\u0667\u0669927398713", null ) );
+		assertFalse( validator.isValid( "\u0667\u0668927398713", null ) );
+
+		// they are ignored along with the other non ASCII digit characters when ignoreNonDigitCharacters is enabled
+		validator.initialize( createLuhnCheckAnnotation( 0, Integer.MAX_VALUE, -1, true ) );
+		assertTrue( validator.isValid( "7992739871\u06673", null ) );
+		assertTrue( validator.isValid( "\u066779927398713", null ) );
+	}
+
+	@Test
+	public void testRangeOutOfBounds() throws Exception {
+		LuhnCheckValidator validator = new LuhnCheckValidator();
+		validator.initialize( createLuhnCheckAnnotation( 0, 10, -1, false ) );
+
+		assertTrue( validator.isValid( "79927398713", null ) );
+		assertFalse( validator.isValid( "7992739871", null ) );
+		assertFalse( validator.isValid( "", null ) );
+
+		validator.initialize( createLuhnCheckAnnotation( 0, Integer.MAX_VALUE, -1, false ) );
+		assertFalse( validator.isValid( "", null ) );
+	}
+
 	@Test
 	public void testValidMod10() throws Exception {
 		LuhnCheckValidator validator = new LuhnCheckValidator();
@@ -10,9 +10,11 @@
 import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
 import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
 import static org.hibernate.validator.testutils.ValidatorUtil.getValidator;
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
+import java.util.Random;
 import java.util.Set;
 
 import javax.validation.ConstraintViolation;
@@ -24,6 +26,12 @@
 import org.hibernate.validator.internal.util.annotation.AnnotationDescriptor;
 import org.hibernate.validator.internal.util.annotation.ConstraintAnnotationDescriptor;
 import org.hibernate.validator.testutil.TestForIssue;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.parser.Parser;
+import org.jsoup.safety.Cleaner;
+import org.jsoup.safety.Whitelist;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
@@ -213,6 +221,61 @@ public void testPreserveRelativeLinks() throws Exception {
 		assertFalse( getSafeHtmlValidator().isValid( "<img src='/some/relative/url/image.png' />", null ) );
 	}
 
+	@Test
+	public void testSameResultAsCleaner() {
+		String[] fragments = {
+				"text", "<p>", "</p>", "<a href='http://example.com/'>", "<a href='javascript:alert(1)'>", "</a>", "<div>", "</div>",
+				"<span class='foo'>", "</span>", "<img src='http://example.com/image.png' />", "<img src='/image.png' />",
+				"<img src='http://example.com/image.png' onerror='alert(1)' />", "<script>alert(1)</script>", "<!-- comment -->",
+				"<td>", "</td>", "<b>", "</b>", "<br/>", "&lt;", "<![CDATA[x]]>", "<?xml version='1.0'?>"
+		};
+		Random random = new Random( 42 );
+
+		for ( WhiteListType whitelistType : new WhiteListType[] { WhiteListType.BASIC, WhiteListType.RELAXED } ) {
+			descriptorBuilder.setAttribute( "whitelistType", whitelistType );
+			descriptorBuilder.setAttribute( "baseURI", "http://127.0.0.1" );
+			SafeHtmlValidator validator = getSafeHtmlValidator();
+			Cleaner cleaner = new Cleaner( whitelistType == WhiteListType.BASIC ? Whitelist.basic() : Whitelist.relaxed() );
+
+			for ( int i = 0; i < 2000; i++ ) {
+				StringBuilder value = new StringBuilder();
+				int length = random.nextInt( 12 );
+				for ( int j = 0; j < length; j++ ) {
+					value.append( fragments[random.nextInt( fragments.length )] );
+				}
+
+				assertEquals( validator.isValid( value, null ), cleaner.isValid( getFragmentAsDocument( value.toString(), "http://127.0.0.1" ) ),
+						whitelistType + ": " + value );
+			}
+		}
+	}
+
+	@Test
+	public void testDeeplyNestedFragment() {
+		descriptorBuilder.setAttribute( "whitelistType", WhiteListType.BASIC );
+
+		StringBuilder value = new StringBuilder();
+		for ( int i = 0; i < 50_000; i++ ) {
+			value.append( "<b>" );
+		}
+		value.append( "text" );
+
+		assertTrue( getSafeHtmlValidator().isValid( value, null ) );
+		assertFalse( getSafeHtmlValidator().isValid( value.append( "<!-- comment -->" ), null ) );
+	}
+
+	/**
+	 * Builds the document validated by the {@code Cleaner} as the validator used to.
+	 */
+	private static Document getFragmentAsDocument(String value, String baseURI) {
+		Document fragment = Jsoup.parse( value, baseURI, Parser.xmlParser() );
+		Document document = Document.createShell( baseURI );
+		for ( Element element : fragment.children() ) {
+			document.body().appendChild( element.clone() );
+		}
+		return document;
+	}
+
 	private SafeHtmlValidator getSafeHtmlValidator() {
 		SafeHtml p = descriptorBuilder.build().getAnnotation();
 		SafeHtmlValidator validator = new SafeHtmlValidator();
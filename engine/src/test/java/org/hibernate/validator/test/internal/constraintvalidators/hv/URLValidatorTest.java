@@ -29,6 +29,7 @@
 import org.hibernate.validator.cfg.ConstraintMapping;
 import org.hibernate.validator.cfg.defs.URLDef;
 import org.hibernate.validator.constraints.URL;
+import org.hibernate.validator.constraintvalidators.RFC3986URLValidator;
 import org.hibernate.validator.constraintvalidators.RegexpURLValidator;
 import org.hibernate.validator.internal.constraintvalidators.hv.URLValidator;
 import org.hibernate.validator.internal.util.annotation.ConstraintAnnotationDescriptor;
@@ -48,6 +49,7 @@ public class URLValidatorTest {
 
 	private URLValidator urlValidator;
 	private RegexpURLValidator regexpURLValidator;
+	private RFC3986URLValidator rfc3986URLValidator;
 
 	private ConstraintAnnotationDescriptor.Builder<URL> descriptorBuilder;
 
@@ -56,6 +58,7 @@ public void setUp() {
 		descriptorBuilder = new ConstraintAnnotationDescriptor.Builder<URL>( URL.class );
 		urlValidator = new URLValidator();
 		regexpURLValidator = new RegexpURLValidator();
+		rfc3986URLValidator = new RFC3986URLValidator();
 	}
 
 	@Test
@@ -66,6 +69,9 @@ public void valid_urls_pass_validation() {
 
 		regexpURLValidator.initialize( url );
 		assertValidUrls( regexpURLValidator );
+
+		rfc3986URLValidator.initialize( url );
+		assertValidUrls( rfc3986URLValidator );
 	}
 
 	@Test
@@ -78,6 +84,9 @@ public void url_validators_can_handle_character_sequences() {
 
 		regexpURLValidator.initialize( url );
 		assertValidCharSequenceUrls( regexpURLValidator );
+
+		rfc3986URLValidator.initialize( url );
+		assertValidCharSequenceUrls( rfc3986URLValidator );
 	}
 
 	@Test
@@ -90,6 +99,9 @@ public void http_protocol_can_be_verified_explicitly() {
 
 		regexpURLValidator.initialize( url );
 		assertHttpProtocolMatch( regexpURLValidator );
+
+		rfc3986URLValidator.initialize( url );
+		assertHttpProtocolMatch( rfc3986URLValidator );
 	}
 
 	@Test
@@ -102,6 +114,9 @@ public void file_protocol_can_be_verified_explicitly() {
 
 		regexpURLValidator.initialize( url );
 		assertFileProtocolMatch( regexpURLValidator );
+
+		rfc3986URLValidator.initialize( url );
+		assertFileProtocolMatch( rfc3986URLValidator );
 	}
 
 	@Test
@@ -114,6 +129,9 @@ public void port_can_be_verified_explicitly() {
 
 		regexpURLValidator.initialize( url );
 		assertPortMatch( regexpURLValidator );
+
+		rfc3986URLValidator.initialize( url );
+		assertPortMatch( rfc3986URLValidator );
 	}
 
 	@Test
@@ -126,6 +144,9 @@ public void host_can_be_verified_explicitly() {
 
 		regexpURLValidator.initialize( url );
 		assertHostMatch( regexpURLValidator );
+
+		rfc3986URLValidator.initialize( url );
+		assertHostMatch( rfc3986URLValidator );
 	}
 
 	@Test
@@ -143,6 +164,9 @@ public void protocol_host_and_port_can_be_verified_explicitly() {
 
 		regexpURLValidator.initialize( url );
 		assertProtocolHostAnsPortMatch( regexpURLValidator );
+
+		rfc3986URLValidator.initialize( url );
+		assertProtocolHostAnsPortMatch( rfc3986URLValidator );
 	}
 
 	@Test
@@ -154,6 +178,52 @@ public void the_empty_string_is_considered_a_valid_url() {
 
 		regexpURLValidator.initialize( url );
 		assertTrue( regexpURLValidator.isValid( "", null ) );
+
+		rfc3986URLValidator.initialize( url );
+		assertTrue( rfc3986URLValidator.isValid( "", null ) );
+	}
+
+	@Test
+	public void rfc3986_url_validator_follows_the_rfc() {
+		descriptorBuilder.setAttribute( "protocol", "http" );
+		descriptorBuilder.setAttribute( "host", "www.hibernate.org" );
+		URL url = descriptorBuilder.build().getAnnotation();
+		rfc3986URLValidator.initialize( url );
+
+		// the scheme and the host are case insensitive
+		assertTrue( rfc3986URLValidator.isValid( "HTTP://WWW.Hibernate.org/", null ) );
+		assertTrue( rfc3986URLValidator.isValid( "http://www.hibernate.org:65535/", null ) );
+		assertFalse( rfc3986URLValidator.isValid( "http://www.hibernate.org:65536/", null ) );
+		assertTrue( rfc3986URLValidator.isValid( "http://www.hibernate.org:/", null ) );
+		assertTrue( rfc3986URLValidator.isValid( "http://www.hibernate.org/a%2Fb?c=%C3%A9#d/e?f", null ) );
+		assertFalse( rfc3986URLValidator.isValid( "http://www.hibernate.org/a%2", null ) );
+		assertFalse( rfc3986URLValidator.isValid( "http://www.hibernate.org/a%zz", null ) );
+		assertFalse( rfc3986URLValidator.isValid( "http://www.hibernate.org/a#b#c", null ) );
+		assertFalse( rfc3986URLValidator.isValid( "http://www.hibernate.org/<a>", null ) );
+		assertFalse( rfc3986URLValidator.isValid( "http://www.hibernate.org%/", null ) );
+
+		url = new ConstraintAnnotationDescriptor.Builder<URL>( URL.class ).build().getAnnotation();
+		rfc3986URLValidator.initialize( url );
+
+		// URIs without authority
+		assertTrue( rfc3986URLValidator.isValid( "mailto:john.doe@example.com", null ) );
+		assertTrue( rfc3986URLValidator.isValid( "urn:isbn:0451450523", null ) );
+		assertTrue( rfc3986URLValidator.isValid( "git+ssh://git@github.com/hibernate/hibernate-validator.git", null ) );
+		assertFalse( rfc3986URLValidator.isValid( "1http://www.hibernate.org", null ) );
+		assertFalse( rfc3986URLValidator.isValid( "ht_tp://www.hibernate.org", null ) );
+
+		// an empty authority is only accepted for file URLs
+		assertTrue( rfc3986URLValidator.isValid( "file:///etc/hosts", null ) );
+		assertTrue( rfc3986URLValidator.isValid( "FILE:///etc/hosts", null ) );
+		assertFalse( rfc3986URLValidator.isValid( "file://:80/etc/hosts", null ) );
+		assertFalse( rfc3986URLValidator.isValid( "file://user@/etc/hosts", null ) );
+		assertFalse( rfc3986URLValidator.isValid( "http:///etc/hosts", null ) );
+
+		// IP literals
+		assertTrue( rfc3986URLValidator.isValid( "http://[::1]:8080/", null ) );
+		assertFalse( rfc3986URLValidator.isValid( "http://[::1/", null ) );
+		assertFalse( rfc3986URLValidator.isValid( "http://[::1]8080/", null ) );
+		assertFalse( rfc3986URLValidator.isValid( "http://[v1.fe]/", null ) );
 	}
 
 	@Test
@@ -227,6 +297,27 @@ public void url_validator_using_regexp_only_can_be_configured_via_constraint_def
 		assertDefaultURLConstraintValidatorOverridden( config, constraintValidatorFactory );
 	}
 
+	@Test
+	public void rfc3986_url_validator_can_be_configured_via_constraint_definition_contributor() {
+		HibernateValidatorConfiguration config = ValidatorUtil.getConfiguration( HibernateValidator.class );
+
+		ConstraintMapping constraintMapping = config.createConstraintMapping();
+
+		constraintMapping
+				.constraintDefinition( URL.class )
+				.includeExistingValidators( false )
+				.validatedBy( RFC3986URLValidator.class );
+
+		config.addMapping( constraintMapping );
+
+		DelegatingConstraintValidatorFactory constraintValidatorFactory = new DelegatingConstraintValidatorFactory(
+				config.getDefaultConstraintValidatorFactory()
+		);
+		config.constraintValidatorFactory( constraintValidatorFactory );
+
+		assertDefaultURLConstraintValidatorOverridden( config, constraintValidatorFactory, RFC3986URLValidator.class );
+	}
+
 	@Test
 	@TestForIssue(jiraKey = "HV-920")
 	public void url_validator_using_regexp_only_can_be_configured_via_xml() {
@@ -245,6 +336,11 @@ public void url_validator_using_regexp_only_can_be_configured_via_xml() {
 
 	private void assertDefaultURLConstraintValidatorOverridden(Configuration config,
 			DelegatingConstraintValidatorFactory constraintValidatorFactory) {
+		assertDefaultURLConstraintValidatorOverridden( config, constraintValidatorFactory, RegexpURLValidator.class );
+	}
+
+	private void assertDefaultURLConstraintValidatorOverridden(Configuration config,
+			DelegatingConstraintValidatorFactory constraintValidatorFactory, Class<?> expectedConstraintValidatorType) {
 		Validator validator = config.buildValidatorFactory().getValidator();
 		Set<ConstraintViolation<Foo>> constraintViolations = validator.validate( new Foo() );
 
@@ -255,7 +351,7 @@ private void assertDefaultURLConstraintValidatorOverridden(Configuration config,
 				"Wrong number of requested validator instances"
 		);
 		assertTrue(
-				constraintValidatorFactory.requestedConstraintValidators.contains( RegexpURLValidator.class ),
+				constraintValidatorFactory.requestedConstraintValidators.contains( expectedConstraintValidatorType ),
 				"The wrong validator type has been requested."
 		);
 	}
@@ -357,7 +453,7 @@ private void assertValidUrls(ConstraintValidator<URL, CharSequence> validator) {
 			assertFalse( validator.isValid( "h://test", null ) );
 		}
 
-		if ( validator instanceof RegexpURLValidator ) {
+		if ( validator instanceof RegexpURLValidator || validator instanceof RFC3986URLValidator ) {
 			assertFalse( validator.isValid( "http://", null ) );
 			assertFalse( validator.isValid( "http://.", null ) );
 			assertFalse( validator.isValid( "http://..", null ) );
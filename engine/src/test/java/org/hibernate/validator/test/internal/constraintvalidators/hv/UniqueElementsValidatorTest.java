@@ -9,13 +9,16 @@
 import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNoViolations;
 import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
 import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Random;
 import java.util.Set;
 
 import javax.validation.ConstraintViolation;
@@ -25,6 +28,7 @@
 import org.assertj.core.api.Assertions;
 import org.hibernate.validator.HibernateValidatorConfiguration;
 import org.hibernate.validator.constraints.UniqueElements;
+import org.hibernate.validator.constraintvalidation.DuplicateReporting;
 import org.hibernate.validator.engine.HibernateConstraintViolation;
 import org.hibernate.validator.messageinterpolation.ResourceBundleMessageInterpolator;
 import org.hibernate.validator.resourceloading.AggregateResourceBundleLocator;
@@ -48,6 +52,16 @@ private AnnotationContainer(List<Object> validateMe) {
 		}
 	}
 
+	private static class FirstDuplicateContainer {
+
+		@UniqueElements(payload = DuplicateReporting.FirstDuplicate.class)
+		private final List<Object> validateMe;
+
+		private FirstDuplicateContainer(List<Object> validateMe) {
+			this.validateMe = validateMe;
+		}
+	}
+
 	@Test
 	public void testValidDataPasses() {
 		List<List<Object>> input = new ArrayList<>();
@@ -60,6 +74,10 @@ public void testValidDataPasses() {
 		input.add( Arrays.asList( "a", "b", "c", "1", "2", "3", null ) );
 		input.add( Arrays.asList( "null", null ) );
 		input.add( Arrays.asList( "lorem", "lorem ipsum" ) );
+		input.add( Arrays.asList( "Aa", "BB" ) );
+		input.add( Arrays.asList( 1, 1L, "1" ) );
+		input.add( Arrays.asList( 0, null, 1, -1, Integer.MIN_VALUE, Integer.MAX_VALUE ) );
+		input.add( Arrays.asList( 0L, Long.MIN_VALUE, Long.MAX_VALUE ) );
 
 		input.add( Arrays.asList(
 				new TestObject( 1 ),
@@ -83,6 +101,9 @@ public void testInvalidDataFails() {
 		input.add( Arrays.asList( "a", "b", "a" ) );
 		input.add( Arrays.asList( "a", "b", "c", "b" ) );
 		input.add( Arrays.asList( "*", "*" ) );
+		input.add( Arrays.asList( "Aa", "BB", "Aa" ) );
+		input.add( Arrays.asList( 0, 1, 0 ) );
+		input.add( Arrays.asList( 1L, null, 2L, null ) );
 
 		input.add( Arrays.asList( new TestObject( 1 ), new TestObject( 2 ), new TestObject( 1 ) ) );
 		input.add( Arrays.asList( new TestObject( 0 ), new TestObject( 0 ) ) );
@@ -134,6 +155,61 @@ public void testDymanicPayloadContainsDuplicatedValue() {
 				.containsOnly( duplicate );
 	}
 
+	@Test
+	public void testDuplicatesOfIntegersLongsAndStrings() {
+		Random random = new Random( 42 );
+		for ( int size : new int[] { 2, 10, 1000, 100_000 } ) {
+			List<Object> integers = new ArrayList<>();
+			List<Object> longs = new ArrayList<>();
+			List<Object> strings = new ArrayList<>();
+			for ( int i = 0; i < size; i++ ) {
+				int value = random.nextInt( size * 4 );
+				integers.add( value );
+				longs.add( value == 0 ? null : ( (long) value << 32 ) );
+				// "Aa" and "BB" have the same hash code
+				strings.add( random.nextInt( 100 ) == 0 ? ( random.nextBoolean() ? "Aa" : "BB" ) : "value-" + value );
+			}
+
+			for ( List<Object> value : Arrays.asList( integers, longs, strings ) ) {
+				assertEquals( getDuplicates( ValidatorUtil.getValidator().validate( new AnnotationContainer( value ) ) ), findDuplicates( value ) );
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testFirstDuplicateOnly() {
+		List<Object> fails = Arrays.asList( "a", "b", 2, "b", "a", 2 );
+		Set<ConstraintViolation<FirstDuplicateContainer>> violations = ValidatorUtil.getValidator().validate( new FirstDuplicateContainer( fails ) );
+
+		assertThat( violations ).containsOnlyViolations( violationOf( UniqueElements.class ) );
+
+		ConstraintViolation<?> violation = violations.iterator().next();
+		Assertions.assertThat( ((HibernateConstraintViolation<UniqueElements>) violation.unwrap( HibernateConstraintViolation.class )).getDynamicPayload( List.class ) )
+				.containsExactly( "b" );
+
+		assertNoViolations( ValidatorUtil.getValidator().validate( new FirstDuplicateContainer( Arrays.asList( "a", "b", 2 ) ) ) );
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<Object> getDuplicates(Set<? extends ConstraintViolation<?>> violations) {
+		if ( violations.isEmpty() ) {
+			return Collections.emptyList();
+		}
+		return ( (HibernateConstraintViolation<?>) violations.iterator().next().unwrap( HibernateConstraintViolation.class ) ).getDynamicPayload( List.class );
+	}
+
+	private static List<Object> findDuplicates(List<Object> value) {
+		Set<Object> uniqueElements = new HashSet<>();
+		List<Object> duplicates = new ArrayList<>();
+		for ( Object element : value ) {
+			if ( !uniqueElements.add( element ) ) {
+				duplicates.add( element );
+			}
+		}
+		return duplicates;
+	}
+
 	private static class TestObject {
 
 		private final int value;
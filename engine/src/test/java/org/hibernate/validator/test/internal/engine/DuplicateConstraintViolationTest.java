@@ -0,0 +1,148 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.hibernate.validator.testutils.ValidatorUtil.getValidator;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.Iterator;
+import java.util.Set;
+
+import javax.validation.Constraint;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.ConstraintViolation;
+import javax.validation.Payload;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests the filtering of duplicate constraint violations and the set of constraint violations returned by the
+ * validator.
+ */
+public class DuplicateConstraintViolationTest {
+
+	@Test
+	public void testDuplicateViolationsAreFilteredOut() {
+		Set<ConstraintViolation<Foo>> constraintViolations = getValidator().validate( new Foo() );
+
+		assertThat( constraintViolations ).containsOnlyViolations(
+				violationOf( Repeated.class ).withProperty( "bar" ).withMessage( "first" ),
+				violationOf( Repeated.class ).withProperty( "bar" ).withMessage( "second" )
+		);
+	}
+
+	@Test
+	public void testReturnedSetIsMutable() {
+		Set<ConstraintViolation<Foo>> constraintViolations = getValidator().validate( new Foo() );
+		assertEquals( constraintViolations.size(), 2 );
+
+		ConstraintViolation<Foo> first = constraintViolations.iterator().next();
+		assertTrue( constraintViolations.contains( first ) );
+		assertTrue( !constraintViolations.add( first ) );
+
+		Iterator<ConstraintViolation<Foo>> iterator = constraintViolations.iterator();
+		iterator.next();
+		iterator.remove();
+
+		assertEquals( constraintViolations.size(), 1 );
+		assertTrue( !constraintViolations.contains( first ) );
+	}
+
+	@Test
+	public void testLargeReturnedSetIsMutable() {
+		Set<ConstraintViolation<Baz>> constraintViolations = getValidator().validate( new Baz() );
+		assertEquals( constraintViolations.size(), ManyValidator.VIOLATION_COUNT );
+
+		ConstraintViolation<Baz> first = constraintViolations.iterator().next();
+		assertTrue( constraintViolations.contains( first ) );
+		assertTrue( !constraintViolations.add( first ) );
+
+		Iterator<ConstraintViolation<Baz>> iterator = constraintViolations.iterator();
+		iterator.next();
+		iterator.remove();
+
+		assertEquals( constraintViolations.size(), ManyValidator.VIOLATION_COUNT - 1 );
+		assertTrue( !constraintViolations.contains( first ) );
+		assertTrue( constraintViolations.add( first ) );
+		assertTrue( constraintViolations.contains( first ) );
+		assertTrue( !constraintViolations.add( first ) );
+		assertEquals( constraintViolations.size(), ManyValidator.VIOLATION_COUNT );
+	}
+
+	private static class Foo {
+
+		@Repeated
+		private final String bar = "bar";
+	}
+
+	private static class Baz {
+
+		@Many
+		private final String bar = "bar";
+	}
+
+	@Documented
+	@Constraint(validatedBy = RepeatedValidator.class)
+	@Target({ FIELD })
+	@Retention(RUNTIME)
+	public @interface Repeated {
+
+		String message() default "default";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	public static class RepeatedValidator implements ConstraintValidator<Repeated, String> {
+
+		@Override
+		public boolean isValid(String value, ConstraintValidatorContext context) {
+			context.disableDefaultConstraintViolation();
+			context.buildConstraintViolationWithTemplate( "first" ).addConstraintViolation();
+			context.buildConstraintViolationWithTemplate( "second" ).addConstraintViolation();
+			context.buildConstraintViolationWithTemplate( "first" ).addConstraintViolation();
+			return false;
+		}
+	}
+
+	@Documented
+	@Constraint(validatedBy = ManyValidator.class)
+	@Target({ FIELD })
+	@Retention(RUNTIME)
+	public @interface Many {
+
+		String message() default "default";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	public static class ManyValidator implements ConstraintValidator<Many, String> {
+
+		private static final int VIOLATION_COUNT = 20;
+
+		@Override
+		public boolean isValid(String value, ConstraintValidatorContext context) {
+			context.disableDefaultConstraintViolation();
+			for ( int i = 0; i < VIOLATION_COUNT; i++ ) {
+				context.buildConstraintViolationWithTemplate( "message " + i ).addConstraintViolation();
+			}
+			return false;
+		}
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine;
+
+import static org.hibernate.validator.testutils.ValidatorUtil.getConfiguration;
+import static org.hibernate.validator.testutils.ValidatorUtil.getValidator;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Valid;
+import javax.validation.Validator;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import org.hibernate.validator.engine.StreamingValidator;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link StreamingValidator}.
+ */
+public class StreamingValidatorTest {
+
+	@Test
+	public void testViolationsArePushedToTheSink() {
+		Validator validator = getValidator();
+		StreamingValidator streamingValidator = validator.unwrap( StreamingValidator.class );
+
+		Order order = new Order( null, new Customer( "a", 12 ) );
+
+		Set<String> streamedViolations = new HashSet<>();
+		int numberOfViolations = streamingValidator.validate(
+				order,
+				(propertyPath, messageTemplate, interpolatedMessage, constraintDescriptor, invalidValue) -> streamedViolations.add(
+						propertyPath + "|" + messageTemplate + "|" + interpolatedMessage + "|"
+								+ constraintDescriptor.getAnnotation().annotationType().getSimpleName() + "|" + invalidValue
+				)
+		);
+
+		Set<String> expectedViolations = new HashSet<>();
+		for ( ConstraintViolation<Order> violation : validator.validate( order ) ) {
+			expectedViolations.add(
+					violation.getPropertyPath() + "|" + violation.getMessageTemplate() + "|" + violation.getMessage() + "|"
+							+ violation.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName() + "|" + violation.getInvalidValue()
+			);
+		}
+
+		assertEquals( numberOfViolations, 3 );
+		assertEquals( streamedViolations, expectedViolations );
+		assertTrue( streamedViolations.contains( "customer.age|{javax.validation.constraints.Min.message}|must be greater than or equal to 18|Min|12" ) );
+	}
+
+	@Test
+	public void testValidBeanDoesNotPushAnything() {
+		StreamingValidator streamingValidator = getValidator().unwrap( StreamingValidator.class );
+
+		List<String> streamedViolations = new ArrayList<>();
+		int numberOfViolations = streamingValidator.validate(
+				new Order( "ref", new Customer( "name", 20 ) ),
+				(propertyPath, messageTemplate, interpolatedMessage, constraintDescriptor, invalidValue) -> streamedViolations.add( interpolatedMessage )
+		);
+
+		assertEquals( numberOfViolations, 0 );
+		assertTrue( streamedViolations.isEmpty() );
+	}
+
+	@Test
+	public void testFailFast() {
+		StreamingValidator streamingValidator = getConfiguration()
+				.failFast( true )
+				.buildValidatorFactory()
+				.getValidator()
+				.unwrap( StreamingValidator.class );
+
+		List<String> streamedViolations = new ArrayList<>();
+		int numberOfViolations = streamingValidator.validate(
+				new Order( null, new Customer( "a", 12 ) ),
+				(propertyPath, messageTemplate, interpolatedMessage, constraintDescriptor, invalidValue) -> streamedViolations.add( interpolatedMessage )
+		);
+
+		assertEquals( numberOfViolations, 1 );
+		assertEquals( streamedViolations.size(), 1 );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testNullSinkIsRejected() {
+		getValidator().unwrap( StreamingValidator.class ).validate( new Order( null, null ), null );
+	}
+
+	private static class Order {
+
+		@NotNull
+		private final String reference;
+
+		@Valid
+		private final Customer customer;
+
+		private Order(String reference, Customer customer) {
+			this.reference = reference;
+			this.customer = customer;
+		}
+	}
+
+	private static class Customer {
+
+		@Size(min = 2)
+		private final String name;
+
+		@Min(18)
+		private final int age;
+
+		private Customer(String name, int age) {
+			this.name = name;
+			this.age = age;
+		}
+	}
+}
@@ -31,6 +31,8 @@
 import org.hibernate.validator.internal.util.privilegedactions.GetClassLoader;
 import org.hibernate.validator.internal.util.privilegedactions.SetContextClassLoader;
 import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
+import org.hibernate.validator.messageinterpolation.ResourceBundleMessageInterpolator;
+import org.hibernate.validator.messageinterpolation.SimpleExpressionEvaluator;
 import org.hibernate.validator.testutil.ConstraintViolationAssert;
 import org.hibernate.validator.testutil.TestForIssue;
 import org.testng.annotations.Test;
@@ -92,6 +94,27 @@ public void run() {
 		}
 	}
 
+	@Test
+	public void canUseResourceBundleInterpolatorWithExpressionEvaluatorWithoutExpressionFactory() throws Throwable {
+		runWithoutElLibs( CanUseResourceBundleInterpolatorWithExpressionEvaluatorWithoutExpressionFactory.class, EL_PACKAGE_PREFIX );
+	}
+
+	public static class CanUseResourceBundleInterpolatorWithExpressionEvaluatorWithoutExpressionFactory {
+
+		public void run() {
+			Validator validator = Validation.byDefaultProvider()
+				.configure()
+				.messageInterpolator( new ResourceBundleMessageInterpolator( new SimpleExpressionEvaluator() ) )
+				.buildValidatorFactory()
+				.getValidator();
+
+			Set<ConstraintViolation<SomeBeanWithExpression>> violations = validator.validate( new SomeBeanWithExpression() );
+			ConstraintViolationAssert.assertThat( violations ).containsOnlyViolations(
+					violationOf( Min.class ).withMessage( "must be greater than or equal to 42, was 41" )
+			);
+		}
+	}
+
 	@Test
 	@TestForIssue(jiraKey = "HV-1153")
 	public void missingImplementationThrowsValidationException() throws Throwable {
@@ -121,6 +144,12 @@ public static class SomeBean {
 		private final long myLong = 41;
 	}
 
+	public static class SomeBeanWithExpression {
+
+		@Min(value = 42, message = "{javax.validation.constraints.Min.message}, was ${validatedValue}")
+		private final long myLong = 41;
+	}
+
 	/**
 	 * A lot of classpath magic is happening here. The test suite has the EL dependencies on the classpath.
 	 * To test what happens if the EL classes cannot be found, we need to somehow "remove" these classes from the
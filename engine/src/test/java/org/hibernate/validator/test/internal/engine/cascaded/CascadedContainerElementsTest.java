@@ -0,0 +1,186 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.cascaded;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.pathWith;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.testng.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Valid;
+import javax.validation.Validator;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.groups.ConvertGroup;
+import javax.validation.groups.Default;
+
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the validation of the elements of cascaded containers, which share the value contexts and the validation order
+ * of their container.
+ */
+public class CascadedContainerElementsTest {
+
+	private Validator validator;
+
+	@BeforeMethod
+	public void setUp() {
+		validator = ValidatorUtil.getValidator();
+	}
+
+	@Test
+	public void testElementsOfDifferentTypes() {
+		Item invalidItem = new Item( null );
+		SpecialItem invalidSpecialItem = new SpecialItem( "special", 0 );
+		Item invalidItem2 = new Item( null );
+
+		Set<ConstraintViolation<Order>> constraintViolations = validator.validate( new Order(
+				Arrays.asList( new Item( "valid" ), invalidItem, invalidSpecialItem, new SpecialItem( "valid", 2 ), invalidItem2 )
+		) );
+
+		assertThat( constraintViolations ).containsOnlyViolations(
+				violationOf( NotNull.class )
+						.withPropertyPath( pathWith()
+								.property( "items" )
+								.property( "name", true, null, 1, List.class, 0 )
+						),
+				violationOf( Min.class )
+						.withPropertyPath( pathWith()
+								.property( "items" )
+								.property( "quantity", true, null, 2, List.class, 0 )
+						),
+				violationOf( NotNull.class )
+						.withPropertyPath( pathWith()
+								.property( "items" )
+								.property( "name", true, null, 4, List.class, 0 )
+						)
+		);
+
+		for ( ConstraintViolation<Order> constraintViolation : constraintViolations ) {
+			if ( constraintViolation.getConstraintDescriptor().getAnnotation().annotationType() == Min.class ) {
+				assertSame( constraintViolation.getLeafBean(), invalidSpecialItem );
+			}
+			else if ( constraintViolation.getPropertyPath().toString().equals( "items[1].name" ) ) {
+				assertSame( constraintViolation.getLeafBean(), invalidItem );
+			}
+			else {
+				assertSame( constraintViolation.getLeafBean(), invalidItem2 );
+			}
+		}
+	}
+
+	@Test
+	public void testNestedContainers() {
+		Set<ConstraintViolation<Catalog>> constraintViolations = validator.validate( new Catalog(
+				Arrays.asList(
+						Arrays.asList( new Item( "valid" ), new Item( null ) ),
+						Arrays.asList( new Item( null ) )
+				)
+		) );
+
+		assertThat( constraintViolations ).containsOnlyViolations(
+				violationOf( NotNull.class )
+						.withPropertyPath( pathWith()
+								.property( "pages" )
+								.containerElement( "<list element>", true, null, 0, List.class, 0 )
+								.property( "name", true, null, 1, List.class, 0 )
+						),
+				violationOf( NotNull.class )
+						.withPropertyPath( pathWith()
+								.property( "pages" )
+								.containerElement( "<list element>", true, null, 1, List.class, 0 )
+								.property( "name", true, null, 0, List.class, 0 )
+						)
+		);
+	}
+
+	@Test
+	public void testGroupConversion() {
+		Set<ConstraintViolation<ConvertedOrder>> constraintViolations = validator.validate( new ConvertedOrder(
+				Arrays.asList( new SpecialItem( null, 0 ), new SpecialItem( "valid", 1 ), new SpecialItem( "invalid", -1 ) )
+		) );
+
+		assertThat( constraintViolations ).containsOnlyViolations(
+				violationOf( Min.class )
+						.withPropertyPath( pathWith()
+								.property( "items" )
+								.property( "reserve", true, null, 0, List.class, 0 )
+						),
+				violationOf( Min.class )
+						.withPropertyPath( pathWith()
+								.property( "items" )
+								.property( "reserve", true, null, 2, List.class, 0 )
+						)
+		);
+	}
+
+	private interface Reserve {
+	}
+
+	private static class Order {
+
+		@SuppressWarnings("unused")
+		private final List<@Valid Item> items;
+
+		private Order(List<Item> items) {
+			this.items = items;
+		}
+	}
+
+	private static class ConvertedOrder {
+
+		@SuppressWarnings("unused")
+		private final List<@Valid @ConvertGroup(from = Default.class, to = Reserve.class) SpecialItem> items;
+
+		private ConvertedOrder(List<SpecialItem> items) {
+			this.items = items;
+		}
+	}
+
+	private static class Catalog {
+
+		@SuppressWarnings("unused")
+		private final List<List<@Valid Item>> pages;
+
+		private Catalog(List<List<Item>> pages) {
+			this.pages = pages;
+		}
+	}
+
+	private static class Item {
+
+		@NotNull
+		private final String name;
+
+		private Item(String name) {
+			this.name = name;
+		}
+	}
+
+	private static class SpecialItem extends Item {
+
+		@Min(1)
+		private final int quantity;
+
+		@Min(value = 0, groups = Reserve.class)
+		private final int reserve;
+
+		private SpecialItem(String name, int quantity) {
+			super( name );
+			this.quantity = quantity;
+			this.reserve = quantity - 1;
+		}
+	}
+}
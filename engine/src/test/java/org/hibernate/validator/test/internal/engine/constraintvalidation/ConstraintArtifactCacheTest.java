@@ -0,0 +1,127 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.constraintvalidation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.validation.Constraint;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.Payload;
+import javax.validation.ValidatorFactory;
+import javax.validation.metadata.ConstraintDescriptor;
+
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidator;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
+import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintArtifactCache;
+import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintArtifactKey;
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.testng.annotations.Test;
+
+public class ConstraintArtifactCacheTest {
+
+	@Test
+	public void testArtifactsAreCreatedOnce() {
+		ConstraintArtifactCache cache = new ConstraintArtifactCache();
+		AtomicInteger creations = new AtomicInteger();
+
+		String artifact = cache.getArtifact( ConstraintArtifactKey.of( String.class, "a", 1 ), key -> "artifact-" + creations.incrementAndGet() );
+		assertEquals( artifact, "artifact-1" );
+		assertSame( cache.getArtifact( ConstraintArtifactKey.of( String.class, "a", 1 ), key -> "artifact-" + creations.incrementAndGet() ), artifact );
+		assertEquals( cache.getArtifact( ConstraintArtifactKey.of( String.class, "a", 2 ), key -> "artifact-" + creations.incrementAndGet() ), "artifact-2" );
+		assertEquals( cache.getArtifact( ConstraintArtifactKey.of( Integer.class, "a", 1 ), key -> "artifact-" + creations.incrementAndGet() ), "artifact-3" );
+		assertEquals( cache.size(), 3 );
+	}
+
+	@Test
+	public void testCacheIsBounded() {
+		ConstraintArtifactCache cache = new ConstraintArtifactCache( 2 );
+
+		for ( int i = 0; i < 10; i++ ) {
+			assertEquals( (int) cache.getArtifact( ConstraintArtifactKey.of( Integer.class, i ), key -> (Integer) key.getAttribute( 0 ) ), i );
+		}
+		assertEquals( cache.size(), 2 );
+
+		Object uncached = cache.getArtifact( ConstraintArtifactKey.of( Object.class, 42 ), key -> new Object() );
+		assertNotSame( cache.getArtifact( ConstraintArtifactKey.of( Object.class, 42 ), key -> new Object() ), uncached );
+	}
+
+	@Test
+	public void testArtifactsAreSharedBetweenValidatorContexts() {
+		ArtifactValidator.ARTIFACTS.clear();
+		ArtifactValidator.CREATIONS.set( 0 );
+
+		ValidatorFactory validatorFactory = ValidatorUtil.getConfiguration().buildValidatorFactory();
+		validatorFactory.getValidator().validate( new Foo() );
+		validatorFactory.usingContext()
+				.clockProvider( () -> Clock.systemUTC() )
+				.getValidator()
+				.validate( new Foo() );
+
+		// the validator context using another clock provider initializes its own constraint validator
+		assertEquals( ArtifactValidator.ARTIFACTS.size(), 2 );
+		for ( Object artifact : ArtifactValidator.ARTIFACTS ) {
+			assertSame( artifact, ArtifactValidator.ARTIFACTS.get( 0 ) );
+		}
+		assertEquals( ArtifactValidator.CREATIONS.get(), 1 );
+	}
+
+	private static class Foo {
+
+		@WithArtifact("foo")
+		private String bar;
+	}
+
+	@Documented
+	@Constraint(validatedBy = ArtifactValidator.class)
+	@Target({ ElementType.FIELD })
+	@Retention(RetentionPolicy.RUNTIME)
+	public @interface WithArtifact {
+
+		String value();
+
+		String message() default "with artifact";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	public static class ArtifactValidator implements HibernateConstraintValidator<WithArtifact, String> {
+
+		private static final List<Object> ARTIFACTS = Collections.synchronizedList( new ArrayList<>() );
+
+		private static final AtomicInteger CREATIONS = new AtomicInteger();
+
+		@Override
+		public void initialize(ConstraintDescriptor<WithArtifact> constraintDescriptor,
+				HibernateConstraintValidatorInitializationContext initializationContext) {
+			ARTIFACTS.add( initializationContext.getConstraintArtifact( ConstraintArtifactKey.of( ArtifactValidator.class, constraintDescriptor.getAnnotation().value() ),
+					key -> {
+						CREATIONS.incrementAndGet();
+						return new Object();
+					} ) );
+		}
+
+		@Override
+		public boolean isValid(String value, ConstraintValidatorContext context) {
+			return true;
+		}
+	}
+}
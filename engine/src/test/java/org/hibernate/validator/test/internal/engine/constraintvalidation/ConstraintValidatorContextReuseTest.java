@@ -0,0 +1,115 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.constraintvalidation;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.hibernate.validator.testutils.ValidatorUtil.getValidator;
+import static org.testng.Assert.assertNull;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.Set;
+
+import javax.validation.Constraint;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.ConstraintViolation;
+import javax.validation.Payload;
+
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
+import org.hibernate.validator.engine.HibernateConstraintViolation;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that the state of a constraint validator context used for a successful validation does not leak into the
+ * violations of the following constraints, as the context is reused.
+ */
+public class ConstraintValidatorContextReuseTest {
+
+	@Test
+	public void testStateOfSuccessfulValidationDoesNotLeak() {
+		Set<ConstraintViolation<Bean>> violations = getValidator().validate( new Bean() );
+
+		assertThat( violations ).containsOnlyViolations(
+				violationOf( Failing.class ).withProperty( "second" ).withMessage( "failing {param}" ),
+				violationOf( Failing.class ).withProperty( "fourth" ).withMessage( "failing {param}" )
+		);
+		for ( ConstraintViolation<Bean> violation : violations ) {
+			assertNull( ( (HibernateConstraintViolation<?>) violation.unwrap( HibernateConstraintViolation.class ) ).getDynamicPayload( String.class ) );
+		}
+	}
+
+	private static class Bean {
+
+		@Succeeding
+		private String first;
+
+		@Failing
+		private String second;
+
+		@Succeeding
+		private String third;
+
+		@Failing
+		private String fourth;
+	}
+
+	@Documented
+	@Constraint(validatedBy = SucceedingValidator.class)
+	@Target({ FIELD })
+	@Retention(RUNTIME)
+	public @interface Succeeding {
+
+		String message() default "succeeding";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	@Documented
+	@Constraint(validatedBy = FailingValidator.class)
+	@Target({ FIELD })
+	@Retention(RUNTIME)
+	public @interface Failing {
+
+		String message() default "failing {param}";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	/**
+	 * Alters the context as much as possible but considers the value valid.
+	 */
+	public static class SucceedingValidator implements ConstraintValidator<Succeeding, String> {
+
+		@Override
+		public boolean isValid(String value, ConstraintValidatorContext context) {
+			HibernateConstraintValidatorContext hibernateContext = context.unwrap( HibernateConstraintValidatorContext.class );
+			hibernateContext.addMessageParameter( "param", "value" )
+					.addExpressionVariable( "param", "value" )
+					.withDynamicPayload( "payload" )
+					.disableDefaultConstraintViolation();
+			hibernateContext.buildConstraintViolationWithTemplate( "custom" ).addConstraintViolation();
+			return true;
+		}
+	}
+
+	public static class FailingValidator implements ConstraintValidator<Failing, String> {
+
+		@Override
+		public boolean isValid(String value, ConstraintValidatorContext context) {
+			return false;
+		}
+	}
+}
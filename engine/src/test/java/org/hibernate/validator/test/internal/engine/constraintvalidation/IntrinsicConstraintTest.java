@@ -0,0 +1,265 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.constraintvalidation;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNoViolations;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.pathWith;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.hibernate.validator.testutils.ValidatorUtil.getConfiguration;
+import static org.hibernate.validator.testutils.ValidatorUtil.getValidator;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.ConstraintValidatorFactory;
+import javax.validation.Validator;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.cfg.ConstraintMapping;
+import org.hibernate.validator.internal.constraintvalidators.bv.NotNullValidator;
+import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorFactoryImpl;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that the built-in constraints evaluated by the engine without calling their validator behave as the
+ * validators and that custom validators are still called.
+ */
+public class IntrinsicConstraintTest {
+
+	@Test
+	public void testValidValues() {
+		Validator validator = getValidator();
+
+		Bean bean = new Bean();
+		bean.notNull = "";
+		bean.notBlank = " a ";
+		bean.notEmpty = Collections.singletonList( "a" );
+		bean.sizeOfString = "ab";
+		bean.sizeOfList = Arrays.asList( "a", "b", "c" );
+		bean.sizeOfMap = Collections.singletonMap( "a", "b" );
+		bean.sizeOfArray = new String[2];
+		bean.minInteger = 10;
+		bean.maxInteger = 10;
+		bean.minLong = Long.MIN_VALUE + 1;
+		bean.maxLong = Long.MAX_VALUE - 1;
+		bean.minByte = (byte) -5;
+		bean.maxShort = (short) 5;
+
+		assertNoViolations( validator.validate( bean ) );
+	}
+
+	@Test
+	public void testNullValues() {
+		Bean bean = new Bean();
+
+		assertThat( getValidator().validate( bean ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "notNull" ).withMessage( "must not be null" ),
+				violationOf( NotBlank.class ).withProperty( "notBlank" ).withMessage( "must not be blank" ),
+				violationOf( NotEmpty.class ).withProperty( "notEmpty" ).withMessage( "must not be empty" )
+		);
+	}
+
+	@Test
+	public void testInvalidValues() {
+		Bean bean = new Bean();
+		bean.notNull = "";
+		bean.notBlank = " \t";
+		bean.notEmpty = Collections.emptyList();
+		bean.sizeOfString = "abcd";
+		bean.sizeOfList = Collections.singletonList( "a" );
+		bean.sizeOfMap = Collections.emptyMap();
+		bean.sizeOfArray = new String[4];
+		bean.minInteger = 9;
+		bean.maxInteger = 11;
+		bean.minLong = Long.MIN_VALUE;
+		bean.maxLong = Long.MAX_VALUE;
+		bean.minByte = (byte) -6;
+		bean.maxShort = (short) 6;
+
+		assertThat( getValidator().validate( bean ) ).containsOnlyViolations(
+				violationOf( NotBlank.class ).withProperty( "notBlank" ),
+				violationOf( NotEmpty.class ).withProperty( "notEmpty" ),
+				violationOf( Size.class ).withProperty( "sizeOfString" ),
+				violationOf( Size.class ).withProperty( "sizeOfList" ),
+				violationOf( Size.class ).withProperty( "sizeOfMap" ),
+				violationOf( Size.class ).withProperty( "sizeOfArray" ),
+				violationOf( Min.class ).withProperty( "minInteger" ),
+				violationOf( Max.class ).withProperty( "maxInteger" ),
+				violationOf( Min.class ).withProperty( "minLong" ),
+				violationOf( Max.class ).withProperty( "maxLong" ),
+				violationOf( Min.class ).withProperty( "minByte" ),
+				violationOf( Max.class ).withProperty( "maxShort" )
+		);
+	}
+
+	@Test
+	public void testMessages() {
+		Bean bean = new Bean();
+		bean.notNull = "";
+		bean.notBlank = "a";
+		bean.notEmpty = Collections.singletonList( "a" );
+		bean.sizeOfString = "abcd";
+		bean.minInteger = 9;
+		bean.maxInteger = 11;
+
+		assertThat( getValidator().validate( bean ) ).containsOnlyViolations(
+				violationOf( Size.class ).withProperty( "sizeOfString" ).withMessage( "size must be between 1 and 3" ),
+				violationOf( Min.class ).withProperty( "minInteger" ).withMessage( "must be greater than or equal to 10" ),
+				violationOf( Max.class ).withProperty( "maxInteger" ).withMessage( "must be less than or equal to 10" )
+		);
+	}
+
+	@Test
+	public void testContainerElements() {
+		ContainerBean bean = new ContainerBean();
+		bean.values = Arrays.asList( "a", null, "" );
+
+		assertThat( getValidator().validate( bean ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withPropertyPath( pathWith()
+						.property( "values" )
+						.containerElement( "<list element>", true, null, 1, List.class, 0 ) ),
+				violationOf( NotBlank.class ).withPropertyPath( pathWith()
+						.property( "values" )
+						.containerElement( "<list element>", true, null, 1, List.class, 0 ) ),
+				violationOf( NotBlank.class ).withPropertyPath( pathWith()
+						.property( "values" )
+						.containerElement( "<list element>", true, null, 2, List.class, 0 ) )
+		);
+	}
+
+	@Test
+	public void testCustomValidatorReplacingBuiltInValidatorIsCalled() {
+		HibernateValidatorConfiguration configuration = getConfiguration();
+		ConstraintMapping mapping = configuration.createConstraintMapping();
+		mapping.constraintDefinition( NotNull.class )
+				.includeExistingValidators( false )
+				.validatedBy( NotNullIfNotFooValidator.class );
+		Validator validator = configuration.addMapping( mapping )
+				.buildValidatorFactory()
+				.getValidator();
+
+		Bean bean = new Bean();
+		bean.notNull = "foo";
+		bean.notBlank = "a";
+		bean.notEmpty = Collections.singletonList( "a" );
+
+		assertThat( validator.validate( bean ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "notNull" )
+		);
+	}
+
+	@Test
+	public void testValidatorReturnedByCustomConstraintValidatorFactoryIsCalled() {
+		Validator validator = getConfiguration()
+				.constraintValidatorFactory( new NotNullIfNotFooValidatorFactory() )
+				.buildValidatorFactory()
+				.getValidator();
+
+		Bean bean = new Bean();
+		bean.notNull = "foo";
+		bean.notBlank = "a";
+		bean.notEmpty = Collections.singletonList( "a" );
+
+		assertThat( validator.validate( bean ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "notNull" )
+		);
+	}
+
+	private static class Bean {
+
+		@NotNull
+		private String notNull;
+
+		@NotBlank
+		private String notBlank;
+
+		@NotEmpty
+		private List<String> notEmpty;
+
+		@Size(min = 1, max = 3)
+		private String sizeOfString;
+
+		@Size(min = 2, max = 3)
+		private List<String> sizeOfList;
+
+		@Size(min = 1)
+		private Map<String, String> sizeOfMap;
+
+		@Size(max = 3)
+		private String[] sizeOfArray;
+
+		@Min(10)
+		private Integer minInteger;
+
+		@Max(10)
+		private int maxInteger;
+
+		@Min(Long.MIN_VALUE + 1)
+		private Long minLong;
+
+		@Max(Long.MAX_VALUE - 1)
+		private Long maxLong;
+
+		@Min(-5)
+		private Byte minByte;
+
+		@Max(5)
+		private Short maxShort;
+	}
+
+	private static class ContainerBean {
+
+		private List<@NotNull @NotBlank String> values;
+	}
+
+	public static class NotNullIfNotFooValidator implements ConstraintValidator<NotNull, Object> {
+
+		@Override
+		public boolean isValid(Object value, ConstraintValidatorContext context) {
+			return value != null && !"foo".equals( value );
+		}
+	}
+
+	/**
+	 * Returns a subclass of the built-in {@code @NotNull} validator.
+	 */
+	private static class NotNullIfNotFooValidatorFactory implements ConstraintValidatorFactory {
+
+		private final ConstraintValidatorFactory delegate = new ConstraintValidatorFactoryImpl();
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key) {
+			if ( key == NotNullValidator.class ) {
+				return (T) new NotNullValidator() {
+
+					@Override
+					public boolean isValid(Object object, ConstraintValidatorContext constraintValidatorContext) {
+						return super.isValid( object, constraintValidatorContext ) && !"foo".equals( object );
+					}
+				};
+			}
+			return delegate.getInstance( key );
+		}
+
+		@Override
+		public void releaseInstance(ConstraintValidator<?, ?> instance) {
+			delegate.releaseInstance( instance );
+		}
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.messageinterpolation;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.validation.MessageInterpolator;
+import javax.validation.constraints.Size;
+
+import org.hibernate.validator.internal.engine.MessageInterpolatorContext;
+import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
+import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
+import org.hibernate.validator.internal.metadata.location.ConstraintLocation.ConstraintLocationKind;
+import org.hibernate.validator.internal.util.annotation.ConstraintAnnotationDescriptor;
+import org.hibernate.validator.messageinterpolation.ResourceBundleMessageInterpolator;
+import org.hibernate.validator.messageinterpolation.SimpleExpressionEvaluator;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that the caching of the interpolated messages does not leak values from one interpolation to another.
+ */
+public class InterpolatedMessageCachingTest {
+
+	private MessageInterpolator interpolatorUnderTest;
+	private ConstraintDescriptorImpl<Size> sizeDescriptor;
+	private ConstraintDescriptorImpl<Size> otherSizeDescriptor;
+
+	@BeforeMethod
+	public void setUp() {
+		ConstraintAnnotationDescriptor.Builder<Size> sizeAnnotationDescriptorBuilder = new ConstraintAnnotationDescriptor.Builder<>( Size.class );
+		sizeAnnotationDescriptorBuilder.setAttribute( "max", 5 );
+		sizeDescriptor = new ConstraintDescriptorImpl<>(
+				new ConstraintHelper(),
+				null,
+				sizeAnnotationDescriptorBuilder.build(),
+				ConstraintLocationKind.FIELD
+		);
+
+		ConstraintAnnotationDescriptor.Builder<Size> otherSizeAnnotationDescriptorBuilder = new ConstraintAnnotationDescriptor.Builder<>( Size.class );
+		otherSizeAnnotationDescriptorBuilder.setAttribute( "max", 10 );
+		otherSizeDescriptor = new ConstraintDescriptorImpl<>(
+				new ConstraintHelper(),
+				null,
+				otherSizeAnnotationDescriptorBuilder.build(),
+				ConstraintLocationKind.FIELD
+		);
+
+		interpolatorUnderTest = new ResourceBundleMessageInterpolator();
+	}
+
+	@Test
+	public void testValueIndependentMessageIsInterpolatedPerDescriptor() {
+		String message = "size must be between {min} and {max}";
+
+		assertEquals( interpolate( message, sizeDescriptor, "value" ), "size must be between 0 and 5" );
+		assertEquals( interpolate( message, sizeDescriptor, "other value" ), "size must be between 0 and 5" );
+		assertEquals( interpolate( message, otherSizeDescriptor, "value" ), "size must be between 0 and 10" );
+	}
+
+	@Test
+	public void testValueIndependentMessageIsInterpolatedPerLocale() {
+		String message = "${formatter.format('%1$.1f', 1.5)}";
+
+		assertEquals( interpolatorUnderTest.interpolate( message, context( sizeDescriptor, "value" ), Locale.US ), "1.5" );
+		assertEquals( interpolatorUnderTest.interpolate( message, context( sizeDescriptor, "value" ), Locale.FRANCE ), "1,5" );
+	}
+
+	@Test
+	public void testMessageReferencingValidatedValueIsNotCached() {
+		String message = "${validatedValue} is too long";
+
+		assertEquals( interpolate( message, sizeDescriptor, "value" ), "value is too long" );
+		assertEquals( interpolate( message, sizeDescriptor, "other value" ), "other value is too long" );
+	}
+
+	@Test
+	public void testMessageWithDynamicParametersIsNotCached() {
+		String message = "{max} or {dynamic}";
+
+		assertEquals(
+				interpolatorUnderTest.interpolate( message, new MessageInterpolatorContext( sizeDescriptor, "value", null, null,
+						Collections.singletonMap( "dynamic", "first" ), Collections.emptyMap() ) ),
+				"5 or first"
+		);
+		assertEquals(
+				interpolatorUnderTest.interpolate( message, new MessageInterpolatorContext( sizeDescriptor, "value", null, null,
+						Collections.singletonMap( "dynamic", "second" ), Collections.emptyMap() ) ),
+				"5 or second"
+		);
+	}
+
+	@Test
+	public void testTermsInterpolatedBySubclassAreNotCached() {
+		AtomicInteger counter = new AtomicInteger();
+		interpolatorUnderTest = new ResourceBundleMessageInterpolator() {
+
+			@Override
+			public String interpolate(Context context, Locale locale, String term) {
+				return String.valueOf( counter.incrementAndGet() );
+			}
+		};
+
+		assertEquals( interpolate( "{max}", sizeDescriptor, "value" ), "1" );
+		assertEquals( interpolate( "{max}", sizeDescriptor, "value" ), "2" );
+	}
+
+	@Test
+	public void testExpressionsAreCachedOnlyIfTheEvaluatorAllowsIt() {
+		AtomicInteger counter = new AtomicInteger();
+		interpolatorUnderTest = new ResourceBundleMessageInterpolator(
+				(expression, context, locale) -> String.valueOf( counter.incrementAndGet() ) );
+
+		assertEquals( interpolate( "${1 + 1}", sizeDescriptor, "value" ), "1" );
+		assertEquals( interpolate( "${1 + 1}", sizeDescriptor, "value" ), "2" );
+
+		interpolatorUnderTest = new ResourceBundleMessageInterpolator( new SimpleExpressionEvaluator() );
+
+		assertEquals( interpolate( "${max + 1}", sizeDescriptor, "value" ), "6" );
+		assertEquals( interpolate( "${max + 1}", otherSizeDescriptor, "value" ), "11" );
+		assertEquals( interpolate( "${validatedValue}", sizeDescriptor, "value" ), "value" );
+		assertEquals( interpolate( "${validatedValue}", sizeDescriptor, "other value" ), "other value" );
+	}
+
+	private String interpolate(String message, ConstraintDescriptorImpl<?> descriptor, Object validatedValue) {
+		return interpolatorUnderTest.interpolate( message, context( descriptor, validatedValue ) );
+	}
+
+	private MessageInterpolator.Context context(ConstraintDescriptorImpl<?> descriptor, Object validatedValue) {
+		return new MessageInterpolatorContext( descriptor, validatedValue, null, null, Collections.emptyMap(), Collections.emptyMap() );
+	}
+}
@@ -8,6 +8,7 @@
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hibernate.validator.internal.engine.messageinterpolation.util.InterpolationHelper.escapeMessageParameter;
+import static org.hibernate.validator.internal.engine.messageinterpolation.util.InterpolationHelper.unescapeMessage;
 
 import org.testng.annotations.Test;
 
@@ -21,4 +22,21 @@ public void testEscapeMessageParameter() {
 		assertThat( escapeMessageParameter( "${\\}" ) ).isEqualTo( "\\$\\{\\\\\\}" );
 	}
 
+	@Test
+	public void testUnescapeMessage() {
+		assertThat( unescapeMessage( "test" ) ).isEqualTo( "test" );
+		assertThat( unescapeMessage( "\\{\\}" ) ).isEqualTo( "{}" );
+		assertThat( unescapeMessage( "US\\$ 5" ) ).isEqualTo( "US$ 5" );
+		assertThat( unescapeMessage( "\\\\{" ) ).isEqualTo( "\\{" );
+		assertThat( unescapeMessage( "\\a\\" ) ).isEqualTo( "\\a\\" );
+	}
+
+	@Test
+	public void testUnescapeMessageIsInverseOfEscapeMessageParameter() {
+		String[] parameters = { "test", "{}", "${\\}", "\\\\$", "\\{", "{\\" };
+		for ( String parameter : parameters ) {
+			assertThat( unescapeMessage( escapeMessageParameter( parameter ) ) ).isEqualTo( parameter );
+		}
+	}
+
 }
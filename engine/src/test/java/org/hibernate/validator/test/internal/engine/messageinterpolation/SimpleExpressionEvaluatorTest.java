@@ -0,0 +1,161 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.messageinterpolation;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.hibernate.validator.testutils.ValidatorUtil.getConfiguration;
+import static org.testng.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Set;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.MessageInterpolator;
+import javax.validation.Validator;
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.Size;
+
+import org.hibernate.validator.internal.engine.MessageInterpolatorContext;
+import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
+import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
+import org.hibernate.validator.internal.metadata.location.ConstraintLocation.ConstraintLocationKind;
+import org.hibernate.validator.internal.util.annotation.ConstraintAnnotationDescriptor;
+import org.hibernate.validator.messageinterpolation.ResourceBundleMessageInterpolator;
+import org.hibernate.validator.messageinterpolation.SimpleExpressionEvaluator;
+
+import org.testng.annotations.BeforeTest;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for message interpolation using the {@link SimpleExpressionEvaluator}.
+ */
+public class SimpleExpressionEvaluatorTest {
+
+	private MessageInterpolator interpolatorUnderTest;
+	private ConstraintDescriptorImpl<Size> sizeDescriptor;
+
+	@BeforeTest
+	public void setUp() {
+		ConstraintAnnotationDescriptor.Builder<Size> sizeAnnotationDescriptorBuilder = new ConstraintAnnotationDescriptor.Builder<>( Size.class );
+		sizeDescriptor = new ConstraintDescriptorImpl<>(
+				new ConstraintHelper(),
+				null,
+				sizeAnnotationDescriptorBuilder.build(),
+				ConstraintLocationKind.FIELD
+		);
+
+		interpolatorUnderTest = new ResourceBundleMessageInterpolator( new SimpleExpressionEvaluator() );
+	}
+
+	@Test
+	public void testGraphNavigation() {
+		User user = new User();
+		user.setAge( 18 );
+
+		assertEquals( interpolate( "${validatedValue.age}", user ), "18" );
+		assertEquals( interpolate( "${validatedValue.age >= 18 ? 'adult' : 'minor'}", user ), "adult" );
+	}
+
+	@Test
+	public void testUnknownPropertyIsNotSubstituted() {
+		assertEquals( interpolate( "${validatedValue.foo}", new User() ), "${validatedValue.foo}" );
+		assertEquals( interpolate( "${foo}", new User() ), "${foo}" );
+	}
+
+	@Test
+	public void testNullValidatedValue() {
+		assertEquals( interpolate( "Validated value was ${validatedValue == null ? 'null' : validatedValue}", null ), "Validated value was null" );
+		assertEquals( interpolate( "${validatedValue.age}", null ), "" );
+	}
+
+	@Test
+	public void testOperators() {
+		assertEquals( interpolate( "${1+1} {min} {max}", null ), "2 0 2147483647" );
+		assertEquals( interpolate( "${10 / 4} ${10 mod 4} ${-2 * 3} ${1.5 + 1}", null ), "2.5 2 -6 2.5" );
+		assertEquals( interpolate( "${min == 0 ? 'foo' : 'bar'}", null ), "foo" );
+		assertEquals( interpolate( "${min lt max and not (max eq 0) ? 'ok' : 'ko'}", null ), "ok" );
+		assertEquals( interpolate( "${empty validatedValue || validatedValue != 'foo'}", "" ), "true" );
+		assertEquals( interpolate( "${max == 1 ? ' 1 day' : ' ' += max += ' days'}", null ), " 2147483647 days" );
+		assertEquals( interpolate( "${validatedValue[1]}", new String[]{ "a", "b" } ), "b" );
+	}
+
+	@Test
+	public void testFormatter() {
+		assertEquals( interpolate( "${formatter.format('Max %s, min %s', max, min)}", null ), "Max 2147483647, min 0" );
+		assertEquals(
+				interpolatorUnderTest.interpolate( "${formatter.format('%1$.2f', validatedValue)}", context( 42.0 ), Locale.GERMAN ),
+				"42,00"
+		);
+		assertEquals(
+				interpolatorUnderTest.interpolate( "${formatter.format('%1$.2f', validatedValue)}", context( 42.0 ), Locale.US ),
+				"42.00"
+		);
+	}
+
+	@Test
+	public void testInvalidFormatterCallIsNotSubstituted() {
+		assertEquals( interpolate( "${formatter.format('%1$s')}", null ), "${formatter.format('%1$s')}" );
+		assertEquals( interpolate( "${formatter.format()}", null ), "${formatter.format()}" );
+		assertEquals( interpolate( "${formatter.foo('%1$.2f', validatedValue)}", null ), "${formatter.foo('%1$.2f', validatedValue)}" );
+	}
+
+	@Test
+	public void testUnsupportedConstructIsNotSubstituted() {
+		assertEquals( interpolate( "${'foobar'.substring(0,3)}", null ), "${'foobar'.substring(0,3)}" );
+		assertEquals( interpolate( "${1 +}", null ), "${1 +}" );
+	}
+
+	@Test
+	public void testLiterals() {
+		assertEquals( interpolate( "${1 > 0 ? '\\{' : '\\}'}", null ), "{" );
+		assertEquals( interpolate( "${1 < 0 ? 'foo' : 'a\\{b\\}d'}", null ), "a{b}d" );
+		assertEquals( interpolate( "${ true ? \"\\\"\" : \"foo\"}", null ), "\"" );
+		assertEquals( interpolate( "${ false ? 'foo' : '\\''}", null ), "'" );
+		assertEquals( interpolate( "\\${1+1}", null ), "${1+1}" );
+	}
+
+	@Test
+	public void testDefaultMessagesCanBeInterpolated() {
+		Validator validator = getConfiguration()
+				.messageInterpolator( new ResourceBundleMessageInterpolator( new SimpleExpressionEvaluator() ) )
+				.buildValidatorFactory()
+				.getValidator();
+
+		Set<ConstraintViolation<Price>> constraintViolations = validator.validate( new Price( new BigDecimal( "12" ) ) );
+		assertThat( constraintViolations ).containsOnlyViolations(
+				violationOf( DecimalMax.class ).withMessage( "must be less than or equal to 10" )
+		);
+	}
+
+	private String interpolate(String message, Object validatedValue) {
+		return interpolatorUnderTest.interpolate( message, context( validatedValue ), Locale.ROOT );
+	}
+
+	private MessageInterpolator.Context context(Object validatedValue) {
+		return new MessageInterpolatorContext(
+				sizeDescriptor,
+				validatedValue,
+				null,
+				null,
+				Collections.<String, Object>emptyMap(),
+				Collections.<String, Object>emptyMap()
+		);
+	}
+
+	private static class Price {
+
+		@DecimalMax("10")
+		private final BigDecimal amount;
+
+		private Price(BigDecimal amount) {
+			this.amount = amount;
+		}
+	}
+}
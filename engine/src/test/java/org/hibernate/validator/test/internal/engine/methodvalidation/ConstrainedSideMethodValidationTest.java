@@ -0,0 +1,137 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.methodvalidation;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNoViolations;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+
+import java.lang.reflect.Method;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import javax.validation.executable.ExecutableValidator;
+
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the validation of executables having constraints on their parameters or on their return value only.
+ */
+public class ConstrainedSideMethodValidationTest {
+
+	private ExecutableValidator executableValidator;
+
+	@BeforeMethod
+	public void setUp() {
+		executableValidator = ValidatorUtil.getValidator().forExecutables();
+	}
+
+	@Test
+	public void testParameterConstraintsOnly() throws Exception {
+		Method method = Service.class.getMethod( "find", String.class );
+
+		for ( int i = 0; i < 2; i++ ) {
+			assertThat( executableValidator.validateParameters( new Service(), method, new Object[] { null } ) ).containsOnlyViolations(
+					violationOf( NotNull.class )
+			);
+			assertNoViolations( executableValidator.validateReturnValue( new Service(), method, null ) );
+		}
+	}
+
+	@Test
+	public void testReturnValueConstraintsOnly() throws Exception {
+		Method method = Service.class.getMethod( "count", String.class );
+
+		for ( int i = 0; i < 2; i++ ) {
+			assertNoViolations( executableValidator.validateParameters( new Service(), method, new Object[] { null } ) );
+			assertThat( executableValidator.validateReturnValue( new Service(), method, -1 ) ).containsOnlyViolations(
+					violationOf( Min.class )
+			);
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "HV000181.*")
+	public void testParameterCountCheckedForReturnValueConstraintsOnly() throws Exception {
+		Method method = Service.class.getMethod( "count", String.class );
+
+		executableValidator.validateParameters( new Service(), method, new Object[] { "name", "other" } );
+	}
+
+	@Test
+	public void testCascadedParameter() throws Exception {
+		Method method = Service.class.getMethod( "save", Item.class );
+
+		assertThat( executableValidator.validateParameters( new Service(), method, new Object[] { new Item( null ) } ) ).containsOnlyViolations(
+				violationOf( NotNull.class )
+		);
+		assertNoViolations( executableValidator.validateReturnValue( new Service(), method, null ) );
+	}
+
+	@Test
+	public void testReturnValueConstraintsAddedBySubType() throws Exception {
+		Method method = Service.class.getMethod( "name" );
+
+		assertNoViolations( executableValidator.validateReturnValue( new Service(), method, "" ) );
+		assertThat( executableValidator.validateReturnValue( new ExtendedService(), method, "" ) ).containsOnlyViolations(
+				violationOf( Size.class )
+		);
+		assertNoViolations( executableValidator.validateReturnValue( new Service(), method, "" ) );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "HV000162.*")
+	public void testExecutableOfAnotherType() throws Exception {
+		Method method = Item.class.getMethod( "getName" );
+
+		executableValidator.validateReturnValue( new Service(), method, null );
+	}
+
+	public static class Service {
+
+		public String find(@NotNull String name) {
+			return null;
+		}
+
+		@Min(0)
+		public int count(String name) {
+			return 0;
+		}
+
+		public void save(@Valid Item item) {
+		}
+
+		public String name() {
+			return null;
+		}
+	}
+
+	public static class ExtendedService extends Service {
+
+		@Override
+		@Size(min = 1)
+		public String name() {
+			return null;
+		}
+	}
+
+	public static class Item {
+
+		@NotNull
+		private final String name;
+
+		public Item(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
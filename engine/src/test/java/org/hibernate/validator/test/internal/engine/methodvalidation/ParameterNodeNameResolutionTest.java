@@ -0,0 +1,156 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.methodvalidation;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.pathWith;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.testng.Assert.assertEquals;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.validation.ParameterNameProvider;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import javax.validation.executable.ExecutableValidator;
+import javax.validation.groups.Default;
+
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that the parameter names are resolved once per parameter name provider and that the paths of the parameters
+ * are correct when validating several groups.
+ */
+public class ParameterNodeNameResolutionTest {
+
+	@Test
+	public void testParameterNamesResolvedOncePerProvider() throws Exception {
+		CountingParameterNameProvider parameterNameProvider = new CountingParameterNameProvider( "first" );
+		ExecutableValidator executableValidator = ValidatorUtil.getConfiguration()
+				.parameterNameProvider( parameterNameProvider )
+				.buildValidatorFactory()
+				.getValidator()
+				.forExecutables();
+		Method method = Service.class.getMethod( "rename", String.class, int.class );
+
+		int invocationCountAfterFirstValidation = 0;
+		for ( int i = 0; i < 3; i++ ) {
+			assertThat( executableValidator.validateParameters( new Service(), method, new Object[] { null, -1 } ) ).containsOnlyViolations(
+					violationOf( NotNull.class ).withPropertyPath( pathWith()
+							.method( "rename" )
+							.parameter( "first0", 0 )
+					),
+					violationOf( Min.class ).withPropertyPath( pathWith()
+							.method( "rename" )
+							.parameter( "first1", 1 )
+					)
+			);
+			if ( i == 0 ) {
+				invocationCountAfterFirstValidation = parameterNameProvider.invocationCount.get();
+			}
+		}
+
+		// the names are not resolved again by the subsequent validations
+		assertEquals( parameterNameProvider.invocationCount.get(), invocationCountAfterFirstValidation );
+
+		// another provider resolves the names again
+		CountingParameterNameProvider otherParameterNameProvider = new CountingParameterNameProvider( "other" );
+		assertThat( ValidatorUtil.getConfiguration().buildValidatorFactory().usingContext()
+				.parameterNameProvider( otherParameterNameProvider )
+				.getValidator()
+				.forExecutables()
+				.validateParameters( new Service(), method, new Object[] { null, 0 } ) )
+				.containsOnlyViolations(
+						violationOf( NotNull.class ).withPropertyPath( pathWith()
+								.method( "rename" )
+								.parameter( "other0", 0 )
+						)
+				);
+	}
+
+	@Test
+	public void testParametersAndReturnValueValidatedForSeveralGroups() throws Exception {
+		ExecutableValidator executableValidator = ValidatorUtil.getValidator().forExecutables();
+		Method method = Service.class.getMethod( "rename", String.class, int.class );
+
+		assertThat( executableValidator.validateParameters( new Service(), method, new Object[] { "abc", -1 }, Default.class, Strict.class ) )
+				.containsOnlyViolations(
+						violationOf( Min.class ).withPropertyPath( pathWith()
+								.method( "rename" )
+								.parameter( "index", 1 )
+						),
+						violationOf( Size.class ).withPropertyPath( pathWith()
+								.method( "rename" )
+								.parameter( "name", 0 )
+						)
+				);
+
+		assertThat( executableValidator.validateReturnValue( new Service(), method, "", Default.class, Strict.class ) )
+				.containsOnlyViolations(
+						violationOf( Size.class ).withPropertyPath( pathWith()
+								.method( "rename" )
+								.returnValue()
+						)
+				);
+		assertThat( executableValidator.validateReturnValue( new Service(), method, null, Default.class, Strict.class ) )
+				.containsOnlyViolations(
+						violationOf( NotNull.class ).withPropertyPath( pathWith()
+								.method( "rename" )
+								.returnValue()
+						)
+				);
+	}
+
+	private interface Strict {
+	}
+
+	public static class Service {
+
+		@NotNull
+		@Size(min = 1, groups = Strict.class)
+		public String rename(@NotNull @Size(min = 5, groups = Strict.class) String name, @Min(0) int index) {
+			return null;
+		}
+	}
+
+	private static class CountingParameterNameProvider implements ParameterNameProvider {
+
+		private final String prefix;
+
+		private final AtomicInteger invocationCount = new AtomicInteger();
+
+		private CountingParameterNameProvider(String prefix) {
+			this.prefix = prefix;
+		}
+
+		@Override
+		public List<String> getParameterNames(Constructor<?> constructor) {
+			invocationCount.incrementAndGet();
+			return getParameterNames( constructor.getParameterCount() );
+		}
+
+		@Override
+		public List<String> getParameterNames(Method method) {
+			invocationCount.incrementAndGet();
+			return getParameterNames( method.getParameterCount() );
+		}
+
+		private List<String> getParameterNames(int parameterCount) {
+			String[] names = new String[parameterCount];
+			for ( int i = 0; i < parameterCount; i++ ) {
+				names[i] = prefix + i;
+			}
+			return Arrays.asList( names );
+		}
+	}
+}
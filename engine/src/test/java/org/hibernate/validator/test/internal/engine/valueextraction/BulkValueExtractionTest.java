@@ -0,0 +1,101 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.valueextraction;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNoViolations;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.pathWith;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import javax.validation.Validator;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+
+import org.hibernate.validator.internal.engine.path.NodeImpl;
+import org.hibernate.validator.testutil.ConstraintViolationAssert.PathExpectation;
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the validation of the elements of the containers whose value extractor provides random access to them.
+ */
+public class BulkValueExtractionTest {
+
+	private Validator validator;
+
+	@BeforeMethod
+	public void setUp() {
+		validator = ValidatorUtil.getValidator();
+	}
+
+	@Test
+	public void testRandomAccessAndSequentialLists() {
+		List<Integer> values = Arrays.asList( 1, -1, 2, 3, null, -2, 200 );
+
+		for ( List<Integer> list : Arrays.<List<Integer>>asList( new ArrayList<>( values ), new LinkedList<>( values ) ) ) {
+			assertThat( validator.validate( new Numbers( list ) ) ).containsOnlyViolations(
+					violationOf( Min.class ).withPropertyPath( listElement( "numbers", 1 ) ),
+					violationOf( NotNull.class ).withPropertyPath( listElement( "numbers", 4 ) ),
+					violationOf( Min.class ).withPropertyPath( listElement( "numbers", 5 ) ),
+					violationOf( Max.class ).withPropertyPath( listElement( "numbers", 6 ) ),
+					violationOf( Positive.class ).withPropertyPath( listElement( "numbers", 1 ) ),
+					violationOf( Positive.class ).withPropertyPath( listElement( "numbers", 5 ) )
+			);
+		}
+
+		assertNoViolations( validator.validate( new Numbers( new ArrayList<>( Arrays.asList( 1, 2, 100 ) ) ) ) );
+		assertNoViolations( validator.validate( new Numbers( Collections.emptyList() ) ) );
+	}
+
+	@Test
+	public void testNestedLists() {
+		List<List<Integer>> matrix = Arrays.asList( Arrays.asList( 1, 2 ), Arrays.asList( 3, -4 ) );
+
+		assertThat( validator.validate( new Matrix( matrix ) ) ).containsOnlyViolations(
+				violationOf( Min.class ).withPropertyPath( pathWith()
+						.property( "matrix" )
+						.containerElement( NodeImpl.LIST_ELEMENT_NODE_NAME, true, null, 1, List.class, 0 )
+						.containerElement( NodeImpl.LIST_ELEMENT_NODE_NAME, true, null, 1, List.class, 0 )
+				)
+		);
+	}
+
+	private static PathExpectation listElement(String property, int index) {
+		return pathWith()
+				.property( property )
+				.containerElement( NodeImpl.LIST_ELEMENT_NODE_NAME, true, null, index, List.class, 0 );
+	}
+
+	private static class Numbers {
+
+		@SuppressWarnings("unused")
+		private final List<@NotNull @Min(0) @Max(100) @Positive Integer> numbers;
+
+		private Numbers(List<Integer> numbers) {
+			this.numbers = numbers;
+		}
+	}
+
+	private static class Matrix {
+
+		@SuppressWarnings("unused")
+		private final List<List<@Min(0) Integer>> matrix;
+
+		private Matrix(List<List<Integer>> matrix) {
+			this.matrix = matrix;
+		}
+	}
+}
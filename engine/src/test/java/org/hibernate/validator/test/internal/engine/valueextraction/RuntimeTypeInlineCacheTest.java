@@ -0,0 +1,125 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.valueextraction;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNoViolations;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.pathWith;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+import javax.validation.Valid;
+import javax.validation.Validator;
+import javax.validation.constraints.NotNull;
+
+import org.hibernate.validator.internal.engine.valueextraction.RuntimeTypeInlineCache;
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link RuntimeTypeInlineCache} and for the cascaded validation of containers whose runtime type changes.
+ */
+public class RuntimeTypeInlineCacheTest {
+
+	@Test
+	public void testMonomorphicAndPolymorphicEntries() {
+		RuntimeTypeInlineCache<String> cache = new RuntimeTypeInlineCache<>();
+		assertNull( cache.get( ArrayList.class ) );
+
+		cache.put( ArrayList.class, "arrayList" );
+		assertEquals( cache.get( ArrayList.class ).getValue(), "arrayList" );
+		assertNull( cache.get( List.class ) );
+
+		cache.put( LinkedList.class, null );
+		assertNotNull( cache.get( LinkedList.class ) );
+		assertNull( cache.get( LinkedList.class ).getValue() );
+		assertEquals( cache.get( ArrayList.class ).getValue(), "arrayList" );
+
+		cache.put( HashSet.class, "hashSet" );
+		cache.put( Optional.class, "optional" );
+		cache.put( Object.class, "object" );
+
+		assertEquals( cache.get( ArrayList.class ).getValue(), "arrayList" );
+		assertEquals( cache.get( HashSet.class ).getValue(), "hashSet" );
+		assertEquals( cache.get( Optional.class ).getValue(), "optional" );
+		assertEquals( cache.get( Object.class ).getValue(), "object" );
+
+		// the polymorphic entries are full, further runtime types are only kept in the monomorphic slot
+		cache.put( String.class, "string" );
+		assertEquals( cache.get( String.class ).getValue(), "string" );
+		assertNull( cache.get( Object.class ) );
+		assertEquals( cache.get( ArrayList.class ).getValue(), "arrayList" );
+	}
+
+	@Test
+	public void testCascadingWithChangingRuntimeTypes() {
+		Validator validator = ValidatorUtil.getValidator();
+
+		List<Object> invalidValues = Arrays.asList(
+				new ArrayList<>( Collections.singletonList( new Bean( null ) ) ),
+				new Bean( null ),
+				new HashSet<>( Collections.singletonList( new Bean( null ) ) ),
+				Optional.of( new Bean( null ) ),
+				new LinkedList<>( Collections.singletonList( new Bean( null ) ) )
+		);
+		List<Object> validValues = Arrays.asList(
+				new ArrayList<>( Collections.singletonList( new Bean( "valid" ) ) ),
+				new Bean( "valid" ),
+				Optional.empty()
+		);
+
+		for ( int i = 0; i < 3; i++ ) {
+			for ( Object value : invalidValues ) {
+				assertThat( validator.validate( new Holder( value ) ) ).containsOnlyViolations(
+						violationOf( NotNull.class )
+				);
+			}
+			for ( Object value : validValues ) {
+				assertNoViolations( validator.validate( new Holder( value ) ) );
+			}
+		}
+
+		assertThat( validator.validate( new Holder( new ArrayList<>( Collections.singletonList( new Bean( null ) ) ) ) ) ).containsOnlyViolations(
+				violationOf( NotNull.class )
+						.withPropertyPath( pathWith()
+								.property( "value" )
+								.property( "name", true, null, 0, List.class, 0 )
+						)
+		);
+	}
+
+	private static class Holder {
+
+		@SuppressWarnings("unused")
+		@Valid
+		private final Object value;
+
+		private Holder(Object value) {
+			this.value = value;
+		}
+	}
+
+	private static class Bean {
+
+		@NotNull
+		private final String name;
+
+		private Bean(String name) {
+			this.name = name;
+		}
+	}
+}
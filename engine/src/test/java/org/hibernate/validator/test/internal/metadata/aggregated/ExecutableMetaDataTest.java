@@ -198,6 +198,25 @@ public void getIdentifierForOverridingGenericMethod() throws Exception {
 			.containsOnly( "createJob(java.lang.Object)", "createJob(java.util.UUID)" );
 	}
 
+	@Test
+	public void getExecutablesForOverridingGenericMethod() throws Exception {
+		Method method = JobRepositoryImpl.class.getMethod( "createJob", UUID.class );
+		Method superTypeMethod = JobRepository.class.getMethod( "createJob", Object.class );
+		Method bridgeMethod = JobRepositoryImpl.class.getMethod( "createJob", Object.class );
+		assertTrue( bridgeMethod.isBridge() );
+
+		BeanMetaData<?> beanMetaData = beanMetaDataManager.getBeanMetaData( JobRepositoryImpl.class );
+		ExecutableMetaData methodMetaData = beanMetaData.getMetaDataFor( method ).get();
+
+		assertThat( methodMetaData.getExecutables() )
+			.describedAs( "Expecting super-type and sub-type methods" )
+			.containsOnly( method, superTypeMethod );
+
+		assertThat( beanMetaData.getMetaDataFor( superTypeMethod ).get() ).isSameAs( methodMetaData );
+		assertThat( beanMetaData.getMetaDataFor( bridgeMethod ).get() ).isSameAs( methodMetaData );
+		assertThat( beanMetaData.getMetaDataFor( JobRepositoryImpl.class.getMethod( "createJob", Object.class ) ).get() ).isSameAs( methodMetaData );
+	}
+
 	@Test
 	@TestForIssue(jiraKey = "HV-1011")
 	public void getIdentifierForOverloadedMethod() throws Exception {
@@ -0,0 +1,206 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.metadata.core;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNoViolations;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.pathWith;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.testng.Assert.assertEquals;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import javax.validation.Validator;
+import javax.validation.constraints.Email;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import javax.validation.metadata.ContainerElementTypeDescriptor;
+
+import org.hibernate.validator.internal.engine.path.NodeImpl;
+import org.hibernate.validator.internal.metadata.core.ContainerElementMetaConstraints;
+import org.hibernate.validator.testutil.ConstraintViolationAssert.PathExpectation;
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the validation of the container element constraints grouped by {@link ContainerElementMetaConstraints}.
+ */
+public class ContainerElementMetaConstraintsTest {
+
+	private Validator validator;
+
+	@BeforeMethod
+	public void setUp() {
+		validator = ValidatorUtil.getValidator();
+	}
+
+	@Test
+	public void testSeveralConstraintsOnTheSameElements() {
+		List<String> values = Arrays.asList( "valid", " ", "too long", null, "ok" );
+
+		for ( List<String> list : Arrays.<List<String>>asList( new ArrayList<>( values ), new LinkedList<>( values ) ) ) {
+			assertThat( validator.validate( new Tags( list ) ) ).containsOnlyViolations(
+					violationOf( NotBlank.class ).withPropertyPath( listElement( "tags", 1 ) ),
+					violationOf( Size.class ).withPropertyPath( listElement( "tags", 2 ) ),
+					violationOf( NotBlank.class ).withPropertyPath( listElement( "tags", 3 ) ),
+					violationOf( NotNull.class ).withPropertyPath( listElement( "tags", 3 ) )
+			);
+		}
+
+		assertNoViolations( validator.validate( new Tags( new ArrayList<>( Arrays.asList( "a", "b" ) ) ) ) );
+	}
+
+	@Test
+	public void testBuiltInAndRegularConstraintsOnTheSameElements() {
+		assertThat( validator.validate( new Emails( new ArrayList<>( Arrays.asList( "a@b.c", "invalid", "a@b.c.d.e.f.g.h", "x" ) ) ) ) )
+				.containsOnlyViolations(
+						violationOf( Email.class ).withPropertyPath( listElement( "emails", 1 ) ),
+						violationOf( Size.class ).withPropertyPath( listElement( "emails", 2 ) ),
+						violationOf( Email.class ).withPropertyPath( listElement( "emails", 3 ) ),
+						violationOf( Size.class ).withPropertyPath( listElement( "emails", 3 ) )
+				);
+	}
+
+	@Test
+	public void testKeysAndValuesOfMaps() {
+		Map<String, String> map = new LinkedHashMap<>();
+		map.put( "k", "valid" );
+		map.put( "key", " " );
+
+		assertThat( validator.validate( new Dictionary( map ) ) ).containsOnlyViolations(
+				violationOf( Size.class ).withPropertyPath( pathWith()
+						.property( "entries" )
+						.containerElement( NodeImpl.MAP_KEY_NODE_NAME, true, "k", null, Map.class, 0 )
+				),
+				violationOf( NotBlank.class ).withPropertyPath( pathWith()
+						.property( "entries" )
+						.containerElement( NodeImpl.MAP_VALUE_NODE_NAME, true, "key", null, Map.class, 1 )
+				)
+		);
+	}
+
+	@Test
+	public void testConstraintsOfDifferentGroups() {
+		Groups groups = new Groups( new ArrayList<>( Arrays.asList( "valid", null, "too long" ) ) );
+
+		assertThat( validator.validate( groups ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withPropertyPath( listElement( "values", 1 ) )
+		);
+		assertThat( validator.validate( groups, Strict.class ) ).containsOnlyViolations(
+				violationOf( Size.class ).withPropertyPath( listElement( "values", 2 ) )
+		);
+	}
+
+	@Test
+	public void testFailFast() {
+		Validator failFastValidator = ValidatorUtil.getConfiguration()
+				.failFast( true )
+				.buildValidatorFactory()
+				.getValidator();
+
+		// the validation stops at the first failing constraint, whichever it is
+		assertEquals( failFastValidator.validate( new ShortTags( new ArrayList<>( Arrays.asList( "", "abc" ) ) ) ).size(), 1 );
+		assertEquals( failFastValidator.validate( new Tags( new ArrayList<>( Arrays.asList( "valid", " ", "too long" ) ) ) ).size(), 1 );
+		assertNoViolations( failFastValidator.validate( new ShortTags( new ArrayList<>( Arrays.asList( "a", "b" ) ) ) ) );
+	}
+
+	@Test
+	public void testMethodParameters() throws Exception {
+		Method method = TagService.class.getMethod( "tag", List.class );
+
+		assertThat( validator.forExecutables().validateParameters(
+				new TagService(), method, new Object[] { new ArrayList<>( Arrays.asList( "valid", "", "too long" ) ) }
+		) ).containsOnlyViolations(
+				violationOf( NotBlank.class ),
+				violationOf( Size.class )
+		);
+	}
+
+	@Test
+	public void testDescriptorsOfTheGroupedConstraints() {
+		ContainerElementTypeDescriptor containerElementTypeDescriptor = validator.getConstraintsForClass( Tags.class )
+				.getConstraintsForProperty( "tags" )
+				.getConstrainedContainerElementTypes()
+				.iterator()
+				.next();
+
+		assertEquals( containerElementTypeDescriptor.getConstraintDescriptors().size(), 3 );
+	}
+
+	private static PathExpectation listElement(String property, int index) {
+		return pathWith()
+				.property( property )
+				.containerElement( NodeImpl.LIST_ELEMENT_NODE_NAME, true, null, index, List.class, 0 );
+	}
+
+	private interface Strict {
+	}
+
+	private static class Tags {
+
+		@SuppressWarnings("unused")
+		private final List<@NotNull @NotBlank @Size(max = 5) String> tags;
+
+		private Tags(List<String> tags) {
+			this.tags = tags;
+		}
+	}
+
+	private static class ShortTags {
+
+		@SuppressWarnings("unused")
+		private final List<@NotBlank @Size(max = 2) String> tags;
+
+		private ShortTags(List<String> tags) {
+			this.tags = tags;
+		}
+	}
+
+	private static class Emails {
+
+		@SuppressWarnings("unused")
+		private final List<@Email @Size(min = 3, max = 10) String> emails;
+
+		private Emails(List<String> emails) {
+			this.emails = emails;
+		}
+	}
+
+	private static class Dictionary {
+
+		@SuppressWarnings("unused")
+		private final Map<@Size(min = 2) String, @NotBlank String> entries;
+
+		private Dictionary(Map<String, String> entries) {
+			this.entries = entries;
+		}
+	}
+
+	private static class Groups {
+
+		@SuppressWarnings("unused")
+		private final List<@NotNull @Size(max = 5, groups = Strict.class) String> values;
+
+		private Groups(List<String> values) {
+			this.values = values;
+		}
+	}
+
+	public static class TagService {
+
+		public void tag(List<@NotBlank @Size(max = 5) String> tags) {
+		}
+	}
+}
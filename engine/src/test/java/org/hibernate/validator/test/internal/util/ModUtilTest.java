@@ -6,8 +6,11 @@
  */
 package org.hibernate.validator.test.internal.util;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 import org.testng.annotations.Test;
 
@@ -100,4 +103,47 @@ public void testFailMod11SelfValidation() throws Exception {
 		assertFalse( ModUtil.calculateModXCheckWithWeights( digits, 11, Integer.MAX_VALUE ) == 2 );
 	}
 
+	@Test
+	public void testCharSequenceChecksumsMatchListChecksums() throws Exception {
+		Random random = new Random( 42 );
+		int[] weights = { 1, 3, 7, 9 };
+
+		for ( int i = 0; i < 1000; i++ ) {
+			List<Integer> digits = new ArrayList<>();
+			StringBuilder value = new StringBuilder( "-" );
+			int length = random.nextInt( 20 );
+			for ( int j = 0; j < length; j++ ) {
+				int digit = random.nextInt( 10 );
+				digits.add( digit );
+				value.append( digit );
+				if ( random.nextInt( 4 ) == 0 ) {
+					value.append( random.nextBoolean() ? '.' : '/' );
+				}
+			}
+			value.append( '-' );
+			int end = value.length() - 1;
+
+			assertEquals( ModUtil.calculateLuhnMod10Check( value, 1, end ), ModUtil.calculateLuhnMod10Check( digits ) );
+			assertEquals( ModUtil.calculateMod10Check( value, 1, end, 3, 1 ), ModUtil.calculateMod10Check( digits, 3, 1 ) );
+			assertEquals( ModUtil.calculateMod11Check( value, 1, end, 7 ), ModUtil.calculateMod11Check( digits, 7 ) );
+			assertEquals(
+					ModUtil.calculateModXCheckWithWeights( value, 1, end, length, false, 11, 7 ),
+					ModUtil.calculateModXCheckWithWeights( digits, 11, 7 )
+			);
+			assertEquals(
+					ModUtil.calculateModXCheckWithWeights( value, 1, end, length, false, 10, Integer.MAX_VALUE, weights ),
+					ModUtil.calculateModXCheckWithWeights( digits, 10, Integer.MAX_VALUE, weights )
+			);
+
+			Collections.reverse( digits );
+			assertEquals(
+					ModUtil.calculateModXCheckWithWeights( value, 1, end, length, true, 11, 7 ),
+					ModUtil.calculateModXCheckWithWeights( digits, 11, 7 )
+			);
+			assertEquals(
+					ModUtil.calculateModXCheckWithWeights( value, 1, end, length, true, 10, Integer.MAX_VALUE, weights ),
+					ModUtil.calculateModXCheckWithWeights( digits, 10, Integer.MAX_VALUE, weights )
+			);
+		}
+	}
 }
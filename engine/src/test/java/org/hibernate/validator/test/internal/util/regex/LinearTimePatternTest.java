@@ -0,0 +1,184 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.util.regex;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.hibernate.validator.internal.util.regex.LinearTimePattern;
+import org.hibernate.validator.internal.util.regex.StepBudgetCharSequence;
+import org.hibernate.validator.internal.util.regex.StepBudgetExceededException;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link LinearTimePattern}, comparing its results with the ones of {@code java.util.regex}.
+ */
+public class LinearTimePatternTest {
+
+	private static final String[] REGEXPS = {
+			"", "a", "abc", "a|b", "a|", "(a|b)*c", "(?:ab)+", "(?<name>a+)b", "a?b??", "a{2}", "a{2,}", "a{1,3}?", "(a*)*",
+			"(a|aa)*", "(a?){3}a{3}", ".", ".*", "a.c", "[abc]", "[a-c]+", "[^a-c]", "[-a]", "[a-]", "[\\d_]+", "[\\D]",
+			"[\\]\\[]", "\\d+", "\\D", "\\w+@\\w+\\.com", "\\W", "\\s*", "\\S+", "\\t\\n", "\\x41\\u0042\\x{43}", "\\.\\*\\\\",
+			"^abc$", "^a|b$", "a$\\n", "a$\\r\\n", "a$.", "a^", "$a", "(^a)*", "[aeiou]{2,3}", "(\\d{3}-)?\\d{4}",
+			"[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,6}", "\u00e9+", "[\u00e0-\u00ff]", "\uD83D\uDE00.", "[\uD83D\uDE00a]",
+			"\\\u00e9", "a]", "a}"
+	};
+
+	private static final int[] FLAGS = { 0, Pattern.CASE_INSENSITIVE, Pattern.DOTALL, Pattern.CASE_INSENSITIVE | Pattern.DOTALL };
+
+	private static final String ALPHABET = "abcABC019_-.@ \t\n\r\u0085\u2028\u00e9\u00c9";
+
+	@Test
+	public void testMatchesLikeJavaUtilRegex() {
+		Random random = new Random( 42 );
+		for ( String regexp : REGEXPS ) {
+			for ( int flags : FLAGS ) {
+				LinearTimePattern linearTimePattern = LinearTimePattern.compile( regexp, flags );
+				if ( regexp.startsWith( "[^" ) && ( flags & Pattern.CASE_INSENSITIVE ) != 0 ) {
+					// the behavior of negated case insensitive classes depends on the JDK version
+					assertNull( linearTimePattern );
+					continue;
+				}
+				assertNotNull( linearTimePattern, "Unsupported regexp: " + regexp );
+
+				Pattern pattern = Pattern.compile( regexp, flags );
+				for ( int i = 0; i < 500; i++ ) {
+					assertSameResult( pattern, linearTimePattern, randomValue( random, regexp ) );
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testRandomRegexpsMatchLikeJavaUtilRegex() {
+		Random random = new Random( 42 );
+		String[] atoms = { "a", "b", "A", ".", "\\d", "\\W", "[ab]", "[^a]", "[a-c9]", "$", "^", "\\n", "\u00e9", "()", "\\s", "[a-]",
+				"\\.", "\\x41", "(?:a|b)", "[\\dA]" };
+		String[] quantifiers = { "", "", "", "*", "+", "?", "{2}", "{0,2}", "{1,}", "*?", "+?" };
+
+		int supported = 0;
+		for ( int i = 0; i < 3000; i++ ) {
+			StringBuilder regexp = new StringBuilder();
+			int length = 1 + random.nextInt( 6 );
+			for ( int j = 0; j < length; j++ ) {
+				int choice = random.nextInt( 10 );
+				if ( choice == 0 ) {
+					regexp.append( '|' );
+				}
+				else if ( choice == 1 ) {
+					regexp.insert( 0, '(' ).append( ')' );
+				}
+				regexp.append( atoms[random.nextInt( atoms.length )] ).append( quantifiers[random.nextInt( quantifiers.length )] );
+			}
+
+			int flags = FLAGS[random.nextInt( FLAGS.length )];
+			Pattern pattern;
+			try {
+				pattern = Pattern.compile( regexp.toString(), flags );
+			}
+			catch (PatternSyntaxException e) {
+				continue;
+			}
+			LinearTimePattern linearTimePattern = LinearTimePattern.compile( regexp.toString(), flags );
+			if ( linearTimePattern == null ) {
+				continue;
+			}
+			supported++;
+
+			for ( int j = 0; j < 200; j++ ) {
+				assertSameResult( pattern, linearTimePattern, randomValue( random, regexp.toString() ) );
+			}
+		}
+		assertTrue( supported > 1000 );
+	}
+
+	@Test
+	public void testUnsupportedConstructs() {
+		String[] regexps = { "(a)\\1", "(?=a)a", "(?!a)a", "(?<=a)a", "(?>a)", "(?i)a", "a*+", "\\ba", "\\p{L}", "\\Qa\\E",
+				"[a[b]]", "[a&&b]", "[]a]", "\\h", "\\R", "\\0101", "\\cA", "[a-c-e]", "a{1000000}" };
+		for ( String regexp : regexps ) {
+			Pattern.compile( regexp );
+			assertNull( LinearTimePattern.compile( regexp, 0 ), regexp );
+		}
+
+		assertNull( LinearTimePattern.compile( "a", Pattern.MULTILINE ) );
+		assertNull( LinearTimePattern.compile( "a", Pattern.COMMENTS ) );
+		assertNull( LinearTimePattern.compile( "[^a]", Pattern.CASE_INSENSITIVE ) );
+	}
+
+	@Test
+	public void testNestedQuantifiersDoNotBacktrack() {
+		StringBuilder value = new StringBuilder();
+		for ( int i = 0; i < 100_000; i++ ) {
+			value.append( 'a' );
+		}
+		value.append( '!' );
+
+		LinearTimePattern linearTimePattern = LinearTimePattern.compile( "(a+)+b", 0 );
+		assertFalse( linearTimePattern.matches( value, 0 ) );
+		assertFalse( LinearTimePattern.compile( "(a|aa)*c", 0 ).matches( value, 0 ) );
+		assertFalse( LinearTimePattern.compile( "(.*a){20}", 0 ).matches( value, 0 ) );
+	}
+
+	@Test
+	public void testStepBudget() {
+		LinearTimePattern linearTimePattern = LinearTimePattern.compile( "a+b", 0 );
+
+		assertTrue( linearTimePattern.matches( "aaaab", 100 ) );
+		try {
+			linearTimePattern.matches( "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaab", 10 );
+			fail( "The step budget should have been exceeded" );
+		}
+		catch (StepBudgetExceededException e) {
+			// expected
+		}
+
+		Pattern pattern = Pattern.compile( "(.*a){12}b" );
+		assertTrue( pattern.matcher( new StepBudgetCharSequence( "aaaaaaaaaaaab", 100_000 ) ).matches() );
+		try {
+			pattern.matcher( new StepBudgetCharSequence( "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa!", 100_000 ) ).matches();
+			fail( "The step budget should have been exceeded" );
+		}
+		catch (StepBudgetExceededException e) {
+			// expected
+		}
+	}
+
+	private static void assertSameResult(Pattern pattern, LinearTimePattern linearTimePattern, String value) {
+		assertEquals(
+				linearTimePattern.matches( value, 0 ),
+				pattern.matcher( value ).matches(),
+				"Regexp: " + pattern.pattern() + ", flags: " + pattern.flags() + ", value: " + value
+		);
+	}
+
+	/**
+	 * Builds a value from the characters of the regular expression and of a fixed alphabet.
+	 */
+	private static String randomValue(Random random, String regexp) {
+		int length = random.nextInt( 8 );
+		StringBuilder value = new StringBuilder( length );
+		for ( int i = 0; i < length; i++ ) {
+			if ( regexp.length() > 0 && random.nextBoolean() ) {
+				value.append( regexp.charAt( random.nextInt( regexp.length() ) ) );
+			}
+			else {
+				value.append( ALPHABET.charAt( random.nextInt( ALPHABET.length() ) ) );
+			}
+		}
+		return value.toString();
+	}
+}
@@ -81,6 +81,13 @@ public static ConstraintCreationContext getDummyConstraintCreationContext() {
 
 	public static HibernateConstraintValidatorInitializationContext getConstraintValidatorInitializationContext(
 			ScriptEvaluatorFactory scriptEvaluatorFactory, ClockProvider clockProvider, Duration duration
+	) {
+		return getConstraintValidatorInitializationContext( scriptEvaluatorFactory, clockProvider, duration, false, 0L );
+	}
+
+	public static HibernateConstraintValidatorInitializationContext getConstraintValidatorInitializationContext(
+			ScriptEvaluatorFactory scriptEvaluatorFactory, ClockProvider clockProvider, Duration duration,
+			boolean linearTimePatternMatchingEnabled, long patternMatchingStepBudget
 	) {
 		return new HibernateConstraintValidatorInitializationContext() {
 
@@ -98,6 +105,16 @@ public ClockProvider getClockProvider() {
 			public Duration getTemporalValidationTolerance() {
 				return duration;
 			}
+
+			@Override
+			public boolean isLinearTimePatternMatchingEnabled() {
+				return linearTimePatternMatchingEnabled;
+			}
+
+			@Override
+			public long getPatternMatchingStepBudget() {
+				return patternMatchingStepBudget;
+			}
 		};
 	}
 }
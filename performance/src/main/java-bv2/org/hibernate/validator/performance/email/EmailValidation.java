@@ -0,0 +1,104 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.performance.email;
+
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import javax.validation.constraints.Email;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Validates email addresses taken from the email validator test corpus, mixing valid and invalid ones.
+ * <p>
+ * Running it with the different profiles allows to compare the hand-written email validation with the regular
+ * expression based one of the previous versions.
+ */
+public class EmailValidation {
+
+	private static final String[] EMAILS = {
+			"emmanuel@hibernate.org",
+			"emma+nuel@hibernate.org",
+			"emmanuel@[123.12.2.11]",
+			"fred&barny@example.com",
+			"mailbox.sub1.sub2@this-domain",
+			"disposable.style.email.with+symbol@example.com",
+			"\"much.more unusual\"@example.com",
+			"\"very.(),:;<>[]\\\".VERY.\\\"very@\\\\ \\\"very\\\".unusual\"@strange.example.com",
+			"#!$%&'*+-/=?^_`{}|~@example.org",
+			"user@[IPv6:2001:DB8::1]",
+			"myname@östereich.at",
+			"θσερ@εχαμπλε.ψομ",
+			"xn--80ahgue5b@xn--p-8sbkgc5ag7bhce.xn--ba-lmcq",
+			"emma nuel@hibernate.org",
+			"emma@nuel@.hibernate.org",
+			"me.@example.com",
+			"john..doe@example.com",
+			"john.doe@example..com",
+			"this\\ still\\\"not\\\\allowed@example.com",
+			"aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa@hibernate.org"
+	};
+
+	@State(Scope.Benchmark)
+	public static class ValidationState {
+
+		public volatile Validator validator;
+		public volatile User[] users;
+
+		{
+			ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+			validator = factory.getValidator();
+
+			users = new User[EMAILS.length];
+			for ( int i = 0; i < EMAILS.length; i++ ) {
+				users[i] = new User( EMAILS[i] );
+			}
+		}
+
+		public User nextUser() {
+			return users[ThreadLocalRandom.current().nextInt( users.length )];
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(50)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testEmailValidation(ValidationState state, Blackhole bh) {
+		Set<ConstraintViolation<User>> violations = state.validator.validate( state.nextUser() );
+		bh.consume( violations );
+	}
+
+	public static class User {
+
+		@Email
+		private final String email;
+
+		public User(String email) {
+			this.email = email;
+		}
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.performance.safehtml;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+
+import org.hibernate.validator.constraints.SafeHtml;
+import org.hibernate.validator.constraints.SafeHtml.WhiteListType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Validates HTML fragments of about 50 KB, similar to the content of a CMS field, with {@code @SafeHtml}.
+ * <p>
+ * The safe fragment requires checking all its nodes whereas the unsafe one contains a disallowed element at the
+ * beginning.
+ */
+public class SafeHtmlValidation {
+
+	private static final int FRAGMENT_SIZE = 50 * 1024;
+
+	@State(Scope.Benchmark)
+	public static class ValidationState {
+
+		public volatile Validator validator;
+		public volatile Article safeArticle;
+		public volatile Article unsafeArticle;
+
+		{
+			ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+			validator = factory.getValidator();
+
+			String content = createContent( new Random( 42 ) );
+			safeArticle = new Article( content );
+			unsafeArticle = new Article( "<p onclick=\"alert(1)\">Introduction</p>" + content );
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	@Fork(value = 1)
+	@Threads(50)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testSafeFragment(ValidationState state, Blackhole bh) {
+		Set<ConstraintViolation<Article>> violations = state.validator.validate( state.safeArticle );
+		bh.consume( violations );
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	@Fork(value = 1)
+	@Threads(50)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testUnsafeFragment(ValidationState state, Blackhole bh) {
+		Set<ConstraintViolation<Article>> violations = state.validator.validate( state.unsafeArticle );
+		bh.consume( violations );
+	}
+
+	/**
+	 * Creates a fragment made of sections containing paragraphs with inline formatting and links, lists and tables.
+	 */
+	private static String createContent(Random random) {
+		String[] words = { "lorem", "ipsum", "dolor", "sit", "amet", "consectetur", "adipiscing", "elit", "sed", "do", "eiusmod",
+				"tempor", "incididunt", "ut", "labore", "et", "dolore", "magna", "aliqua" };
+
+		StringBuilder content = new StringBuilder( FRAGMENT_SIZE + 1024 );
+		int section = 0;
+		while ( content.length() < FRAGMENT_SIZE ) {
+			content.append( "<div class=\"section\"><h2>Section " ).append( section++ ).append( "</h2>" );
+			for ( int i = 0; i < 3; i++ ) {
+				content.append( "<p>" );
+				for ( int j = 0; j < 40; j++ ) {
+					String word = words[random.nextInt( words.length )];
+					switch ( random.nextInt( 20 ) ) {
+						case 0:
+							content.append( "<strong>" ).append( word ).append( "</strong> " );
+							break;
+						case 1:
+							content.append( "<em>" ).append( word ).append( "</em> " );
+							break;
+						case 2:
+							content.append( "<a href=\"https://example.com/" ).append( word ).append( "\" title=\"" ).append( word )
+									.append( "\">" ).append( word ).append( "</a> " );
+							break;
+						default:
+							content.append( word ).append( ' ' );
+					}
+				}
+				content.append( "</p>" );
+			}
+			content.append( "<ul>" );
+			for ( int i = 0; i < 5; i++ ) {
+				content.append( "<li>" ).append( words[random.nextInt( words.length )] ).append( "</li>" );
+			}
+			content.append( "</ul><table><tbody>" );
+			for ( int i = 0; i < 3; i++ ) {
+				content.append( "<tr><td>" ).append( random.nextInt( 1000 ) ).append( "</td><td>" )
+						.append( words[random.nextInt( words.length )] ).append( "</td></tr>" );
+			}
+			content.append( "</tbody></table><img src=\"https://example.com/images/" ).append( section )
+					.append( ".png\" alt=\"illustration\" /></div>" );
+		}
+		return content.toString();
+	}
+
+	public static class Article {
+
+		@SafeHtml(whitelistType = WhiteListType.RELAXED)
+		private final String content;
+
+		public Article(String content) {
+			this.content = content;
+		}
+	}
+}
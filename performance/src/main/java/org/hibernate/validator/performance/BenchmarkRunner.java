@@ -38,7 +38,9 @@ public final class BenchmarkRunner {
 			StatisticalValidation.class.getName(),
 			// Benchmarks specific to Bean Validation 2.0
 			// Tests are located in a separate source folder only added for implementations compatible with BV 2.0
-			"org.hibernate.validator.performance.multilevel.MultiLevelContainerValidation"
+			"org.hibernate.validator.performance.multilevel.MultiLevelContainerValidation",
+			"org.hibernate.validator.performance.email.EmailValidation",
+			"org.hibernate.validator.performance.safehtml.SafeHtmlValidation"
 	).map( BenchmarkRunner::classForName ).filter( Objects::nonNull );
 
 	private BenchmarkRunner() {